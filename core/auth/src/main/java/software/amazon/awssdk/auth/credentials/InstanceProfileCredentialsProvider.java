@@ -40,6 +40,7 @@ import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.profiles.ProfileFileSupplier;
 import software.amazon.awssdk.profiles.ProfileFileSystemSetting;
+import software.amazon.awssdk.regions.util.Ec2MetadataTokenCache;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 import software.amazon.awssdk.utils.Logger;
@@ -68,12 +69,14 @@ public final class InstanceProfileCredentialsProvider
     private static final String SECURITY_CREDENTIALS_RESOURCE = "/latest/meta-data/iam/security-credentials/";
     private static final String TOKEN_RESOURCE = "/latest/api/token";
     private static final String EC2_METADATA_TOKEN_TTL_HEADER = "x-aws-ec2-metadata-token-ttl-seconds";
-    private static final String DEFAULT_TOKEN_TTL = "21600";
+    private static final Duration TOKEN_TTL = Duration.ofHours(6);
+    private static final String DEFAULT_TOKEN_TTL = String.valueOf(TOKEN_TTL.getSeconds());
 
     private final Clock clock;
     private final String endpoint;
     private final Ec2MetadataConfigProvider configProvider;
     private final HttpCredentialsLoader httpCredentialsLoader;
+    private final Ec2MetadataTokenCache tokenCache = Ec2MetadataTokenCache.create();
     private final CachedSupplier<AwsCredentials> credentialsCache;
 
     private final Boolean asyncCredentialUpdateEnabled;
@@ -147,7 +150,7 @@ public final class InstanceProfileCredentialsProvider
         }
 
         try {
-            LoadedCredentials credentials = httpCredentialsLoader.loadCredentials(createEndpointProvider());
+            LoadedCredentials credentials = loadCredentials();
             Instant expiration = credentials.getExpiration().orElse(null);
             log.debug(() -> "Loaded credentials from IMDS with expiration time of " + expiration);
 
@@ -198,9 +201,37 @@ public final class InstanceProfileCredentialsProvider
         return ToString.create("InstanceProfileCredentialsProvider");
     }
 
-    private ResourcesEndpointProvider createEndpointProvider() {
+    /**
+     * Load the credentials from IMDS. If IMDS rejects the cached token, which happens when it was issued before IMDS restarted
+     * or the instance was stopped and started, the token is removed from the cache and the credentials are loaded again once
+     * with a new token.
+     */
+    private LoadedCredentials loadCredentials() {
         String imdsHostname = getImdsEndpoint();
-        String token = getToken(imdsHostname);
+        URI tokenEndpoint = getTokenEndpoint(imdsHostname);
+        String token = getToken(tokenEndpoint);
+        try {
+            return httpCredentialsLoader.loadCredentials(createEndpointProvider(imdsHostname, token));
+        } catch (RuntimeException e) {
+            if (token == null || !isUnauthorized(e)) {
+                throw e;
+            }
+            log.debug(() -> "The IMDS token was rejected. Retrying with a new token.", e);
+            tokenCache.invalidate(tokenEndpoint, token);
+            return httpCredentialsLoader.loadCredentials(createEndpointProvider(imdsHostname, getToken(tokenEndpoint)));
+        }
+    }
+
+    private static boolean isUnauthorized(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SdkServiceException && ((SdkServiceException) cause).statusCode() == 401) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ResourcesEndpointProvider createEndpointProvider(String imdsHostname, String token) {
         String[] securityCredentials = getSecurityCredentials(imdsHostname, token);
 
         return new StaticResourcesEndpointProvider(URI.create(imdsHostname + SECURITY_CREDENTIALS_RESOURCE +
@@ -216,10 +247,13 @@ public final class InstanceProfileCredentialsProvider
         return configProvider.getEndpoint();
     }
 
-    private String getToken(String imdsHostname) {
+    private String getToken(URI tokenEndpoint) {
+        return tokenCache.getToken(tokenEndpoint, TOKEN_TTL, () -> loadToken(tokenEndpoint));
+    }
+
+    private String loadToken(URI tokenEndpointUri) {
         Map<String, String> tokenTtlHeaders = Collections.singletonMap(EC2_METADATA_TOKEN_TTL_HEADER, DEFAULT_TOKEN_TTL);
-        ResourcesEndpointProvider tokenEndpoint = new StaticResourcesEndpointProvider(getTokenEndpoint(imdsHostname),
-                                                                                      tokenTtlHeaders);
+        ResourcesEndpointProvider tokenEndpoint = new StaticResourcesEndpointProvider(tokenEndpointUri, tokenTtlHeaders);
 
         try {
             return HttpResourcesUtils.instance().readResource(tokenEndpoint, "PUT");
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.identity.spi.Identity;
+import software.amazon.awssdk.identity.spi.IdentityProvider;
+import software.amazon.awssdk.identity.spi.ResolveIdentityRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An opt-in registry that allows multiple SDK clients to share a single {@link IdentityProvider} (and therefore a single
+ * identity cache and refresh schedule) when they would otherwise create identical providers.
+ *
+ * <p>Providers are registered under a caller-supplied key that identifies their configuration, for example the role ARN and
+ * session name of an STS assume-role provider, or the profile name of a profile credentials provider. The first call to
+ * {@link #acquire(Object, Class, Supplier)} for a key creates the provider, and subsequent calls with an equal key return a
+ * handle to the same provider.
+ *
+ * <p>Each handle returned by this registry must be closed when the client using it is closed. The underlying provider is
+ * closed (if it is {@link AutoCloseable}) when the last handle for its key is closed.
+ *
+ * <pre>
+ * {@code
+ * SharedIdentityProviderRegistry.SharedIdentityProvider<AwsCredentialsIdentity> credentials =
+ *     SharedIdentityProviderRegistry.global()
+ *                                   .acquire("role/" + roleArn + "/" + sessionName,
+ *                                            AwsCredentialsIdentity.class,
+ *                                            () -> StsAssumeRoleCredentialsProvider.builder()...build());
+ *
+ * S3Client s3 = S3Client.builder().credentialsProvider(credentials).build();
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class SharedIdentityProviderRegistry {
+    private static final Logger log = Logger.loggerFor(SharedIdentityProviderRegistry.class);
+
+    private static final SharedIdentityProviderRegistry GLOBAL = new SharedIdentityProviderRegistry();
+
+    private final Map<Object, Registration<?>> registrations = new HashMap<>();
+
+    private SharedIdentityProviderRegistry() {
+    }
+
+    /**
+     * Retrieve the process-wide registry.
+     */
+    public static SharedIdentityProviderRegistry global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Create a new registry, independent of the {@link #global()} registry.
+     */
+    public static SharedIdentityProviderRegistry create() {
+        return new SharedIdentityProviderRegistry();
+    }
+
+    /**
+     * Retrieve a handle to the provider registered under the provided key, creating the provider with the provided factory if
+     * no provider is currently registered for that key.
+     *
+     * @param key The key identifying the provider configuration. This must implement {@link Object#equals(Object)} and
+     * {@link Object#hashCode()}.
+     * @param identityType The type of identity produced by the provider.
+     * @param providerFactory The factory used to create the provider when it is not already registered.
+     * @return A handle to the shared provider, which must be closed when it is no longer used.
+     * @throws IllegalStateException If a provider for a different identity type is registered under the same key.
+     */
+    public synchronized <IdentityT extends Identity> SharedIdentityProvider<IdentityT> acquire(
+        Object key,
+        Class<IdentityT> identityType,
+        Supplier<? extends IdentityProvider<? extends IdentityT>> providerFactory) {
+
+        Validate.paramNotNull(key, "key");
+        Validate.paramNotNull(identityType, "identityType");
+        Validate.paramNotNull(providerFactory, "providerFactory");
+
+        Registration<?> registration = registrations.get(key);
+        if (registration == null) {
+            IdentityProvider<? extends IdentityT> provider =
+                Validate.notNull(providerFactory.get(), "The provider factory for key %s returned null.", key);
+            registration = new Registration<>(identityType, provider);
+            registrations.put(key, registration);
+        } else if (!registration.identityType.equals(identityType)) {
+            throw new IllegalStateException("A provider of " + registration.identityType.getName() + " is already registered "
+                                            + "for key " + key + ", but a provider of " + identityType.getName()
+                                            + " was requested.");
+        }
+
+        registration.references++;
+
+        @SuppressWarnings("unchecked")
+        Registration<IdentityT> typedRegistration = (Registration<IdentityT>) registration;
+        return new SharedIdentityProvider<>(this, key, typedRegistration);
+    }
+
+    /**
+     * The number of providers currently registered.
+     */
+    @SdkTestInternalApi
+    synchronized int size() {
+        return registrations.size();
+    }
+
+    private synchronized void release(Object key, Registration<?> registration) {
+        registration.references--;
+        if (registration.references == 0 && registrations.get(key) == registration) {
+            registrations.remove(key);
+            IoUtils.closeIfCloseable(registration.provider, log.logger());
+        }
+    }
+
+    private static final class Registration<IdentityT extends Identity> {
+        private final Class<IdentityT> identityType;
+        private final IdentityProvider<? extends IdentityT> provider;
+        private int references;
+
+        private Registration(Class<IdentityT> identityType, IdentityProvider<? extends IdentityT> provider) {
+            this.identityType = identityType;
+            this.provider = provider;
+        }
+    }
+
+    /**
+     * A handle to a provider shared through a {@link SharedIdentityProviderRegistry}. Closing this handle releases it from the
+     * registry, but only closes the underlying provider when no other handles to it remain open.
+     */
+    @SdkPublicApi
+    @ThreadSafe
+    public static final class SharedIdentityProvider<IdentityT extends Identity>
+        implements IdentityProvider<IdentityT>, SdkAutoCloseable {
+        private final SharedIdentityProviderRegistry registry;
+        private final Object key;
+        private final Registration<IdentityT> registration;
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+
+        private SharedIdentityProvider(SharedIdentityProviderRegistry registry,
+                                       Object key,
+                                       Registration<IdentityT> registration) {
+            this.registry = registry;
+            this.key = key;
+            this.registration = registration;
+        }
+
+        @Override
+        public Class<IdentityT> identityType() {
+            return registration.identityType;
+        }
+
+        @Override
+        public CompletableFuture<? extends IdentityT> resolveIdentity(ResolveIdentityRequest request) {
+            if (closed.get()) {
+                return CompletableFutureUtils.failedFuture(
+                    new IllegalStateException("This shared identity provider has been closed."));
+            }
+            return registration.provider.resolveIdentity(request);
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                registry.release(key, registration);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("SharedIdentityProvider")
+                           .add("key", key)
+                           .add("provider", registration.provider)
+                           .build();
+        }
+    }
+}
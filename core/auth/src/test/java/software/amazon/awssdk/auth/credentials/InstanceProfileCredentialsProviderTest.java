@@ -36,6 +36,7 @@ import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.RequestPattern;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
@@ -198,6 +199,42 @@ public class InstanceProfileCredentialsProviderTest {
         provider.resolveCredentials();
     }
 
+    @Test
+    public void resolveCredentials_tokenRejected_retriesWithNewToken() {
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).inScenario("token")
+                                                        .whenScenarioStateIs(Scenario.STARTED)
+                                                        .willReturn(aResponse().withBody("stale-token"))
+                                                        .willSetStateTo("refreshed"));
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).inScenario("token")
+                                                        .whenScenarioStateIs("refreshed")
+                                                        .willReturn(aResponse().withBody("new-token")));
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH)).withHeader(TOKEN_HEADER, equalTo("stale-token"))
+                                                              .willReturn(aResponse().withStatus(401)));
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH)).withHeader(TOKEN_HEADER, equalTo("new-token"))
+                                                              .willReturn(aResponse().withBody("some-profile")));
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH + "some-profile")).willReturn(aResponse().withBody(STUB_CREDENTIALS)));
+
+        InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.builder().build();
+
+        assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("ACCESS_KEY_ID");
+
+        WireMock.verify(2, putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        WireMock.verify(getRequestedFor(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH + "some-profile"))
+                            .withHeader(TOKEN_HEADER, equalTo("new-token")));
+    }
+
+    @Test
+    public void resolveCredentials_tokenRejectedTwice_throws() {
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).willReturn(aResponse().withBody("some-token")));
+        stubFor(get(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH)).willReturn(aResponse().withStatus(401)));
+
+        InstanceProfileCredentialsProvider provider = InstanceProfileCredentialsProvider.builder().build();
+
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(SdkClientException.class);
+        WireMock.verify(2, putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        WireMock.verify(2, getRequestedFor(urlPathEqualTo(CREDENTIALS_RESOURCE_PATH)));
+    }
+
     @Test
     public void resolveCredentials_queriesTokenResource_socketTimeout_fallbackToInsecure() {
         stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).willReturn(aResponse().withBody("some-token").withFixedDelay(Integer.MAX_VALUE)));
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.credentials;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.SharedIdentityProviderRegistry.SharedIdentityProvider;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.identity.spi.TokenIdentity;
+
+public class SharedIdentityProviderRegistryTest {
+    private static final AwsBasicCredentials CREDENTIALS = AwsBasicCredentials.create("akid", "skid");
+
+    @Test
+    public void acquire_sameKey_createsProviderOnce() {
+        SharedIdentityProviderRegistry registry = SharedIdentityProviderRegistry.create();
+        AtomicInteger creations = new AtomicInteger();
+
+        SharedIdentityProvider<AwsCredentialsIdentity> first =
+            registry.acquire("profile/foo", AwsCredentialsIdentity.class, () -> countingProvider(creations));
+        SharedIdentityProvider<AwsCredentialsIdentity> second =
+            registry.acquire("profile/foo", AwsCredentialsIdentity.class, () -> countingProvider(creations));
+
+        assertThat(creations.get()).isEqualTo(1);
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(first.resolveIdentity().join()).isEqualTo(CREDENTIALS);
+        assertThat(second.resolveIdentity().join()).isEqualTo(CREDENTIALS);
+    }
+
+    @Test
+    public void acquire_differentKeys_createsSeparateProviders() {
+        SharedIdentityProviderRegistry registry = SharedIdentityProviderRegistry.create();
+        AtomicInteger creations = new AtomicInteger();
+
+        registry.acquire("profile/foo", AwsCredentialsIdentity.class, () -> countingProvider(creations));
+        registry.acquire("profile/bar", AwsCredentialsIdentity.class, () -> countingProvider(creations));
+
+        assertThat(creations.get()).isEqualTo(2);
+        assertThat(registry.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void close_lastHandle_closesUnderlyingProvider() {
+        SharedIdentityProviderRegistry registry = SharedIdentityProviderRegistry.create();
+        CloseTrackingProvider provider = new CloseTrackingProvider();
+
+        SharedIdentityProvider<AwsCredentialsIdentity> first =
+            registry.acquire("key", AwsCredentialsIdentity.class, () -> provider);
+        SharedIdentityProvider<AwsCredentialsIdentity> second =
+            registry.acquire("key", AwsCredentialsIdentity.class, () -> provider);
+
+        first.close();
+        first.close();
+        assertThat(provider.closed).isFalse();
+        assertThat(second.resolveIdentity().join()).isEqualTo(CREDENTIALS);
+
+        second.close();
+        assertThat(provider.closed).isTrue();
+        assertThat(registry.size()).isZero();
+    }
+
+    @Test
+    public void resolveIdentity_afterClose_returnsFailedFuture() {
+        SharedIdentityProvider<AwsCredentialsIdentity> handle =
+            SharedIdentityProviderRegistry.create()
+                                          .acquire("key", AwsCredentialsIdentity.class,
+                                                   () -> StaticCredentialsProvider.create(CREDENTIALS));
+        handle.close();
+
+        CompletableFuture<? extends AwsCredentialsIdentity> identity = handle.resolveIdentity();
+
+        assertThatThrownBy(identity::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void acquire_sameKeyDifferentIdentityType_throws() {
+        SharedIdentityProviderRegistry registry = SharedIdentityProviderRegistry.create();
+        registry.acquire("key", AwsCredentialsIdentity.class, () -> StaticCredentialsProvider.create(CREDENTIALS));
+
+        assertThatThrownBy(() -> registry.acquire("key", TokenIdentity.class, () -> null))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AwsCredentialsProvider countingProvider(AtomicInteger creations) {
+        creations.incrementAndGet();
+        return StaticCredentialsProvider.create(CREDENTIALS);
+    }
+
+    private static final class CloseTrackingProvider implements AwsCredentialsProvider, AutoCloseable {
+        private volatile boolean closed;
+
+        @Override
+        public AwsCredentials resolveCredentials() {
+            return CREDENTIALS;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
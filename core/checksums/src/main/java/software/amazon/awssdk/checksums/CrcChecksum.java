@@ -0,0 +1,210 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static software.amazon.awssdk.checksums.CrcCombine.CRC32C_POLYNOMIAL;
+import static software.amazon.awssdk.checksums.CrcCombine.CRC32_POLYNOMIAL;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A CRC32 or CRC32C {@link Checksum} backed by the fastest implementation available at runtime:
+ * <ul>
+ *     <li>CRC32: {@link CRC32}, which is a JVM intrinsic.</li>
+ *     <li>CRC32C: {@code java.util.zip.CRC32C} on Java 9+, which is a JVM intrinsic, then the CRT implementation if it's on
+ *     the classpath, then {@link SdkCrc32C}.</li>
+ * </ul>
+ *
+ * <p>
+ * The JDK implementations can't be cloned, so a snapshot of the running CRC is taken with {@link #copy()} by combining the
+ * CRC of the bytes seen so far with the CRC of the bytes seen afterwards, see {@link CrcCombine}.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+@SdkProtectedApi
+public final class CrcChecksum implements Checksum {
+    private static final Logger log = Logger.loggerFor(CrcChecksum.class);
+
+    private static final String JDK_CRC32C_CLASS = "java.util.zip.CRC32C";
+    private static final String CRT_CRC32C_CLASS = "software.amazon.awssdk.crt.checksums.CRC32C";
+
+    private static final Supplier<Checksum> CRC32_FACTORY = CRC32::new;
+    private static final Supplier<Checksum> CRC32C_FACTORY = resolveCrc32CFactory();
+
+    /**
+     * {@code Checksum#update(ByteBuffer)}, which is only available on Java 9+. Null on Java 8.
+     */
+    private static final MethodHandle UPDATE_BYTE_BUFFER = resolveUpdateByteBuffer();
+
+    private static final int BYTE_BUFFER_CHUNK_SIZE = 4096;
+
+    private final Supplier<Checksum> factory;
+    private final long polynomial;
+    private final Checksum checksum;
+
+    /**
+     * The CRC of the bytes that preceded the ones fed into {@link #checksum}, if this checksum was created by {@link #copy()}.
+     */
+    private long precedingCrc;
+    private boolean hasPrecedingCrc;
+    private long length;
+
+    private CrcChecksum(Supplier<Checksum> factory, long polynomial) {
+        this.factory = factory;
+        this.polynomial = polynomial;
+        this.checksum = factory.get();
+    }
+
+    public static CrcChecksum crc32() {
+        return new CrcChecksum(CRC32_FACTORY, CRC32_POLYNOMIAL);
+    }
+
+    public static CrcChecksum crc32c() {
+        return new CrcChecksum(CRC32C_FACTORY, CRC32C_POLYNOMIAL);
+    }
+
+    @Override
+    public void update(int b) {
+        checksum.update(b);
+        length++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        checksum.update(b, off, len);
+        length += len;
+    }
+
+    public void update(byte[] b) {
+        update(b, 0, b.length);
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer and moves its position to its limit. Direct buffers are
+     * read without being copied to the heap when the underlying implementation supports it.
+     */
+    public void update(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        if (remaining <= 0) {
+            return;
+        }
+
+        if (checksum instanceof CRC32) {
+            ((CRC32) checksum).update(buffer);
+        } else if (UPDATE_BYTE_BUFFER != null) {
+            invokeUpdate(buffer);
+        } else if (buffer.hasArray()) {
+            checksum.update(buffer.array(), buffer.arrayOffset() + buffer.position(), remaining);
+            buffer.position(buffer.limit());
+        } else {
+            byte[] chunk = new byte[Math.min(remaining, BYTE_BUFFER_CHUNK_SIZE)];
+            while (buffer.hasRemaining()) {
+                int chunkLength = Math.min(buffer.remaining(), chunk.length);
+                buffer.get(chunk, 0, chunkLength);
+                checksum.update(chunk, 0, chunkLength);
+            }
+        }
+        length += remaining;
+    }
+
+    @Override
+    public long getValue() {
+        long value = checksum.getValue();
+        return hasPrecedingCrc ? CrcCombine.combine(precedingCrc, value, length, polynomial) : value;
+    }
+
+    @Override
+    public void reset() {
+        checksum.reset();
+        precedingCrc = 0;
+        hasPrecedingCrc = false;
+        length = 0;
+    }
+
+    /**
+     * @return an independent checksum with the same state as this one
+     */
+    public CrcChecksum copy() {
+        CrcChecksum copy = new CrcChecksum(factory, polynomial);
+        if (hasPrecedingCrc || length > 0) {
+            copy.precedingCrc = getValue();
+            copy.hasPrecedingCrc = true;
+        }
+        return copy;
+    }
+
+    private void invokeUpdate(ByteBuffer buffer) {
+        try {
+            UPDATE_BYTE_BUFFER.invokeExact(checksum, buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to update checksum " + checksum.getClass(), t);
+        }
+    }
+
+    private static Supplier<Checksum> resolveCrc32CFactory() {
+        Supplier<Checksum> jdkFactory = constructorFactory(JDK_CRC32C_CLASS);
+        if (jdkFactory != null) {
+            return jdkFactory;
+        }
+
+        Supplier<Checksum> crtFactory = constructorFactory(CRT_CRC32C_CLASS);
+        if (crtFactory != null) {
+            return crtFactory;
+        }
+
+        return SdkCrc32C::create;
+    }
+
+    private static Supplier<Checksum> constructorFactory(String className) {
+        try {
+            Class<?> checksumClass = ClassLoaderHelper.loadClass(className, false);
+            MethodHandle constructor = MethodHandles.publicLookup()
+                                                    .findConstructor(checksumClass, MethodType.methodType(void.class))
+                                                    .asType(MethodType.methodType(Checksum.class));
+            return () -> {
+                try {
+                    return (Checksum) constructor.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Failed to create checksum " + className, t);
+                }
+            };
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException | ClassCastException e) {
+            log.debug(() -> "Unable to use " + className + " to calculate CRC32C checksums.", e);
+            return null;
+        }
+    }
+
+    private static MethodHandle resolveUpdateByteBuffer() {
+        try {
+            return MethodHandles.publicLookup()
+                                .findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
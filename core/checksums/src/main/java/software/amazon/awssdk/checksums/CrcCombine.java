@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Combines the CRCs of two consecutive sequences of bytes into the CRC of their concatenation, without access to the bytes
+ * themselves. This allows CRCs to be computed for independent chunks of data in parallel, e.g. the parts of a multipart
+ * upload, and to snapshot a running CRC cheaply.
+ *
+ * <p>
+ * The algorithm is the one used by zlib's {@code crc32_combine}, generalized to any reflected 32-bit CRC with an initial and
+ * final XOR of {@code 0xFFFFFFFF}, which covers both CRC32 and CRC32C.
+ */
+@SdkProtectedApi
+public final class CrcCombine {
+    /**
+     * The reflected CRC32 (IEEE 802.3) polynomial.
+     */
+    public static final long CRC32_POLYNOMIAL = 0xEDB88320L;
+
+    /**
+     * The reflected CRC32C (Castagnoli) polynomial.
+     */
+    public static final long CRC32C_POLYNOMIAL = 0x82F63B78L;
+
+    private static final int GF2_DIM = 32;
+
+    private CrcCombine() {
+    }
+
+    /**
+     * @param crc1 the CRC of the first sequence of bytes
+     * @param crc2 the CRC of the second sequence of bytes
+     * @param length2 the length of the second sequence of bytes
+     * @param polynomial the reflected polynomial of the CRC, e.g. {@link #CRC32C_POLYNOMIAL}
+     * @return the CRC of the first sequence followed by the second sequence
+     */
+    public static long combine(long crc1, long crc2, long length2, long polynomial) {
+        if (length2 <= 0) {
+            return crc1;
+        }
+
+        long[] even = new long[GF2_DIM];
+        long[] odd = new long[GF2_DIM];
+
+        // Operator for a single zero bit
+        odd[0] = polynomial;
+        long row = 1;
+        for (int n = 1; n < GF2_DIM; n++) {
+            odd[n] = row;
+            row <<= 1;
+        }
+
+        // Operator for two zero bits, then four zero bits
+        gf2MatrixSquare(even, odd);
+        gf2MatrixSquare(odd, even);
+
+        // Apply length2 zero bytes to crc1, squaring the operator for each bit of length2
+        long crc = crc1;
+        long remaining = length2;
+        do {
+            gf2MatrixSquare(even, odd);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(even, crc);
+            }
+            remaining >>>= 1;
+            if (remaining == 0) {
+                break;
+            }
+
+            gf2MatrixSquare(odd, even);
+            if ((remaining & 1) != 0) {
+                crc = gf2MatrixTimes(odd, crc);
+            }
+            remaining >>>= 1;
+        } while (remaining != 0);
+
+        return (crc ^ crc2) & 0xFFFFFFFFL;
+    }
+
+    private static long gf2MatrixTimes(long[] matrix, long vector) {
+        long sum = 0;
+        long remaining = vector;
+        for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                sum ^= matrix[i];
+            }
+        }
+        return sum;
+    }
+
+    private static void gf2MatrixSquare(long[] square, long[] matrix) {
+        for (int n = 0; n < GF2_DIM; n++) {
+            square[n] = gf2MatrixTimes(matrix, matrix[n]);
+        }
+    }
+}
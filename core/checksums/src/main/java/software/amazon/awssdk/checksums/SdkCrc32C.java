@@ -13,10 +13,10 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.core.internal.checksums.factory;
+package software.amazon.awssdk.checksums;
 
 import java.util.zip.Checksum;
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 
 
 /*
@@ -26,7 +26,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * It has been modified to add a createCopy() method.
  * The createCopy method is used to save current checksum state when the checksum is marked.
  */
-@SdkInternalApi
+@SdkProtectedApi
 public final class SdkCrc32C implements Checksum, Cloneable {
 
     private static final int T8_0_START = 0 * 256;
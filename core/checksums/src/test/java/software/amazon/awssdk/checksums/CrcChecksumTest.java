@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CrcChecksumTest {
+    private static final byte[] TEST_BYTES =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.UTF_8);
+
+    private static Stream<Arguments> checksums() {
+        return Stream.of(Arguments.of("CRC32", (Supplier<CrcChecksum>) CrcChecksum::crc32, 0x1FC2E6D2L),
+                         Arguments.of("CRC32C", (Supplier<CrcChecksum>) CrcChecksum::crc32c, 0xA245D57DL));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void update_byteArray_shouldCalculateChecksum(String name, Supplier<CrcChecksum> factory, long expected) {
+        CrcChecksum checksum = factory.get();
+        checksum.update(TEST_BYTES);
+        assertEquals(expected, checksum.getValue());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void update_singleBytes_shouldCalculateChecksum(String name, Supplier<CrcChecksum> factory, long expected) {
+        CrcChecksum checksum = factory.get();
+        for (byte b : TEST_BYTES) {
+            checksum.update(b);
+        }
+        assertEquals(expected, checksum.getValue());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void update_heapAndDirectByteBuffers_shouldCalculateChecksum(String name, Supplier<CrcChecksum> factory,
+                                                                        long expected) {
+        ByteBuffer heap = ByteBuffer.wrap(TEST_BYTES);
+        ByteBuffer direct = ByteBuffer.allocateDirect(TEST_BYTES.length);
+        direct.put(TEST_BYTES).flip();
+
+        for (ByteBuffer buffer : new ByteBuffer[] {heap, direct}) {
+            CrcChecksum checksum = factory.get();
+            checksum.update(buffer);
+            assertEquals(expected, checksum.getValue());
+            assertEquals(buffer.limit(), buffer.position());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void copy_shouldContinueFromTheSameState(String name, Supplier<CrcChecksum> factory, long expected) {
+        CrcChecksum checksum = factory.get();
+        checksum.update(TEST_BYTES, 0, 10);
+        CrcChecksum copy = checksum.copy();
+        checksum.update("garbage".getBytes(StandardCharsets.UTF_8));
+
+        copy.update(TEST_BYTES, 10, 20);
+        CrcChecksum copyOfCopy = copy.copy();
+        copyOfCopy.update(TEST_BYTES, 30, TEST_BYTES.length - 30);
+        assertEquals(expected, copyOfCopy.getValue());
+
+        copy.update(TEST_BYTES, 30, TEST_BYTES.length - 30);
+        assertEquals(expected, copy.getValue());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void reset_afterCopy_shouldStartOver(String name, Supplier<CrcChecksum> factory, long expected) {
+        CrcChecksum checksum = factory.get();
+        checksum.update(TEST_BYTES, 0, 10);
+        CrcChecksum copy = checksum.copy();
+        copy.reset();
+        copy.update(TEST_BYTES);
+        assertEquals(expected, copy.getValue());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    public void combine_randomSplits_shouldMatchChecksumOfWholeData(String name, Supplier<CrcChecksum> factory, long ignored) {
+        Random random = new Random(42);
+        byte[] data = new byte[1 << 16];
+        random.nextBytes(data);
+        CrcChecksum whole = factory.get();
+        whole.update(data);
+        long polynomial = "CRC32".equals(name) ? CrcCombine.CRC32_POLYNOMIAL : CrcCombine.CRC32C_POLYNOMIAL;
+
+        for (int i = 0; i < 20; i++) {
+            int split = random.nextInt(data.length + 1);
+            CrcChecksum first = factory.get();
+            first.update(data, 0, split);
+            CrcChecksum second = factory.get();
+            second.update(data, split, data.length - split);
+
+            assertEquals(whole.getValue(),
+                         CrcCombine.combine(first.getValue(), second.getValue(), data.length - split, polynomial));
+        }
+    }
+
+    @Test
+    public void sdkCrc32C_shouldMatchCrc32C() {
+        byte[] data = new byte[4099];
+        new Random(7).nextBytes(data);
+        SdkCrc32C sdkCrc32C = SdkCrc32C.create();
+        sdkCrc32C.update(data, 0, data.length);
+        CrcChecksum crc32c = CrcChecksum.crc32c();
+        crc32c.update(data);
+        assertEquals(crc32c.getValue(), sdkCrc32C.getValue());
+    }
+}
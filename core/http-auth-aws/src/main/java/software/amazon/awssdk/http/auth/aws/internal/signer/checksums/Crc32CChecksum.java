@@ -17,10 +17,8 @@ package software.amazon.awssdk.http.auth.aws.internal.signer.checksums;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.crt.checksums.CRC32C;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.checksums.CrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
@@ -28,30 +26,14 @@ import software.amazon.awssdk.utils.ClassLoaderHelper;
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private static final String CRT_CLASSPATH_FOR_CRC32C = "software.amazon.awssdk.crt.checksums.CRC32C";
-
-    private Checksum crc32c;
-    private Checksum lastMarkedCrc32C;
+    private CrcChecksum crc32c;
+    private CrcChecksum lastMarkedCrc32C;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates a Crc32C checksum backed by the fastest implementation available at runtime, see {@link CrcChecksum}.
      */
     public Crc32CChecksum() {
-        if (isCrtAvailable()) {
-            crc32c = new CRC32C();
-        } else {
-            crc32c = SdkCrc32CChecksum.create();
-        }
-    }
-
-    private static boolean isCrtAvailable() {
-        try {
-            ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32C, false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-
-        return true;
+        crc32c = CrcChecksum.crc32c();
     }
 
     private static byte[] longToByte(Long input) {
@@ -67,7 +49,7 @@ public class Crc32CChecksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        this.lastMarkedCrc32C = crc32c.copy();
     }
 
     @Override
@@ -80,6 +62,11 @@ public class Crc32CChecksum implements SdkChecksum {
         crc32c.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc32c.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32c.getValue();
@@ -90,19 +77,7 @@ public class Crc32CChecksum implements SdkChecksum {
         if (lastMarkedCrc32C == null) {
             crc32c.reset();
         } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
-        }
-    }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (checksum instanceof CRC32C) {
-            return (Checksum) ((CRC32C) checksum).clone();
-        }
-
-        if (checksum instanceof SdkCrc32CChecksum) {
-            return (Checksum) ((SdkCrc32CChecksum) checksum).clone();
+            crc32c = lastMarkedCrc32C.copy();
         }
-
-        throw new IllegalStateException("Unsupported checksum");
     }
 }
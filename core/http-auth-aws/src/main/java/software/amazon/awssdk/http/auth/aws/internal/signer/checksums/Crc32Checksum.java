@@ -17,10 +17,8 @@ package software.amazon.awssdk.http.auth.aws.internal.signer.checksums;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.crt.checksums.CRC32;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.checksums.CrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32 checksum.
@@ -28,30 +26,14 @@ import software.amazon.awssdk.utils.ClassLoaderHelper;
 @SdkInternalApi
 public class Crc32Checksum implements SdkChecksum {
 
-    private static final String CRT_CLASSPATH_FOR_CRC32 = "software.amazon.awssdk.crt.checksums.CRC32";
-
-    private Checksum crc32;
-    private Checksum lastMarkedCrc32;
+    private CrcChecksum crc32;
+    private CrcChecksum lastMarkedCrc32;
 
     /**
-     * Creates CRT Based Crc32 checksum if Crt classpath for Crc32 is loaded, else create Sdk Implemented Crc32.
+     * Creates a Crc32 checksum backed by the fastest implementation available at runtime, see {@link CrcChecksum}.
      */
     public Crc32Checksum() {
-        if (isCrtAvailable()) {
-            crc32 = new CRC32();
-        } else {
-            crc32 = SdkCrc32Checksum.create();
-        }
-    }
-
-    private static boolean isCrtAvailable() {
-        try {
-            ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32, false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-
-        return true;
+        crc32 = CrcChecksum.crc32();
     }
 
     private static byte[] longToByte(Long input) {
@@ -67,7 +49,7 @@ public class Crc32Checksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32 = cloneChecksum(crc32);
+        this.lastMarkedCrc32 = crc32.copy();
     }
 
     @Override
@@ -80,6 +62,11 @@ public class Crc32Checksum implements SdkChecksum {
         crc32.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc32.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32.getValue();
@@ -90,19 +77,7 @@ public class Crc32Checksum implements SdkChecksum {
         if (lastMarkedCrc32 == null) {
             crc32.reset();
         } else {
-            crc32 = cloneChecksum(lastMarkedCrc32);
-        }
-    }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (checksum instanceof CRC32) {
-            return (Checksum) ((CRC32) checksum).clone();
-        }
-
-        if (checksum instanceof SdkCrc32Checksum) {
-            return (Checksum) ((SdkCrc32Checksum) checksum).clone();
+            crc32 = lastMarkedCrc32.copy();
         }
-
-        throw new IllegalStateException("Unsupported checksum");
     }
 }
@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.profiles.internal.ParsedProfileFileCache;
 import software.amazon.awssdk.profiles.internal.ProfileFileReader;
 import software.amazon.awssdk.utils.FunctionalUtils;
 import software.amazon.awssdk.utils.IoUtils;
@@ -91,13 +92,14 @@ public final class ProfileFile {
      * {@link ProfileFileSystemSetting#AWS_PROFILE} settings or by specifying a different profile file and profile name.
      *
      * <p>
-     * The file is read each time this method is invoked.
+     * The files are checked each time this method is invoked, but are only re-read when they have been modified since they were
+     * last read.
      */
     public static ProfileFile defaultProfileFile() {
-        return ProfileFile.aggregator()
-                          .applyMutation(ProfileFile::addCredentialsFile)
-                          .applyMutation(ProfileFile::addConfigFile)
-                          .build();
+        Aggregator aggregator = ProfileFile.aggregator()
+                                           .applyMutation(ProfileFile::addCredentialsFile)
+                                           .applyMutation(ProfileFile::addConfigFile);
+        return ParsedProfileFileCache.instance().getOrAggregate(aggregator.files, aggregator::build);
     }
 
     /**
@@ -299,6 +301,15 @@ public final class ProfileFile {
 
         @Override
         public ProfileFile build() {
+            if (content == null && contentLocation != null) {
+                Validate.paramNotNull(type, "type");
+                return ParsedProfileFileCache.instance().getOrParse(contentLocation, type, this::parse);
+            }
+
+            return parse();
+        }
+
+        private ProfileFile parse() {
             InputStream stream = content != null ? content :
                                  FunctionalUtils.invokeSafely(() -> Files.newInputStream(contentLocation));
 
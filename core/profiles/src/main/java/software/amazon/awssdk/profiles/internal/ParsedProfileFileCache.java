@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A process-wide cache of parsed {@link ProfileFile}s, keyed by file location, type, modification time and size.
+ *
+ * <p>{@link ProfileFile}s are immutable, so a parsed file can be shared by every client that loads the same unchanged file. This
+ * means that creating many clients (each of which loads the default profile file) only parses the configuration and
+ * credentials files once, instead of once per client.
+ *
+ * <p>A file is re-parsed as soon as its modification time, size or identity on disk changes.
+ */
+@SdkInternalApi
+public final class ParsedProfileFileCache {
+    private static final Logger log = Logger.loggerFor(ParsedProfileFileCache.class);
+
+    /**
+     * The maximum number of parsed files kept in the cache. Applications usually only load a handful of profile files.
+     */
+    private static final int MAX_ENTRIES = 32;
+
+    private static final ParsedProfileFileCache INSTANCE = new ParsedProfileFileCache();
+
+    private final Map<CacheKey, ProfileFile> parsedFiles = new LruMap<>(MAX_ENTRIES);
+
+    private volatile AggregateRecord lastAggregate;
+
+    private ParsedProfileFileCache() {
+    }
+
+    public static ParsedProfileFileCache instance() {
+        return INSTANCE;
+    }
+
+    @SdkTestInternalApi
+    static ParsedProfileFileCache create() {
+        return new ParsedProfileFileCache();
+    }
+
+    /**
+     * Retrieve the parsed profile file at the provided location, invoking the parser if the file has not been parsed yet or
+     * has changed since it was last parsed.
+     */
+    public ProfileFile getOrParse(Path location, ProfileFile.Type type, Supplier<ProfileFile> parser) {
+        CacheKey key = cacheKey(location, type);
+        if (key == null) {
+            return parser.get();
+        }
+
+        synchronized (parsedFiles) {
+            ProfileFile cached = parsedFiles.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ProfileFile parsed = parser.get();
+
+        synchronized (parsedFiles) {
+            parsedFiles.put(key, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Retrieve the result of aggregating the provided files, reusing the previous aggregate if it was created from the same
+     * file instances.
+     */
+    public ProfileFile getOrAggregate(List<ProfileFile> files, Supplier<ProfileFile> aggregator) {
+        AggregateRecord record = lastAggregate;
+        if (record != null && record.isAggregateOf(files)) {
+            return record.aggregate;
+        }
+
+        ProfileFile aggregate = aggregator.get();
+        lastAggregate = new AggregateRecord(files, aggregate);
+        return aggregate;
+    }
+
+    /**
+     * Remove all cached files.
+     */
+    public void clear() {
+        synchronized (parsedFiles) {
+            parsedFiles.clear();
+        }
+        lastAggregate = null;
+    }
+
+    private static CacheKey cacheKey(Path location, ProfileFile.Type type) {
+        try {
+            Path absoluteLocation = location.toAbsolutePath();
+            BasicFileAttributes attributes = Files.readAttributes(absoluteLocation, BasicFileAttributes.class);
+            return new CacheKey(absoluteLocation, type, attributes.lastModifiedTime(), attributes.size(), attributes.fileKey());
+        } catch (IOException | RuntimeException e) {
+            log.debug(() -> "Unable to read the attributes of " + location + ". The file will not be cached.", e);
+            return null;
+        }
+    }
+
+    /**
+     * A map that evicts its least recently accessed entry once it holds more than a maximum number of entries.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private LruMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static final class CacheKey {
+        private final Path location;
+        private final ProfileFile.Type type;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final Object fileKey;
+
+        private CacheKey(Path location, ProfileFile.Type type, FileTime lastModifiedTime, long size, Object fileKey) {
+            this.location = location;
+            this.type = type;
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+            this.fileKey = fileKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return size == cacheKey.size &&
+                   location.equals(cacheKey.location) &&
+                   type == cacheKey.type &&
+                   lastModifiedTime.equals(cacheKey.lastModifiedTime) &&
+                   Objects.equals(fileKey, cacheKey.fileKey);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = location.hashCode();
+            result = 31 * result + type.hashCode();
+            result = 31 * result + lastModifiedTime.hashCode();
+            result = 31 * result + Long.hashCode(size);
+            result = 31 * result + Objects.hashCode(fileKey);
+            return result;
+        }
+    }
+
+    private static final class AggregateRecord {
+        private final List<ProfileFile> files;
+        private final ProfileFile aggregate;
+
+        private AggregateRecord(List<ProfileFile> files, ProfileFile aggregate) {
+            this.files = new ArrayList<>(files);
+            this.aggregate = aggregate;
+        }
+
+        private boolean isAggregateOf(List<ProfileFile> otherFiles) {
+            if (files.size() != otherFiles.size()) {
+                return false;
+            }
+            for (int i = 0; i < files.size(); i++) {
+                if (files.get(i) != otherFiles.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.profiles.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.profiles.ProfileFile;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class ParsedProfileFileCacheTest {
+    private static final Instant MODIFIED_TIME = Instant.parse("2023-01-01T00:00:00Z");
+
+    private FileSystem jimfs;
+    private Path credentialsFile;
+    private ParsedProfileFileCache cache;
+    private AtomicInteger parses;
+
+    @BeforeEach
+    public void setup() {
+        jimfs = Jimfs.newFileSystem();
+        credentialsFile = jimfs.getPath("credentials");
+        cache = ParsedProfileFileCache.create();
+        parses = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    public void getOrParse_unchangedFile_parsesOnce() {
+        writeCredentialsFile("akid", MODIFIED_TIME);
+
+        ProfileFile first = cache.getOrParse(credentialsFile, ProfileFile.Type.CREDENTIALS, parser());
+        ProfileFile second = cache.getOrParse(credentialsFile, ProfileFile.Type.CREDENTIALS, parser());
+
+        assertThat(second).isSameAs(first);
+        assertThat(parses.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getOrParse_modifiedFile_parsesAgain() {
+        writeCredentialsFile("akid", MODIFIED_TIME);
+        cache.getOrParse(credentialsFile, ProfileFile.Type.CREDENTIALS, parser());
+
+        writeCredentialsFile("akid2", MODIFIED_TIME.plusSeconds(1));
+        ProfileFile reloaded = cache.getOrParse(credentialsFile, ProfileFile.Type.CREDENTIALS, parser());
+
+        assertThat(parses.get()).isEqualTo(2);
+        assertThat(reloaded.profile("default").flatMap(p -> p.property("aws_access_key_id"))).hasValue("akid2");
+    }
+
+    @Test
+    public void getOrParse_differentType_parsesSeparately() {
+        writeCredentialsFile("akid", MODIFIED_TIME);
+
+        cache.getOrParse(credentialsFile, ProfileFile.Type.CREDENTIALS, parser());
+        cache.getOrParse(credentialsFile, ProfileFile.Type.CONFIGURATION, parser());
+
+        assertThat(parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrParse_missingFile_isNotCached() {
+        Path missingFile = jimfs.getPath("missing");
+
+        cache.getOrParse(missingFile, ProfileFile.Type.CREDENTIALS, parser());
+        cache.getOrParse(missingFile, ProfileFile.Type.CREDENTIALS, parser());
+
+        assertThat(parses.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrAggregate_sameFiles_reusesAggregate() {
+        ProfileFile file = profileFile(profileContent("akid"));
+        AtomicInteger aggregations = new AtomicInteger();
+        Supplier<ProfileFile> aggregator = () -> {
+            aggregations.incrementAndGet();
+            return ProfileFile.aggregator().addFile(file).build();
+        };
+
+        ProfileFile first = cache.getOrAggregate(Arrays.asList(file), aggregator);
+        ProfileFile second = cache.getOrAggregate(Arrays.asList(file), aggregator);
+        cache.getOrAggregate(Arrays.asList(profileFile(profileContent("akid"))), aggregator);
+
+        assertThat(second).isSameAs(first);
+        assertThat(aggregations.get()).isEqualTo(2);
+    }
+
+    private Supplier<ProfileFile> parser() {
+        return () -> {
+            parses.incrementAndGet();
+            return profileFile(readCredentialsFile());
+        };
+    }
+
+    private String readCredentialsFile() {
+        try {
+            return Files.exists(credentialsFile) ? new String(Files.readAllBytes(credentialsFile), StandardCharsets.UTF_8) : "";
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void writeCredentialsFile(String accessKeyId, Instant modifiedTime) {
+        try {
+            Files.write(credentialsFile, profileContent(accessKeyId).getBytes(StandardCharsets.UTF_8));
+            Files.setLastModifiedTime(credentialsFile, FileTime.from(modifiedTime));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static ProfileFile profileFile(String content) {
+        return ProfileFile.builder()
+                          .content(new StringInputStream(content))
+                          .type(ProfileFile.Type.CREDENTIALS)
+                          .build();
+    }
+
+    private static String profileContent(String accessKeyId) {
+        return "[default]\naws_access_key_id = " + accessKeyId + "\naws_secret_access_key = skid\n";
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.regions.internal.util;
 
 import java.io.IOException;
+import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Arrays;
@@ -35,6 +36,7 @@ import software.amazon.awssdk.core.exception.SdkServiceException;
 import software.amazon.awssdk.core.util.SdkUserAgent;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.regions.util.Ec2MetadataTokenCache;
 import software.amazon.awssdk.regions.util.HttpResourcesUtils;
 import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 
@@ -88,6 +90,8 @@ public final class EC2MetadataUtils {
     private static final InstanceProviderTokenEndpointProvider TOKEN_ENDPOINT_PROVIDER =
             new InstanceProviderTokenEndpointProvider();
 
+    private static final Ec2MetadataTokenCache TOKEN_CACHE = Ec2MetadataTokenCache.create();
+
     private static final Ec2MetadataConfigProvider EC2_METADATA_CONFIG_PROVIDER = Ec2MetadataConfigProvider.builder()
             .build();
 
@@ -370,6 +374,7 @@ public final class EC2MetadataUtils {
     @SdkTestInternalApi
     public static void clearCache() {
         CACHE.clear();
+        TOKEN_CACHE.clear();
     }
 
     private static List<String> getItems(String path, int tries, boolean slurp) {
@@ -387,7 +392,7 @@ public final class EC2MetadataUtils {
 
         try {
             String hostAddress = EC2_METADATA_CONFIG_PROVIDER.getEndpoint();
-            String response = doReadResource(new URI(hostAddress + path), token);
+            String response = readResource(new URI(hostAddress + path), token);
             if (slurp) {
                 items = Collections.singletonList(response);
             } else {
@@ -415,11 +420,35 @@ public final class EC2MetadataUtils {
         }
     }
 
+    /**
+     * Read the resource with the provided token. If IMDS rejects the token, which happens when it was issued before IMDS
+     * restarted or the instance was stopped and started, the token is removed from the cache and the resource is read again
+     * once with a new token.
+     */
+    private static String readResource(URI resource, String token) throws IOException {
+        try {
+            return doReadResource(resource, token);
+        } catch (SdkServiceException e) {
+            if (token == null || e.statusCode() != HttpURLConnection.HTTP_UNAUTHORIZED) {
+                throw e;
+            }
+            log.debug("The EC2 metadata token was rejected. Retrying with a new token.");
+            TOKEN_CACHE.invalidate(TOKEN_ENDPOINT_PROVIDER.endpoint(), token);
+            return doReadResource(resource, getToken());
+        }
+    }
+
     private static String doReadResource(URI resource, String token) throws IOException {
         return HttpResourcesUtils.instance().readResource(new DefaultEndpointProvider(resource, token), "GET");
     }
 
     public static String getToken() {
+        return TOKEN_CACHE.getToken(TOKEN_ENDPOINT_PROVIDER.endpoint(),
+                                    InstanceProviderTokenEndpointProvider.TOKEN_TTL,
+                                    EC2MetadataUtils::loadToken);
+    }
+
+    private static String loadToken() {
         try {
             return HttpResourcesUtils.instance().readResource(TOKEN_ENDPOINT_PROVIDER, "PUT");
         } catch (Exception e) {
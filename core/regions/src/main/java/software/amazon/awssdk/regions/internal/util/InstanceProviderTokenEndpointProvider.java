@@ -16,6 +16,7 @@
 package software.amazon.awssdk.regions.internal.util;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -24,9 +25,11 @@ import software.amazon.awssdk.regions.util.ResourcesEndpointProvider;
 
 @SdkInternalApi
 public final class InstanceProviderTokenEndpointProvider implements ResourcesEndpointProvider {
+    static final Duration TOKEN_TTL = Duration.ofHours(6);
+
     private static final String TOKEN_RESOURCE_PATH = "/latest/api/token";
     private static final String EC2_METADATA_TOKEN_TTL_HEADER = "x-aws-ec2-metadata-token-ttl-seconds";
-    private static final String DEFAULT_TOKEN_TTL = "21600";
+    private static final String DEFAULT_TOKEN_TTL = String.valueOf(TOKEN_TTL.getSeconds());
 
     private static final Ec2MetadataConfigProvider EC2_METADATA_CONFIG_PROVIDER = Ec2MetadataConfigProvider.builder()
             .build();
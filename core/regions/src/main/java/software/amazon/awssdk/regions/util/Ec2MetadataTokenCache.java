@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A cache of IMDSv2 session tokens, keyed by the token endpoint.
+ *
+ * <p>Without this cache, every metadata lookup first performs its own {@code PUT} to the token endpoint. With it, a single
+ * token is reused by the metadata calls of the cache's owner until shortly before the token expires.
+ *
+ * <p>Tokens are not shared between owners. {@code EC2MetadataUtils} keeps one cache for its static lookups, such as region
+ * discovery, and each {@code InstanceProfileCredentialsProvider} keeps its own cache for its credential refreshes.
+ *
+ * <p>A token can be rejected by IMDS before it expires, for example after IMDS restarts or the instance is stopped and
+ * started. Callers that receive a 401 response should {@link #invalidate(URI, String)} the token and retry with a new one.
+ *
+ * <p>Only successfully loaded tokens are cached. When the token loader returns {@code null} (the IMDSv1 fallback) or throws,
+ * the next call will try to load a token again.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class Ec2MetadataTokenCache {
+    private static final Logger log = Logger.loggerFor(Ec2MetadataTokenCache.class);
+
+    /**
+     * How long before a token's expiration it should no longer be handed out, so that it does not expire in-flight.
+     */
+    private static final Duration EXPIRATION_BUFFER = Duration.ofMinutes(1);
+
+    private final Map<URI, CachedToken> tokens = new ConcurrentHashMap<>();
+    private final Map<URI, Object> loadLocks = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    private Ec2MetadataTokenCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Create an empty token cache.
+     */
+    public static Ec2MetadataTokenCache create() {
+        return new Ec2MetadataTokenCache(Clock.systemUTC());
+    }
+
+    @SdkTestInternalApi
+    static Ec2MetadataTokenCache create(Clock clock) {
+        return new Ec2MetadataTokenCache(clock);
+    }
+
+    /**
+     * Retrieve a token for the provided token endpoint, invoking the token loader if no valid token is cached. Concurrent
+     * callers for the same endpoint share a single call to the token loader.
+     *
+     * @param tokenEndpoint The IMDS token endpoint, used as the cache key.
+     * @param tokenTtl The TTL that the token loader requests from IMDS.
+     * @param tokenLoader Loads a new token from IMDS. May return null if tokens are not supported.
+     * @return The token, or null if the token loader returned null.
+     */
+    public String getToken(URI tokenEndpoint, Duration tokenTtl, Supplier<String> tokenLoader) {
+        String cachedToken = validToken(tokenEndpoint);
+        if (cachedToken != null) {
+            return cachedToken;
+        }
+
+        synchronized (loadLocks.computeIfAbsent(tokenEndpoint, e -> new Object())) {
+            cachedToken = validToken(tokenEndpoint);
+            if (cachedToken != null) {
+                return cachedToken;
+            }
+
+            Instant loadStart = clock.instant();
+            String token = tokenLoader.get();
+            if (token != null) {
+                Instant staleTime = loadStart.plus(tokenTtl).minus(EXPIRATION_BUFFER);
+                tokens.put(tokenEndpoint, new CachedToken(token, staleTime));
+                log.debug(() -> "Cached IMDS token for " + tokenEndpoint + " until " + staleTime);
+            }
+            return token;
+        }
+    }
+
+    /**
+     * Remove the cached token for the provided token endpoint, if it is still the provided token. This should be called when
+     * IMDS rejects the token, so that the next call to {@link #getToken(URI, Duration, Supplier)} loads a new one. A token
+     * that was already replaced by another caller is left in place.
+     *
+     * @param tokenEndpoint The IMDS token endpoint, used as the cache key.
+     * @param token The token that was rejected.
+     */
+    public void invalidate(URI tokenEndpoint, String token) {
+        tokens.computeIfPresent(tokenEndpoint, (endpoint, cachedToken) -> {
+            if (!cachedToken.value.equals(token)) {
+                return cachedToken;
+            }
+            log.debug(() -> "Removed rejected IMDS token for " + endpoint);
+            return null;
+        });
+    }
+
+    /**
+     * Remove all cached tokens.
+     */
+    public void clear() {
+        tokens.clear();
+    }
+
+    private String validToken(URI tokenEndpoint) {
+        CachedToken cachedToken = tokens.get(tokenEndpoint);
+        if (cachedToken == null || !clock.instant().isBefore(cachedToken.staleTime)) {
+            return null;
+        }
+        return cachedToken.value;
+    }
+
+    private static final class CachedToken {
+        private final String value;
+        private final Instant staleTime;
+
+        private CachedToken(String value, Instant staleTime) {
+            this.value = value;
+            this.staleTime = staleTime;
+        }
+    }
+}
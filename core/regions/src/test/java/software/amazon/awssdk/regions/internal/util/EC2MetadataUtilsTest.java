@@ -28,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.http.Fault;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -78,6 +79,26 @@ public class EC2MetadataUtilsTest {
         WireMock.verify(getRequestedFor(urlPathEqualTo(AMI_ID_RESOURCE)).withHeader(TOKEN_HEADER, equalTo("some-token")));
     }
 
+    @Test
+    public void getAmiId_tokenRejected_retriesWithNewToken() {
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).inScenario("token")
+                                                        .whenScenarioStateIs(Scenario.STARTED)
+                                                        .willReturn(aResponse().withBody("stale-token"))
+                                                        .willSetStateTo("refreshed"));
+        stubFor(put(urlPathEqualTo(TOKEN_RESOURCE_PATH)).inScenario("token")
+                                                        .whenScenarioStateIs("refreshed")
+                                                        .willReturn(aResponse().withBody("new-token")));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).withHeader(TOKEN_HEADER, equalTo("stale-token"))
+                                                    .willReturn(aResponse().withStatus(401)));
+        stubFor(get(urlPathEqualTo(AMI_ID_RESOURCE)).withHeader(TOKEN_HEADER, equalTo("new-token"))
+                                                    .willReturn(aResponse().withBody("ami-1234")));
+
+        assertThat(EC2MetadataUtils.getAmiId()).isEqualTo("ami-1234");
+
+        WireMock.verify(2, putRequestedFor(urlPathEqualTo(TOKEN_RESOURCE_PATH)));
+        WireMock.verify(1, getRequestedFor(urlPathEqualTo(AMI_ID_RESOURCE)).withHeader(TOKEN_HEADER, equalTo("new-token")));
+    }
+
     @Test
     public void getAmiId_tokenQueryTimeout_fallsBackToInsecure() {
 
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class Ec2MetadataTokenCacheTest {
+    private static final URI ENDPOINT = URI.create("http://169.254.169.254/latest/api/token");
+    private static final Duration TTL = Duration.ofHours(6);
+
+    private MutableClock clock;
+    private Ec2MetadataTokenCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup() {
+        clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        cache = Ec2MetadataTokenCache.create(clock);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void getToken_calledTwice_loadsOnce() {
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("token"))).isEqualTo("token");
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("other"))).isEqualTo("token");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getToken_nearExpiration_reloads() {
+        cache.getToken(ENDPOINT, TTL, loader("token"));
+        clock.instant = clock.instant.plus(TTL).minusSeconds(30);
+
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("new-token"))).isEqualTo("new-token");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getToken_nullToken_isNotCached() {
+        assertThat(cache.getToken(ENDPOINT, TTL, loader(null))).isNull();
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("token"))).isEqualTo("token");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getToken_loaderFails_isNotCached() {
+        assertThatThrownBy(() -> cache.getToken(ENDPOINT, TTL, () -> {
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("token"))).isEqualTo("token");
+    }
+
+    @Test
+    public void getToken_differentEndpoints_cachedSeparately() {
+        cache.getToken(ENDPOINT, TTL, loader("token"));
+
+        assertThat(cache.getToken(URI.create("http://[fd00:ec2::254]/latest/api/token"), TTL, loader("ipv6-token")))
+            .isEqualTo("ipv6-token");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate_cachedToken_reloads() {
+        cache.getToken(ENDPOINT, TTL, loader("token"));
+        cache.invalidate(ENDPOINT, "token");
+
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("new-token"))).isEqualTo("new-token");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invalidate_tokenAlreadyReplaced_keepsNewToken() {
+        cache.getToken(ENDPOINT, TTL, loader("token"));
+        cache.invalidate(ENDPOINT, "token");
+        cache.getToken(ENDPOINT, TTL, loader("new-token"));
+        cache.invalidate(ENDPOINT, "token");
+
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("other"))).isEqualTo("new-token");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void clear_removesCachedTokens() {
+        cache.getToken(ENDPOINT, TTL, loader("token"));
+        cache.clear();
+
+        assertThat(cache.getToken(ENDPOINT, TTL, loader("new-token"))).isEqualTo("new-token");
+    }
+
+    private Supplier<String> loader(String token) {
+        return () -> {
+            loads.incrementAndGet();
+            return token;
+        };
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -17,12 +17,10 @@ package software.amazon.awssdk.core.checksums;
 
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
+import software.amazon.awssdk.checksums.CrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
@@ -30,19 +28,14 @@ import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32C;
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private Checksum crc32c;
-    private Checksum lastMarkedCrc32C;
-    private final boolean isCrtBasedChecksum;
+    private CrcChecksum crc32c;
+    private CrcChecksum lastMarkedCrc32C;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates a Crc32C checksum backed by the fastest implementation available at runtime, see {@link CrcChecksum}.
      */
     public Crc32CChecksum() {
-        crc32c = CrtBasedChecksumProvider.createCrc32C();
-        isCrtBasedChecksum = crc32c != null;
-        if (!isCrtBasedChecksum) {
-            crc32c = SdkCrc32C.create();
-        }
+        crc32c = CrcChecksum.crc32c();
     }
 
     @Override
@@ -53,7 +46,7 @@ public class Crc32CChecksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        this.lastMarkedCrc32C = crc32c.copy();
     }
 
     @Override
@@ -66,6 +59,11 @@ public class Crc32CChecksum implements SdkChecksum {
         crc32c.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc32c.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32c.getValue();
@@ -76,22 +74,7 @@ public class Crc32CChecksum implements SdkChecksum {
         if (lastMarkedCrc32C == null) {
             crc32c.reset();
         } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
-        }
-    }
-
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32C) checksum).clone();
-
+            crc32c = lastMarkedCrc32C.copy();
         }
     }
-}
\ No newline at end of file
+}
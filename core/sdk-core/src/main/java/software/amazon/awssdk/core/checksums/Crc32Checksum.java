@@ -17,12 +17,10 @@ package software.amazon.awssdk.core.checksums;
 
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32;
+import software.amazon.awssdk.checksums.CrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32 checksum.
@@ -30,19 +28,14 @@ import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32;
 @SdkInternalApi
 public class Crc32Checksum implements SdkChecksum {
 
-    private Checksum crc32;
-    private Checksum lastMarkedCrc32;
-    private final boolean isCrtBasedChecksum;
+    private CrcChecksum crc32;
+    private CrcChecksum lastMarkedCrc32;
 
     /**
-     * Creates CRT Based Crc32 checksum if Crt classpath for Crc32 is loaded, else create Sdk Implemented Crc32.
+     * Creates a Crc32 checksum backed by the fastest implementation available at runtime, see {@link CrcChecksum}.
      */
     public Crc32Checksum() {
-        crc32 = CrtBasedChecksumProvider.createCrc32();
-        isCrtBasedChecksum = crc32 != null;
-        if (!isCrtBasedChecksum) {
-            crc32 = SdkCrc32.create();
-        }
+        crc32 = CrcChecksum.crc32();
     }
 
     @Override
@@ -52,7 +45,7 @@ public class Crc32Checksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32 = cloneChecksum(crc32);
+        this.lastMarkedCrc32 = crc32.copy();
     }
 
     @Override
@@ -65,6 +58,11 @@ public class Crc32Checksum implements SdkChecksum {
         crc32.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        crc32.update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32.getValue();
@@ -72,23 +70,10 @@ public class Crc32Checksum implements SdkChecksum {
 
     @Override
     public void reset() {
-        if ((lastMarkedCrc32 == null)) {
+        if (lastMarkedCrc32 == null) {
             crc32.reset();
         } else {
-            crc32 = cloneChecksum(lastMarkedCrc32);
-        }
-    }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32) checksum).clone();
+            crc32 = lastMarkedCrc32.copy();
         }
     }
-}
\ No newline at end of file
+}
@@ -26,21 +26,45 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * Factory for creating request/response handler chains from the classpath.
+ *
+ * <p>The names of the interceptors listed in each classpath resource are cached per class loader, so the classpath is only
+ * scanned the first time a resource is requested. New interceptor instances are still created for every call.
  */
 @SdkProtectedApi
 public final class ClasspathInterceptorChainFactory {
 
     private static final String GLOBAL_INTERCEPTOR_PATH = "software/amazon/awssdk/global/handlers/execution.interceptors";
 
+    /**
+     * The interceptor class names listed in each resource, keyed by the class loader used to find the resource. Only the names
+     * are cached (not the classes), so that this cache does not prevent class loaders from being garbage collected.
+     */
+    private static final Map<ClassLoader, Map<String, List<String>>> INTERCEPTOR_NAME_CACHE = new WeakHashMap<>();
+
+    private final ClassLoader classLoader;
+
+    public ClasspathInterceptorChainFactory() {
+        this(null);
+    }
+
+    @SdkTestInternalApi
+    ClasspathInterceptorChainFactory(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
     /**
      * Constructs a new request handler chain by analyzing the specified classpath resource.
      *
@@ -59,9 +83,27 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private Collection<ExecutionInterceptor> createExecutionInterceptorsFromClasspath(String path) {
+        return interceptorClassNames(path).stream()
+                                          .map(this::createExecutionInterceptor)
+                                          .filter(Objects::nonNull)
+                                          .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1))
+                                          .values();
+    }
+
+    private List<String> interceptorClassNames(String path) {
+        ClassLoader classLoader = classLoader();
+
+        Map<String, List<String>> namesByPath;
+        synchronized (INTERCEPTOR_NAME_CACHE) {
+            namesByPath = INTERCEPTOR_NAME_CACHE.computeIfAbsent(classLoader, c -> new ConcurrentHashMap<>());
+        }
+
+        return namesByPath.computeIfAbsent(path, p -> loadInterceptorClassNames(classLoader, p));
+    }
+
+    private List<String> loadInterceptorClassNames(ClassLoader classLoader, String path) {
         try {
-            return createExecutionInterceptorsFromResources(classLoader().getResources(path))
-                .collect(Collectors.toMap(p -> p.getClass().getSimpleName(), p -> p, (p1, p2) -> p1)).values();
+            return Collections.unmodifiableList(readInterceptorClassNames(classLoader.getResources(path)));
         } catch (IOException e) {
             throw SdkClientException.builder()
                                     .message("Unable to instantiate execution interceptor chain.")
@@ -70,43 +112,30 @@ public final class ClasspathInterceptorChainFactory {
         }
     }
 
-    private Stream<ExecutionInterceptor> createExecutionInterceptorsFromResources(Enumeration<URL> resources) {
+    private List<String> readInterceptorClassNames(Enumeration<URL> resources) throws IOException {
+        List<String> interceptorClassNames = new ArrayList<>();
         if (resources == null) {
-            return Stream.empty();
+            return interceptorClassNames;
         }
 
-        return Collections.list(resources).stream().flatMap(this::createExecutionInterceptorFromResource);
-    }
-
-    private Stream<ExecutionInterceptor> createExecutionInterceptorFromResource(URL resource) {
-        try {
+        for (URL resource : Collections.list(resources)) {
             if (resource == null) {
-                return Stream.empty();
+                continue;
             }
 
-            List<ExecutionInterceptor> interceptors = new ArrayList<>();
-
             try (InputStream stream = resource.openStream();
                  InputStreamReader streamReader = new InputStreamReader(stream, StandardCharsets.UTF_8);
                  BufferedReader fileReader = new BufferedReader(streamReader)) {
 
                 String interceptorClassName = fileReader.readLine();
                 while (interceptorClassName != null) {
-                    ExecutionInterceptor interceptor = createExecutionInterceptor(interceptorClassName);
-                    if (interceptor != null) {
-                        interceptors.add(interceptor);
-                    }
+                    interceptorClassNames.add(interceptorClassName);
                     interceptorClassName = fileReader.readLine();
                 }
             }
-
-            return interceptors.stream();
-        } catch (IOException e) {
-            throw SdkClientException.builder()
-                                    .message("Unable to instantiate execution interceptor chain.")
-                                    .cause(e)
-                                    .build();
         }
+
+        return interceptorClassNames;
     }
 
     private ExecutionInterceptor createExecutionInterceptor(String interceptorClassName) {
@@ -142,6 +171,9 @@ public final class ClasspathInterceptorChainFactory {
     }
 
     private ClassLoader classLoader() {
+        if (classLoader != null) {
+            return classLoader;
+        }
         return Validate.notNull(ClassLoaderHelper.classLoader(getClass()),
                                 "Failed to load the classloader of this class or the system.");
     }
@@ -38,6 +38,8 @@ import software.amazon.awssdk.core.internal.async.ChecksumValidatingPublisher;
 import software.amazon.awssdk.core.internal.io.ChecksumValidatingInputStream;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
 import software.amazon.awssdk.core.internal.util.HttpChecksumUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Pair;
 
 /**
@@ -100,6 +102,12 @@ public final class HttpChecksumValidationInterceptor implements ExecutionInterce
                                              ChecksumValidation.VALIDATED);
             executionAttributes.putAttribute(SdkExecutionAttribute.HTTP_CHECKSUM_VALIDATION_ALGORITHM,
                                              algorithmChecksumPair.left());
+            MetricCollector metricCollector =
+                executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_ATTEMPT_METRIC_COLLECTOR);
+            if (metricCollector != null) {
+                metricCollector.reportMetric(CoreMetric.RESPONSE_CHECKSUM_VALIDATION_ALGORITHM,
+                                             algorithmChecksumPair.left().name());
+            }
         }
     }
 
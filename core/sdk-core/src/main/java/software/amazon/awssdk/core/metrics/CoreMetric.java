@@ -141,6 +141,13 @@ public final class CoreMetric {
     public static final SdkMetric<String> ERROR_TYPE =
         metric("ErrorType", String.class, MetricLevel.INFO);
 
+    /**
+     * The checksum algorithm used by the SDK to validate the integrity of the response payload of a call attempt, e.g. "CRC32C"
+     * or "MD5". This is not present if the response payload was not validated.
+     */
+    public static final SdkMetric<String> RESPONSE_CHECKSUM_VALIDATION_ALGORITHM =
+        metric("ResponseChecksumValidationAlgorithm", String.class, MetricLevel.INFO);
+
     private CoreMetric() {
     }
 
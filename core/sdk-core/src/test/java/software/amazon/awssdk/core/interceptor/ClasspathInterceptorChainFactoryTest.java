@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ClasspathInterceptorChainFactoryTest {
+    private static final String TEST_INTERCEPTORS = "software/amazon/awssdk/core/interceptor/test.interceptors";
+
+    @Test
+    public void getInterceptors_loadsInterceptorsListedInResource() {
+        List<ExecutionInterceptor> interceptors = new ClasspathInterceptorChainFactory().getInterceptors(TEST_INTERCEPTORS);
+
+        assertThat(interceptors).hasSize(1);
+        assertThat(interceptors.get(0)).isInstanceOf(TestInterceptor.class);
+    }
+
+    @Test
+    public void getInterceptors_calledTwice_createsNewInstances() {
+        ClasspathInterceptorChainFactory factory = new ClasspathInterceptorChainFactory();
+
+        List<ExecutionInterceptor> first = factory.getInterceptors(TEST_INTERCEPTORS);
+        List<ExecutionInterceptor> second = new ClasspathInterceptorChainFactory().getInterceptors(TEST_INTERCEPTORS);
+
+        assertThat(second).hasSize(1);
+        assertThat(second.get(0)).isNotSameAs(first.get(0));
+    }
+
+    @Test
+    public void getInterceptors_missingResource_returnsEmptyList() {
+        assertThat(new ClasspathInterceptorChainFactory().getInterceptors("does/not/exist.interceptors")).isEmpty();
+    }
+
+    @Test
+    public void getInterceptors_calledByRepeatedClientBuilds_readsResourceOnce() {
+        CountingClassLoader classLoader = new CountingClassLoader(getClass().getClassLoader());
+
+        for (int i = 0; i < 5; i++) {
+            ClasspathInterceptorChainFactory factory = new ClasspathInterceptorChainFactory(classLoader);
+            assertThat(factory.getInterceptors(TEST_INTERCEPTORS)).hasSize(1);
+        }
+
+        assertThat(classLoader.resourceLookups.get()).isEqualTo(1);
+    }
+
+    public static class TestInterceptor implements ExecutionInterceptor {
+    }
+
+    private static final class CountingClassLoader extends ClassLoader {
+        private final AtomicInteger resourceLookups = new AtomicInteger();
+
+        private CountingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (TEST_INTERCEPTORS.equals(name)) {
+                resourceLookups.incrementAndGet();
+            }
+            return super.getResources(name);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemModel;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessingException;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaGenerator;
+
+/**
+ * An annotation processor that generates the table schemas of classes annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time.
+ * <p>
+ * {@code TableSchema.fromBean()} and {@code TableSchema.fromImmutableClass()} inspect the class with
+ * {@code java.beans.Introspector} and create lambdas for its getters and setters through {@code LambdaMetafactory} the
+ * first time a schema is created, which can take hundreds of milliseconds per class when an application starts, and
+ * requires reflection configuration in GraalVM native images. For each annotated class {@code Customer}, this processor
+ * instead generates a {@code CustomerTableSchema} class in the same package, which builds the equivalent
+ * {@code StaticTableSchema} or {@code StaticImmutableTableSchema} with method references to the getters and setters:
+ * {@snippet :
+ *     DynamoDbTable<Customer> table = enhancedClient.table("customers", CustomerTableSchema.create());
+ * }
+ * The generated class of a nested class {@code Outer.Inner} is named {@code Outer_InnerTableSchema}.
+ * <p>
+ * To use the processor, add the {@code dynamodb-enhanced-processor} artifact to the annotation processor path of the
+ * compiler, or to the classpath with {@code provided} scope. The generated code only depends on {@code dynamodb-enhanced}.
+ * <p>
+ * Classes that cannot be mapped, for example bean classes without a public no-argument constructor, are reported as
+ * compilation errors. Nested and flattened classes are mapped with their generated table schema when one is generated,
+ * and with {@code TableSchema.fromClass()} otherwise, or when they refer back to the class that contains them.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private final Map<String, ItemModel> models = new HashMap<>();
+    private ItemIntrospector introspector;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new ItemIntrospector(processingEnv);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> annotationTypes = new HashSet<>();
+        annotationTypes.add(MappingAnnotation.BEAN);
+        annotationTypes.add(MappingAnnotation.IMMUTABLE);
+        return annotationTypes;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<String, ItemModel> roundModels = new LinkedHashMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (!(element instanceof TypeElement)) {
+                    continue;
+                }
+                TypeElement itemType = (TypeElement) element;
+                try {
+                    roundModels.put(itemType.getQualifiedName().toString(), introspector.introspect(itemType));
+                } catch (ProcessingException e) {
+                    error(e);
+                }
+            }
+        }
+        // Register the models of the round before generating any of them, so that they can refer to each other
+        models.putAll(roundModels);
+
+        for (ItemModel model : roundModels.values()) {
+            TableSchemaGenerator generator =
+                new TableSchemaGenerator(introspector, referenced -> tableSchemaReference(model.itemType(), referenced),
+                                         TableSchemaProcessor.class.getName());
+            try {
+                generator.generate(model).writeTo(processingEnv.getFiler());
+            } catch (ProcessingException e) {
+                error(e);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the table schema of "
+                                                                                + model.itemType() + ": " + e, model.itemType());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * An expression that evaluates to the table schema of a class referenced by an item class. Generated table schemas are
+     * created when their class is initialized, so a generated table schema can only refer to another one if that one does
+     * not refer back to it, directly or indirectly. Otherwise, the class initializations would depend on each other.
+     */
+    private CodeBlock tableSchemaReference(TypeElement itemType, TypeElement referenced) {
+        ClassName generatedClass = TableSchemaGenerator.generatedClassName(referenced);
+        boolean generated = models.containsKey(referenced.getQualifiedName().toString())
+                            || processingEnv.getElementUtils().getTypeElement(generatedClass.canonicalName()) != null;
+        if (generated && !references(referenced, itemType)) {
+            return CodeBlock.of("$T.create()", generatedClass);
+        }
+        return CodeBlock.of("$T.fromClass($T.class)", ClassName.get("software.amazon.awssdk.enhanced.dynamodb", "TableSchema"),
+                            ClassName.get(referenced));
+    }
+
+    private boolean references(TypeElement from, TypeElement to) {
+        String target = to.getQualifiedName().toString();
+        Set<String> visited = new HashSet<>();
+        Deque<String> toVisit = new ArrayDeque<>();
+        toVisit.add(from.getQualifiedName().toString());
+        while (!toVisit.isEmpty()) {
+            String current = toVisit.poll();
+            if (!visited.add(current)) {
+                continue;
+            }
+            ItemModel model = models.get(current);
+            if (model == null) {
+                continue;
+            }
+            for (TypeElement referenced : model.referencedItemTypes()) {
+                String name = referenced.getQualifiedName().toString();
+                if (name.equals(target)) {
+                    return true;
+                }
+                toVisit.add(name);
+            }
+        }
+        return false;
+    }
+
+    private void error(ProcessingException e) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element());
+    }
+}
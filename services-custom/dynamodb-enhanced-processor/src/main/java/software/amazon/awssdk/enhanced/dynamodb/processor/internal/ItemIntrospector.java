@@ -0,0 +1,449 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.IGNORE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.TRANSIENT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the mapped properties of {@code @DynamoDbBean} and {@code @DynamoDbImmutable} classes at compile time, following
+ * the same rules as {@code BeanTableSchema}, which uses {@code java.beans.Introspector}, and {@code ImmutableTableSchema}.
+ * Classes that those table schemas would reject when they are created are reported as errors instead.
+ */
+@SdkInternalApi
+public final class ItemIntrospector {
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+    private static final String BUILDER_METHOD = "builder";
+    private static final String BUILD_METHOD = "build";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+
+    private final Elements elements;
+    private final Types types;
+    private final Set<String> immutableNamesToExclude;
+
+    public ItemIntrospector(ProcessingEnvironment processingEnv) {
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        Set<String> namesToExclude = new HashSet<>();
+        ElementFilter.methodsIn(elements.getTypeElement(Object.class.getName()).getEnclosedElements())
+                     .forEach(m -> namesToExclude.add(m.getSimpleName().toString()));
+        namesToExclude.add(TO_BUILDER_METHOD);
+        this.immutableNamesToExclude = Collections.unmodifiableSet(namesToExclude);
+    }
+
+    /**
+     * Returns the bean or immutable annotation of the given class, or null if it has neither.
+     */
+    public static AnnotationMirror itemAnnotation(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String name = annotation.getAnnotationType().toString();
+            if (name.equals(BEAN) || name.equals(IMMUTABLE)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    public ItemModel introspect(TypeElement itemType) {
+        AnnotationMirror itemAnnotation = itemAnnotation(itemType);
+        validateItemType(itemType);
+
+        if (itemAnnotation.getAnnotationType().toString().equals(BEAN)) {
+            return introspectBean(itemType, itemAnnotation);
+        }
+        return introspectImmutable(itemType, itemAnnotation);
+    }
+
+    private void validateItemType(TypeElement itemType) {
+        if (!itemType.getTypeParameters().isEmpty()) {
+            throw new ProcessingException(itemType, "Table schemas cannot be generated for generic classes.");
+        }
+        if (itemType.getNestingKind() != NestingKind.TOP_LEVEL
+            && (itemType.getNestingKind() != NestingKind.MEMBER || !itemType.getModifiers().contains(Modifier.STATIC))) {
+            throw new ProcessingException(itemType, "Table schemas can only be generated for top level or static nested "
+                                                    + "classes.");
+        }
+        if (itemType.getModifiers().contains(Modifier.PRIVATE)) {
+            throw new ProcessingException(itemType, "Table schemas cannot be generated for private classes.");
+        }
+    }
+
+    private ItemModel introspectBean(TypeElement beanType, AnnotationMirror beanAnnotation) {
+        if (beanType.getKind() != ElementKind.CLASS || beanType.getModifiers().contains(Modifier.ABSTRACT)
+            || !hasPublicNoArgConstructor(beanType)) {
+            throw new ProcessingException(beanType, "A DynamoDb bean class must be a concrete class with a public no-argument "
+                                                    + "constructor.");
+        }
+
+        DeclaredType declaredType = (DeclaredType) beanType.asType();
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, List<ExecutableElement>> setters = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(beanType)) {
+            String name = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(declaredType, method);
+            TypeMirror returnType = methodType.getReturnType();
+            int parameterCount = method.getParameters().size();
+
+            if (parameterCount == 0 && name.length() > 2 && name.startsWith(IS_PREFIX)
+                && returnType.getKind() == TypeKind.BOOLEAN) {
+                // As in java.beans.Introspector, an 'is' getter takes precedence over a 'get' getter
+                getters.put(decapitalize(name.substring(2)), method);
+            } else if (parameterCount == 0 && name.length() > 3 && name.startsWith(GET_PREFIX)
+                       && returnType.getKind() != TypeKind.VOID) {
+                getters.putIfAbsent(decapitalize(name.substring(3)), method);
+            } else if (parameterCount == 1 && name.length() > 3 && name.startsWith(SET_PREFIX)
+                       && returnType.getKind() == TypeKind.VOID) {
+                setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        getters.forEach((propertyName, getter) -> {
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(declaredType, getter)).getReturnType();
+            ExecutableElement setter = setters.getOrDefault(propertyName, Collections.emptyList())
+                                              .stream()
+                                              .filter(s -> isSameErasure(parameterType(declaredType, s), propertyType))
+                                              .findFirst()
+                                              .orElse(null);
+            if (setter == null) {
+                return;
+            }
+
+            PropertyModel property = property(propertyName, getter, setter, propertyType);
+            if (property != null) {
+                properties.add(property);
+                collectReferencedItemTypes(propertyType, referencedItemTypes);
+            }
+        });
+
+        return new ItemModel(beanType, null, null, converterProviders(beanAnnotation), properties, referencedItemTypes);
+    }
+
+    private ItemModel introspectImmutable(TypeElement immutableType, AnnotationMirror immutableAnnotation) {
+        TypeElement builderType = builderType(immutableType, immutableAnnotation);
+        DeclaredType declaredImmutableType = (DeclaredType) immutableType.asType();
+        DeclaredType declaredBuilderType = (DeclaredType) builderType.asType();
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : publicInstanceMethods(builderType)) {
+            if (isMappableImmutableMethod(method)) {
+                ExecutableElement previous = builderMethods.put(normalizeSetterName(method), method);
+                if (previous != null) {
+                    throw new ProcessingException(method, "Found more than one method on the immutable class builder that "
+                                                          + "sets property '" + normalizeSetterName(method) + "'.");
+                }
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(((ExecutableType) types.asMemberOf(declaredBuilderType, buildMethod)).getReturnType(),
+                                 declaredImmutableType)) {
+            throw new ProcessingException(immutableType, "An immutable builder class must have a public method named "
+                                                         + "'build()' that takes no arguments and returns an instance of the "
+                                                         + "immutable class it builds");
+        }
+
+        List<PropertyModel> properties = new ArrayList<>();
+        Set<TypeElement> referencedItemTypes = new LinkedHashSet<>();
+        for (ExecutableElement getter : publicInstanceMethods(immutableType)) {
+            if (!isMappableImmutableMethod(getter)) {
+                continue;
+            }
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(declaredImmutableType, getter)).getReturnType();
+            if (propertyType.getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                throw new ProcessingException(getter, "A method was found on the immutable class that does not appear to be a "
+                                                      + "valid getter. Use the @DynamoDbIgnore annotation on the method if "
+                                                      + "you do not want it to be included in the TableSchema.");
+            }
+
+            String propertyName = normalizeGetterName(getter, propertyType);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidImmutableSetter(declaredBuilderType, setter, propertyType)) {
+                throw new ProcessingException(getter, "A method was found on the immutable class that does not appear to have "
+                                                      + "a matching setter on the builder class. Use the @DynamoDbIgnore "
+                                                      + "annotation on the method if you do not want it to be included in "
+                                                      + "the TableSchema.");
+            }
+
+            PropertyModel property = property(propertyName, getter, setter, propertyType);
+            if (property != null) {
+                properties.add(property);
+                collectReferencedItemTypes(propertyType, referencedItemTypes);
+            }
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new ProcessingException(builderMethods.values().iterator().next(),
+                                          "A method was found on the immutable class builder that does not appear to have a "
+                                          + "matching getter on the immutable class. Use the @DynamoDbIgnore annotation on "
+                                          + "the method if you do not want it to be included in the TableSchema.");
+        }
+
+        ExecutableElement staticBuilderMethod = staticBuilderMethod(immutableType, declaredBuilderType);
+        if (staticBuilderMethod == null && (builderType.getKind() != ElementKind.CLASS
+                                            || builderType.getModifiers().contains(Modifier.ABSTRACT)
+                                            || !hasPublicNoArgConstructor(builderType))) {
+            throw new ProcessingException(immutableType, "An immutable class must have a public static 'builder()' method, or "
+                                                         + "its builder class must have a public no-argument constructor.");
+        }
+
+        return new ItemModel(immutableType, builderType, staticBuilderMethod, converterProviders(immutableAnnotation),
+                             properties, referencedItemTypes);
+    }
+
+    /**
+     * Creates the model of a property, or returns null if it is ignored.
+     */
+    private PropertyModel property(String propertyName, ExecutableElement getter, ExecutableElement setter,
+                                   TypeMirror propertyType) {
+        List<AnnotationMirror> annotations = new ArrayList<>(getter.getAnnotationMirrors());
+        annotations.addAll(setter.getAnnotationMirrors());
+        if (findAnnotation(annotations, IGNORE) != null || findAnnotation(annotations, TRANSIENT) != null) {
+            return null;
+        }
+
+        AnnotationMirror attribute = findAnnotation(annotations, ATTRIBUTE);
+        String attributeName = attribute == null ? propertyName : (String) annotationValue(attribute, "value").getValue();
+
+        if (findAnnotation(annotations, FLATTEN) != null && itemTypeElement(propertyType) == null) {
+            throw new ProcessingException(getter, "@DynamoDbFlatten can only be used on properties of a class annotated with "
+                                                  + "@DynamoDbBean or @DynamoDbImmutable.");
+        }
+        return new PropertyModel(attributeName, getter, setter, propertyType, annotations);
+    }
+
+    /**
+     * Returns the class of the given type if it is a non-generic class annotated with {@code @DynamoDbBean} or
+     * {@code @DynamoDbImmutable}, which is mapped as a nested document, or null otherwise.
+     */
+    public TypeElement itemTypeElement(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return itemAnnotation(element) == null ? null : element;
+    }
+
+    /**
+     * Returns the element type of a {@code List}, or the value type of a {@code Map}, which are mapped recursively, or null
+     * if the type is not a parameterized list or map.
+     */
+    public TypeMirror collectionValueType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        String name = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        if (name.equals(List.class.getName()) && typeArguments.size() == 1) {
+            return typeArguments.get(0);
+        }
+        if (name.equals(Map.class.getName()) && typeArguments.size() == 2) {
+            return typeArguments.get(1);
+        }
+        return null;
+    }
+
+    public static AnnotationValue annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e : annotation.getElementValues().entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(name)) {
+                return e.getValue();
+            }
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(annotation.getAnnotationType().asElement()
+                                                                          .getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(name)) {
+                return method.getDefaultValue();
+            }
+        }
+        return null;
+    }
+
+    private void collectReferencedItemTypes(TypeMirror type, Set<TypeElement> referencedItemTypes) {
+        TypeElement itemType = itemTypeElement(type);
+        if (itemType != null) {
+            referencedItemTypes.add(itemType);
+            return;
+        }
+        TypeMirror valueType = collectionValueType(type);
+        if (valueType != null) {
+            collectReferencedItemTypes(valueType, referencedItemTypes);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TypeMirror> converterProviders(AnnotationMirror itemAnnotation) {
+        List<TypeMirror> providers = new ArrayList<>();
+        for (AnnotationValue value : (List<? extends AnnotationValue>) annotationValue(itemAnnotation, "converterProviders")
+            .getValue()) {
+            providers.add((TypeMirror) value.getValue());
+        }
+        return providers;
+    }
+
+    private TypeElement builderType(TypeElement immutableType, AnnotationMirror immutableAnnotation) {
+        TypeMirror builder = (TypeMirror) annotationValue(immutableAnnotation, "builder").getValue();
+        if (builder.getKind() != TypeKind.DECLARED) {
+            throw new ProcessingException(immutableType, "The builder of an immutable class must be a class or interface.");
+        }
+        TypeElement builderType = (TypeElement) ((DeclaredType) builder).asElement();
+        if (!builderType.getTypeParameters().isEmpty()) {
+            throw new ProcessingException(immutableType, "Table schemas cannot be generated for generic builder classes.");
+        }
+        return builderType;
+    }
+
+    private ExecutableElement staticBuilderMethod(TypeElement immutableType, DeclaredType builderType) {
+        for (ExecutableElement method : ElementFilter.methodsIn(immutableType.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals(BUILDER_METHOD)
+                && method.getModifiers().contains(Modifier.PUBLIC)
+                && method.getModifiers().contains(Modifier.STATIC)
+                && method.getParameters().isEmpty()
+                && method.getTypeParameters().isEmpty()
+                && types.isAssignable(builderType, method.getReturnType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private boolean isValidImmutableSetter(DeclaredType builderType, ExecutableElement setter, TypeMirror propertyType) {
+        if (setter.getParameters().size() != 1 || !isSameErasure(parameterType(builderType, setter), propertyType)) {
+            return false;
+        }
+        TypeMirror returnType = ((ExecutableType) types.asMemberOf(builderType, setter)).getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || returnType.toString().equals(Void.class.getName())
+               || types.isAssignable(builderType, returnType);
+    }
+
+    private boolean isMappableImmutableMethod(ExecutableElement method) {
+        return !immutableNamesToExclude.contains(method.getSimpleName().toString())
+               && !hasAnnotation(method, IGNORE)
+               && !hasAnnotation(method, TRANSIENT);
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            Set<Modifier> modifiers = method.getModifiers();
+            boolean declaredByObject = ((TypeElement) method.getEnclosingElement()).getQualifiedName()
+                                                                                   .contentEquals(Object.class.getName());
+            if (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.STATIC) && !declaredByObject) {
+                methods.add(method);
+            }
+        }
+        methods.sort(Comparator.comparing(m -> m.getSimpleName().toString()));
+        return methods;
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getModifiers().contains(Modifier.PUBLIC) && c.getParameters().isEmpty());
+    }
+
+    private TypeMirror parameterType(DeclaredType containing, ExecutableElement method) {
+        return ((ExecutableType) types.asMemberOf(containing, method)).getParameterTypes().get(0);
+    }
+
+    private boolean isSameErasure(TypeMirror a, TypeMirror b) {
+        return types.isSameType(types.erasure(a), types.erasure(b));
+    }
+
+    /**
+     * Returns the first annotation of the given type in the list, or null if there is none.
+     */
+    public static AnnotationMirror findAnnotation(List<? extends AnnotationMirror> annotations, String annotationType) {
+        for (AnnotationMirror annotation : annotations) {
+            if (annotation.getAnnotationType().toString().equals(annotationType)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationType) {
+        return findAnnotation(element.getAnnotationMirrors(), annotationType) != null;
+    }
+
+    private static String normalizeSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith(SET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    private static String normalizeGetterName(ExecutableElement getter, TypeMirror returnType) {
+        String name = getter.getSimpleName().toString();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN || returnType.toString().equals(Boolean.class.getName());
+        if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith(IS_PREFIX) && isBoolean) {
+            return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+        }
+        if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith(GET_PREFIX)) {
+            return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+        }
+        return name;
+    }
+
+    /**
+     * Same as {@code java.beans.Introspector.decapitalize}, which is not used so that the processor does not depend on the
+     * java.desktop module.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+}
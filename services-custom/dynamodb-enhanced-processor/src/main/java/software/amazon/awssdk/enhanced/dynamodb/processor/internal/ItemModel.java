@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The mapping of a {@code @DynamoDbBean} or {@code @DynamoDbImmutable} class, as found by {@link ItemIntrospector}.
+ */
+@SdkInternalApi
+public final class ItemModel {
+    private final TypeElement itemType;
+    private final TypeElement builderType;
+    private final ExecutableElement staticBuilderMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+    private final Set<TypeElement> referencedItemTypes;
+
+    ItemModel(TypeElement itemType, TypeElement builderType, ExecutableElement staticBuilderMethod,
+              List<TypeMirror> converterProviders, List<PropertyModel> properties, Set<TypeElement> referencedItemTypes) {
+        this.itemType = itemType;
+        this.builderType = builderType;
+        this.staticBuilderMethod = staticBuilderMethod;
+        this.converterProviders = converterProviders;
+        this.properties = properties;
+        this.referencedItemTypes = referencedItemTypes;
+    }
+
+    public TypeElement itemType() {
+        return itemType;
+    }
+
+    public boolean isImmutable() {
+        return builderType != null;
+    }
+
+    /**
+     * The builder class of an immutable class, or null for a bean.
+     */
+    public TypeElement builderType() {
+        return builderType;
+    }
+
+    /**
+     * The static {@code builder()} method of an immutable class, or null if the builder is created with its constructor.
+     */
+    public ExecutableElement staticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    /**
+     * The classes of the {@code AttributeConverterProvider}s configured on the class annotation.
+     */
+    public List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    public List<PropertyModel> properties() {
+        return properties;
+    }
+
+    /**
+     * The bean and immutable classes that this class maps as nested documents or flattens.
+     */
+    public Set<TypeElement> referencedItemTypes() {
+        return referencedItemTypes;
+    }
+}
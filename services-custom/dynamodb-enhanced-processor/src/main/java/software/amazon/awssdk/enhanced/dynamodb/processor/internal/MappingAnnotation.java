@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The names of the DynamoDB Enhanced Client annotations. The processor does not depend on the enhanced client, so that it
+ * does not load it, and refers to its annotations by name.
+ */
+@SdkInternalApi
+public final class MappingAnnotation {
+    public static final String MAPPER_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations";
+    public static final String EXTENSIONS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.extensions.annotations";
+
+    public static final String BEAN = MAPPER_PACKAGE + ".DynamoDbBean";
+    public static final String IMMUTABLE = MAPPER_PACKAGE + ".DynamoDbImmutable";
+    public static final String ATTRIBUTE = MAPPER_PACKAGE + ".DynamoDbAttribute";
+    public static final String CONVERTED_BY = MAPPER_PACKAGE + ".DynamoDbConvertedBy";
+    public static final String FLATTEN = MAPPER_PACKAGE + ".DynamoDbFlatten";
+    public static final String IGNORE = MAPPER_PACKAGE + ".DynamoDbIgnore";
+    public static final String IGNORE_NULLS = MAPPER_PACKAGE + ".DynamoDbIgnoreNulls";
+    public static final String PRESERVE_EMPTY_OBJECT = MAPPER_PACKAGE + ".DynamoDbPreserveEmptyObject";
+    public static final String ATTRIBUTE_TAG = MAPPER_PACKAGE + ".BeanTableSchemaAttributeTag";
+
+    public static final String PARTITION_KEY = MAPPER_PACKAGE + ".DynamoDbPartitionKey";
+    public static final String SORT_KEY = MAPPER_PACKAGE + ".DynamoDbSortKey";
+    public static final String SECONDARY_PARTITION_KEY = MAPPER_PACKAGE + ".DynamoDbSecondaryPartitionKey";
+    public static final String SECONDARY_SORT_KEY = MAPPER_PACKAGE + ".DynamoDbSecondarySortKey";
+    public static final String UPDATE_BEHAVIOR = MAPPER_PACKAGE + ".DynamoDbUpdateBehavior";
+    public static final String ATOMIC_COUNTER = EXTENSIONS_PACKAGE + ".DynamoDbAtomicCounter";
+    public static final String VERSION_ATTRIBUTE = EXTENSIONS_PACKAGE + ".DynamoDbVersionAttribute";
+    public static final String AUTO_GENERATED_TIMESTAMP = EXTENSIONS_PACKAGE + ".DynamoDbAutoGeneratedTimestampAttribute";
+
+    public static final String TRANSIENT = "java.beans.Transient";
+
+    private MappingAnnotation() {
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import javax.lang.model.element.Element;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An error in an annotated class that prevents its table schema from being generated, reported as a compilation error on
+ * the element that caused it.
+ */
+@SdkInternalApi
+public final class ProcessingException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    public ProcessingException(Element element, String message) {
+        super(message);
+        this.element = element;
+    }
+
+    public Element element() {
+        return element;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.List;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A property of a bean or immutable class that is mapped to an attribute, or flattened into the item.
+ */
+@SdkInternalApi
+public final class PropertyModel {
+    private final String attributeName;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final TypeMirror type;
+    private final List<AnnotationMirror> annotations;
+
+    PropertyModel(String attributeName, ExecutableElement getter, ExecutableElement setter, TypeMirror type,
+                  List<AnnotationMirror> annotations) {
+        this.attributeName = attributeName;
+        this.getter = getter;
+        this.setter = setter;
+        this.type = type;
+        this.annotations = annotations;
+    }
+
+    /**
+     * The name of the attribute, from {@code @DynamoDbAttribute} or the name of the property.
+     */
+    public String attributeName() {
+        return attributeName;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    /**
+     * The setter of the property on the bean, or on the builder of an immutable class.
+     */
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    /**
+     * The type of the property, as returned by the getter.
+     */
+    public TypeMirror type() {
+        return type;
+    }
+
+    /**
+     * The annotations of the getter followed by those of the setter.
+     */
+    public List<AnnotationMirror> annotations() {
+        return annotations;
+    }
+
+    /**
+     * Returns the first annotation of the given type on the getter or the setter, or null if there is none.
+     */
+    public AnnotationMirror annotation(String annotationType) {
+        return ItemIntrospector.findAnnotation(annotations, annotationType);
+    }
+
+    public boolean hasAnnotation(String annotationType) {
+        return annotation(annotationType) != null;
+    }
+}
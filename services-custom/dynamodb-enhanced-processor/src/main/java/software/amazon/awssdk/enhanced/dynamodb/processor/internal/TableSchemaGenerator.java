@@ -0,0 +1,353 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemIntrospector.annotationValue;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.ATOMIC_COUNTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.ATTRIBUTE_TAG;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.AUTO_GENERATED_TIMESTAMP;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.CONVERTED_BY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.IGNORE_NULLS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.PRESERVE_EMPTY_OBJECT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.SECONDARY_PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.SECONDARY_SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.UPDATE_BEHAVIOR;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.MappingAnnotation.VERSION_ATTRIBUTE;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates the source of the table schema of a bean or immutable class. The generated class wraps a
+ * {@code StaticTableSchema} or {@code StaticImmutableTableSchema} that is built with method references to the getters and
+ * setters of the class, so creating it does not involve any reflection.
+ */
+@SdkInternalApi
+public final class TableSchemaGenerator {
+    private static final String ENHANCED_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb";
+    private static final String MAPPER_PACKAGE = ENHANCED_PACKAGE + ".mapper";
+    private static final String EXTENSIONS_PACKAGE = ENHANCED_PACKAGE + ".extensions";
+
+    private static final ClassName TABLE_SCHEMA = ClassName.get(ENHANCED_PACKAGE, "TableSchema");
+    private static final ClassName ENHANCED_TYPE = ClassName.get(ENHANCED_PACKAGE, "EnhancedType");
+    private static final ClassName DEFAULT_CONVERTER_PROVIDER = ClassName.get(ENHANCED_PACKAGE,
+                                                                              "DefaultAttributeConverterProvider");
+    private static final ClassName STATIC_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticTableSchema");
+    private static final ClassName STATIC_IMMUTABLE_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "StaticImmutableTableSchema");
+    private static final ClassName WRAPPED_TABLE_SCHEMA = ClassName.get(MAPPER_PACKAGE, "WrappedTableSchema");
+    private static final ClassName STATIC_ATTRIBUTE_TAGS = ClassName.get(MAPPER_PACKAGE, "StaticAttributeTags");
+    private static final ClassName UPDATE_BEHAVIOR_ENUM = ClassName.get(MAPPER_PACKAGE, "UpdateBehavior");
+    private static final ClassName VERSION_TAGS = ClassName.get(EXTENSIONS_PACKAGE, "VersionedRecordExtension",
+                                                                "AttributeTags");
+    private static final ClassName TIMESTAMP_TAGS = ClassName.get(EXTENSIONS_PACKAGE, "AutoGeneratedTimestampRecordExtension",
+                                                                  "AttributeTags");
+    private static final ClassName GENERATED = ClassName.get("software.amazon.awssdk.annotations", "Generated");
+    private static final String GENERATED_CLASS_SUFFIX = "TableSchema";
+
+    private final ItemIntrospector introspector;
+    private final Function<TypeElement, CodeBlock> tableSchemaReference;
+    private final String generatorName;
+
+    /**
+     * @param tableSchemaReference returns an expression that evaluates to the table schema of a nested or flattened class
+     * @param generatorName the name of the processor, recorded in the {@code @Generated} annotation
+     */
+    public TableSchemaGenerator(ItemIntrospector introspector, Function<TypeElement, CodeBlock> tableSchemaReference,
+                                String generatorName) {
+        this.introspector = introspector;
+        this.tableSchemaReference = tableSchemaReference;
+        this.generatorName = generatorName;
+    }
+
+    /**
+     * The name of the class generated for the given item class: the names of the class and its enclosing classes joined
+     * with underscores, followed by {@code TableSchema}, in the same package.
+     */
+    public static ClassName generatedClassName(TypeElement itemType) {
+        StringBuilder name = new StringBuilder(itemType.getSimpleName());
+        Element enclosing = itemType.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return ClassName.get(((PackageElement) enclosing).getQualifiedName().toString(), name + GENERATED_CLASS_SUFFIX);
+    }
+
+    public JavaFile generate(ItemModel model) {
+        TypeElement itemType = model.itemType();
+        ClassName itemClass = ClassName.get(itemType);
+        ClassName schemaClass = generatedClassName(itemType);
+        TypeName delegateType = model.isImmutable()
+                                ? ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass,
+                                                            ClassName.get(model.builderType()))
+                                : ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, itemClass);
+
+        TypeSpec type =
+            TypeSpec.classBuilder(schemaClass)
+                    .addJavadoc("The table schema of {@link $T}, generated at compile time from its annotations.\n", itemClass)
+                    .addAnnotation(AnnotationSpec.builder(GENERATED).addMember("value", "$S", generatorName).build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .superclass(ParameterizedTypeName.get(WRAPPED_TABLE_SCHEMA, itemClass, delegateType))
+                    .addOriginatingElement(itemType)
+                    .addField(FieldSpec.builder(schemaClass, "INSTANCE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                       .initializer("new $T()", schemaClass)
+                                       .build())
+                    .addMethod(MethodSpec.constructorBuilder()
+                                         .addModifiers(Modifier.PRIVATE)
+                                         .addStatement("super(createDelegateTableSchema())")
+                                         .build())
+                    .addMethod(MethodSpec.methodBuilder("create")
+                                         .addJavadoc("Returns the table schema of {@link $T}.\n", itemClass)
+                                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                         .returns(schemaClass)
+                                         .addStatement("return INSTANCE")
+                                         .build())
+                    .addMethod(MethodSpec.methodBuilder("createDelegateTableSchema")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(delegateType)
+                                         .addCode(delegateTableSchema(model, itemClass))
+                                         .build())
+                    .build();
+
+        return JavaFile.builder(schemaClass.packageName(), type)
+                       .skipJavaLangImports(true)
+                       .indent("    ")
+                       .build();
+    }
+
+    private CodeBlock delegateTableSchema(ItemModel model, ClassName itemClass) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        ClassName setterOwner;
+        if (model.isImmutable()) {
+            setterOwner = ClassName.get(model.builderType());
+            code.add("return $T.builder($T.class, $T.class)$>$>", STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass, setterOwner);
+            code.add("\n.newItemBuilder($L, $T::build)", newBuilder(model, setterOwner), setterOwner);
+        } else {
+            setterOwner = itemClass;
+            code.add("return $T.builder($T.class)$>$>", STATIC_TABLE_SCHEMA, itemClass);
+            code.add("\n.newItemSupplier($T::new)", itemClass);
+        }
+
+        List<TypeMirror> providers = model.converterProviders();
+        boolean defaultProviders = providers.size() == 1
+                                   && ClassName.get(providers.get(0)).equals(DEFAULT_CONVERTER_PROVIDER);
+        if (!defaultProviders) {
+            code.add("\n.attributeConverterProviders($L)",
+                     providers.stream()
+                              .map(p -> ClassName.get(p).equals(DEFAULT_CONVERTER_PROVIDER)
+                                        ? CodeBlock.of("$T.create()", DEFAULT_CONVERTER_PROVIDER)
+                                        : CodeBlock.of("new $T()", p))
+                              .collect(CodeBlock.joining(", ")));
+        }
+
+        for (PropertyModel property : model.properties()) {
+            String getter = property.getter().getSimpleName().toString();
+            String setter = property.setter().getSimpleName().toString();
+            if (property.hasAnnotation(FLATTEN)) {
+                code.add("\n.flatten($L, $T::$N, $T::$N)",
+                         tableSchemaReference.apply(introspector.itemTypeElement(property.type())),
+                         itemClass, getter, setterOwner, setter);
+                continue;
+            }
+
+            code.add("\n.addAttribute($L, a -> a.name($S)$>$>", attributeType(property), property.attributeName());
+            code.add("\n.getter($T::$N)", itemClass, getter);
+            code.add("\n.setter($T::$N)", setterOwner, setter);
+            AnnotationMirror convertedBy = property.annotation(CONVERTED_BY);
+            if (convertedBy != null) {
+                code.add("\n.attributeConverter(new $T())", (TypeMirror) annotationValue(convertedBy, "value").getValue());
+            }
+            List<CodeBlock> tags = tags(property);
+            if (!tags.isEmpty()) {
+                code.add("\n.tags($L)", CodeBlock.join(tags, ", "));
+            }
+            code.add(")$<$<");
+        }
+
+        return code.add("\n.build();\n$<$<").build();
+    }
+
+    private CodeBlock newBuilder(ItemModel model, ClassName builderClass) {
+        if (model.staticBuilderMethod() == null) {
+            return CodeBlock.of("$T::new", builderClass);
+        }
+        if (ClassName.get(model.staticBuilderMethod().getReturnType()).equals(builderClass)) {
+            return CodeBlock.of("$T::builder", ClassName.get(model.itemType()));
+        }
+        return CodeBlock.of("() -> ($T) $T.builder()", builderClass, ClassName.get(model.itemType()));
+    }
+
+    private CodeBlock attributeType(PropertyModel property) {
+        if (isClassLiteral(property.type())) {
+            return CodeBlock.of("$T.class", TypeName.get(property.type()));
+        }
+        return enhancedType(property.type(), property);
+    }
+
+    /**
+     * The equivalent of {@code BeanTableSchema.convertTypeToEnhancedType}: classes annotated with {@code @DynamoDbBean} or
+     * {@code @DynamoDbImmutable} are mapped as nested documents, including as the elements of lists and values of maps.
+     */
+    private CodeBlock enhancedType(TypeMirror type, PropertyModel property) {
+        TypeElement itemType = introspector.itemTypeElement(type);
+        if (itemType != null) {
+            return CodeBlock.of("$T.documentOf($T.class, $L, b -> b.preserveEmptyObject($L).ignoreNulls($L))",
+                                ENHANCED_TYPE, ClassName.get(itemType), tableSchemaReference.apply(itemType),
+                                property.hasAnnotation(PRESERVE_EMPTY_OBJECT), property.hasAnnotation(IGNORE_NULLS));
+        }
+        if (isClassLiteral(type)) {
+            return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(type));
+        }
+        if (containsTypeVariable(type)) {
+            throw new ProcessingException(property.getter(), "Table schemas cannot be generated for properties whose type "
+                                                             + "contains type variables.");
+        }
+
+        TypeMirror valueType = introspector.collectionValueType(type);
+        if (valueType != null && isConcrete(valueType)) {
+            List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+            if (typeArguments.size() == 1) {
+                return CodeBlock.of("$T.listOf($L)", ENHANCED_TYPE, enhancedType(valueType, property));
+            }
+            if (isConcrete(typeArguments.get(0))) {
+                return CodeBlock.of("$T.mapOf($L, $L)", ENHANCED_TYPE, enhancedType(typeArguments.get(0), property),
+                                    enhancedType(valueType, property));
+            }
+        }
+        return CodeBlock.of("new $T<$T>() {\n}", ENHANCED_TYPE, TypeName.get(type));
+    }
+
+    /**
+     * The tags of the attribute, from the annotations that {@code BeanTableSchema} finds through the
+     * {@code @BeanTableSchemaAttributeTag} meta-annotation.
+     */
+    private List<CodeBlock> tags(PropertyModel property) {
+        List<CodeBlock> tags = new ArrayList<>();
+        for (AnnotationMirror annotation : property.annotations()) {
+            String annotationType = annotation.getAnnotationType().toString();
+            if (annotationType.equals(PARTITION_KEY)) {
+                tags.add(CodeBlock.of("$T.primaryPartitionKey()", STATIC_ATTRIBUTE_TAGS));
+            } else if (annotationType.equals(SORT_KEY)) {
+                tags.add(CodeBlock.of("$T.primarySortKey()", STATIC_ATTRIBUTE_TAGS));
+            } else if (annotationType.equals(SECONDARY_PARTITION_KEY)) {
+                tags.add(CodeBlock.of("$T.secondaryPartitionKey($T.asList($L))", STATIC_ATTRIBUTE_TAGS, Arrays.class,
+                                      indexNames(annotation)));
+            } else if (annotationType.equals(SECONDARY_SORT_KEY)) {
+                tags.add(CodeBlock.of("$T.secondarySortKey($T.asList($L))", STATIC_ATTRIBUTE_TAGS, Arrays.class,
+                                      indexNames(annotation)));
+            } else if (annotationType.equals(UPDATE_BEHAVIOR)) {
+                VariableElement updateBehavior = (VariableElement) annotationValue(annotation, "value").getValue();
+                tags.add(CodeBlock.of("$T.updateBehavior($T.$N)", STATIC_ATTRIBUTE_TAGS, UPDATE_BEHAVIOR_ENUM,
+                                      updateBehavior.getSimpleName()));
+            } else if (annotationType.equals(ATOMIC_COUNTER)) {
+                tags.add(CodeBlock.of("$T.atomicCounter($LL, $LL)", STATIC_ATTRIBUTE_TAGS,
+                                      annotationValue(annotation, "delta").getValue(),
+                                      annotationValue(annotation, "startValue").getValue()));
+            } else if (annotationType.equals(VERSION_ATTRIBUTE)) {
+                tags.add(CodeBlock.of("$T.versionAttribute()", VERSION_TAGS));
+            } else if (annotationType.equals(AUTO_GENERATED_TIMESTAMP)) {
+                tags.add(CodeBlock.of("$T.autoGeneratedTimestampAttribute()", TIMESTAMP_TAGS));
+            } else if (ItemIntrospector.findAnnotation(annotation.getAnnotationType().asElement().getAnnotationMirrors(),
+                                                       ATTRIBUTE_TAG) != null) {
+                throw new ProcessingException(property.getter(), "The attribute tag annotation @" + annotationType
+                                                                 + " is not supported in generated table schemas. Use "
+                                                                 + "TableSchema.fromBean() or fromImmutableClass() instead.");
+            }
+        }
+        return tags;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CodeBlock indexNames(AnnotationMirror annotation) {
+        List<? extends AnnotationValue> indexNames =
+            (List<? extends AnnotationValue>) annotationValue(annotation, "indexNames").getValue();
+        return indexNames.stream()
+                         .map(v -> CodeBlock.of("$S", v.getValue()))
+                         .collect(CodeBlock.joining(", "));
+    }
+
+    /**
+     * Returns true if the type is mapped with {@code EnhancedType.of(type.class)}: a primitive, an array of those, or a
+     * class that is neither generic nor mapped as a nested document.
+     */
+    private boolean isClassLiteral(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return true;
+            case ARRAY:
+                return isClassLiteral(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return ((DeclaredType) type).getTypeArguments().isEmpty() && introspector.itemTypeElement(type) == null;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isConcrete(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ARRAY;
+    }
+
+    private static boolean containsTypeVariable(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() != null && containsTypeVariable(wildcard.getExtendsBound()))
+                       || (wildcard.getSuperBound() != null && containsTypeVariable(wildcard.getSuperBound()));
+            case DECLARED:
+                return ((DeclaredType) type).getTypeArguments().stream().anyMatch(TableSchemaGenerator::containsTypeVariable);
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.WrappedTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class TableSchemaProcessorTest {
+    private static final String BEAN_IMPORTS =
+        "package processortest;\n"
+        + "import java.time.Instant;\n"
+        + "import java.util.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n";
+
+    private static final String ADDRESS =
+        BEAN_IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Address {\n"
+        + "    private String street;\n"
+        + "    private Integer number;\n"
+        + "    public String getStreet() { return street; }\n"
+        + "    public void setStreet(String street) { this.street = street; }\n"
+        + "    public Integer getNumber() { return number; }\n"
+        + "    public void setNumber(Integer number) { this.number = number; }\n"
+        + "}\n";
+
+    private static final String CUSTOMER =
+        BEAN_IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Customer {\n"
+        + "    private String id;\n"
+        + "    private String email;\n"
+        + "    private int visits;\n"
+        + "    private boolean active;\n"
+        + "    private Long version;\n"
+        + "    private Instant createdAt;\n"
+        + "    private List<String> tags;\n"
+        + "    private Map<String, Integer> scores;\n"
+        + "    private Address address;\n"
+        + "    private List<Address> previousAddresses;\n"
+        + "    private Set<Integer> numbers;\n"
+        + "    private byte[] data;\n"
+        + "    private String ignored;\n"
+        + "    @DynamoDbPartitionKey @DynamoDbAttribute(\"customer_id\")\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbSecondaryPartitionKey(indexNames = {\"by_email\", \"by_email_2\"})\n"
+        + "    public String getEmail() { return email; }\n"
+        + "    public void setEmail(String email) { this.email = email; }\n"
+        + "    @DynamoDbSecondarySortKey(indexNames = \"by_email\")\n"
+        + "    public int getVisits() { return visits; }\n"
+        + "    public void setVisits(int visits) { this.visits = visits; }\n"
+        + "    public boolean isActive() { return active; }\n"
+        + "    public void setActive(boolean active) { this.active = active; }\n"
+        + "    @DynamoDbVersionAttribute\n"
+        + "    public Long getVersion() { return version; }\n"
+        + "    public void setVersion(Long version) { this.version = version; }\n"
+        + "    @DynamoDbUpdateBehavior(UpdateBehavior.WRITE_IF_NOT_EXISTS)\n"
+        + "    public Instant getCreatedAt() { return createdAt; }\n"
+        + "    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }\n"
+        + "    public List<String> getTags() { return tags; }\n"
+        + "    public void setTags(List<String> tags) { this.tags = tags; }\n"
+        + "    public Map<String, Integer> getScores() { return scores; }\n"
+        + "    public void setScores(Map<String, Integer> scores) { this.scores = scores; }\n"
+        + "    @DynamoDbIgnoreNulls\n"
+        + "    public Address getAddress() { return address; }\n"
+        + "    public void setAddress(Address address) { this.address = address; }\n"
+        + "    public List<Address> getPreviousAddresses() { return previousAddresses; }\n"
+        + "    public void setPreviousAddresses(List<Address> previousAddresses) {\n"
+        + "        this.previousAddresses = previousAddresses;\n"
+        + "    }\n"
+        + "    public Set<Integer> getNumbers() { return numbers; }\n"
+        + "    public void setNumbers(Set<Integer> numbers) { this.numbers = numbers; }\n"
+        + "    public byte[] getData() { return data; }\n"
+        + "    public void setData(byte[] data) { this.data = data; }\n"
+        + "    @DynamoDbIgnore\n"
+        + "    public String getIgnored() { return ignored; }\n"
+        + "    public void setIgnored(String ignored) { this.ignored = ignored; }\n"
+        + "    public static Customer sample() {\n"
+        + "        Customer customer = new Customer();\n"
+        + "        customer.setId(\"id\");\n"
+        + "        customer.setEmail(\"someone@example.com\");\n"
+        + "        customer.setVisits(3);\n"
+        + "        customer.setActive(true);\n"
+        + "        customer.setVersion(7L);\n"
+        + "        customer.setCreatedAt(Instant.ofEpochSecond(1_000_000));\n"
+        + "        customer.setTags(Arrays.asList(\"a\", \"b\"));\n"
+        + "        customer.setScores(Collections.singletonMap(\"x\", 1));\n"
+        + "        Address address = new Address();\n"
+        + "        address.setStreet(\"Main Street\");\n"
+        + "        customer.setAddress(address);\n"
+        + "        Address previousAddress = new Address();\n"
+        + "        previousAddress.setNumber(12);\n"
+        + "        customer.setPreviousAddresses(Arrays.asList(address, previousAddress));\n"
+        + "        customer.setNumbers(new HashSet<>(Arrays.asList(1, 2)));\n"
+        + "        customer.setData(new byte[] {1, 2, 3});\n"
+        + "        customer.setIgnored(\"ignored\");\n"
+        + "        return customer;\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String ORDER =
+        BEAN_IMPORTS
+        + "@DynamoDbImmutable(builder = Order.Builder.class)\n"
+        + "public final class Order {\n"
+        + "    private final String id;\n"
+        + "    private final long total;\n"
+        + "    private final Audit audit;\n"
+        + "    private Order(Builder builder) { id = builder.id; total = builder.total; audit = builder.audit; }\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String id() { return id; }\n"
+        + "    @DynamoDbAtomicCounter(delta = 2, startValue = 10)\n"
+        + "    public long total() { return total; }\n"
+        + "    @DynamoDbFlatten\n"
+        + "    public Audit audit() { return audit; }\n"
+        + "    public static Builder builder() { return new Builder(); }\n"
+        + "    public static final class Builder {\n"
+        + "        private String id;\n"
+        + "        private long total;\n"
+        + "        private Audit audit;\n"
+        + "        public Builder id(String id) { this.id = id; return this; }\n"
+        + "        public Builder total(long total) { this.total = total; return this; }\n"
+        + "        public Builder audit(Audit audit) { this.audit = audit; return this; }\n"
+        + "        public Order build() { return new Order(this); }\n"
+        + "    }\n"
+        + "    @DynamoDbBean\n"
+        + "    public static class Audit {\n"
+        + "        private String createdBy;\n"
+        + "        @DynamoDbAttribute(\"created_by\")\n"
+        + "        public String getCreatedBy() { return createdBy; }\n"
+        + "        public void setCreatedBy(String createdBy) { this.createdBy = createdBy; }\n"
+        + "    }\n"
+        + "    public static Order sample() {\n"
+        + "        Audit audit = new Audit();\n"
+        + "        audit.setCreatedBy(\"someone\");\n"
+        + "        return builder().id(\"id\").total(42).audit(audit).build();\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String NODE =
+        BEAN_IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Node {\n"
+        + "    private String id;\n"
+        + "    private Node parent;\n"
+        + "    @DynamoDbPartitionKey\n"
+        + "    public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    public Node getParent() { return parent; }\n"
+        + "    public void setParent(Node parent) { this.parent = parent; }\n"
+        + "    public static Node sample() {\n"
+        + "        Node parent = new Node();\n"
+        + "        parent.setId(\"parent\");\n"
+        + "        Node node = new Node();\n"
+        + "        node.setId(\"child\");\n"
+        + "        node.setParent(parent);\n"
+        + "        return node;\n"
+        + "    }\n"
+        + "}\n";
+
+    @TempDir
+    Path sourceOutputDirectory;
+
+    @Test
+    void bean_generatedTableSchema_shouldMapItemsLikeBeanTableSchema() throws Exception {
+        compileSuccessfully(source("processortest.Address", ADDRESS), source("processortest.Customer", CUSTOMER));
+
+        assertMapsLikeRuntimeTableSchema("processortest.Customer", "processortest.CustomerTableSchema");
+        assertThat(Files.readAllLines(sourceOutputDirectory.resolve("processortest/CustomerTableSchema.java")))
+            .anyMatch(line -> line.contains("AddressTableSchema.create()"));
+    }
+
+    @Test
+    void immutable_generatedTableSchema_shouldMapItemsLikeImmutableTableSchema() throws Exception {
+        compileSuccessfully(source("processortest.Order", ORDER));
+
+        assertMapsLikeRuntimeTableSchema("processortest.Order", "processortest.OrderTableSchema");
+        assertThat(Class.forName("processortest.Order_AuditTableSchema")).isNotNull();
+    }
+
+    @Test
+    void recursiveBean_shouldReferToItselfThroughRuntimeTableSchema() throws Exception {
+        compileSuccessfully(source("processortest.Node", NODE));
+
+        assertMapsLikeRuntimeTableSchema("processortest.Node", "processortest.NodeTableSchema");
+        assertThat(Files.readAllLines(sourceOutputDirectory.resolve("processortest/NodeTableSchema.java")))
+            .anyMatch(line -> line.contains("TableSchema.fromClass(Node.class)"));
+    }
+
+    @Test
+    void beanWithoutNoArgConstructor_shouldReportError() {
+        String invalid = BEAN_IMPORTS
+                         + "@DynamoDbBean\n"
+                         + "public class Invalid {\n"
+                         + "    public Invalid(String id) { }\n"
+                         + "    public String getId() { return null; }\n"
+                         + "    public void setId(String id) { }\n"
+                         + "}\n";
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source("processortest.Invalid", invalid));
+
+        assertThat(errors).hasSize(1);
+        assertThat(errors.get(0).getMessage(null)).contains("public no-argument constructor");
+    }
+
+    @Test
+    void unsupportedTypeVariableProperty_shouldReportError() {
+        String invalid = BEAN_IMPORTS
+                         + "@DynamoDbBean\n"
+                         + "public class Invalid {\n"
+                         + "    public <T> List<T> getValues() { return null; }\n"
+                         + "    public <T> void setValues(List<T> values) { }\n"
+                         + "}\n";
+
+        List<Diagnostic<? extends JavaFileObject>> errors = compile(source("processortest.Invalid", invalid));
+
+        assertThat(errors).isNotEmpty();
+        assertThat(errors.get(0).getMessage(null)).contains("type variables");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void assertMapsLikeRuntimeTableSchema(String itemClassName, String schemaClassName) throws Exception {
+        Class<Object> itemClass = (Class<Object>) Class.forName(itemClassName);
+        TableSchema<Object> generated = (TableSchema<Object>) Class.forName(schemaClassName).getMethod("create").invoke(null);
+        TableSchema<Object> runtime = TableSchema.fromClass(itemClass);
+        Object item = itemClass.getMethod("sample").invoke(null);
+
+        assertThat(generated).isInstanceOf(WrappedTableSchema.class);
+        assertThat(generated.itemType()).isEqualTo(runtime.itemType());
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(runtime.attributeNames());
+        assertSameMetadata(generated.tableMetadata(), runtime.tableMetadata());
+
+        Map<String, AttributeValue> itemMap = generated.itemToMap(item, false);
+        assertThat(itemMap).isEqualTo(runtime.itemToMap(item, false));
+        assertThat(generated.itemToMap(item, true)).isEqualTo(runtime.itemToMap(item, true));
+        assertThat(generated.itemToMap(generated.mapToItem(itemMap), false)).isEqualTo(itemMap);
+        assertThat(generated.itemToMap(runtime.mapToItem(itemMap), false)).isEqualTo(itemMap);
+    }
+
+    private static void assertSameMetadata(TableMetadata generated, TableMetadata runtime) {
+        assertThat(generated.primaryPartitionKey()).isEqualTo(runtime.primaryPartitionKey());
+        assertThat(generated.primarySortKey()).isEqualTo(runtime.primarySortKey());
+        assertThat(indexNames(generated)).isEqualTo(indexNames(runtime));
+        for (String indexName : indexNames(runtime)) {
+            assertThat(generated.indexPartitionKey(indexName)).isEqualTo(runtime.indexPartitionKey(indexName));
+            assertThat(generated.indexSortKey(indexName)).isEqualTo(runtime.indexSortKey(indexName));
+        }
+        assertThat(generated.customMetadata()).isEqualTo(runtime.customMetadata());
+    }
+
+    private static List<String> indexNames(TableMetadata metadata) {
+        return metadata.indices().stream().map(i -> i.name()).sorted().collect(Collectors.toList());
+    }
+
+    private void compileSuccessfully(JavaFileObject... sources) {
+        assertThat(compile(sources)).isEmpty();
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(JavaFileObject... sources) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-source", "1.8", "-target", "1.8",
+                                             "-classpath", System.getProperty("java.class.path"),
+                                             "-d", classOutputDirectory().toString(),
+                                             "-s", sourceOutputDirectory.toString());
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                                                                 Arrays.asList(sources));
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            task.call();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return diagnostics.getDiagnostics().stream()
+                          .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+                          .collect(Collectors.toList());
+    }
+
+    /**
+     * The compiled classes are written to the test classes directory, so that they are loaded by the same class loader as the
+     * enhanced client. The runtime table schemas they are compared to cannot map classes that they do not see.
+     */
+    private static Path classOutputDirectory() {
+        try {
+            return Paths.get(TableSchemaProcessorTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String content) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}
@@ -785,6 +785,86 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table and retrieves all items, scanning its segments in parallel. This is a faster way to read a large table
+     * than {@link #scan(ScanEnhancedRequest)}, which retrieves its pages one at a time.
+     * <p>
+     * The table is divided into the {@link ScanEnhancedRequest#totalSegments()} segments of the request, which must be set,
+     * and up to {@code parallelism} segments are scanned at a time. The pages of all segments are returned in the order
+     * they are retrieved, so the items are not ordered. The request must not set a {@link ScanEnhancedRequest#segment()}
+     * or an {@link ScanEnhancedRequest#exclusiveStartKey()}, and its other parameters apply to each segment.
+     * <p>
+     * Pages are only fetched ahead of the subscriber by a bounded amount, so at most {@code 2 * parallelism} pages are held
+     * in memory at a time.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> results = mappedTable.parallelScan(ScanEnhancedRequest.builder().totalSegments(16).build(), 8);
+     * results.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer, int)
+     * @see #parallelScan(int, int)
+     * @see DynamoDbAsyncClient#scanPaginator
+     * @param request A {@link ScanEnhancedRequest} defining the total number of segments and how to handle the results.
+     * @param parallelism The maximum number of segments scanned at a time.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ScanEnhancedRequest request, int parallelism) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table and retrieves all items, scanning its segments in parallel. See
+     * {@link #parallelScan(ScanEnhancedRequest, int)} for details.
+     * <p>
+     * This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link ScanEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(16).consistentRead(true), 8);
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ScanEnhancedRequest, int)
+     * @see #parallelScan(int, int)
+     * @param requestConsumer A {@link Consumer} of {@link ScanEnhancedRequest} defining the total number of segments and
+     * how to handle the results.
+     * @param parallelism The maximum number of segments scanned at a time.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ScanEnhancedRequest.Builder> requestConsumer, int parallelism) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table and retrieves all items using default settings, scanning its segments in parallel. See
+     * {@link #parallelScan(ScanEnhancedRequest, int)} for details.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> results = mappedTable.parallelScan(16, 8);
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ScanEnhancedRequest, int)
+     * @see #parallelScan(Consumer, int)
+     * @param totalSegments The number of segments to divide the table into.
+     * @param parallelism The maximum number of segments scanned at a time.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(int totalSegments, int parallelism) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
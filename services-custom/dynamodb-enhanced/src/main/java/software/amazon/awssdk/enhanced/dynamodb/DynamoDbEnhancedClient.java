@@ -27,6 +27,10 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -267,6 +271,118 @@ public interface DynamoDbEnhancedClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts and/or deletes any number of items in one or more tables, using as many low-level DynamoDB API BatchWriteItem calls
+     * as needed. The items are read lazily from the iterables supplied to the request and grouped into batches of up to 25
+     * writes, which can be written concurrently by setting the parallelism of the request.
+     * <p>
+     * Items returned as unprocessed by DynamoDB, typically because the provisioned throughput of a table was exceeded, are
+     * resubmitted with a backoff delay. Items that remain unprocessed after the maximum number of retries can be retrieved
+     * through the result, see {@link BulkWriteResult}, which also reports the number of items written to each table, the
+     * capacity consumed and the throughput achieved.
+     * <p>
+     * <b>Partial updates</b><br>Each delete or put call is atomic, but the operation as a whole is not. If a BatchWriteItem
+     * call fails, the operation stops and rethrows the exception; the items of batches written before the failure remain
+     * written.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult bulkResult = enhancedClient.bulkWriteItem(
+     *     BulkWriteItemEnhancedRequest.builder()
+     *                                 .addPutItems(firstItemTable, firstItems)
+     *                                 .addDeleteItems(secondItemTable, secondItemKeys)
+     *                                 .parallelism(4)
+     *                                 .build());
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteItemEnhancedRequest} containing the items to put and keys to delete for each table.
+     * @return a {@link BulkWriteResult} containing any unprocessed requests and the statistics of each table.
+     */
+    default BulkWriteResult bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes any number of items in one or more tables, using as many low-level DynamoDB API BatchWriteItem calls
+     * as needed. See {@link #bulkWriteItem(BulkWriteItemEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult bulkResult = enhancedClient.bulkWriteItem(r -> r.addPutItems(firstItemTable, firstItems)
+     *                                                                 .parallelism(4));
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteItemEnhancedRequest.Builder} containing the items to put and
+     * keys to delete for each table.
+     * @return a {@link BulkWriteResult} containing any unprocessed requests and the statistics of each table.
+     */
+    default BulkWriteResult bulkWriteItem(Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves any number of items from one or more tables, using as many low-level DynamoDB API BatchGetItem calls as needed.
+     * The keys are read lazily from the iterables supplied to the request and grouped into batches of up to 100 keys, which
+     * can be retrieved concurrently by setting the parallelism of the request. Each item found is passed to the consumer
+     * supplied with its keys.
+     * <p>
+     * Keys returned as unprocessed by DynamoDB are resubmitted with a backoff delay. Keys that remain unprocessed after the
+     * maximum number of retries can be retrieved through the result, see {@link BulkGetResult}, which also reports the number
+     * of items requested from each table, the capacity consumed and the throughput achieved.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * List<MyItem> items = new ArrayList<>();
+     * BulkGetResult bulkResult = enhancedClient.bulkGetItem(
+     *     BulkGetItemEnhancedRequest.builder()
+     *                               .addGetItems(myItemTable, keys, items::add)
+     *                               .parallelism(4)
+     *                               .build());
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkGetItemEnhancedRequest} containing the keys to retrieve for each table.
+     * @return a {@link BulkGetResult} containing any unprocessed keys and the statistics of each table.
+     */
+    default BulkGetResult bulkGetItem(BulkGetItemEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Retrieves any number of items from one or more tables, using as many low-level DynamoDB API BatchGetItem calls as needed.
+     * See {@link #bulkGetItem(BulkGetItemEnhancedRequest)} for details.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkGetItemEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkGetResult bulkResult = enhancedClient.bulkGetItem(r -> r.addGetItems(myItemTable, keys, items::add)
+     *                                                             .parallelism(4));
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkGetItemEnhancedRequest.Builder} containing the keys to retrieve
+     * for each table.
+     * @return a {@link BulkGetResult} containing any unprocessed keys and the statistics of each table.
+     */
+    default BulkGetResult bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a
@@ -55,4 +55,19 @@ public interface DynamoDbEnhancedClientExtension {
     default ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
         return ReadModification.builder().build();
     }
+
+    /**
+     * This hook is called just before an operation reads a single item by its primary key from the database, which is
+     * currently done by GetItem requests that are not strongly consistent. The extension that implements this method can
+     * choose to supply the item itself by returning it as the transformed item, in which case the item is not read from
+     * the database. The supplied item is then handled as if it was read from the database, including being passed to
+     * {@link #afterRead}.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeRead} context containing the state of the execution, whose
+     * items are the primary key attributes of the item to read.
+     * @return A {@link ReadModification} object that can supply the item instead of reading it from the database.
+     */
+    default ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        return ReadModification.builder().build();
+    }
 }
@@ -75,5 +75,23 @@ public final class DynamoDbExtensionContext {
     @SdkPublicApi
     @ThreadSafe
     public interface AfterRead extends Context {
+        /**
+         * @return The operation that read the item, or {@link OperationName#NONE} if it is not known.
+         */
+        default OperationName operationName() {
+            return OperationName.NONE;
+        }
+    }
+
+    /**
+     * The state of the execution when the {@link DynamoDbEnhancedClientExtension#beforeRead} method is invoked.
+     */
+    @SdkPublicApi
+    @ThreadSafe
+    public interface BeforeRead extends Context {
+        /**
+         * @return The operation that is about to read the item.
+         */
+        OperationName operationName();
     }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultTransactWriteItemsCoalescer;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Writes small, independent transactions by combining the ones that arrive within a short window into a single
+ * TransactWriteItems call, trading a little latency for fewer calls to DynamoDB.
+ * <p>
+ * Each transaction submitted to {@link #transactWriteItems(TransactWriteItemsEnhancedRequest)} is still applied atomically,
+ * and the returned future completes as if the transaction had been sent on its own:
+ * <ul>
+ *     <li>Transactions are only combined while they act on different items and fit in
+ *     {@link Builder#maxActionsPerTransaction(Integer) the maximum number of actions}.</li>
+ *     <li>If DynamoDB cancels a combined transaction, the future of each transaction whose actions caused the cancellation
+ *     fails with a {@link TransactionCanceledException} holding the cancellation reasons of its own actions. The other
+ *     transactions were not applied either, and are submitted again.</li>
+ *     <li>If DynamoDB rejects a combined transaction as invalid, for instance because it exceeds the size limit of a
+ *     transaction, its transactions are sent one by one instead.</li>
+ *     <li>Transactions with a client request token are never combined, so that the token keeps the transaction
+ *     idempotent.</li>
+ * </ul>
+ * <p>
+ * A transaction waits for at most {@link Builder#maxBatchDelay(Duration) the maximum batch delay} before it is sent, and is
+ * sent sooner once enough transactions are waiting to fill a combined transaction.
+ * <p>
+ * Closing the coalescer sends the transactions that are still waiting. Transactions submitted after that fail with an
+ * {@link IllegalStateException}. It does not close the DynamoDB client.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * TransactWriteItemsCoalescer coalescer = TransactWriteItemsCoalescer.builder()
+ *                                                                    .dynamoDbClient(dynamoDbAsyncClient)
+ *                                                                    .maxBatchDelay(Duration.ofMillis(10))
+ *                                                                    .build();
+ *
+ * CompletableFuture<Void> result = coalescer.transactWriteItems(r -> r.addPutItem(ordersTable, order)
+ *                                                                     .addUpdateItem(customersTable, customer));
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface TransactWriteItemsCoalescer extends SdkAutoCloseable {
+
+    /**
+     * Submits a transaction, which may be combined with other transactions submitted within the batch delay.
+     *
+     * @param request A {@link TransactWriteItemsEnhancedRequest} containing the actions of the transaction.
+     * @return a {@link CompletableFuture} that completes when the transaction has been applied, or completes exceptionally
+     * when it was not.
+     */
+    CompletableFuture<Void> transactWriteItems(TransactWriteItemsEnhancedRequest request);
+
+    /**
+     * Submits a transaction, which may be combined with other transactions submitted within the batch delay.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create
+     * one manually via {@link TransactWriteItemsEnhancedRequest#builder()}.
+     *
+     * @param requestConsumer a {@link Consumer} of {@link TransactWriteItemsEnhancedRequest.Builder} containing the actions
+     * of the transaction.
+     * @return a {@link CompletableFuture} that completes when the transaction has been applied, or completes exceptionally
+     * when it was not.
+     */
+    default CompletableFuture<Void> transactWriteItems(Consumer<TransactWriteItemsEnhancedRequest.Builder> requestConsumer) {
+        TransactWriteItemsEnhancedRequest.Builder builder = TransactWriteItemsEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return transactWriteItems(builder.build());
+    }
+
+    /**
+     * Creates a default builder for {@link TransactWriteItemsCoalescer}.
+     */
+    static TransactWriteItemsCoalescer.Builder builder() {
+        return DefaultTransactWriteItemsCoalescer.builder();
+    }
+
+    /**
+     * The builder definition for a {@link TransactWriteItemsCoalescer}.
+     */
+    @NotThreadSafe
+    interface Builder {
+        /**
+         * The regular low-level SDK client used to send the transactions. This is required.
+         */
+        Builder dynamoDbClient(DynamoDbAsyncClient dynamoDbClient);
+
+        /**
+         * The longest time a transaction waits for other transactions to be combined with. Longer delays combine more
+         * transactions into each call, at the cost of latency. Defaults to 5 milliseconds.
+         */
+        Builder maxBatchDelay(Duration maxBatchDelay);
+
+        /**
+         * The maximum number of actions in a combined transaction, at most 100, which is also the default. Transactions are
+         * sent as soon as enough of them are waiting to reach this number. Transactions with this many actions or more are
+         * sent on their own.
+         */
+        Builder maxActionsPerTransaction(Integer maxActionsPerTransaction);
+
+        /**
+         * The executor used to send the transactions once the batch delay elapses. It is not shut down when the coalescer is
+         * closed. By default, the coalescer uses a single daemon thread that is shut down when it is closed.
+         */
+        Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
+
+        TransactWriteItemsCoalescer build();
+    }
+}
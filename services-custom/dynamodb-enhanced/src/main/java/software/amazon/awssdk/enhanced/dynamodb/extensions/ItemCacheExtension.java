@@ -0,0 +1,532 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * This extension caches the items read by their primary key, so that reading them again does not require a request to
+ * DynamoDB.
+ * <p>
+ *     This extension is not loaded by default when you instantiate a
+ *     {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient}. Thus you need to specify it in custom extension
+ *     while creating the enhanced client, after any other extension that transforms the items that are read, so that the
+ *     cached items are the items as stored in the database:
+ *     <code>DynamoDbEnhancedClient.builder().extensions(Stream.concat(ExtensionResolver.defaultExtensions().stream(),
+ *     Stream.of(ItemCacheExtension.create())).collect(Collectors.toList())).build();</code>
+ * </p>
+ * <p>
+ * The items returned by GetItem and BatchGetItem, and the new items returned by UpdateItem, are stored in the cache. GetItem
+ * requests are served from the cache when it holds the item, unless they use strongly consistent reads or
+ * {@link GetItemEnhancedRequest.Builder#bypassCache(Boolean) bypass the cache}. Items are removed from the cache when they
+ * are written by PutItem or UpdateItem, or deleted by DeleteItem, through a client that uses this extension. Writes made
+ * by other clients, and items deleted as part of a batch or transaction, are only seen once the cached item expires, so
+ * the {@link Builder#timeToLive time to live} bounds how stale a cached item can be.
+ * <p>
+ * The cache holds up to {@link Builder#maxSize a maximum number} of items, evicting the least recently used item when it
+ * is full. Items are kept per table name, because extensions cannot tell which account or region a table is in, so a
+ * single extension should not be used by clients that access tables of the same name in different accounts or regions. A
+ * warning is logged when the same table name is seen with different primary keys, which usually means the extension is
+ * shared by such clients.
+ * <p>
+ * Cache hits, misses and evictions are counted per table, and the counts are published as {@link ItemCacheMetric}s to the
+ * {@link Builder#metricPublisher metric publisher}, if any, once per {@link Builder#metricPublishInterval interval}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ItemCacheExtension implements DynamoDbEnhancedClientExtension {
+    private static final Logger log = Logger.loggerFor(ItemCacheExtension.class);
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+    private static final Duration DEFAULT_METRIC_PUBLISH_INTERVAL = Duration.ofMinutes(1);
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final long timeToLiveMillis;
+    private final MetricPublisher metricPublisher;
+    private final Duration metricPublishInterval;
+    private final long metricPublishIntervalMillis;
+    private final Clock clock;
+
+    // Ordered from the least to the most recently used item, guarded by itself
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // The counts since the metrics were last published, only kept when there is a metric publisher
+    private final Map<String, TableMetrics> tableMetrics = new ConcurrentHashMap<>();
+    private final AtomicLong nextMetricPublishMillis;
+
+    // The primary keys each table name was first seen with, to detect tables of the same name in different accounts
+    private final Map<String, Set<String>> primaryKeysByTableName = new ConcurrentHashMap<>();
+    private final Set<String> mismatchedTableNames = ConcurrentHashMap.newKeySet();
+
+    private ItemCacheExtension(Builder builder) {
+        this.maxSize = builder.maxSize == null ? DEFAULT_MAX_SIZE : Validate.isPositive(builder.maxSize, "maxSize");
+        this.timeToLive = builder.timeToLive == null ? DEFAULT_TIME_TO_LIVE
+                                                     : Validate.isPositive(builder.timeToLive, "timeToLive");
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.metricPublisher = builder.metricPublisher;
+        this.metricPublishInterval = builder.metricPublishInterval == null
+                                     ? DEFAULT_METRIC_PUBLISH_INTERVAL
+                                     : Validate.isPositive(builder.metricPublishInterval, "metricPublishInterval");
+        this.metricPublishIntervalMillis = metricPublishInterval.toMillis();
+        this.clock = builder.baseClock == null ? Clock.systemUTC() : builder.baseClock;
+        this.nextMetricPublishMillis = new AtomicLong(clock.millis() + metricPublishIntervalMillis);
+    }
+
+    /**
+     * Create a builder that can be used to create a {@link ItemCacheExtension}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the Extension object.
+     */
+    public Builder toBuilder() {
+        return builder().maxSize(maxSize)
+                        .timeToLive(timeToLive)
+                        .metricPublisher(metricPublisher)
+                        .metricPublishInterval(metricPublishInterval)
+                        .baseClock(clock);
+    }
+
+    /**
+     * @return an instance of {@link ItemCacheExtension} holding up to 10,000 items for a minute each.
+     */
+    public static ItemCacheExtension create() {
+        return builder().build();
+    }
+
+    /**
+     * Supplies the item from the cache if it holds it.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeRead} context containing the state of the execution.
+     * @return A ReadModification with the cached item as the transformed item, or an empty modification if the cache does
+     * not hold the item.
+     */
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        CacheKey key = cacheKey(context);
+        if (key == null) {
+            return ReadModification.builder().build();
+        }
+
+        Map<String, AttributeValue> item = null;
+        boolean expired = false;
+        long now = clock.millis();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.isExpired(now)) {
+                    entries.remove(key);
+                    expired = true;
+                } else {
+                    item = entry.item;
+                }
+            }
+        }
+
+        if (expired) {
+            evictions.increment();
+        }
+        if (item != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        TableMetrics metrics = tableMetrics(key.tableName);
+        if (metrics != null) {
+            metrics.recordLookup(item != null, expired);
+        }
+        publishMetricsIfDue(now);
+        return ReadModification.builder().transformedItem(item).build();
+    }
+
+    /**
+     * Stores the items read by GetItem and BatchGetItem, and the new items returned by UpdateItem, and removes the items
+     * deleted by DeleteItem.
+     *
+     * @param context The {@link DynamoDbExtensionContext.AfterRead} context containing the state of the execution.
+     * @return An empty ReadModification, as the items are not transformed.
+     */
+    @Override
+    public ReadModification afterRead(DynamoDbExtensionContext.AfterRead context) {
+        if (context.operationName() == null) {
+            return ReadModification.builder().build();
+        }
+        switch (context.operationName()) {
+            case GET_ITEM:
+            case BATCH_GET_ITEM:
+            case UPDATE_ITEM:
+                store(context);
+                break;
+            case DELETE_ITEM:
+                invalidate(cacheKey(context));
+                break;
+            default:
+                break;
+        }
+        return ReadModification.builder().build();
+    }
+
+    /**
+     * Removes the item that is about to be written from the cache.
+     *
+     * @param context The {@link DynamoDbExtensionContext.BeforeWrite} context containing the state of the execution.
+     * @return An empty WriteModification, as the items are not transformed.
+     */
+    @Override
+    public WriteModification beforeWrite(DynamoDbExtensionContext.BeforeWrite context) {
+        invalidate(cacheKey(context));
+        return WriteModification.builder().build();
+    }
+
+    /**
+     * Removes all items from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * The number of items in the cache, including those that have expired but have not been removed yet.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * The number of reads that were served from the cache.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of reads that looked up an item that was not in the cache.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of items that were removed from the cache because they expired or to make room for other items.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    private void store(DynamoDbExtensionContext.AfterRead context) {
+        CacheKey key = cacheKey(context);
+        if (key == null) {
+            return;
+        }
+
+        Map<String, AttributeValue> item = context.items();
+        long now = clock.millis();
+        int evicted = 0;
+        synchronized (entries) {
+            CacheEntry existing = entries.get(key);
+            // An unchanged item, such as an item that was just served from the cache, keeps its expiry
+            if (existing != null && !existing.isExpired(now) && existing.item.equals(item)) {
+                return;
+            }
+            entries.put(key, new CacheEntry(item, now + timeToLiveMillis));
+
+            Iterator<CacheEntry> iterator = entries.values().iterator();
+            while (entries.size() > maxSize && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            int evictedItems = evicted;
+            log.debug(() -> "Item cache is full, evicted " + evictedItems + " items");
+            evictions.add(evicted);
+            TableMetrics metrics = tableMetrics(key.tableName);
+            if (metrics != null) {
+                metrics.evictions.add(evicted);
+            }
+        }
+        publishMetricsIfDue(now);
+    }
+
+    private void invalidate(CacheKey key) {
+        if (key == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * The counts of the given table since the metrics were last published, or null if there is no metric publisher.
+     */
+    private TableMetrics tableMetrics(String tableName) {
+        if (metricPublisher == null) {
+            return null;
+        }
+        return tableMetrics.computeIfAbsent(tableName, t -> new TableMetrics());
+    }
+
+    /**
+     * Publishes the counts of each table since the metrics were last published, if the publish interval has elapsed. Only
+     * the first caller after the interval has elapsed publishes them.
+     */
+    private void publishMetricsIfDue(long nowMillis) {
+        if (metricPublisher == null) {
+            return;
+        }
+        long next = nextMetricPublishMillis.get();
+        if (nowMillis < next || !nextMetricPublishMillis.compareAndSet(next, nowMillis + metricPublishIntervalMillis)) {
+            return;
+        }
+        tableMetrics.forEach((tableName, metrics) -> {
+            MetricCollection collection = metrics.collect(tableName);
+            if (collection != null) {
+                metricPublisher.publish(collection);
+            }
+        });
+    }
+
+    /**
+     * The cache key of the item in the given context, or null if the item does not have all its primary key attributes.
+     */
+    private CacheKey cacheKey(DynamoDbExtensionContext.Context context) {
+        Map<String, AttributeValue> item = context.items();
+        if (item == null || context.operationContext() == null || context.tableMetadata() == null) {
+            return null;
+        }
+
+        Collection<String> primaryKeys = context.tableMetadata().primaryKeys();
+        Map<String, AttributeValue> key = new HashMap<>(primaryKeys.size() * 2);
+        for (String primaryKey : primaryKeys) {
+            AttributeValue value = item.get(primaryKey);
+            if (value == null) {
+                return null;
+            }
+            key.put(primaryKey, value);
+        }
+
+        String tableName = context.operationContext().tableName();
+        warnIfPrimaryKeysChanged(tableName, key.keySet());
+        return new CacheKey(tableName, key);
+    }
+
+    private void warnIfPrimaryKeysChanged(String tableName, Set<String> primaryKeys) {
+        Set<String> knownPrimaryKeys = primaryKeysByTableName.computeIfAbsent(tableName, t -> new HashSet<>(primaryKeys));
+        if (!knownPrimaryKeys.equals(primaryKeys) && mismatchedTableNames.add(tableName)) {
+            log.warn(() -> "Table " + tableName + " is accessed with primary keys " + primaryKeys + " and "
+                           + knownPrimaryKeys + ". The items of tables with the same name in different accounts or regions "
+                           + "are cached together, use a separate ItemCacheExtension for each client.");
+        }
+    }
+
+    /**
+     * Builder for a {@link ItemCacheExtension}
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxSize;
+        private Duration timeToLive;
+        private MetricPublisher metricPublisher;
+        private Duration metricPublishInterval;
+        private Clock baseClock;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of items held by the cache, across all tables. When the cache is full, the least recently
+         * used item is evicted to make room for a new item. Defaults to 10,000 items.
+         *
+         * @param maxSize The maximum number of items in the cache.
+         * @return This builder for method chaining.
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets how long an item is served from the cache after it was read. This bounds how stale a cached item can be
+         * when it is modified by other clients. Defaults to one minute.
+         *
+         * @param timeToLive The time an item is cached for.
+         * @return This builder for method chaining.
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets the publisher that the {@link ItemCacheMetric}s are published to, typically the metric publisher configured
+         * on the {@link software.amazon.awssdk.services.dynamodb.DynamoDbClient} used by the enhanced client. No metrics are
+         * published by default.
+         *
+         * @param metricPublisher The publisher of the cache metrics.
+         * @return This builder for method chaining.
+         */
+        public Builder metricPublisher(MetricPublisher metricPublisher) {
+            this.metricPublisher = metricPublisher;
+            return this;
+        }
+
+        /**
+         * Sets how often the counts of cache hits, misses and evictions are published to the
+         * {@link #metricPublisher metric publisher}. The counts are published by the first cache access after the interval
+         * has elapsed. Defaults to one minute.
+         *
+         * @param metricPublishInterval The interval between two publications of the cache metrics.
+         * @return This builder for method chaining.
+         */
+        public Builder metricPublishInterval(Duration metricPublishInterval) {
+            this.metricPublishInterval = metricPublishInterval;
+            return this;
+        }
+
+        /**
+         * Sets the clock used to expire cached items, else Clock.systemUTC() is used by default.
+         *
+         * @param clock Clock instance used to expire cached items.
+         * @return This builder for method chaining.
+         */
+        public Builder baseClock(Clock clock) {
+            this.baseClock = clock;
+            return this;
+        }
+
+        /**
+         * Builds an {@link ItemCacheExtension} based on the values stored in this builder
+         */
+        public ItemCacheExtension build() {
+            return new ItemCacheExtension(this);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private CacheKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return tableName.equals(cacheKey.tableName) && key.equals(cacheKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+
+    private static final class TableMetrics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        private void recordLookup(boolean hit, boolean expired) {
+            if (hit) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            if (expired) {
+                evictions.increment();
+            }
+        }
+
+        /**
+         * Resets the counts and returns them as a metric collection, or null if nothing was counted.
+         */
+        private MetricCollection collect(String tableName) {
+            long hitCount = hits.sumThenReset();
+            long missCount = misses.sumThenReset();
+            long evictionCount = evictions.sumThenReset();
+            if (hitCount == 0 && missCount == 0 && evictionCount == 0) {
+                return null;
+            }
+
+            MetricCollector collector = MetricCollector.create(ItemCacheMetric.COLLECTION_NAME);
+            collector.reportMetric(ItemCacheMetric.TABLE_NAME, tableName);
+            collector.reportMetric(ItemCacheMetric.HIT_COUNT, hitCount);
+            collector.reportMetric(ItemCacheMetric.MISS_COUNT, missCount);
+            collector.reportMetric(ItemCacheMetric.EVICTION_COUNT, evictionCount);
+            return collector.collect();
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Map<String, AttributeValue> item;
+        private final long expiresAtMillis;
+
+        private CacheEntry(Map<String, AttributeValue> item, long expiresAtMillis) {
+            this.item = item;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
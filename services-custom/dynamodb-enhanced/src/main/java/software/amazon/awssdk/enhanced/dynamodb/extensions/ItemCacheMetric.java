@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * The metrics published by the {@link ItemCacheExtension} to its
+ * {@link ItemCacheExtension.Builder#metricPublisher metric publisher}. Once per
+ * {@link ItemCacheExtension.Builder#metricPublishInterval interval}, a metric collection named {@value #COLLECTION_NAME}
+ * is published for each table that the cache was used for, with the counts since the previous collection.
+ */
+@SdkPublicApi
+public final class ItemCacheMetric {
+    /**
+     * The name of the metric collections published by the {@link ItemCacheExtension}.
+     */
+    public static final String COLLECTION_NAME = "DynamoDbItemCache";
+
+    /**
+     * The name of the table the counts are for.
+     */
+    public static final SdkMetric<String> TABLE_NAME =
+        metric("ItemCacheTableName", String.class, MetricLevel.ERROR);
+
+    /**
+     * The number of reads that were served from the cache.
+     */
+    public static final SdkMetric<Long> HIT_COUNT =
+        metric("ItemCacheHitCount", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of reads that looked up an item that was not in the cache.
+     */
+    public static final SdkMetric<Long> MISS_COUNT =
+        metric("ItemCacheMissCount", Long.class, MetricLevel.INFO);
+
+    /**
+     * The number of items that were removed from the cache because they expired or to make room for other items.
+     */
+    public static final SdkMetric<Long> EVICTION_COUNT =
+        metric("ItemCacheEvictionCount", Long.class, MetricLevel.INFO);
+
+    private ItemCacheMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
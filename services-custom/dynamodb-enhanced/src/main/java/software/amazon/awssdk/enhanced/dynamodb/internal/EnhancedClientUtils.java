@@ -31,6 +31,7 @@ import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
@@ -85,6 +86,14 @@ public final class EnhancedClientUtils {
                                             TableSchema<T> tableSchema,
                                             OperationContext operationContext,
                                             DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension) {
+        return readAndTransformSingleItem(itemMap, tableSchema, operationContext, dynamoDbEnhancedClientExtension, null);
+    }
+
+    public static <T> T readAndTransformSingleItem(Map<String, AttributeValue> itemMap,
+                                                   TableSchema<T> tableSchema,
+                                                   OperationContext operationContext,
+                                                   DynamoDbEnhancedClientExtension dynamoDbEnhancedClientExtension,
+                                                   OperationName operationName) {
         if (itemMap == null || itemMap.isEmpty()) {
             return null;
         }
@@ -96,6 +105,7 @@ public final class EnhancedClientUtils {
                                                .tableSchema(tableSchema)
                                                .operationContext(operationContext)
                                                .tableMetadata(tableSchema.tableMetadata())
+                                               .operationName(operationName)
                                                .build());
             if (readModification != null && readModification.transformedItem() != null) {
                 return tableSchema.mapToItem(readModification.transformedItem());
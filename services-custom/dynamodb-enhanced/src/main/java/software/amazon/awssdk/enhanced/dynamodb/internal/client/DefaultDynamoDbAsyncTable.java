@@ -31,6 +31,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableO
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.GetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PaginatedTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ParallelScanPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
@@ -265,6 +266,23 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PagePublisher<T> parallelScan(ScanEnhancedRequest request, int parallelism) {
+        return ParallelScanPublisher.create(request, parallelism, this::scan);
+    }
+
+    @Override
+    public PagePublisher<T> parallelScan(Consumer<ScanEnhancedRequest.Builder> requestConsumer, int parallelism) {
+        ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build(), parallelism);
+    }
+
+    @Override
+    public PagePublisher<T> parallelScan(int totalSegments, int parallelism) {
+        return parallelScan(ScanEnhancedRequest.builder().totalSegments(totalSegments).build(), parallelism);
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -27,12 +27,18 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BulkGetItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BulkWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -82,6 +88,32 @@ public final class DefaultDynamoDbEnhancedClient implements DynamoDbEnhancedClie
         return batchWriteItem(builder.build());
     }
 
+    @Override
+    public BulkWriteResult bulkWriteItem(BulkWriteItemEnhancedRequest request) {
+        BulkWriteItemOperation operation = BulkWriteItemOperation.create(request);
+        return operation.execute(dynamoDbClient);
+    }
+
+    @Override
+    public BulkWriteResult bulkWriteItem(Consumer<BulkWriteItemEnhancedRequest.Builder> requestConsumer) {
+        BulkWriteItemEnhancedRequest.Builder builder = BulkWriteItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkWriteItem(builder.build());
+    }
+
+    @Override
+    public BulkGetResult bulkGetItem(BulkGetItemEnhancedRequest request) {
+        BulkGetItemOperation operation = BulkGetItemOperation.create(request);
+        return operation.execute(dynamoDbClient);
+    }
+
+    @Override
+    public BulkGetResult bulkGetItem(Consumer<BulkGetItemEnhancedRequest.Builder> requestConsumer) {
+        BulkGetItemEnhancedRequest.Builder builder = BulkGetItemEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return bulkGetItem(builder.build());
+    }
+
     @Override
     public List<Document> transactGetItems(TransactGetItemsEnhancedRequest request) {
         TransactGetItemsOperation operation = TransactGetItemsOperation.create(request);
@@ -37,6 +37,7 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableO
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.GetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PaginatedTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ParallelScanIterable;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
@@ -313,6 +314,23 @@ public class DefaultDynamoDbTable<T> implements DynamoDbTable<T> {
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PageIterable<T> parallelScan(ScanEnhancedRequest request, int parallelism) {
+        return ParallelScanIterable.create(request, parallelism, this::scan);
+    }
+
+    @Override
+    public PageIterable<T> parallelScan(Consumer<ScanEnhancedRequest.Builder> requestConsumer, int parallelism) {
+        ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build(), parallelism);
+    }
+
+    @Override
+    public PageIterable<T> parallelScan(int totalSegments, int parallelism) {
+        return parallelScan(ScanEnhancedRequest.builder().totalSegments(totalSegments).build(), parallelism);
+    }
+
     @Override
     public T updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -0,0 +1,457 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.TransactWriteItemsCoalescer;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactWriteItemsOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Combines the transactions submitted within the batch delay into batches of transactions that act on different items, and
+ * sends each batch as a single TransactWriteItems call.
+ * <p>
+ * The key of a put action is not part of the low-level request, so it is taken from the item using the key attribute names
+ * of the other actions seen on the same table. Until those are known, puts are assumed not to conflict, and a batch that
+ * DynamoDB rejects as invalid is sent again one transaction at a time.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultTransactWriteItemsCoalescer implements TransactWriteItemsCoalescer {
+    private static final Logger log = Logger.loggerFor(DefaultTransactWriteItemsCoalescer.class);
+
+    private static final int MAX_TRANSACTION_ACTIONS = 100;
+    private static final Duration DEFAULT_MAX_BATCH_DELAY = Duration.ofMillis(5);
+    private static final String THREAD_NAME_PREFIX = "sdk-dynamodb-enhanced-transact-write";
+    private static final String NO_CANCELLATION_REASON = "None";
+    private static final String VALIDATION_ERROR_CODE = "ValidationException";
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final long maxBatchDelayNanos;
+    private final int maxActions;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final Map<String, Set<String>> keyNamesByTable = new ConcurrentHashMap<>();
+
+    // Guarded by this
+    private final Deque<PendingTransaction> pending = new ArrayDeque<>();
+    private int pendingActions;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    private DefaultTransactWriteItemsCoalescer(Builder builder) {
+        this.dynamoDbClient = Validate.paramNotNull(builder.dynamoDbClient, "dynamoDbClient");
+        this.maxBatchDelayNanos = builder.maxBatchDelay == null
+                                  ? DEFAULT_MAX_BATCH_DELAY.toNanos()
+                                  : Validate.isNotNegative(builder.maxBatchDelay, "maxBatchDelay").toNanos();
+        this.maxActions = builder.maxActionsPerTransaction == null
+                          ? MAX_TRANSACTION_ACTIONS
+                          : Validate.isPositive(builder.maxActionsPerTransaction, "maxActionsPerTransaction");
+        Validate.isTrue(maxActions <= MAX_TRANSACTION_ACTIONS, "maxActionsPerTransaction must not exceed %s, but was %s",
+                        MAX_TRANSACTION_ACTIONS, maxActions);
+        if (builder.scheduledExecutorService != null) {
+            this.executor = builder.scheduledExecutorService;
+            this.ownsExecutor = false;
+        } else {
+            this.executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .threadNamePrefix(THREAD_NAME_PREFIX)
+                .daemonThreads(true)
+                .build());
+            this.ownsExecutor = true;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public CompletableFuture<Void> transactWriteItems(TransactWriteItemsEnhancedRequest request) {
+        Validate.paramNotNull(request, "request");
+        if (request.clientRequestToken() != null || request.transactWriteItems().size() >= maxActions) {
+            return TransactWriteItemsOperation.create(request).executeAsync(dynamoDbClient, null);
+        }
+
+        PendingTransaction transaction = new PendingTransaction(request.transactWriteItems());
+        transaction.items.forEach(this::learnKeyNames);
+        List<List<PendingTransaction>> batches;
+        synchronized (this) {
+            if (closed) {
+                transaction.future.completeExceptionally(
+                    new IllegalStateException("The transact write items coalescer has been closed."));
+                return transaction.future;
+            }
+            pending.addLast(transaction);
+            pendingActions += transaction.items.size();
+            batches = takeBatches(false);
+            if (!pending.isEmpty() && scheduledFlush == null) {
+                scheduledFlush = executor.schedule(this::flush, maxBatchDelayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        batches.forEach(this::send);
+        return transaction.future;
+    }
+
+    /**
+     * Sends the transactions that are still waiting, and stops accepting new transactions. Transactions that are submitted
+     * again after a combined transaction was cancelled are still sent.
+     */
+    @Override
+    public void close() {
+        List<List<PendingTransaction>> batches;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batches = takeBatches(true);
+        }
+        batches.forEach(this::send);
+        if (ownsExecutor) {
+            executor.shutdown();
+        }
+    }
+
+    private void flush() {
+        List<List<PendingTransaction>> batches;
+        synchronized (this) {
+            scheduledFlush = null;
+            batches = takeBatches(true);
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Submits transactions of a cancelled batch again, ahead of the transactions that are waiting, and sends them right away
+     * as they already waited for the batch delay.
+     */
+    private void resubmit(List<PendingTransaction> transactions) {
+        List<List<PendingTransaction>> batches;
+        synchronized (this) {
+            for (int i = transactions.size() - 1; i >= 0; i--) {
+                pending.addFirst(transactions.get(i));
+                pendingActions += transactions.get(i).items.size();
+            }
+            batches = takeBatches(true);
+        }
+        batches.forEach(this::send);
+    }
+
+    /**
+     * Removes batches from the pending transactions, either all of them or only while there are enough pending actions to
+     * fill a batch. Must be called while holding the lock.
+     */
+    private List<List<PendingTransaction>> takeBatches(boolean all) {
+        List<List<PendingTransaction>> batches = new ArrayList<>();
+        while (!pending.isEmpty() && (all || pendingActions >= maxActions)) {
+            batches.add(takeBatch());
+        }
+        if (pending.isEmpty() && scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batches;
+    }
+
+    /**
+     * Takes the pending transactions, in order, that fit in the batch and do not act on an item another transaction of the
+     * batch acts on. The first pending transaction always fits, so every call makes progress.
+     */
+    private List<PendingTransaction> takeBatch() {
+        List<PendingTransaction> batch = new ArrayList<>();
+        Set<ItemKey> batchKeys = new HashSet<>();
+        int batchActions = 0;
+        Iterator<PendingTransaction> iterator = pending.iterator();
+        while (iterator.hasNext() && batchActions < maxActions) {
+            PendingTransaction transaction = iterator.next();
+            if (batchActions + transaction.items.size() > maxActions) {
+                continue;
+            }
+            List<ItemKey> keys = itemKeys(transaction);
+            if (keys.stream().anyMatch(batchKeys::contains)) {
+                continue;
+            }
+            iterator.remove();
+            batch.add(transaction);
+            batchKeys.addAll(keys);
+            batchActions += transaction.items.size();
+        }
+        pendingActions -= batchActions;
+        return batch;
+    }
+
+    private void send(List<PendingTransaction> batch) {
+        if (batch.size() == 1) {
+            sendAlone(batch.get(0));
+            return;
+        }
+
+        List<TransactWriteItem> items = batch.stream().flatMap(t -> t.items.stream()).collect(Collectors.toList());
+        log.debug(() -> "Sending " + batch.size() + " transactions with " + items.size() + " actions as one transaction");
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(items).build())
+                          .whenComplete((response, throwable) -> {
+                              if (throwable == null) {
+                                  batch.forEach(t -> t.future.complete(null));
+                              } else {
+                                  handleBatchFailure(batch, unwrap(throwable));
+                              }
+                          });
+        } catch (RuntimeException e) {
+            batch.forEach(t -> t.future.completeExceptionally(e));
+        }
+    }
+
+    private void sendAlone(PendingTransaction transaction) {
+        try {
+            dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder().transactItems(transaction.items).build())
+                          .whenComplete((response, throwable) -> {
+                              if (throwable == null) {
+                                  transaction.future.complete(null);
+                              } else {
+                                  transaction.future.completeExceptionally(unwrap(throwable));
+                              }
+                          });
+        } catch (RuntimeException e) {
+            transaction.future.completeExceptionally(e);
+        }
+    }
+
+    private void handleBatchFailure(List<PendingTransaction> batch, Throwable cause) {
+        if (cause instanceof TransactionCanceledException) {
+            List<PendingTransaction> notApplied = failCancelledTransactions(batch, (TransactionCanceledException) cause);
+            if (notApplied.size() < batch.size()) {
+                if (!notApplied.isEmpty()) {
+                    log.debug(() -> "Combined transaction was cancelled, submitting " + notApplied.size()
+                                    + " unaffected transactions again");
+                    resubmit(notApplied);
+                }
+                return;
+            }
+        } else if (isValidationError(cause)) {
+            log.debug(() -> "Combined transaction was rejected, sending its " + batch.size() + " transactions one by one",
+                      cause);
+            batch.forEach(this::sendAlone);
+            return;
+        }
+        batch.forEach(t -> t.future.completeExceptionally(cause));
+    }
+
+    /**
+     * Fails the transactions whose actions have a cancellation reason with their own reasons, and returns the transactions
+     * whose actions do not. If the reasons cannot be matched to the actions, all transactions are returned.
+     */
+    private static List<PendingTransaction> failCancelledTransactions(List<PendingTransaction> batch,
+                                                                      TransactionCanceledException exception) {
+        int batchActions = batch.stream().mapToInt(t -> t.items.size()).sum();
+        if (!exception.hasCancellationReasons() || exception.cancellationReasons().size() != batchActions) {
+            return batch;
+        }
+
+        List<PendingTransaction> notCancelled = new ArrayList<>();
+        int offset = 0;
+        for (PendingTransaction transaction : batch) {
+            List<CancellationReason> reasons =
+                exception.cancellationReasons().subList(offset, offset + transaction.items.size());
+            offset += transaction.items.size();
+            if (reasons.stream().allMatch(DefaultTransactWriteItemsCoalescer::isNoCancellationReason)) {
+                notCancelled.add(transaction);
+            } else {
+                transaction.future.completeExceptionally(cancellationFor(exception, reasons));
+            }
+        }
+        return notCancelled;
+    }
+
+    private static TransactionCanceledException cancellationFor(TransactionCanceledException exception,
+                                                                List<CancellationReason> reasons) {
+        String codes = reasons.stream().map(CancellationReason::code).collect(Collectors.joining(", ", "[", "]"));
+        return exception.toBuilder()
+                        .message("Transaction cancelled, please refer cancellation reasons for specific reasons " + codes)
+                        .cancellationReasons(new ArrayList<>(reasons))
+                        .build();
+    }
+
+    private static boolean isNoCancellationReason(CancellationReason reason) {
+        return reason.code() == null || NO_CANCELLATION_REASON.equals(reason.code());
+    }
+
+    private static boolean isValidationError(Throwable cause) {
+        return cause instanceof DynamoDbException
+               && ((DynamoDbException) cause).awsErrorDetails() != null
+               && VALIDATION_ERROR_CODE.equals(((DynamoDbException) cause).awsErrorDetails().errorCode());
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private void learnKeyNames(TransactWriteItem item) {
+        if (item.update() != null) {
+            learnKeyNames(item.update().tableName(), item.update().key());
+        } else if (item.delete() != null) {
+            learnKeyNames(item.delete().tableName(), item.delete().key());
+        } else if (item.conditionCheck() != null) {
+            learnKeyNames(item.conditionCheck().tableName(), item.conditionCheck().key());
+        }
+    }
+
+    private void learnKeyNames(String tableName, Map<String, AttributeValue> key) {
+        if (tableName != null && key != null && !key.isEmpty() && !keyNamesByTable.containsKey(tableName)) {
+            keyNamesByTable.putIfAbsent(tableName, Collections.unmodifiableSet(new HashSet<>(key.keySet())));
+        }
+    }
+
+    private List<ItemKey> itemKeys(PendingTransaction transaction) {
+        List<ItemKey> keys = new ArrayList<>(transaction.items.size());
+        for (TransactWriteItem item : transaction.items) {
+            ItemKey key = itemKey(item);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private ItemKey itemKey(TransactWriteItem item) {
+        if (item.update() != null) {
+            return new ItemKey(item.update().tableName(), item.update().key());
+        }
+        if (item.delete() != null) {
+            return new ItemKey(item.delete().tableName(), item.delete().key());
+        }
+        if (item.conditionCheck() != null) {
+            return new ItemKey(item.conditionCheck().tableName(), item.conditionCheck().key());
+        }
+        if (item.put() != null) {
+            Set<String> keyNames = keyNamesByTable.get(item.put().tableName());
+            if (keyNames == null) {
+                return null;
+            }
+            Map<String, AttributeValue> key = item.put().item().entrySet().stream()
+                                                  .filter(e -> keyNames.contains(e.getKey()))
+                                                  .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return key.size() == keyNames.size() ? new ItemKey(item.put().tableName(), key) : null;
+        }
+        return null;
+    }
+
+    @NotThreadSafe
+    public static final class Builder implements TransactWriteItemsCoalescer.Builder {
+        private DynamoDbAsyncClient dynamoDbClient;
+        private Duration maxBatchDelay;
+        private Integer maxActionsPerTransaction;
+        private ScheduledExecutorService scheduledExecutorService;
+
+        private Builder() {
+        }
+
+        @Override
+        public Builder dynamoDbClient(DynamoDbAsyncClient dynamoDbClient) {
+            this.dynamoDbClient = dynamoDbClient;
+            return this;
+        }
+
+        @Override
+        public Builder maxBatchDelay(Duration maxBatchDelay) {
+            this.maxBatchDelay = maxBatchDelay;
+            return this;
+        }
+
+        @Override
+        public Builder maxActionsPerTransaction(Integer maxActionsPerTransaction) {
+            this.maxActionsPerTransaction = maxActionsPerTransaction;
+            return this;
+        }
+
+        @Override
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        @Override
+        public DefaultTransactWriteItemsCoalescer build() {
+            return new DefaultTransactWriteItemsCoalescer(this);
+        }
+    }
+
+    private static final class PendingTransaction {
+        private final List<TransactWriteItem> items;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingTransaction(List<TransactWriteItem> items) {
+            this.items = items;
+        }
+    }
+
+    private static final class ItemKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+
+        private ItemKey(String tableName, Map<String, AttributeValue> key) {
+            this.tableName = tableName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ItemKey itemKey = (ItemKey) o;
+            return tableName.equals(itemKey.tableName) && key.equals(itemKey.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + key.hashCode();
+        }
+    }
+}
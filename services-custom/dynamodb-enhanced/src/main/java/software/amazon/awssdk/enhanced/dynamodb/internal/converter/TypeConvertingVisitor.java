@@ -98,6 +98,40 @@ public abstract class TypeConvertingVisitor<T> {
         }
     }
 
+    /**
+     * Convert the provided {@link AttributeValue} into the target type. This is equivalent to converting
+     * {@link EnhancedAttributeValue#fromAttributeValue(AttributeValue)}, but scalar values are passed to the visitor directly
+     * instead of being wrapped in an {@link EnhancedAttributeValue} first, which avoids an allocation for every attribute that
+     * is read.
+     *
+     * <p>
+     * Reasons this call may fail with a {@link RuntimeException}:
+     * <ol>
+     *     <li>If the value is null or does not have any type set.</li>
+     *     <li>If the value cannot be converted by this visitor.</li>
+     * </ol>
+     */
+    public final T convert(AttributeValue value) {
+        Validate.notNull(value, "Generated attribute value must not contain null values. " +
+                                "Use AttributeValue#nul() instead.");
+        if (value.s() != null) {
+            return convertString(value.s());
+        }
+        if (value.n() != null) {
+            return convertNumber(value.n());
+        }
+        if (value.bool() != null) {
+            return convertBoolean(value.bool());
+        }
+        if (Boolean.TRUE.equals(value.nul())) {
+            return convertNull();
+        }
+        if (value.b() != null) {
+            return convertBytes(value.b());
+        }
+        return convert(EnhancedAttributeValue.fromAttributeValue(value));
+    }
+
     /**
      * Invoked when visiting an attribute in which {@link EnhancedAttributeValue#isNull()} is true.
      */
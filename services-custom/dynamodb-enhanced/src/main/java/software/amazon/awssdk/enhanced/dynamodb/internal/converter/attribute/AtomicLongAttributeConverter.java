@@ -77,11 +77,7 @@ public final class AtomicLongAttributeConverter implements AttributeConverter<At
 
     @Override
     public AtomicLong transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<AtomicLong> {
@@ -74,10 +74,7 @@ public final class BigDecimalAttributeConverter implements AttributeConverter<Bi
 
     @Override
     public BigDecimal transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<BigDecimal> {
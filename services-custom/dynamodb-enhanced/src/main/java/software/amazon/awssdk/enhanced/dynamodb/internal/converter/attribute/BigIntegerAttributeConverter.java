@@ -75,10 +75,7 @@ public final class BigIntegerAttributeConverter implements AttributeConverter<Bi
 
     @Override
     public BigInteger transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<BigInteger> {
@@ -71,10 +71,7 @@ public final class BooleanAttributeConverter implements AttributeConverter<Boole
 
     @Override
     public Boolean transformTo(AttributeValue input) {
-        if (input.bool() != null) {
-            return EnhancedAttributeValue.fromBoolean(input.bool()).convert(VISITOR);
-        }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
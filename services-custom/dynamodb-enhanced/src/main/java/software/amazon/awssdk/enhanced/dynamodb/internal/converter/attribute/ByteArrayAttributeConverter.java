@@ -68,11 +68,7 @@ public final class ByteArrayAttributeConverter implements AttributeConverter<byt
 
     @Override
     public byte[] transformTo(AttributeValue input) {
-        if (input.b() != null) {
-            return EnhancedAttributeValue.fromBytes(input.b()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<byte[]> {
@@ -70,11 +70,7 @@ public final class ByteBufferAttributeConverter implements AttributeConverter<By
 
     @Override
     public ByteBuffer transformTo(AttributeValue input) {
-        if (input.b() != null) {
-            return EnhancedAttributeValue.fromBytes(input.b()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<ByteBuffer> {
@@ -70,11 +70,7 @@ public final class CharacterAttributeConverter implements AttributeConverter<Cha
 
     @Override
     public Character transformTo(AttributeValue input) {
-        if (input.s() != null) {
-            return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
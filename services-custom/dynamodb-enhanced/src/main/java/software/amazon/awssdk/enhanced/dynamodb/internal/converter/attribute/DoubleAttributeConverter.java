@@ -77,12 +77,7 @@ public final class DoubleAttributeConverter implements AttributeConverter<Double
 
     @Override
     public Double transformTo(AttributeValue input) {
-        Double result;
-        if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        } else {
-            result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
-        }
+        Double result = VISITOR.convert(input);
 
         ConverterUtils.validateDouble(result);
         return result;
@@ -77,12 +77,7 @@ public final class FloatAttributeConverter implements AttributeConverter<Float>,
 
     @Override
     public Float transformTo(AttributeValue input) {
-        Float result;
-        if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        } else {
-            result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
-        }
+        Float result = VISITOR.convert(input);
 
         ConverterUtils.validateFloat(result);
         return result;
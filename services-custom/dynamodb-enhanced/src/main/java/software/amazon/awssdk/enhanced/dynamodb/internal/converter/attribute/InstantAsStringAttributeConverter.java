@@ -93,11 +93,7 @@ public final class InstantAsStringAttributeConverter implements AttributeConvert
     @Override
     public Instant transformTo(AttributeValue input) {
         try {
-            if (input.s() != null) {
-                return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-            }
-
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
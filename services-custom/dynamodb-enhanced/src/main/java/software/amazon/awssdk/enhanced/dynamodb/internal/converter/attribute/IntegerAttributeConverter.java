@@ -74,11 +74,7 @@ public final class IntegerAttributeConverter implements AttributeConverter<Integ
 
     @Override
     public Integer transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     @Override
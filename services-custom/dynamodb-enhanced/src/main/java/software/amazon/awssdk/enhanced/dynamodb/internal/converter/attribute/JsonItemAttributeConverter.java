@@ -77,7 +77,7 @@ public final class JsonItemAttributeConverter implements AttributeConverter<Json
         if (AttributeValue.fromNul(true).equals(input)) {
             return NullJsonNode.instance();
         }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<JsonNode> {
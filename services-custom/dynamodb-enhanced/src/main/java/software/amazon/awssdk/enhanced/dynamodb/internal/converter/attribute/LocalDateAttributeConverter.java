@@ -90,11 +90,7 @@ public final class LocalDateAttributeConverter implements AttributeConverter<Loc
     @Override
     public LocalDate transformTo(AttributeValue input) {
         try {
-            if (input.s() != null) {
-                return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-            }
-
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -106,11 +106,7 @@ public final class LocalDateTimeAttributeConverter implements AttributeConverter
     @Override
     public LocalDateTime transformTo(AttributeValue input) {
         try {
-            if (input.s() != null) {
-                return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-            }
-
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
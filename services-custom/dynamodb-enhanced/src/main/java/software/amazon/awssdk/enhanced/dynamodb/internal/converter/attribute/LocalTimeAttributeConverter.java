@@ -86,11 +86,7 @@ public final class LocalTimeAttributeConverter implements AttributeConverter<Loc
 
     @Override
     public LocalTime transformTo(AttributeValue input) {
-        if (input.s() != null) {
-            return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<LocalTime> {
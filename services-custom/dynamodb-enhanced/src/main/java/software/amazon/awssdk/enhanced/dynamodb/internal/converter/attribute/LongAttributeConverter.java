@@ -74,11 +74,7 @@ public final class LongAttributeConverter implements AttributeConverter<Long>, P
 
     @Override
     public Long transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     @Override
@@ -83,11 +83,7 @@ public final class MonthDayAttributeConverter implements AttributeConverter<Mont
     @Override
     public MonthDay transformTo(AttributeValue input) {
         try {
-            if (input.s() != null) {
-                return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-            }
-
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
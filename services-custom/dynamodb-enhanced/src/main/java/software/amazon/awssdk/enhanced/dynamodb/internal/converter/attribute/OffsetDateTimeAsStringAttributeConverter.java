@@ -96,11 +96,7 @@ public final class OffsetDateTimeAsStringAttributeConverter implements Attribute
     @Override
     public OffsetDateTime transformTo(AttributeValue input) {
         try {
-            if (input.s() != null) {
-                return EnhancedAttributeValue.fromString(input.s()).convert(VISITOR);
-            }
-
-            return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+            return VISITOR.convert(input);
         } catch (RuntimeException e) {
             throw new IllegalArgumentException(e);
         }
@@ -87,12 +87,7 @@ public final class OptionalDoubleAttributeConverter implements AttributeConverte
 
     @Override
     public OptionalDouble transformTo(AttributeValue input) {
-        OptionalDouble result;
-        if (input.n() != null) {
-            result = EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        } else {
-            result = EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
-        }
+        OptionalDouble result = VISITOR.convert(input);
         result.ifPresent(ConverterUtils::validateDouble);
         return result;
     }
@@ -84,11 +84,7 @@ public final class OptionalIntAttributeConverter implements AttributeConverter<O
 
     @Override
     public OptionalInt transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<OptionalInt> {
@@ -84,11 +84,7 @@ public final class OptionalLongAttributeConverter implements AttributeConverter<
 
     @Override
     public OptionalLong transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<OptionalLong> {
@@ -68,7 +68,7 @@ public final class SdkBytesAttributeConverter implements AttributeConverter<SdkB
 
     @Override
     public SdkBytes transformTo(AttributeValue input) {
-        return EnhancedAttributeValue.fromBytes(input.b()).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<SdkBytes> {
@@ -69,10 +69,7 @@ public final class SdkNumberAttributeConverter implements AttributeConverter<Sdk
 
     @Override
     public SdkNumber transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(VISITOR);
-        }
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(VISITOR);
+        return VISITOR.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<SdkNumber> {
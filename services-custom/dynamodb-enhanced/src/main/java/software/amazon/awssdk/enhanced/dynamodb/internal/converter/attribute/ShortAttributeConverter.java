@@ -69,11 +69,7 @@ public final class ShortAttributeConverter implements AttributeConverter<Short>,
 
     @Override
     public Short transformTo(AttributeValue input) {
-        if (input.n() != null) {
-            return EnhancedAttributeValue.fromNumber(input.n()).convert(Visitor.INSTANCE);
-        }
-
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     @Override
@@ -60,7 +60,7 @@ public final class UriAttributeConverter implements AttributeConverter<URI> {
 
     @Override
     public URI transformTo(AttributeValue input) {
-        return EnhancedAttributeValue.fromAttributeValue(input).convert(Visitor.INSTANCE);
+        return Visitor.INSTANCE.convert(input);
     }
 
     private static final class Visitor extends TypeConvertingVisitor<URI> {
@@ -17,12 +17,16 @@ package software.amazon.awssdk.enhanced.dynamodb.internal.document;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
-import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.addEscapeCharacters;
-import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.appendEscapeCharacters;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper.appendJson;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -30,6 +34,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -54,11 +59,11 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * Default implementation of {@link EnhancedDocument} used by the SDK to create Enhanced Documents. Attributes are initially saved
- * as a String-Object Map when documents are created using the builder. Conversion to an AttributeValueMap is done lazily when
- * values are accessed. When the document is retrieved from DynamoDB, the AttributeValueMap is internally saved as the attribute
- * value map. Custom objects or collections are saved in the enhancedTypeMap to preserve the generic class information. Note that
- * no default ConverterProviders are assigned, so ConverterProviders must be passed in the builder when creating enhanced
- * documents.
+ * as a String-Object Map when documents are created using the builder. Conversion to an AttributeValue is done lazily, one
+ * attribute at a time, when values are accessed. When the document is retrieved from DynamoDB, the AttributeValues are
+ * internally saved as they are, and only the attributes that are read are converted to the requested type. Custom objects or
+ * collections are saved in the enhancedTypeMap to preserve the generic class information. Note that no default
+ * ConverterProviders are assigned, so ConverterProviders must be passed in the builder when creating enhanced documents.
  */
 @Immutable
 @SdkInternalApi
@@ -71,11 +76,23 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
     private static final String VALIDATE_TYPE_ERROR = "Values of type %s are not supported by this API, please use the "
                                                      + "%s%s API instead";
     private static final AttributeValue NULL_ATTRIBUTE_VALUE = AttributeValue.fromNul(true);
+
+    /**
+     * Immutable types whose converted values are cached by {@link #get(String, EnhancedType)}, so that reading an attribute
+     * again does not convert it again. Values of other types, such as collections, may be modified by the caller and are
+     * converted on every access.
+     */
+    private static final Set<Class<?>> CACHEABLE_TYPES = new HashSet<>(Arrays.asList(
+        String.class, Boolean.class, Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class,
+        BigDecimal.class, BigInteger.class, SdkNumber.class, SdkBytes.class, Instant.class));
+
     private final Map<String, Object> nonAttributeValueMap;
     private final Map<String, EnhancedType> enhancedTypeMap;
     private final List<AttributeConverterProvider> attributeConverterProviders;
     private final ChainConverterProvider attributeConverterChain;
     private final Lazy<Map<String, AttributeValue>> attributeValueMap = new Lazy<>(this::initializeAttributeValueMap);
+    private final Map<String, AttributeValue> convertedAttributeValues = new ConcurrentHashMap<>();
+    private final Map<String, ConvertedValue> convertedValues = new ConcurrentHashMap<>();
 
     public DefaultEnhancedDocument(DefaultBuilder builder) {
         this.nonAttributeValueMap = unmodifiableMap(new LinkedHashMap<>(builder.nonAttributeValueMap));
@@ -133,11 +150,20 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public <T> T get(String attributeName, EnhancedType<T> type) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
-        return fromAttributeValue(attributeValue, type);
+        if (!CACHEABLE_TYPES.contains(type.rawClass()) || !type.rawClassParameters().isEmpty()) {
+            return fromAttributeValue(attributeValue, type);
+        }
+
+        ConvertedValue converted = convertedValues.get(attributeName);
+        if (converted == null || !converted.type.equals(type)) {
+            converted = new ConvertedValue(type, fromAttributeValue(attributeValue, type));
+            convertedValues.put(attributeName, converted);
+        }
+        return (T) converted.value;
     }
 
     @Override
@@ -189,11 +215,13 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public String getJson(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
-        return stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(attributeValue));
+        StringBuilder json = new StringBuilder();
+        appendJson(json, attributeValue);
+        return json.toString();
     }
 
     @Override
@@ -203,7 +231,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public List<AttributeValue> getListOfUnknownType(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -215,7 +243,7 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     @Override
     public Map<String, AttributeValue> getMapOfUnknownType(String attributeName) {
-        AttributeValue attributeValue = attributeValueMap.getValue().get(attributeName);
+        AttributeValue attributeValue = attributeValue(attributeName);
         if (attributeValue == null) {
             return null;
         }
@@ -230,12 +258,17 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
         if (nonAttributeValueMap.isEmpty()) {
             return "{}";
         }
-        return attributeValueMap.getValue().entrySet().stream()
-                                .map(entry -> "\""
-                                              + addEscapeCharacters(entry.getKey())
-                                              + "\":"
-                                              + stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(entry.getValue())))
-                                .collect(Collectors.joining(",", "{", "}"));
+        StringBuilder json = new StringBuilder(64 * nonAttributeValueMap.size());
+        json.append('{');
+        for (String attributeName : nonAttributeValueMap.keySet()) {
+            json.append('"');
+            appendEscapeCharacters(json, attributeName);
+            json.append("\":");
+            appendJson(json, attributeValue(attributeName));
+            json.append(',');
+        }
+        json.setCharAt(json.length() - 1, '}');
+        return json.toString();
     }
 
     @Override
@@ -244,19 +277,26 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
     }
 
     private Map<String, AttributeValue> initializeAttributeValueMap() {
-        Map<String, AttributeValue> result = new LinkedHashMap<>(this.nonAttributeValueMap.size());
-        this.nonAttributeValueMap.forEach((k, v) -> {
-            if (v == null) {
-                result.put(k, NULL_ATTRIBUTE_VALUE);
-            } else {
-
-                result.put(k, toAttributeValue(v, enhancedTypeMap.getOrDefault(k, EnhancedType.of(v.getClass()))));
-            }
-
-        });
+        Map<String, AttributeValue> result = new LinkedHashMap<>(this.nonAttributeValueMap.size() * 4 / 3 + 1);
+        this.nonAttributeValueMap.keySet().forEach(k -> result.put(k, attributeValue(k)));
         return result;
     }
 
+    /**
+     * Returns the AttributeValue of a single attribute, converting it on first access if it was not put as an AttributeValue.
+     */
+    private AttributeValue attributeValue(String attributeName) {
+        Object value = nonAttributeValueMap.get(attributeName);
+        if (value instanceof AttributeValue) {
+            return (AttributeValue) value;
+        }
+        if (value == null) {
+            return nonAttributeValueMap.containsKey(attributeName) ? NULL_ATTRIBUTE_VALUE : null;
+        }
+        return convertedAttributeValues.computeIfAbsent(
+            attributeName, k -> toAttributeValue(value, enhancedTypeMap.getOrDefault(k, EnhancedType.of(value.getClass()))));
+    }
+
     private <T> AttributeValue toAttributeValue(T value, EnhancedType<T> enhancedType) {
         if (value instanceof AttributeValue) {
             return (AttributeValue) value;
@@ -473,6 +513,16 @@ public class DefaultEnhancedDocument implements EnhancedDocument {
 
     }
 
+    private static final class ConvertedValue {
+        private final EnhancedType<?> type;
+        private final Object value;
+
+        private ConvertedValue(EnhancedType<?> type, Object value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
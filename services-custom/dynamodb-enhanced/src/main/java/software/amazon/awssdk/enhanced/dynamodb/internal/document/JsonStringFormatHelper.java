@@ -15,14 +15,20 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.document;
 
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.JsonItemAttributeConverter;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.BinaryUtils;
 
 @SdkInternalApi
 public final class JsonStringFormatHelper {
+    private static final JsonItemAttributeConverter JSON_ATTRIBUTE_CONVERTER = JsonItemAttributeConverter.create();
 
     private JsonStringFormatHelper() {
     }
@@ -52,7 +58,25 @@ public final class JsonStringFormatHelper {
      * @return String with escaped characters.
      */
     public static String addEscapeCharacters(String input) {
-        StringBuilder output = new StringBuilder();
+        if (!needsEscaping(input)) {
+            return input;
+        }
+        StringBuilder output = new StringBuilder(input.length() + 16);
+        appendEscapeCharacters(output, input);
+        return output.toString();
+    }
+
+    /**
+     * Appends the given string to the output with the same escaping as {@link #addEscapeCharacters(String)}.
+     *
+     * @param output The builder the escaped string is appended to.
+     * @param input Input string
+     */
+    public static void appendEscapeCharacters(StringBuilder output, String input) {
+        if (!needsEscaping(input)) {
+            output.append(input);
+            return;
+        }
         for (int i = 0; i < input.length(); i++) {
             char ch = input.charAt(i);
             switch (ch) {
@@ -79,7 +103,110 @@ public final class JsonStringFormatHelper {
                     break;
             }
         }
-        return output.toString();
+    }
+
+    /**
+     * Appends the Json String representation of an AttributeValue to the output. The result is the same as
+     * {@link #stringValue(JsonNode)} of the JsonNode the attribute value converts to, but it is written directly, without
+     * building the JsonNode tree first.
+     *
+     * @param output The builder the Json String is appended to.
+     * @param attributeValue The AttributeValue that needs to be converted to Json String.
+     */
+    public static void appendJson(StringBuilder output, AttributeValue attributeValue) {
+        if (attributeValue.s() != null) {
+            appendString(output, attributeValue.s());
+        } else if (attributeValue.n() != null) {
+            output.append(attributeValue.n());
+        } else if (attributeValue.bool() != null) {
+            output.append(attributeValue.bool().booleanValue());
+        } else if (Boolean.TRUE.equals(attributeValue.nul())) {
+            output.append("null");
+        } else if (attributeValue.b() != null) {
+            appendBytes(output, attributeValue.b());
+        } else if (attributeValue.hasM()) {
+            appendMap(output, attributeValue.m());
+        } else if (attributeValue.hasL()) {
+            appendList(output, attributeValue.l());
+        } else if (attributeValue.hasBs()) {
+            output.append('[');
+            attributeValue.bs().forEach(bytes -> {
+                appendBytes(output, bytes);
+                output.append(',');
+            });
+            closeArray(output);
+        } else if (attributeValue.hasSs()) {
+            output.append('[');
+            attributeValue.ss().forEach(string -> {
+                appendString(output, string);
+                output.append(',');
+            });
+            closeArray(output);
+        } else if (attributeValue.hasNs()) {
+            output.append('[');
+            attributeValue.ns().forEach(number -> output.append(number).append(','));
+            closeArray(output);
+        } else {
+            output.append(stringValue(JSON_ATTRIBUTE_CONVERTER.transformTo(attributeValue)));
+        }
+    }
+
+    private static void appendString(StringBuilder output, String value) {
+        output.append('"');
+        appendEscapeCharacters(output, value);
+        output.append('"');
+    }
+
+    private static void appendBytes(StringBuilder output, SdkBytes value) {
+        output.append('"').append(BinaryUtils.toBase64(value.asByteArray())).append('"');
+    }
+
+    private static void appendMap(StringBuilder output, Map<String, AttributeValue> value) {
+        if (value.isEmpty()) {
+            output.append("{}");
+            return;
+        }
+        output.append('{');
+        value.forEach((k, v) -> {
+            output.append('"').append(k).append("\":");
+            appendJson(output, v);
+            output.append(',');
+        });
+        output.setCharAt(output.length() - 1, '}');
+    }
+
+    private static void appendList(StringBuilder output, List<AttributeValue> value) {
+        output.append('[');
+        value.forEach(element -> {
+            appendJson(output, element);
+            output.append(',');
+        });
+        closeArray(output);
+    }
+
+    private static void closeArray(StringBuilder output) {
+        if (output.charAt(output.length() - 1) == '[') {
+            output.append(']');
+        } else {
+            output.setCharAt(output.length() - 1, ']');
+        }
+    }
+
+    private static boolean needsEscaping(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            switch (input.charAt(i)) {
+                case '\\':
+                case '\n':
+                case '\r':
+                case '\t':
+                case '\f':
+                case '\"':
+                    return true;
+                default:
+                    break;
+            }
+        }
+        return false;
     }
 
     private static String mapToString(JsonNode jsonNode) {
@@ -171,6 +171,7 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                                .operationContext(context.operationContext())
                                                .tableMetadata(context.tableMetadata())
                                                .tableSchema(context.tableSchema())
+                                               .operationName(context.operationName())
                                                .build();
 
             ReadModification readModification = iterator.next().afterRead(afterRead);
@@ -184,4 +185,24 @@ public final class ChainExtension implements DynamoDbEnhancedClientExtension {
                                .transformedItem(transformedItem)
                                .build();
     }
+
+    /**
+     * Implementation of the {@link DynamoDbEnhancedClientExtension} interface that will call the chained extensions in
+     * forward order until one of them supplies the item, which is then returned without calling the remaining extensions.
+     *
+     * @param context A {@link DynamoDbExtensionContext.BeforeRead} context
+     * @return The {@link ReadModification} of the first extension that supplied the item, or an empty modification if none
+     * did.
+     */
+    @Override
+    public ReadModification beforeRead(DynamoDbExtensionContext.BeforeRead context) {
+        for (DynamoDbEnhancedClientExtension extension : this.extensionChain) {
+            ReadModification readModification = extension.beforeRead(context);
+            if (readModification != null && readModification.transformedItem() != null) {
+                return readModification;
+            }
+        }
+
+        return ReadModification.builder().build();
+    }
 }
@@ -27,12 +27,13 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationNam
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 /**
- * An SDK-internal implementation of {@link DynamoDbExtensionContext.BeforeWrite} and
- * {@link DynamoDbExtensionContext.AfterRead}.
+ * An SDK-internal implementation of {@link DynamoDbExtensionContext.BeforeWrite}, {@link DynamoDbExtensionContext.AfterRead}
+ * and {@link DynamoDbExtensionContext.BeforeRead}.
  */
 @SdkInternalApi
 public final class DefaultDynamoDbExtensionContext implements DynamoDbExtensionContext.BeforeWrite,
-                                                              DynamoDbExtensionContext.AfterRead {
+                                                              DynamoDbExtensionContext.AfterRead,
+                                                              DynamoDbExtensionContext.BeforeRead {
     private final Map<String, AttributeValue> items;
     private final OperationContext operationContext;
     private final TableMetadata tableMetadata;
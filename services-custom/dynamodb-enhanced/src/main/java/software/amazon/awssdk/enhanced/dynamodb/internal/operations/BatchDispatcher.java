@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Runs the batches of a bulk operation with bounded parallelism.
+ * <p>
+ * {@link #submit(Runnable)} blocks while {@code parallelism} batches are in flight, so that the producer of the batches reads
+ * its input no faster than the batches complete. With a parallelism of 1 the batches run on the calling thread. The first
+ * batch to fail stops the operation: its exception is rethrown by the next call to {@link #submit(Runnable)} or
+ * {@link #awaitCompletion()}.
+ */
+@SdkInternalApi
+final class BatchDispatcher implements SdkAutoCloseable {
+    private static final String THREAD_NAME_PREFIX = "sdk-dynamodb-enhanced-bulk";
+
+    private final int parallelism;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final Semaphore permits;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private BatchDispatcher(int parallelism, Executor executor) {
+        this.parallelism = Validate.isPositive(parallelism, "parallelism");
+        this.permits = new Semaphore(parallelism);
+        if (parallelism == 1 || executor != null) {
+            this.executor = executor;
+            this.ownedExecutor = null;
+        } else {
+            this.ownedExecutor = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                .threadNamePrefix(THREAD_NAME_PREFIX)
+                .daemonThreads(true)
+                .build());
+            this.executor = ownedExecutor;
+        }
+    }
+
+    static BatchDispatcher create(int parallelism, Executor executor) {
+        return new BatchDispatcher(parallelism, executor);
+    }
+
+    /**
+     * Runs a batch, waiting for a batch in flight to complete first if the parallelism is exhausted.
+     */
+    void submit(Runnable batch) {
+        throwIfFailed();
+        if (parallelism == 1) {
+            batch.run();
+            return;
+        }
+
+        acquire(1);
+        try {
+            executor.execute(() -> {
+                try {
+                    if (failure.get() == null) {
+                        batch.run();
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for all batches in flight to complete, rethrowing the failure of any of them.
+     */
+    void awaitCompletion() {
+        acquire(parallelism);
+        permits.release(parallelism);
+        throwIfFailed();
+    }
+
+    /**
+     * Shuts down the thread pool created for the operation, if any. Batches still in flight are allowed to complete.
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Waits for the delay computed by the backoff strategy before resubmitting unprocessed requests.
+     */
+    static void backoff(BackoffStrategy backoffStrategy, int retriesAttempted) {
+        Duration delay = backoffStrategy.computeDelayBeforeNextRetry(RetryPolicyContext.builder()
+                                                                                       .retriesAttempted(retriesAttempted)
+                                                                                       .build());
+        if (delay.isZero() || delay.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.create("Thread was interrupted while waiting to retry unprocessed requests.", e);
+        }
+    }
+
+    private void acquire(int count) {
+        try {
+            permits.acquire(count);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw AbortedException.create("Thread was interrupted while waiting for batches in flight to complete.", e);
+        }
+    }
+
+    private void throwIfFailed() {
+        Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        if (t != null) {
+            throw new IllegalStateException(t);
+        }
+    }
+}
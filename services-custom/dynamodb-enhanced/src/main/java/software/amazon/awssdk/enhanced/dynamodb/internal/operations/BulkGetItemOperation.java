@@ -0,0 +1,183 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.readAndTransformSingleItem;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetItemEnhancedRequest.TableReads;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+
+/**
+ * Retrieves the items of a {@link BulkGetItemEnhancedRequest} with as many BatchGetItem calls as needed.
+ * <p>
+ * The keys of each {@link TableReads} are read in order and grouped into batches of up to 100 keys, which are dispatched with
+ * the parallelism of the request. A batch is flushed early when a key is already in it, since DynamoDB rejects batches that
+ * request the same key twice. Keys returned as unprocessed are resubmitted after a backoff delay, up to the maximum number of
+ * retries of the request, after which they are returned in the result. The retrieved items are passed to the consumers of the
+ * request one at a time.
+ */
+@SdkInternalApi
+public class BulkGetItemOperation {
+    static final int MAX_BATCH_SIZE = 100;
+
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_MAX_UNPROCESSED_RETRIES = 10;
+
+    private final BulkGetItemEnhancedRequest request;
+    private final int maxUnprocessedRetries;
+    private final BackoffStrategy backoffStrategy;
+    private final Object consumerLock = new Object();
+
+    private BulkGetItemOperation(BulkGetItemEnhancedRequest request) {
+        this.request = request;
+        this.maxUnprocessedRetries = request.maxUnprocessedRetries() != null ? request.maxUnprocessedRetries()
+                                                                             : DEFAULT_MAX_UNPROCESSED_RETRIES;
+        this.backoffStrategy = request.backoffStrategy() != null ? request.backoffStrategy()
+                                                                 : BackoffStrategy.defaultThrottlingStrategy();
+    }
+
+    public static BulkGetItemOperation create(BulkGetItemEnhancedRequest request) {
+        return new BulkGetItemOperation(request);
+    }
+
+    public BulkGetResult execute(DynamoDbClient dynamoDbClient) {
+        long startNanos = System.nanoTime();
+        BulkStatisticsCollector statistics = new BulkStatisticsCollector();
+        Map<String, List<Map<String, AttributeValue>>> unprocessedKeys = new ConcurrentHashMap<>();
+        int parallelism = request.parallelism() != null ? request.parallelism() : DEFAULT_PARALLELISM;
+
+        try (BatchDispatcher dispatcher = BatchDispatcher.create(parallelism, request.executor())) {
+            BatchReader reader = new BatchReader(dynamoDbClient, dispatcher, statistics, unprocessedKeys);
+            request.tableReads().forEach(reader::read);
+            dispatcher.awaitCompletion();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+        return BulkGetResult.builder()
+                            .unprocessedKeys(unprocessedKeys)
+                            .tableStatistics(statistics.statistics(duration))
+                            .duration(duration)
+                            .build();
+    }
+
+    private final class BatchReader {
+        private final DynamoDbClient dynamoDbClient;
+        private final BatchDispatcher dispatcher;
+        private final BulkStatisticsCollector statistics;
+        private final Map<String, List<Map<String, AttributeValue>>> unprocessedKeys;
+
+        private BatchReader(DynamoDbClient dynamoDbClient, BatchDispatcher dispatcher, BulkStatisticsCollector statistics,
+                            Map<String, List<Map<String, AttributeValue>>> unprocessedKeys) {
+            this.dynamoDbClient = dynamoDbClient;
+            this.dispatcher = dispatcher;
+            this.statistics = statistics;
+            this.unprocessedKeys = unprocessedKeys;
+        }
+
+        private <T> void read(TableReads<T> tableReads) {
+            MappedTableResource<T> mappedTable = tableReads.mappedTableResource();
+            List<Map<String, AttributeValue>> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            Set<Map<String, AttributeValue>> batchKeys = new HashSet<>();
+
+            for (Key key : tableReads.keys()) {
+                Map<String, AttributeValue> keyMap = key.keyMap(mappedTable.tableSchema(), TableMetadata.primaryIndexName());
+                if (!batchKeys.add(keyMap) || batch.size() == MAX_BATCH_SIZE) {
+                    submit(tableReads, batch);
+                    batch = new ArrayList<>(MAX_BATCH_SIZE);
+                    batchKeys.clear();
+                    batchKeys.add(keyMap);
+                }
+                batch.add(keyMap);
+            }
+            if (!batch.isEmpty()) {
+                submit(tableReads, batch);
+            }
+        }
+
+        private <T> void submit(TableReads<T> tableReads, List<Map<String, AttributeValue>> keys) {
+            dispatcher.submit(() -> readBatch(tableReads, keys));
+        }
+
+        private <T> void readBatch(TableReads<T> tableReads, List<Map<String, AttributeValue>> keys) {
+            MappedTableResource<T> mappedTable = tableReads.mappedTableResource();
+            String tableName = mappedTable.tableName();
+            OperationContext context = DefaultOperationContext.create(tableName);
+            List<Map<String, AttributeValue>> pending = keys;
+
+            for (int retries = 0; ; retries++) {
+                KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder()
+                                                                       .keys(pending)
+                                                                       .consistentRead(request.consistentRead())
+                                                                       .build();
+                BatchGetItemResponse response = dynamoDbClient.batchGetItem(
+                    BatchGetItemRequest.builder()
+                                       .requestItems(Collections.singletonMap(tableName, keysAndAttributes))
+                                       .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                                       .build());
+                statistics.recordConsumedCapacity(response.consumedCapacity());
+
+                List<Map<String, AttributeValue>> items = response.responses().getOrDefault(tableName, Collections.emptyList());
+                synchronized (consumerLock) {
+                    items.forEach(itemMap -> {
+                        T item = readAndTransformSingleItem(itemMap, mappedTable.tableSchema(), context,
+                                                            mappedTable.mapperExtension(), OperationName.BATCH_GET_ITEM);
+                        if (item != null) {
+                            tableReads.itemConsumer().accept(item);
+                        }
+                    });
+                }
+
+                KeysAndAttributes unprocessedKeysAndAttributes = response.unprocessedKeys().get(tableName);
+                List<Map<String, AttributeValue>> unprocessed = unprocessedKeysAndAttributes != null
+                                                                ? unprocessedKeysAndAttributes.keys()
+                                                                : Collections.emptyList();
+                statistics.recordProcessed(tableName, pending.size() - unprocessed.size());
+                if (unprocessed.isEmpty()) {
+                    return;
+                }
+                if (retries == maxUnprocessedRetries) {
+                    unprocessedKeys.computeIfAbsent(tableName, t -> Collections.synchronizedList(new ArrayList<>()))
+                                   .addAll(unprocessed);
+                    return;
+                }
+                statistics.recordRetried(tableName, unprocessed.size());
+                BatchDispatcher.backoff(backoffStrategy, retries);
+                pending = unprocessed;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkTableStatistics;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+
+/**
+ * Accumulates the per-table statistics of a bulk operation from the batches running concurrently.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class BulkStatisticsCollector {
+    private final Map<String, TableCounters> counters = new ConcurrentHashMap<>();
+
+    void recordProcessed(String tableName, long itemCount) {
+        counters(tableName).items.add(itemCount);
+    }
+
+    void recordRetried(String tableName, long itemCount) {
+        counters(tableName).retried.add(itemCount);
+    }
+
+    void recordConsumedCapacity(List<ConsumedCapacity> consumedCapacity) {
+        consumedCapacity.forEach(capacity -> {
+            if (capacity.capacityUnits() != null) {
+                counters(capacity.tableName()).capacityUnits.add(capacity.capacityUnits());
+            }
+        });
+    }
+
+    Map<String, BulkTableStatistics> statistics(Duration duration) {
+        return counters.entrySet()
+                       .stream()
+                       .collect(Collectors.toMap(Map.Entry::getKey,
+                                                 e -> BulkTableStatistics.builder()
+                                                                         .tableName(e.getKey())
+                                                                         .itemCount(e.getValue().items.sum())
+                                                                         .retriedItemCount(e.getValue().retried.sum())
+                                                                         .consumedCapacityUnits(e.getValue().capacityUnits.sum())
+                                                                         .duration(duration)
+                                                                         .build()));
+    }
+
+    private TableCounters counters(String tableName) {
+        return counters.computeIfAbsent(tableName, t -> new TableCounters());
+    }
+
+    private static final class TableCounters {
+        private final LongAdder items = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final DoubleAdder capacityUnits = new DoubleAdder();
+    }
+}
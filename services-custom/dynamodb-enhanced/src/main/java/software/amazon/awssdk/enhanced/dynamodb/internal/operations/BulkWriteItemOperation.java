@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemEnhancedRequest.TableWrites;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes the items of a {@link BulkWriteItemEnhancedRequest} with as many BatchWriteItem calls as needed.
+ * <p>
+ * The items of each {@link TableWrites} are read in order and grouped into batches of up to 25 write requests, which are
+ * dispatched with the parallelism of the request. A batch is flushed early when an item has the same key as an item already
+ * in it, since DynamoDB rejects batches that write the same key twice. Items returned as unprocessed are resubmitted after a
+ * backoff delay, up to the maximum number of retries of the request, after which they are returned in the result.
+ */
+@SdkInternalApi
+public class BulkWriteItemOperation {
+    static final int MAX_BATCH_SIZE = 25;
+
+    private static final int DEFAULT_PARALLELISM = 1;
+    private static final int DEFAULT_MAX_UNPROCESSED_RETRIES = 10;
+
+    private final BulkWriteItemEnhancedRequest request;
+    private final int maxUnprocessedRetries;
+    private final BackoffStrategy backoffStrategy;
+
+    private BulkWriteItemOperation(BulkWriteItemEnhancedRequest request) {
+        this.request = request;
+        this.maxUnprocessedRetries = request.maxUnprocessedRetries() != null ? request.maxUnprocessedRetries()
+                                                                             : DEFAULT_MAX_UNPROCESSED_RETRIES;
+        this.backoffStrategy = request.backoffStrategy() != null ? request.backoffStrategy()
+                                                                 : BackoffStrategy.defaultThrottlingStrategy();
+    }
+
+    public static BulkWriteItemOperation create(BulkWriteItemEnhancedRequest request) {
+        return new BulkWriteItemOperation(request);
+    }
+
+    public BulkWriteResult execute(DynamoDbClient dynamoDbClient) {
+        long startNanos = System.nanoTime();
+        BulkStatisticsCollector statistics = new BulkStatisticsCollector();
+        Map<String, List<WriteRequest>> unprocessedRequests = new ConcurrentHashMap<>();
+        int parallelism = request.parallelism() != null ? request.parallelism() : DEFAULT_PARALLELISM;
+
+        try (BatchDispatcher dispatcher = BatchDispatcher.create(parallelism, request.executor())) {
+            BatchWriter writer = new BatchWriter(dynamoDbClient, dispatcher, statistics, unprocessedRequests);
+            request.tableWrites().forEach(writer::write);
+            dispatcher.awaitCompletion();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
+        return BulkWriteResult.builder()
+                              .unprocessedRequests(unprocessedRequests)
+                              .tableStatistics(statistics.statistics(duration))
+                              .duration(duration)
+                              .build();
+    }
+
+    private final class BatchWriter {
+        private final DynamoDbClient dynamoDbClient;
+        private final BatchDispatcher dispatcher;
+        private final BulkStatisticsCollector statistics;
+        private final Map<String, List<WriteRequest>> unprocessedRequests;
+
+        private BatchWriter(DynamoDbClient dynamoDbClient, BatchDispatcher dispatcher, BulkStatisticsCollector statistics,
+                            Map<String, List<WriteRequest>> unprocessedRequests) {
+            this.dynamoDbClient = dynamoDbClient;
+            this.dispatcher = dispatcher;
+            this.statistics = statistics;
+            this.unprocessedRequests = unprocessedRequests;
+        }
+
+        private <T> void write(TableWrites<T> tableWrites) {
+            MappedTableResource<T> mappedTable = tableWrites.mappedTableResource();
+            TableSchema<T> tableSchema = mappedTable.tableSchema();
+            OperationContext context = DefaultOperationContext.create(mappedTable.tableName());
+            Collection<String> keyAttributes = tableSchema.tableMetadata().primaryKeys();
+            Batch batch = new Batch(mappedTable.tableName());
+
+            if (tableWrites.putItems() != null) {
+                for (T item : tableWrites.putItems()) {
+                    PutItemEnhancedRequest<T> putRequest = PutItemEnhancedRequest.builder(tableSchema.itemType().rawClass())
+                                                                                 .item(item)
+                                                                                 .build();
+                    WriteRequest writeRequest = PutItemOperation.create(putRequest)
+                                                                .generateWriteRequest(tableSchema, context,
+                                                                                      mappedTable.mapperExtension());
+                    batch.add(writeRequest, keyOf(writeRequest.putRequest().item(), keyAttributes));
+                }
+            } else {
+                for (Key key : tableWrites.deleteKeys()) {
+                    DeleteItemEnhancedRequest deleteRequest = DeleteItemEnhancedRequest.builder().key(key).build();
+                    WriteRequest writeRequest = DeleteItemOperation.<T>create(deleteRequest)
+                                                                   .generateWriteRequest(tableSchema, context,
+                                                                                         mappedTable.mapperExtension());
+                    batch.add(writeRequest, writeRequest.deleteRequest().key());
+                }
+            }
+            batch.flush();
+        }
+
+        private Map<String, AttributeValue> keyOf(Map<String, AttributeValue> item, Collection<String> keyAttributes) {
+            Map<String, AttributeValue> key = new HashMap<>();
+            keyAttributes.forEach(attribute -> key.put(attribute, item.get(attribute)));
+            return key;
+        }
+
+        private void writeBatch(String tableName, List<WriteRequest> writeRequests) {
+            List<WriteRequest> pending = writeRequests;
+            for (int retries = 0; ; retries++) {
+                BatchWriteItemResponse response = dynamoDbClient.batchWriteItem(
+                    BatchWriteItemRequest.builder()
+                                         .requestItems(Collections.singletonMap(tableName, pending))
+                                         .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                                         .build());
+                statistics.recordConsumedCapacity(response.consumedCapacity());
+
+                List<WriteRequest> unprocessed = response.unprocessedItems().getOrDefault(tableName, Collections.emptyList());
+                statistics.recordProcessed(tableName, pending.size() - unprocessed.size());
+                if (unprocessed.isEmpty()) {
+                    return;
+                }
+                if (retries == maxUnprocessedRetries) {
+                    unprocessedRequests.computeIfAbsent(tableName, t -> Collections.synchronizedList(new ArrayList<>()))
+                                       .addAll(unprocessed);
+                    return;
+                }
+                statistics.recordRetried(tableName, unprocessed.size());
+                BatchDispatcher.backoff(backoffStrategy, retries);
+                pending = unprocessed;
+            }
+        }
+
+        private final class Batch {
+            private final String tableName;
+            private List<WriteRequest> writeRequests = new ArrayList<>(MAX_BATCH_SIZE);
+            private Set<Map<String, AttributeValue>> keys = new HashSet<>();
+
+            private Batch(String tableName) {
+                this.tableName = tableName;
+            }
+
+            private void add(WriteRequest writeRequest, Map<String, AttributeValue> key) {
+                if (!keys.add(key)) {
+                    flush();
+                    keys.add(key);
+                }
+                writeRequests.add(writeRequest);
+                if (writeRequests.size() == MAX_BATCH_SIZE) {
+                    flush();
+                }
+            }
+
+            private void flush() {
+                if (writeRequests.isEmpty()) {
+                    return;
+                }
+                List<WriteRequest> batch = writeRequests;
+                writeRequests = new ArrayList<>(MAX_BATCH_SIZE);
+                keys = new HashSet<>();
+                dispatcher.submit(() -> writeBatch(tableName, batch));
+            }
+        }
+    }
+}
@@ -23,7 +23,9 @@ import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.ReadModification;
 import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
@@ -84,13 +86,48 @@ public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, Ge
                                                         TableSchema<T> tableSchema,
                                                         OperationContext context,
                                                         DynamoDbEnhancedClientExtension extension) {
-        T attributes = EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension);
+        T attributes = EnhancedClientUtils.readAndTransformSingleItem(response.item(), tableSchema, context, extension,
+                                                                      operationName());
         return GetItemEnhancedResponse.<T>builder()
                                       .attributes(attributes)
                                       .consumedCapacity(response.consumedCapacity())
                                       .build();
     }
 
+    /**
+     * Executes the operation like {@link TableOperation#execute}, except that the item is not read from the database if
+     * the extension supplies it, see {@link DynamoDbEnhancedClientExtension#beforeRead}.
+     */
+    @Override
+    public GetItemEnhancedResponse<T> execute(TableSchema<T> tableSchema,
+                                              OperationContext context,
+                                              DynamoDbEnhancedClientExtension extension,
+                                              DynamoDbClient dynamoDbClient) {
+        GetItemRequest getItemRequest = generateRequest(tableSchema, context, extension);
+        GetItemResponse response = readFromExtension(getItemRequest, tableSchema, context, extension);
+        if (response == null) {
+            response = serviceCall(dynamoDbClient).apply(getItemRequest);
+        }
+        return transformResponse(response, tableSchema, context, extension);
+    }
+
+    /**
+     * Executes the operation like {@link TableOperation#executeAsync}, except that the item is not read from the database if
+     * the extension supplies it, see {@link DynamoDbEnhancedClientExtension#beforeRead}.
+     */
+    @Override
+    public CompletableFuture<GetItemEnhancedResponse<T>> executeAsync(TableSchema<T> tableSchema,
+                                                                      OperationContext context,
+                                                                      DynamoDbEnhancedClientExtension extension,
+                                                                      DynamoDbAsyncClient dynamoDbAsyncClient) {
+        GetItemRequest getItemRequest = generateRequest(tableSchema, context, extension);
+        GetItemResponse response = readFromExtension(getItemRequest, tableSchema, context, extension);
+        CompletableFuture<GetItemResponse> responseFuture =
+            response != null ? CompletableFuture.completedFuture(response)
+                             : asyncServiceCall(dynamoDbAsyncClient).apply(getItemRequest);
+        return responseFuture.thenApply(r -> transformResponse(r, tableSchema, context, extension));
+    }
+
     @Override
     public Function<GetItemRequest, GetItemResponse> serviceCall(DynamoDbClient dynamoDbClient) {
         return dynamoDbClient::getItem;
@@ -103,6 +140,30 @@ public class GetItemOperation<T> implements TableOperation<T, GetItemRequest, Ge
         return dynamoDbAsyncClient::getItem;
     }
 
+    private GetItemResponse readFromExtension(GetItemRequest getItemRequest,
+                                              TableSchema<T> tableSchema,
+                                              OperationContext context,
+                                              DynamoDbEnhancedClientExtension extension) {
+        if (extension == null
+            || Boolean.TRUE.equals(this.request.consistentRead())
+            || Boolean.TRUE.equals(this.request.bypassCache())) {
+            return null;
+        }
+
+        ReadModification readModification =
+            extension.beforeRead(DefaultDynamoDbExtensionContext.builder()
+                                                                .items(getItemRequest.key())
+                                                                .tableSchema(tableSchema)
+                                                                .operationContext(context)
+                                                                .tableMetadata(tableSchema.tableMetadata())
+                                                                .operationName(operationName())
+                                                                .build());
+        if (readModification == null || readModification.transformedItem() == null) {
+            return null;
+        }
+        return GetItemResponse.builder().item(readModification.transformedItem()).build();
+    }
+
     @Override
     public TransactGetItem generateTransactGetItem(TableSchema<T> tableSchema,
                                                    OperationContext operationContext,
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The pages of a parallel scan, which scans the segments of a table concurrently and returns their pages in the order they are
+ * retrieved.
+ * <p>
+ * Each iteration runs its own scan. Up to {@code parallelism} Scan calls are made at a time from a thread pool created for the
+ * iteration, whose threads stop when idle. No more pages are fetched while {@code 2 * parallelism} pages are either being
+ * fetched or waiting to be returned by the iterator, which bounds the memory used by a scan whose consumer is slower than
+ * DynamoDB, and lets an iteration be abandoned without leaving work behind.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ParallelScanIterable<T> implements PageIterable<T> {
+    private static final String THREAD_NAME_PREFIX = "sdk-dynamodb-enhanced-scan";
+
+    private final ScanEnhancedRequest request;
+    private final int parallelism;
+    private final Function<ScanEnhancedRequest, SdkIterable<Page<T>>> segmentScanner;
+
+    private ParallelScanIterable(ScanEnhancedRequest request, int parallelism,
+                                 Function<ScanEnhancedRequest, SdkIterable<Page<T>>> segmentScanner) {
+        validateRequest(request, parallelism);
+        this.request = request;
+        this.parallelism = parallelism;
+        this.segmentScanner = segmentScanner;
+    }
+
+    /**
+     * Creates a parallel scan of the segments of the given request.
+     *
+     * @param request the scan request, which must set the total number of segments and must not set a segment
+     * @param parallelism the maximum number of Scan calls in flight at a time
+     * @param segmentScanner scans one segment of the table
+     */
+    public static <T> ParallelScanIterable<T> create(ScanEnhancedRequest request, int parallelism,
+                                                     Function<ScanEnhancedRequest, SdkIterable<Page<T>>> segmentScanner) {
+        return new ParallelScanIterable<>(request, parallelism, segmentScanner);
+    }
+
+    @Override
+    public Iterator<Page<T>> iterator() {
+        return new MergingIterator();
+    }
+
+    static void validateRequest(ScanEnhancedRequest request, int parallelism) {
+        Validate.paramNotNull(request, "request");
+        Validate.isPositive(parallelism, "parallelism");
+        Validate.isTrue(request.totalSegments() != null && request.totalSegments() > 0,
+                        "A parallel scan requires the total number of segments to be set to a positive value.");
+        Validate.isTrue(request.segment() == null, "A parallel scan scans all segments, so the segment must not be set.");
+        Validate.isTrue(request.exclusiveStartKey() == null,
+                        "A parallel scan cannot be resumed from an exclusive start key.");
+    }
+
+    private final class MergingIterator implements Iterator<Page<T>> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition pageAvailable = lock.newCondition();
+        private final Queue<Page<T>> pages = new ArrayDeque<>();
+        private final Queue<Iterator<Page<T>>> idleSegments = new ArrayDeque<>();
+        private final ThreadPoolExecutor executor;
+        private int nextSegment;
+        private int inFlight;
+        private Throwable failure;
+
+        private MergingIterator() {
+            this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                   new ThreadFactoryBuilder().threadNamePrefix(THREAD_NAME_PREFIX)
+                                                                             .daemonThreads(true)
+                                                                             .build());
+            this.executor.allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        public boolean hasNext() {
+            lock.lock();
+            try {
+                fetchMore();
+                while (pages.isEmpty() && inFlight > 0 && failure == null) {
+                    pageAvailable.await();
+                }
+                if (failure != null) {
+                    executor.shutdown();
+                    if (failure instanceof Error) {
+                        throw (Error) failure;
+                    }
+                    if (failure instanceof RuntimeException) {
+                        throw (RuntimeException) failure;
+                    }
+                    throw SdkClientException.create("Failed to scan a segment of the table.", failure);
+                }
+                if (pages.isEmpty()) {
+                    executor.shutdown();
+                    return false;
+                }
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.create("Thread was interrupted while waiting for a page of the scan.", e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more pages left");
+            }
+            lock.lock();
+            try {
+                Page<T> page = pages.poll();
+                fetchMore();
+                return page;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Starts fetching the next page of idle segments, or of segments not started yet, while the limits allow it. Must be
+         * called with the lock held.
+         */
+        private void fetchMore() {
+            while (failure == null && inFlight < parallelism && inFlight + pages.size() < 2 * parallelism) {
+                Iterator<Page<T>> segment = idleSegments.poll();
+                if (segment == null) {
+                    if (nextSegment == request.totalSegments()) {
+                        return;
+                    }
+                    segment = segmentScanner.apply(request.toBuilder().segment(nextSegment++).build()).iterator();
+                }
+                Iterator<Page<T>> segmentToFetch = segment;
+                inFlight++;
+                executor.execute(() -> fetch(segmentToFetch));
+            }
+        }
+
+        private void fetch(Iterator<Page<T>> segment) {
+            Page<T> page = null;
+            Throwable error = null;
+            boolean hasMore = false;
+            try {
+                page = segment.next();
+                hasMore = segment.hasNext();
+            } catch (Throwable t) {
+                error = t;
+            }
+
+            lock.lock();
+            try {
+                inFlight--;
+                if (error != null) {
+                    if (failure == null) {
+                        failure = error;
+                    }
+                } else {
+                    pages.add(page);
+                    if (hasMore) {
+                        idleSegments.add(segment);
+                    }
+                    fetchMore();
+                }
+                pageAvailable.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
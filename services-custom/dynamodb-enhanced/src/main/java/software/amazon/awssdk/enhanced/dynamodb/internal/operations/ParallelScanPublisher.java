@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * The pages of a parallel scan, which scans the segments of a table concurrently and publishes their pages in the order they
+ * are retrieved.
+ * <p>
+ * Each subscription runs its own scan, subscribing to up to {@code parallelism} segments at a time. Each segment requests its
+ * next page only once its previous page has been delivered to the subscriber, so that at most {@code 2 * parallelism} pages
+ * are held in memory however slow the subscriber is. The scan fails with the first segment that fails, and stops when the
+ * subscriber cancels its subscription.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ParallelScanPublisher<T> implements PagePublisher<T> {
+    private final ScanEnhancedRequest request;
+    private final int parallelism;
+    private final Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> segmentScanner;
+
+    private ParallelScanPublisher(ScanEnhancedRequest request, int parallelism,
+                                  Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> segmentScanner) {
+        ParallelScanIterable.validateRequest(request, parallelism);
+        this.request = request;
+        this.parallelism = parallelism;
+        this.segmentScanner = segmentScanner;
+    }
+
+    /**
+     * Creates a parallel scan of the segments of the given request.
+     *
+     * @param request the scan request, which must set the total number of segments and must not set a segment
+     * @param parallelism the maximum number of segments scanned at a time
+     * @param segmentScanner scans one segment of the table
+     */
+    public static <T> ParallelScanPublisher<T> create(ScanEnhancedRequest request, int parallelism,
+                                                      Function<ScanEnhancedRequest, SdkPublisher<Page<T>>> segmentScanner) {
+        return new ParallelScanPublisher<>(request, parallelism, segmentScanner);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        SimplePublisher<Page<T>> output = new SimplePublisher<>();
+        output.subscribe(subscriber);
+        new Scan(output).start();
+    }
+
+    private final class Scan {
+        private final SimplePublisher<Page<T>> output;
+        private final AtomicInteger nextSegment = new AtomicInteger();
+        private final AtomicInteger remainingSegments = new AtomicInteger(request.totalSegments());
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final Set<SegmentSubscriber> activeSegments = ConcurrentHashMap.newKeySet();
+
+        private Scan(SimplePublisher<Page<T>> output) {
+            this.output = output;
+        }
+
+        private void start() {
+            for (int i = 0; i < Math.min(parallelism, request.totalSegments()); i++) {
+                startNextSegment();
+            }
+        }
+
+        private void startNextSegment() {
+            if (stopped.get()) {
+                return;
+            }
+            int segment = nextSegment.getAndIncrement();
+            if (segment < request.totalSegments()) {
+                segmentScanner.apply(request.toBuilder().segment(segment).build()).subscribe(new SegmentSubscriber());
+            }
+        }
+
+        private void segmentCompleted(SegmentSubscriber segment) {
+            activeSegments.remove(segment);
+            if (remainingSegments.decrementAndGet() == 0) {
+                output.complete();
+            } else {
+                startNextSegment();
+            }
+        }
+
+        private void stop(Throwable error) {
+            if (!stopped.compareAndSet(false, true)) {
+                return;
+            }
+            if (error != null) {
+                output.error(error);
+            }
+            activeSegments.forEach(SegmentSubscriber::cancel);
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private volatile Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                activeSegments.add(this);
+                if (stopped.get()) {
+                    s.cancel();
+                    return;
+                }
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Page<T> page) {
+                output.send(page).whenComplete((r, t) -> {
+                    if (t != null) {
+                        // The subscriber cancelled its subscription, or another segment failed
+                        stop(null);
+                    } else {
+                        subscription.request(1);
+                    }
+                });
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                activeSegments.remove(this);
+                stop(t);
+            }
+
+            @Override
+            public void onComplete() {
+                segmentCompleted(this);
+            }
+
+            private void cancel() {
+                activeSegments.remove(this);
+                subscription.cancel();
+            }
+        }
+    }
+}
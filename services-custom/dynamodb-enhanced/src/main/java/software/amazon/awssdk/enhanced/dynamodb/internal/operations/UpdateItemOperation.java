@@ -16,11 +16,9 @@
 package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
 
 import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.readAndTransformSingleItem;
-import static software.amazon.awssdk.enhanced.dynamodb.internal.update.UpdateExpressionUtils.operationExpression;
 import static software.amazon.awssdk.utils.CollectionUtils.filterMap;
 
 import java.util.Collection;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -33,6 +31,7 @@ import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.extensions.WriteModification;
 import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.update.UpdateExpressionCache;
 import software.amazon.awssdk.enhanced.dynamodb.internal.update.UpdateExpressionConverter;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactUpdateItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
@@ -113,7 +112,7 @@ public class UpdateItemOperation<T>
         Map<String, AttributeValue> keyAttributes = filterMap(itemMap, entry -> primaryKeys.contains(entry.getKey()));
         Map<String, AttributeValue> nonKeyAttributes = filterMap(itemMap, entry -> !primaryKeys.contains(entry.getKey()));
 
-        Expression updateExpression = generateUpdateExpressionIfExist(tableMetadata, transformation, nonKeyAttributes);
+        Expression updateExpression = generateUpdateExpressionIfExist(tableSchema, transformation, nonKeyAttributes);
         Expression conditionExpression = generateConditionExpressionIfExist(transformation, request);
 
         Map<String, String> expressionNames = coalesceExpressionNames(updateExpression, conditionExpression);
@@ -149,7 +148,8 @@ public class UpdateItemOperation<T>
                                OperationContext operationContext,
                                DynamoDbEnhancedClientExtension extension) {
         try {
-            T attributes = readAndTransformSingleItem(response.attributes(), tableSchema, operationContext, extension);
+            T attributes = readAndTransformSingleItem(response.attributes(), tableSchema, operationContext, extension,
+                                                      operationName());
 
             return UpdateItemEnhancedResponse.<T>builder(null)
                 .attributes(attributes)
@@ -203,25 +203,20 @@ public class UpdateItemOperation<T>
     /**
      * Retrieves the UpdateExpression from extensions if existing, and then creates an UpdateExpression for the request POJO
      * if there are attributes to be updated (most likely). If both exist, they are merged and the code generates a final
-     * Expression that represent the result.
+     * Expression that represent the result. The expressions generated for the attributes of the POJO are cached per table
+     * schema, see {@link UpdateExpressionCache}.
      */
-    private Expression generateUpdateExpressionIfExist(TableMetadata tableMetadata,
+    private Expression generateUpdateExpressionIfExist(TableSchema<T> tableSchema,
                                                        WriteModification transformation,
                                                        Map<String, AttributeValue> attributes) {
         UpdateExpression updateExpression = null;
         if (transformation != null && transformation.updateExpression() != null) {
             updateExpression = transformation.updateExpression();
         }
-        if (!attributes.isEmpty()) {
-            List<String> nonRemoveAttributes = UpdateExpressionConverter.findAttributeNames(updateExpression);
-            UpdateExpression operationUpdateExpression = operationExpression(attributes, tableMetadata, nonRemoveAttributes);
-            if (updateExpression == null) {
-                updateExpression = operationUpdateExpression;
-            } else {
-                updateExpression = UpdateExpression.mergeExpressions(updateExpression, operationUpdateExpression);
-            }
+        if (attributes.isEmpty()) {
+            return UpdateExpressionConverter.toExpression(updateExpression);
         }
-        return UpdateExpressionConverter.toExpression(updateExpression);
+        return UpdateExpressionCache.forSchema(tableSchema).updateExpression(tableSchema, attributes, updateExpression);
     }
 
     /**
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.update;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.valueRef;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.update.UpdateExpression;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Caches the update expressions generated for the attributes of an item by UpdateItem, so that the expression string and
+ * expression names are only built once for each shape of item, and only the values need to be bound for each request.
+ *
+ * <p>The shape of an item is the ordered list of attributes that are set, the ordered list of attributes that are removed,
+ * and the expression string and names of the update expression contributed by extensions, if any. Everything else in the
+ * generated expression is derived from these and the {@link TableSchema}, so items of the same shape generate the same
+ * expression apart from the values. Templates are kept per table schema, and schemas that are no longer used are
+ * released. Looking up the cache of a schema does not lock, so that concurrent UpdateItem calls do not contend on it. The
+ * number of templates per schema is bounded, as items that ignore nulls can have many shapes; items with a shape that does
+ * not fit in the cache have their expression generated on every call.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class UpdateExpressionCache {
+    private static final int MAX_TEMPLATES_PER_SCHEMA = 256;
+
+    private static final Map<SchemaKey, UpdateExpressionCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Map<Shape, Template> templates = new ConcurrentHashMap<>();
+
+    private UpdateExpressionCache() {
+    }
+
+    /**
+     * The cache of update expressions for the given table schema.
+     */
+    public static UpdateExpressionCache forSchema(TableSchema<?> tableSchema) {
+        UpdateExpressionCache cache = CACHES.get(new StrongSchemaKey(tableSchema));
+        if (cache != null) {
+            return cache;
+        }
+
+        // New schemas are rare, so this is a good time to release the caches of schemas that are no longer used.
+        CACHES.keySet().removeIf(key -> key.schema() == null);
+        return CACHES.computeIfAbsent(new WeakSchemaKey(tableSchema), k -> new UpdateExpressionCache());
+    }
+
+    @SdkTestInternalApi
+    static UpdateExpressionCache create() {
+        return new UpdateExpressionCache();
+    }
+
+    /**
+     * Returns the update expression that sets the non-null attributes, and removes the null attributes, of the given item
+     * attributes, merged with the update expression of the extensions. This is equivalent to converting
+     * {@link UpdateExpressionUtils#operationExpression} merged with the extension expression to an {@link Expression}.
+     *
+     * @param tableSchema the schema of the item, which determines the update behavior of each attribute
+     * @param attributes the non-key attributes of the item; must not be empty
+     * @param extensionExpression the update expression of the extensions, or null
+     */
+    public Expression updateExpression(TableSchema<?> tableSchema,
+                                       Map<String, AttributeValue> attributes,
+                                       UpdateExpression extensionExpression) {
+        List<String> nonRemoveAttributes = UpdateExpressionConverter.findAttributeNames(extensionExpression);
+        Expression extension = UpdateExpressionConverter.toExpression(extensionExpression);
+
+        List<String> setAttributes = new ArrayList<>(attributes.size());
+        List<AttributeValue> setValues = new ArrayList<>(attributes.size());
+        List<String> removeAttributes = new ArrayList<>();
+        attributes.forEach((name, value) -> {
+            if (!isNullAttributeValue(value)) {
+                setAttributes.add(name);
+                setValues.add(value);
+            } else if (!nonRemoveAttributes.contains(name)) {
+                removeAttributes.add(name);
+            }
+        });
+
+        Shape shape = new Shape(setAttributes,
+                                removeAttributes,
+                                extension == null ? null : extension.expression(),
+                                extension == null ? null : extension.expressionNames());
+        Template template = templates.get(shape);
+        if (template != null) {
+            return template.bind(setValues, extension == null ? null : extension.expressionValues());
+        }
+
+        UpdateExpression operationExpression = UpdateExpressionUtils.operationExpression(attributes,
+                                                                                         tableSchema.tableMetadata(),
+                                                                                         nonRemoveAttributes);
+        Expression expression =
+            UpdateExpressionConverter.toExpression(UpdateExpression.mergeExpressions(extensionExpression,
+                                                                                     operationExpression));
+        if (templates.size() < MAX_TEMPLATES_PER_SCHEMA) {
+            templates.putIfAbsent(shape, Template.create(expression, setAttributes));
+        }
+        return expression;
+    }
+
+    @SdkTestInternalApi
+    int size() {
+        return templates.size();
+    }
+
+    /**
+     * A key of {@link #CACHES}, which compares table schemas by identity.
+     */
+    private abstract static class SchemaKey {
+        private final int hashCode;
+
+        private SchemaKey(TableSchema<?> schema) {
+            this.hashCode = System.identityHashCode(schema);
+        }
+
+        /**
+         * The table schema of this key, or null if it has been garbage collected.
+         */
+        abstract TableSchema<?> schema();
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            TableSchema<?> schema = schema();
+            return schema != null && schema == ((SchemaKey) o).schema();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The key under which a cache is stored, which does not prevent its table schema from being garbage collected.
+     */
+    private static final class WeakSchemaKey extends SchemaKey {
+        private final WeakReference<TableSchema<?>> schema;
+
+        private WeakSchemaKey(TableSchema<?> schema) {
+            super(schema);
+            this.schema = new WeakReference<>(schema);
+        }
+
+        @Override
+        TableSchema<?> schema() {
+            return schema.get();
+        }
+    }
+
+    /**
+     * The key used to look up a cache, which avoids creating a weak reference on every lookup.
+     */
+    private static final class StrongSchemaKey extends SchemaKey {
+        private final TableSchema<?> schema;
+
+        private StrongSchemaKey(TableSchema<?> schema) {
+            super(schema);
+            this.schema = schema;
+        }
+
+        @Override
+        TableSchema<?> schema() {
+            return schema;
+        }
+    }
+
+    /**
+     * The expression string and names generated for a shape of item, and the value tokens of the attributes it sets.
+     */
+    private static final class Template {
+        private final String expression;
+        private final Map<String, String> expressionNames;
+        private final List<String> valueTokens;
+
+        private Template(String expression, Map<String, String> expressionNames, List<String> valueTokens) {
+            this.expression = expression;
+            this.expressionNames = expressionNames;
+            this.valueTokens = valueTokens;
+        }
+
+        private static Template create(Expression expression, List<String> setAttributes) {
+            List<String> valueTokens = new ArrayList<>(setAttributes.size());
+            setAttributes.forEach(attribute -> valueTokens.add(valueRef(attribute)));
+            return new Template(expression.expression(),
+                                Collections.unmodifiableMap(new HashMap<>(expression.expressionNames())),
+                                Collections.unmodifiableList(valueTokens));
+        }
+
+        private Expression bind(List<AttributeValue> setValues, Map<String, AttributeValue> extensionValues) {
+            Map<String, AttributeValue> expressionValues =
+                extensionValues == null ? new HashMap<>() : new HashMap<>(extensionValues);
+            for (int i = 0; i < valueTokens.size(); i++) {
+                String token = valueTokens.get(i);
+                AttributeValue value = setValues.get(i);
+                AttributeValue oldValue = expressionValues.put(token, value);
+
+                if (oldValue != null && !oldValue.equals(value)) {
+                    throw new IllegalArgumentException(
+                        String.format("Attempt to coalesce two expressions with conflicting expression values. "
+                                      + "Expression value key = '%s'", token));
+                }
+            }
+
+            return Expression.builder()
+                             .expression(expression)
+                             .expressionNames(expressionNames)
+                             .expressionValues(Collections.unmodifiableMap(expressionValues))
+                             .build();
+        }
+    }
+
+    private static final class Shape {
+        private final List<String> setAttributes;
+        private final List<String> removeAttributes;
+        private final String extensionExpression;
+        private final Map<String, String> extensionNames;
+        private final int hashCode;
+
+        private Shape(List<String> setAttributes,
+                      List<String> removeAttributes,
+                      String extensionExpression,
+                      Map<String, String> extensionNames) {
+            this.setAttributes = setAttributes;
+            this.removeAttributes = removeAttributes;
+            this.extensionExpression = extensionExpression;
+            this.extensionNames = extensionNames;
+            int result = setAttributes.hashCode();
+            result = 31 * result + removeAttributes.hashCode();
+            result = 31 * result + (extensionExpression != null ? extensionExpression.hashCode() : 0);
+            result = 31 * result + (extensionNames != null ? extensionNames.hashCode() : 0);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Shape shape = (Shape) o;
+            return hashCode == shape.hashCode
+                   && setAttributes.equals(shape.setAttributes)
+                   && removeAttributes.equals(shape.removeAttributes)
+                   && (extensionExpression != null ? extensionExpression.equals(shape.extensionExpression)
+                                                   : shape.extensionExpression == null)
+                   && (extensionNames != null ? extensionNames.equals(shape.extensionNames) : shape.extensionNames == null);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
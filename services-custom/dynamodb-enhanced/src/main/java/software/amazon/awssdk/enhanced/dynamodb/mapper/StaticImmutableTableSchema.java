@@ -86,6 +86,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
     private final EnhancedType<T> itemType;
     private final AttributeConverterProvider attributeConverterProvider;
     private final Map<String, FlattenedMapper<T, B, ?>> indexedFlattenedMappers;
+    private final List<FlattenedMapper<T, B, ?>> flattenedMappers;
     private final List<String> attributeNames;
 
     private static class FlattenedMapper<T, B, T1> {
@@ -207,6 +208,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         this.indexedMappers = Collections.unmodifiableMap(mutableIndexedMappers);
         this.attributeNames = Collections.unmodifiableList(new ArrayList<>(mutableAttributeNames));
         this.indexedFlattenedMappers = Collections.unmodifiableMap(mutableFlattenedMappers);
+        this.flattenedMappers = Collections.unmodifiableList(new ArrayList<>(builder.flattenedMappers));
         this.newBuilderSupplier = builder.newBuilderSupplier;
         this.buildItemFunction = builder.buildItemFunction;
         this.tableMetadata = tableMetadataBuilder.build();
@@ -462,7 +464,8 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             builder = constructNewBuilder();
         }
 
-        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = new LinkedHashMap<>();
+        // Only allocated if the item has attributes of a flattened schema
+        Map<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> flattenedAttributeValuesMap = null;
         
         for (Map.Entry<String, AttributeValue> entry : attributeMap.entrySet()) {
             String key = entry.getKey();
@@ -481,23 +484,22 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
                     FlattenedMapper<T, B, ?> flattenedMapper = this.indexedFlattenedMappers.get(key);
 
                     if (flattenedMapper != null) {
-                        Map<String, AttributeValue> flattenedAttributeValues = 
-                            flattenedAttributeValuesMap.get(flattenedMapper);
-                        
-                        if (flattenedAttributeValues == null) {
-                            flattenedAttributeValues = new HashMap<>();
+                        if (flattenedAttributeValuesMap == null) {
+                            flattenedAttributeValuesMap = new LinkedHashMap<>();
                         }
-                        
-                        flattenedAttributeValues.put(key, value);
-                        flattenedAttributeValuesMap.put(flattenedMapper, flattenedAttributeValues);
+
+                        flattenedAttributeValuesMap.computeIfAbsent(flattenedMapper, m -> new HashMap<>())
+                                                   .put(key, value);
                     }
                 }
             }
         }
 
-        for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
-                flattenedAttributeValuesMap.entrySet()) {
-            builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+        if (flattenedAttributeValuesMap != null) {
+            for (Map.Entry<FlattenedMapper<T, B, ?>, Map<String, AttributeValue>> entry :
+                    flattenedAttributeValuesMap.entrySet()) {
+                builder = entry.getKey().mapToItem(builder, this::constructNewBuilder, entry.getValue());
+            }
         }
         
         return builder == null ? null : buildItemFunction.apply(builder);
@@ -511,7 +513,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, boolean ignoreNulls) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(mapCapacity(attributeNames.size()));
 
         attributeMappers.forEach(attributeMapper -> {
             String attributeKey = attributeMapper.attributeName();
@@ -522,7 +524,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             }
         });
 
-        indexedFlattenedMappers.forEach((name, flattenedMapper) -> {
+        flattenedMappers.forEach(flattenedMapper -> {
             attributeValueMap.putAll(flattenedMapper.itemToMap(item, ignoreNulls));
         });
 
@@ -531,7 +533,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
 
     @Override
     public Map<String, AttributeValue> itemToMap(T item, Collection<String> attributes) {
-        Map<String, AttributeValue> attributeValueMap = new HashMap<>();
+        Map<String, AttributeValue> attributeValueMap = new HashMap<>(mapCapacity(attributes.size()));
 
         attributes.forEach(key -> {
             AttributeValue attributeValue = attributeValue(item, key);
@@ -587,6 +589,13 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
         return this.attributeConverterProvider;
     }
 
+    /**
+     * The initial capacity of a {@link HashMap} that holds the given number of entries without being resized.
+     */
+    private static int mapCapacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
     private B constructNewBuilder() {
         if (newBuilderSupplier == null) {
             throw new UnsupportedOperationException("An abstract TableSchema cannot be used to map a database record "
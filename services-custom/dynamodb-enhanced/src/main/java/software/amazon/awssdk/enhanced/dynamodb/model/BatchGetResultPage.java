@@ -31,6 +31,7 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
 import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
@@ -78,7 +79,8 @@ public final class BatchGetResultPage {
                       .map(itemMap -> readAndTransformSingleItem(itemMap,
                                                                  mappedTable.tableSchema(),
                                                                  DefaultOperationContext.create(mappedTable.tableName()),
-                                                                 dynamoDbEnhancedClientExtension))
+                                                                 dynamoDbEnhancedClientExtension,
+                                                                 OperationName.BATCH_GET_ITEM))
                       .collect(Collectors.toList());
     }
 
@@ -0,0 +1,303 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkGetItem() operation (such as
+ * {@link DynamoDbEnhancedClient#bulkGetItem(BulkGetItemEnhancedRequest)}).
+ * <p>
+ * Unlike a {@link BatchGetItemEnhancedRequest}, a bulk request is not limited in size. It contains any number of
+ * {@link TableReads}, each pairing a table with the keys of the items to retrieve from it and a consumer of the retrieved
+ * items. The keys are read lazily from the supplied {@link Iterable}s while the operation runs, and the items are passed to
+ * the consumers as they are retrieved, so neither has to be held in memory.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkGetItemEnhancedRequest {
+    private final List<TableReads<?>> tableReads;
+    private final Boolean consistentRead;
+    private final Integer parallelism;
+    private final Executor executor;
+    private final Integer maxUnprocessedRetries;
+    private final BackoffStrategy backoffStrategy;
+
+    private BulkGetItemEnhancedRequest(Builder builder) {
+        this.tableReads = Collections.unmodifiableList(new ArrayList<>(builder.tableReads));
+        this.consistentRead = builder.consistentRead;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.maxUnprocessedRetries = builder.maxUnprocessedRetries;
+        this.backoffStrategy = builder.backoffStrategy;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder().consistentRead(consistentRead)
+                                       .parallelism(parallelism)
+                                       .executor(executor)
+                                       .maxUnprocessedRetries(maxUnprocessedRetries)
+                                       .backoffStrategy(backoffStrategy);
+        builder.tableReads.addAll(tableReads);
+        return builder;
+    }
+
+    /**
+     * Returns the reads of this request, in the order they were added.
+     */
+    public List<TableReads<?>> tableReads() {
+        return tableReads;
+    }
+
+    /**
+     * Returns the value of consistent read, or null if not set.
+     */
+    public Boolean consistentRead() {
+        return consistentRead;
+    }
+
+    /**
+     * Returns the maximum number of BatchGetItem calls in flight at a time, or null if not set.
+     */
+    public Integer parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the executor that runs the BatchGetItem calls, or null if not set.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the maximum number of times unprocessed keys are resubmitted, or null if not set.
+     */
+    public Integer maxUnprocessedRetries() {
+        return maxUnprocessedRetries;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before unprocessed keys are resubmitted, or null if not set.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkGetItemEnhancedRequest that = (BulkGetItemEnhancedRequest) o;
+
+        if (!tableReads.equals(that.tableReads)) {
+            return false;
+        }
+        if (consistentRead != null ? !consistentRead.equals(that.consistentRead) : that.consistentRead != null) {
+            return false;
+        }
+        if (parallelism != null ? !parallelism.equals(that.parallelism) : that.parallelism != null) {
+            return false;
+        }
+        if (executor != null ? !executor.equals(that.executor) : that.executor != null) {
+            return false;
+        }
+        if (maxUnprocessedRetries != null ? !maxUnprocessedRetries.equals(that.maxUnprocessedRetries)
+                                          : that.maxUnprocessedRetries != null) {
+            return false;
+        }
+        return backoffStrategy != null ? backoffStrategy.equals(that.backoffStrategy) : that.backoffStrategy == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = tableReads.hashCode();
+        result = 31 * result + (consistentRead != null ? consistentRead.hashCode() : 0);
+        result = 31 * result + (parallelism != null ? parallelism.hashCode() : 0);
+        result = 31 * result + (executor != null ? executor.hashCode() : 0);
+        result = 31 * result + (maxUnprocessedRetries != null ? maxUnprocessedRetries.hashCode() : 0);
+        result = 31 * result + (backoffStrategy != null ? backoffStrategy.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * The keys of the items to retrieve from one table of a {@link BulkGetItemEnhancedRequest}, and the consumer of the
+     * retrieved items.
+     *
+     * @param <T> the type of the table items
+     */
+    @ThreadSafe
+    public static final class TableReads<T> {
+        private final MappedTableResource<T> mappedTableResource;
+        private final Iterable<Key> keys;
+        private final Consumer<? super T> itemConsumer;
+
+        private TableReads(MappedTableResource<T> mappedTableResource, Iterable<Key> keys, Consumer<? super T> itemConsumer) {
+            this.mappedTableResource = Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+            this.keys = Validate.paramNotNull(keys, "keys");
+            this.itemConsumer = Validate.paramNotNull(itemConsumer, "itemConsumer");
+        }
+
+        /**
+         * Returns the table read from.
+         */
+        public MappedTableResource<T> mappedTableResource() {
+            return mappedTableResource;
+        }
+
+        /**
+         * Returns the keys of the items to retrieve.
+         */
+        public Iterable<Key> keys() {
+            return keys;
+        }
+
+        /**
+         * Returns the consumer of the retrieved items.
+         */
+        public Consumer<? super T> itemConsumer() {
+            return itemConsumer;
+        }
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private final List<TableReads<?>> tableReads = new ArrayList<>();
+        private Boolean consistentRead;
+        private Integer parallelism;
+        private Executor executor;
+        private Integer maxUnprocessedRetries;
+        private BackoffStrategy backoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds keys of items to retrieve from a table. The keys are read from the iterable while the operation runs, after
+         * the keys of any previously added reads.
+         * <p>
+         * Each item found is passed to the consumer, in no particular order. Keys of items that do not exist in the table are
+         * skipped. The consumers of a request are never called concurrently, but may be called from the threads of the
+         * executor when the parallelism is greater than 1.
+         *
+         * @param mappedTableResource the table to retrieve the items from
+         * @param keys the keys of the items to retrieve
+         * @param itemConsumer the consumer of the retrieved items
+         * @param <T> the type of the table items
+         * @return a builder of this type
+         */
+        public <T> Builder addGetItems(MappedTableResource<T> mappedTableResource, Iterable<Key> keys,
+                                       Consumer<? super T> itemConsumer) {
+            tableReads.add(new TableReads<>(mappedTableResource, keys, itemConsumer));
+            return this;
+        }
+
+        /**
+         * Sets the read consistency of all the BatchGetItem calls. By default, the value of this property is set to
+         * <em>false</em>, enabling eventually consistent reads.
+         *
+         * @param consistentRead sets consistency model of the operation to use strong consistency if true
+         * @return a builder of this type
+         */
+        public Builder consistentRead(Boolean consistentRead) {
+            this.consistentRead = consistentRead;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of BatchGetItem calls in flight at a time. Reading more keys from the supplied iterables
+         * blocks while this many calls are in flight. Defaults to 1, in which case each batch is retrieved by the calling
+         * thread before the next one is read.
+         *
+         * @param parallelism the maximum number of concurrent BatchGetItem calls
+         * @return a builder of this type
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the BatchGetItem calls when the parallelism is greater than 1. If not set, a thread
+         * pool of the size of the parallelism is created for the operation and shut down when it completes.
+         *
+         * @param executor the executor that runs the BatchGetItem calls
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times keys returned as unprocessed by DynamoDB are resubmitted. Keys still unprocessed
+         * after the last retry are returned in the {@link BulkGetResult}. Defaults to 10.
+         *
+         * @param maxUnprocessedRetries the maximum number of retries of unprocessed keys
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedRetries(Integer maxUnprocessedRetries) {
+            this.maxUnprocessedRetries = maxUnprocessedRetries;
+            return this;
+        }
+
+        /**
+         * Sets the strategy that computes the delay before unprocessed keys are resubmitted. Defaults to
+         * {@link BackoffStrategy#defaultThrottlingStrategy()}.
+         *
+         * @param backoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        public BulkGetItemEnhancedRequest build() {
+            return new BulkGetItemEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.createKeyFromMap;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Defines the result of the bulkGetItem() operation, such as
+ * {@link DynamoDbEnhancedClient#bulkGetItem(BulkGetItemEnhancedRequest)}. The retrieved items are passed to the consumers of
+ * the request; the result describes any keys that remained unprocessed after all retries, and the work done on each table.
+ * <ul>
+ *     <li>Use the {@link #unprocessedKeysForTable(MappedTableResource)} method once for each table present in the request to
+ *     get any unprocessed keys of that table.</li>
+ *     <li>Use the {@link #statisticsForTable(MappedTableResource)} method to get the number of items requested from a table,
+ *     the capacity consumed and the throughput achieved.</li>
+ * </ul>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkGetResult {
+    private final Map<String, List<Map<String, AttributeValue>>> unprocessedKeys;
+    private final Map<String, BulkTableStatistics> tableStatistics;
+    private final Duration duration;
+
+    private BulkGetResult(Builder builder) {
+        this.unprocessedKeys = Collections.unmodifiableMap(new HashMap<>(builder.unprocessedKeys));
+        this.tableStatistics = Collections.unmodifiableMap(new HashMap<>(builder.tableStatistics));
+        this.duration = builder.duration;
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve the keys of the supplied table that remained unprocessed after all retries.
+     *
+     * @param mappedTable the table to retrieve unprocessed keys for
+     * @return a list of keys
+     */
+    public List<Key> unprocessedKeysForTable(MappedTableResource<?> mappedTable) {
+        return unprocessedKeys.getOrDefault(mappedTable.tableName(), Collections.emptyList())
+                              .stream()
+                              .map(keyMap -> createKeyFromMap(keyMap,
+                                                              mappedTable.tableSchema(),
+                                                              TableMetadata.primaryIndexName()))
+                              .collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieve the statistics of the supplied table, or null if no items were requested from it.
+     *
+     * @param mappedTable the table to retrieve statistics for
+     * @return the statistics of the table
+     */
+    public BulkTableStatistics statisticsForTable(MappedTableResource<?> mappedTable) {
+        return tableStatistics.get(mappedTable.tableName());
+    }
+
+    /**
+     * Returns the statistics of all tables read from, keyed by table name.
+     */
+    public Map<String, BulkTableStatistics> tableStatistics() {
+        return tableStatistics;
+    }
+
+    /**
+     * Returns the time taken by the operation.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Map<String, List<Map<String, AttributeValue>>> unprocessedKeys = Collections.emptyMap();
+        private Map<String, BulkTableStatistics> tableStatistics = Collections.emptyMap();
+        private Duration duration;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the keys that remained unprocessed, by table name.
+         *
+         * @param unprocessedKeys the map of table to unprocessed keys
+         * @return a builder of this type
+         */
+        public Builder unprocessedKeys(Map<String, List<Map<String, AttributeValue>>> unprocessedKeys) {
+            this.unprocessedKeys = unprocessedKeys;
+            return this;
+        }
+
+        /**
+         * Sets the statistics of the tables read from, by table name.
+         *
+         * @param tableStatistics the statistics of each table
+         * @return a builder of this type
+         */
+        public Builder tableStatistics(Map<String, BulkTableStatistics> tableStatistics) {
+            this.tableStatistics = tableStatistics;
+            return this;
+        }
+
+        /**
+         * Sets the time taken by the operation.
+         *
+         * @param duration the duration of the operation
+         * @return a builder of this type
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkGetResult build() {
+            return new BulkGetResult(this);
+        }
+    }
+}
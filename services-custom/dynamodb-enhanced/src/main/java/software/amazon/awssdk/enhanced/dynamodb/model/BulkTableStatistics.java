@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Describes the work done on one table by a bulk operation, such as
+ * {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkTableStatistics {
+    private final String tableName;
+    private final long itemCount;
+    private final long retriedItemCount;
+    private final double consumedCapacityUnits;
+    private final Duration duration;
+
+    private BulkTableStatistics(Builder builder) {
+        this.tableName = builder.tableName;
+        this.itemCount = builder.itemCount;
+        this.retriedItemCount = builder.retriedItemCount;
+        this.consumedCapacityUnits = builder.consumedCapacityUnits;
+        this.duration = builder.duration;
+    }
+
+    /**
+     * Creates a newly initialized builder for a statistics object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The name of the table.
+     */
+    public String tableName() {
+        return tableName;
+    }
+
+    /**
+     * The number of items that were written to, or requested from, the table. Items that remained unprocessed after all
+     * retries are not counted.
+     */
+    public long itemCount() {
+        return itemCount;
+    }
+
+    /**
+     * The number of times an item was resubmitted because DynamoDB returned it as unprocessed.
+     */
+    public long retriedItemCount() {
+        return retriedItemCount;
+    }
+
+    /**
+     * The total capacity units consumed on the table, as reported by DynamoDB.
+     */
+    public double consumedCapacityUnits() {
+        return consumedCapacityUnits;
+    }
+
+    /**
+     * The number of items processed per second over the duration of the bulk operation.
+     */
+    public double itemsPerSecond() {
+        if (duration == null || duration.isZero()) {
+            return 0;
+        }
+        return itemCount * 1_000_000_000d / duration.toNanos();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkTableStatistics that = (BulkTableStatistics) o;
+
+        return itemCount == that.itemCount
+               && retriedItemCount == that.retriedItemCount
+               && Double.compare(that.consumedCapacityUnits, consumedCapacityUnits) == 0
+               && Objects.equals(tableName, that.tableName)
+               && Objects.equals(duration, that.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(tableName);
+        result = 31 * result + Long.hashCode(itemCount);
+        result = 31 * result + Long.hashCode(retriedItemCount);
+        result = 31 * result + Double.hashCode(consumedCapacityUnits);
+        result = 31 * result + Objects.hashCode(duration);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkTableStatistics")
+                       .add("tableName", tableName)
+                       .add("itemCount", itemCount)
+                       .add("retriedItemCount", retriedItemCount)
+                       .add("consumedCapacityUnits", consumedCapacityUnits)
+                       .add("itemsPerSecond", itemsPerSecond())
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a statistics object with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private String tableName;
+        private long itemCount;
+        private long retriedItemCount;
+        private double consumedCapacityUnits;
+        private Duration duration;
+
+        private Builder() {
+        }
+
+        public Builder tableName(String tableName) {
+            this.tableName = tableName;
+            return this;
+        }
+
+        public Builder itemCount(long itemCount) {
+            this.itemCount = itemCount;
+            return this;
+        }
+
+        public Builder retriedItemCount(long retriedItemCount) {
+            this.retriedItemCount = retriedItemCount;
+            return this;
+        }
+
+        public Builder consumedCapacityUnits(double consumedCapacityUnits) {
+            this.consumedCapacityUnits = consumedCapacityUnits;
+            return this;
+        }
+
+        /**
+         * The duration of the bulk operation, used to compute {@link BulkTableStatistics#itemsPerSecond()}.
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkTableStatistics build() {
+            return new BulkTableStatistics(this);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used for the bulkWriteItem() operation (such as
+ * {@link DynamoDbEnhancedClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}).
+ * <p>
+ * Unlike a {@link BatchWriteItemEnhancedRequest}, a bulk request is not limited in size. It contains any number of
+ * {@link TableWrites}, each pairing a table with the items to put in it or the keys to delete from it. The items and keys are
+ * read lazily from the supplied {@link Iterable}s while the operation runs, so they can be produced as a stream rather than
+ * held in memory.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItemEnhancedRequest {
+    private final List<TableWrites<?>> tableWrites;
+    private final Integer parallelism;
+    private final Executor executor;
+    private final Integer maxUnprocessedRetries;
+    private final BackoffStrategy backoffStrategy;
+
+    private BulkWriteItemEnhancedRequest(Builder builder) {
+        this.tableWrites = Collections.unmodifiableList(new ArrayList<>(builder.tableWrites));
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.maxUnprocessedRetries = builder.maxUnprocessedRetries;
+        this.backoffStrategy = builder.backoffStrategy;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder().parallelism(parallelism)
+                                       .executor(executor)
+                                       .maxUnprocessedRetries(maxUnprocessedRetries)
+                                       .backoffStrategy(backoffStrategy);
+        builder.tableWrites.addAll(tableWrites);
+        return builder;
+    }
+
+    /**
+     * Returns the writes of this request, in the order they were added.
+     */
+    public List<TableWrites<?>> tableWrites() {
+        return tableWrites;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls in flight at a time, or null if not set.
+     */
+    public Integer parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the executor that runs the BatchWriteItem calls, or null if not set.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the maximum number of times unprocessed items are resubmitted, or null if not set.
+     */
+    public Integer maxUnprocessedRetries() {
+        return maxUnprocessedRetries;
+    }
+
+    /**
+     * Returns the strategy that computes the delay before unprocessed items are resubmitted, or null if not set.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteItemEnhancedRequest that = (BulkWriteItemEnhancedRequest) o;
+
+        if (!tableWrites.equals(that.tableWrites)) {
+            return false;
+        }
+        if (parallelism != null ? !parallelism.equals(that.parallelism) : that.parallelism != null) {
+            return false;
+        }
+        if (executor != null ? !executor.equals(that.executor) : that.executor != null) {
+            return false;
+        }
+        if (maxUnprocessedRetries != null ? !maxUnprocessedRetries.equals(that.maxUnprocessedRetries)
+                                          : that.maxUnprocessedRetries != null) {
+            return false;
+        }
+        return backoffStrategy != null ? backoffStrategy.equals(that.backoffStrategy) : that.backoffStrategy == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = tableWrites.hashCode();
+        result = 31 * result + (parallelism != null ? parallelism.hashCode() : 0);
+        result = 31 * result + (executor != null ? executor.hashCode() : 0);
+        result = 31 * result + (maxUnprocessedRetries != null ? maxUnprocessedRetries.hashCode() : 0);
+        result = 31 * result + (backoffStrategy != null ? backoffStrategy.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * The items to put in, or the keys to delete from, one table of a {@link BulkWriteItemEnhancedRequest}.
+     *
+     * @param <T> the type of the table items
+     */
+    @ThreadSafe
+    public static final class TableWrites<T> {
+        private final MappedTableResource<T> mappedTableResource;
+        private final Iterable<? extends T> putItems;
+        private final Iterable<Key> deleteKeys;
+
+        private TableWrites(MappedTableResource<T> mappedTableResource, Iterable<? extends T> putItems,
+                            Iterable<Key> deleteKeys) {
+            this.mappedTableResource = Validate.paramNotNull(mappedTableResource, "mappedTableResource");
+            this.putItems = putItems;
+            this.deleteKeys = deleteKeys;
+        }
+
+        /**
+         * Returns the table written to.
+         */
+        public MappedTableResource<T> mappedTableResource() {
+            return mappedTableResource;
+        }
+
+        /**
+         * Returns the items to put in the table, or null if these writes are deletes.
+         */
+        public Iterable<? extends T> putItems() {
+            return putItems;
+        }
+
+        /**
+         * Returns the keys of the items to delete from the table, or null if these writes are puts.
+         */
+        public Iterable<Key> deleteKeys() {
+            return deleteKeys;
+        }
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private final List<TableWrites<?>> tableWrites = new ArrayList<>();
+        private Integer parallelism;
+        private Executor executor;
+        private Integer maxUnprocessedRetries;
+        private BackoffStrategy backoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds items to put in a table. The items are read from the iterable while the operation runs, after the items of
+         * any previously added writes.
+         *
+         * @param mappedTableResource the table to put the items in
+         * @param items the items to put
+         * @param <T> the type of the table items
+         * @return a builder of this type
+         */
+        public <T> Builder addPutItems(MappedTableResource<T> mappedTableResource, Iterable<? extends T> items) {
+            tableWrites.add(new TableWrites<>(mappedTableResource, Validate.paramNotNull(items, "items"), null));
+            return this;
+        }
+
+        /**
+         * Adds keys of items to delete from a table. The keys are read from the iterable while the operation runs, after the
+         * items of any previously added writes.
+         *
+         * @param mappedTableResource the table to delete the items from
+         * @param keys the keys of the items to delete
+         * @return a builder of this type
+         */
+        public Builder addDeleteItems(MappedTableResource<?> mappedTableResource, Iterable<Key> keys) {
+            tableWrites.add(new TableWrites<>(mappedTableResource, null, Validate.paramNotNull(keys, "keys")));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of BatchWriteItem calls in flight at a time. Reading more items from the supplied iterables
+         * blocks while this many calls are in flight. Defaults to 1, in which case each batch is written by the calling
+         * thread before the next one is read.
+         * <p>
+         * With a parallelism greater than 1, writes to the same key may be applied in any order if they are in different
+         * batches.
+         *
+         * @param parallelism the maximum number of concurrent BatchWriteItem calls
+         * @return a builder of this type
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the executor that runs the BatchWriteItem calls when the parallelism is greater than 1. If not set, a thread
+         * pool of the size of the parallelism is created for the operation and shut down when it completes.
+         *
+         * @param executor the executor that runs the BatchWriteItem calls
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times items returned as unprocessed by DynamoDB are resubmitted. Items still unprocessed
+         * after the last retry are returned in the {@link BulkWriteResult}. Defaults to 10.
+         *
+         * @param maxUnprocessedRetries the maximum number of retries of unprocessed items
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedRetries(Integer maxUnprocessedRetries) {
+            this.maxUnprocessedRetries = maxUnprocessedRetries;
+            return this;
+        }
+
+        /**
+         * Sets the strategy that computes the delay before unprocessed items are resubmitted. Defaults to
+         * {@link BackoffStrategy#defaultThrottlingStrategy()}.
+         *
+         * @param backoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        public BulkWriteItemEnhancedRequest build() {
+            return new BulkWriteItemEnhancedRequest(this);
+        }
+    }
+}
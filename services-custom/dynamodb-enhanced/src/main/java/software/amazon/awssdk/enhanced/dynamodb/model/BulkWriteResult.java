@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Defines the result of the bulkWriteItem() operation, such as
+ * {@link DynamoDbEnhancedClient#bulkWriteItem(BulkWriteItemEnhancedRequest)}. The result describes any items that remained
+ * unprocessed after all retries, and the work done on each table.
+ * <ul>
+ *     <li>Use the {@link #unprocessedPutItemsForTable(MappedTableResource)} and
+ *     {@link #unprocessedDeleteItemsForTable(MappedTableResource)} methods once for each table present in the request to get
+ *     any unprocessed items of that table.</li>
+ *     <li>Use the {@link #statisticsForTable(MappedTableResource)} method to get the number of items written to a table, the
+ *     capacity consumed and the throughput achieved.</li>
+ * </ul>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult {
+    private final BatchWriteResult unprocessedItems;
+    private final Map<String, BulkTableStatistics> tableStatistics;
+    private final Duration duration;
+
+    private BulkWriteResult(Builder builder) {
+        this.unprocessedItems = BatchWriteResult.builder().unprocessedRequests(builder.unprocessedRequests).build();
+        this.tableStatistics = Collections.unmodifiableMap(new HashMap<>(builder.tableStatistics));
+        this.duration = builder.duration;
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Retrieve the items of put actions on the supplied table that remained unprocessed after all retries.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for
+     * @param <T> the type of the table items
+     * @return a list of items
+     */
+    public <T> List<T> unprocessedPutItemsForTable(MappedTableResource<T> mappedTable) {
+        return unprocessedItems.unprocessedPutItemsForTable(mappedTable);
+    }
+
+    /**
+     * Retrieve the keys of delete actions on the supplied table that remained unprocessed after all retries.
+     *
+     * @param mappedTable the table to retrieve unprocessed keys for
+     * @return a list of keys
+     */
+    public List<Key> unprocessedDeleteItemsForTable(MappedTableResource<?> mappedTable) {
+        return unprocessedItems.unprocessedDeleteItemsForTable(mappedTable);
+    }
+
+    /**
+     * Retrieve the statistics of the supplied table, or null if no items were written to it.
+     *
+     * @param mappedTable the table to retrieve statistics for
+     * @return the statistics of the table
+     */
+    public BulkTableStatistics statisticsForTable(MappedTableResource<?> mappedTable) {
+        return tableStatistics.get(mappedTable.tableName());
+    }
+
+    /**
+     * Returns the statistics of all tables written to, keyed by table name.
+     */
+    public Map<String, BulkTableStatistics> tableStatistics() {
+        return tableStatistics;
+    }
+
+    /**
+     * Returns the time taken by the operation.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Map<String, List<WriteRequest>> unprocessedRequests = Collections.emptyMap();
+        private Map<String, BulkTableStatistics> tableStatistics = Collections.emptyMap();
+        private Duration duration;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the requests that remained unprocessed, by table name.
+         *
+         * @param unprocessedRequests the map of table to write request representing the unprocessed requests
+         * @return a builder of this type
+         */
+        public Builder unprocessedRequests(Map<String, List<WriteRequest>> unprocessedRequests) {
+            this.unprocessedRequests = unprocessedRequests;
+            return this;
+        }
+
+        /**
+         * Sets the statistics of the tables written to, by table name.
+         *
+         * @param tableStatistics the statistics of each table
+         * @return a builder of this type
+         */
+        public Builder tableStatistics(Map<String, BulkTableStatistics> tableStatistics) {
+            this.tableStatistics = tableStatistics;
+            return this;
+        }
+
+        /**
+         * Sets the time taken by the operation.
+         *
+         * @param duration the duration of the operation
+         * @return a builder of this type
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public BulkWriteResult build() {
+            return new BulkWriteResult(this);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.extensions.ItemCacheExtension;
 import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
 
@@ -39,11 +40,13 @@ public final class GetItemEnhancedRequest {
     private final Key key;
     private final Boolean consistentRead;
     private final String returnConsumedCapacity;
+    private final Boolean bypassCache;
 
     private GetItemEnhancedRequest(Builder builder) {
         this.key = builder.key;
         this.consistentRead = builder.consistentRead;
         this.returnConsumedCapacity = builder.returnConsumedCapacity;
+        this.bypassCache = builder.bypassCache;
     }
 
     /**
@@ -58,7 +61,10 @@ public final class GetItemEnhancedRequest {
      * @return a builder with all existing values set
      */
     public Builder toBuilder() {
-        return builder().key(key).consistentRead(consistentRead).returnConsumedCapacity(returnConsumedCapacity);
+        return builder().key(key)
+                        .consistentRead(consistentRead)
+                        .returnConsumedCapacity(returnConsumedCapacity)
+                        .bypassCache(bypassCache);
     }
 
     /**
@@ -94,6 +100,14 @@ public final class GetItemEnhancedRequest {
         return returnConsumedCapacity;
     }
 
+    /**
+     * @return whether or not this request will always read the item from the database, even if an extension such as
+     * {@link ItemCacheExtension} could supply it
+     */
+    public Boolean bypassCache() {
+        return bypassCache;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -107,7 +121,8 @@ public final class GetItemEnhancedRequest {
 
         return Objects.equals(key, that.key)
                && Objects.equals(consistentRead, that.consistentRead)
-               && Objects.equals(returnConsumedCapacity, that.returnConsumedCapacity);
+               && Objects.equals(returnConsumedCapacity, that.returnConsumedCapacity)
+               && Objects.equals(bypassCache, that.bypassCache);
     }
 
     @Override
@@ -115,6 +130,7 @@ public final class GetItemEnhancedRequest {
         int result = key != null ? key.hashCode() : 0;
         result = 31 * result + (consistentRead != null ? consistentRead.hashCode() : 0);
         result = 31 * result + (returnConsumedCapacity != null ? returnConsumedCapacity.hashCode() : 0);
+        result = 31 * result + (bypassCache != null ? bypassCache.hashCode() : 0);
         return result;
     }
 
@@ -128,6 +144,7 @@ public final class GetItemEnhancedRequest {
         private Key key;
         private Boolean consistentRead;
         private String returnConsumedCapacity;
+        private Boolean bypassCache;
 
         private Builder() {
         }
@@ -190,6 +207,22 @@ public final class GetItemEnhancedRequest {
             return this;
         }
 
+        /**
+         * Determines whether the item must be read from the database: If set to true, the item is read from the database
+         * even if an extension such as {@link ItemCacheExtension} holds a copy of it. The item that is read still updates
+         * the copy held by the extension.
+         * <p>
+         * By default, the value of this property is set to <em>false</em>. Strongly consistent reads are always read from
+         * the database.
+         *
+         * @param bypassCache whether to always read the item from the database
+         * @return a builder of this type
+         */
+        public Builder bypassCache(Boolean bypassCache) {
+            this.bypassCache = bypassCache;
+            return this;
+        }
+
         public GetItemEnhancedRequest build() {
             return new GetItemEnhancedRequest(this);
         }
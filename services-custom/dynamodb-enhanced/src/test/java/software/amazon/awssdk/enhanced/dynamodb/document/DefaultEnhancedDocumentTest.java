@@ -16,11 +16,20 @@
 package software.amazon.awssdk.enhanced.dynamodb.document;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider.defaultProvider;
 import static software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocumentTestData.defaultDocBuilder;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute.JsonItemAttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.internal.document.DefaultEnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.document.JsonStringFormatHelper;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
 class DefaultEnhancedDocumentTest {
@@ -63,4 +72,78 @@ class DefaultEnhancedDocumentTest {
         DefaultEnhancedDocument document = (DefaultEnhancedDocument) builder.build();
         assertThat(document.isNull("nullAttribute")).isTrue();
     }
+
+    @Test
+    void get_attributeWithoutConverter_doesNotAffectOtherAttributes() {
+        EnhancedDocument document = DefaultEnhancedDocument.builder()
+                                                           .attributeConverterProviders(defaultProvider())
+                                                           .putString("stringKey", "stringValue")
+                                                           .put("customKey", new CustomValue(), CustomValue.class)
+                                                           .build();
+
+        assertThat(document.getString("stringKey")).isEqualTo("stringValue");
+        assertThatThrownBy(() -> document.get("customKey", CustomValue.class)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void get_immutableTypeReadTwice_convertsAttributeOnce() {
+        EnhancedDocument document = DefaultEnhancedDocument.builder()
+                                                           .attributeConverterProviders(defaultProvider())
+                                                           .attributeValueMap(Collections.singletonMap(
+                                                               "stringKey", AttributeValue.fromS("stringValue")))
+                                                           .build();
+
+        String first = document.getString("stringKey");
+
+        assertThat(document.getString("stringKey")).isSameAs(first);
+        assertThat(document.get("stringKey", EnhancedType.of(String.class))).isSameAs(first);
+    }
+
+    @Test
+    void get_listReadTwice_returnsNewInstances() {
+        EnhancedDocument document = DefaultEnhancedDocument.builder()
+                                                           .attributeConverterProviders(defaultProvider())
+                                                           .attributeValueMap(Collections.singletonMap(
+                                                               "listKey", AttributeValue.fromL(Arrays.asList(
+                                                                   AttributeValue.fromS("one"), AttributeValue.fromS("two")))))
+                                                           .build();
+
+        assertThat(document.getList("listKey", EnhancedType.of(String.class)))
+            .isEqualTo(document.getList("listKey", EnhancedType.of(String.class)))
+            .isNotSameAs(document.getList("listKey", EnhancedType.of(String.class)));
+    }
+
+    @Test
+    void toJson_allAttributeTypes_matchesJsonNodeConversion() {
+        Map<String, AttributeValue> nested = new LinkedHashMap<>();
+        nested.put("nestedNull", AttributeValue.fromNul(true));
+        nested.put("nestedList", AttributeValue.fromL(Arrays.asList(AttributeValue.fromN("1"), AttributeValue.fromNul(true),
+                                                                    AttributeValue.fromS("two"))));
+        nested.put("emptyMap", AttributeValue.fromM(Collections.emptyMap()));
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put("string", AttributeValue.fromS("line\nwith \"quotes\""));
+        item.put("number", AttributeValue.fromN("12.50"));
+        item.put("boolean", AttributeValue.fromBool(false));
+        item.put("null", AttributeValue.fromNul(true));
+        item.put("bytes", AttributeValue.fromB(SdkBytes.fromUtf8String("bytes")));
+        item.put("stringSet", AttributeValue.fromSs(Arrays.asList("a", "b\\c")));
+        item.put("numberSet", AttributeValue.fromNs(Arrays.asList("1", "2")));
+        item.put("bytesSet", AttributeValue.fromBs(Collections.singletonList(SdkBytes.fromUtf8String("b"))));
+        item.put("emptyList", AttributeValue.fromL(Collections.emptyList()));
+        item.put("map", AttributeValue.fromM(nested));
+
+        EnhancedDocument document = DefaultEnhancedDocument.builder()
+                                                           .attributeConverterProviders(defaultProvider())
+                                                           .attributeValueMap(item)
+                                                           .build();
+
+        String expected = JsonStringFormatHelper.stringValue(
+            JsonItemAttributeConverter.create().transformTo(AttributeValue.fromM(item)));
+        assertThat(document.toJson()).isEqualTo(expected);
+        assertThat(document.getJson("map")).isEqualTo(
+            JsonStringFormatHelper.stringValue(JsonItemAttributeConverter.create().transformTo(item.get("map"))));
+    }
+
+    private static final class CustomValue {
+    }
 }
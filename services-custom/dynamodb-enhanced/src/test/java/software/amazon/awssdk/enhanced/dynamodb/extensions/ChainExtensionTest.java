@@ -253,6 +253,23 @@ public class ChainExtensionTest {
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    public void beforeRead_multipleExtensions_returnsFirstSuppliedItem() {
+        ChainExtension extension = ChainExtension.create(mockExtension1, mockExtension2, mockExtension3);
+        ReadModification readModification1 = ReadModification.builder().build();
+        ReadModification readModification2 = ReadModification.builder().transformedItem(fakeItems.get(1)).build();
+        when(mockExtension1.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class))).thenReturn(readModification1);
+        when(mockExtension2.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class))).thenReturn(readModification2);
+
+        ReadModification result = extension.beforeRead(getReadExtensionContext(0));
+
+        assertThat(result.transformedItem(), is(fakeItems.get(1)));
+        InOrder inOrder = Mockito.inOrder(mockExtension1, mockExtension2, mockExtension3);
+        inOrder.verify(mockExtension1).beforeRead(getReadExtensionContext(0));
+        inOrder.verify(mockExtension2).beforeRead(getReadExtensionContext(0));
+        inOrder.verifyNoMoreInteractions();
+    }
+
     @Test
     public void afterRead_multipleExtensions_noTransformations() {
         ChainExtension extension = ChainExtension.create(mockExtension1, mockExtension2, mockExtension3);
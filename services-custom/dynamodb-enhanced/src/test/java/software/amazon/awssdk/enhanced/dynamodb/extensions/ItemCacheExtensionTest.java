@@ -0,0 +1,321 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.extensions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.logging.log4j.Level;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.internal.extensions.DefaultDynamoDbExtensionContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.OperationName;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.testutils.LogCaptor;
+
+public class ItemCacheExtensionTest {
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final OperationContext PRIMARY_CONTEXT =
+        DefaultOperationContext.create("table-name", TableMetadata.primaryIndexName());
+    private static final OperationContext OTHER_TABLE_CONTEXT =
+        DefaultOperationContext.create("other-table-name", TableMetadata.primaryIndexName());
+
+    private MutableClock clock;
+    private RecordingPublisher publisher;
+    private ItemCacheExtension extension;
+
+    @Before
+    public void setUp() {
+        clock = new MutableClock();
+        publisher = new RecordingPublisher();
+        extension = ItemCacheExtension.builder()
+                                      .maxSize(2)
+                                      .timeToLive(TTL)
+                                      .metricPublisher(publisher)
+                                      .baseClock(clock)
+                                      .build();
+    }
+
+    @Test
+    public void beforeRead_itemNotCached_returnsEmptyModification() {
+        ReadModification result = extension.beforeRead(beforeRead(key("id1")));
+
+        assertThat(result.transformedItem()).isNull();
+        assertThat(extension.missCount()).isEqualTo(1);
+        assertThat(extension.hitCount()).isZero();
+    }
+
+    @Test
+    public void beforeRead_itemReadByGetItem_returnsCachedItem() {
+        Map<String, AttributeValue> item = item("id1", 1);
+        extension.afterRead(afterRead(item, OperationName.GET_ITEM));
+
+        ReadModification result = extension.beforeRead(beforeRead(key("id1")));
+
+        assertThat(result.transformedItem()).isEqualTo(item);
+        assertThat(extension.hitCount()).isEqualTo(1);
+        assertThat(extension.missCount()).isZero();
+    }
+
+    @Test
+    public void beforeRead_itemReadFromOtherTable_returnsEmptyModification() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.BATCH_GET_ITEM));
+
+        ReadModification result = extension.beforeRead(DefaultDynamoDbExtensionContext.builder()
+                                                                                      .items(key("id1"))
+                                                                                      .tableMetadata(FakeItem.getTableMetadata())
+                                                                                      .operationContext(OTHER_TABLE_CONTEXT)
+                                                                                      .operationName(OperationName.GET_ITEM)
+                                                                                      .build());
+
+        assertThat(result.transformedItem()).isNull();
+    }
+
+    @Test
+    public void beforeRead_itemExpired_returnsEmptyModificationAndCountsEviction() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(extension.beforeRead(beforeRead(key("id1"))).transformedItem()).isNotNull();
+
+        // Serving the item from the cache must not extend its expiry
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        clock.advance(Duration.ofSeconds(1));
+
+        assertThat(extension.beforeRead(beforeRead(key("id1"))).transformedItem()).isNull();
+        assertThat(extension.evictionCount()).isEqualTo(1);
+        assertThat(extension.size()).isZero();
+    }
+
+    @Test
+    public void afterRead_itemReturnedByUpdateItem_replacesCachedItem() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        extension.afterRead(afterRead(item("id1", 2), OperationName.UPDATE_ITEM));
+
+        assertThat(extension.beforeRead(beforeRead(key("id1"))).transformedItem()).isEqualTo(item("id1", 2));
+    }
+
+    @Test
+    public void afterRead_itemReturnedByDeleteItem_removesCachedItem() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        extension.afterRead(afterRead(item("id1", 1), OperationName.DELETE_ITEM));
+
+        assertThat(extension.beforeRead(beforeRead(key("id1"))).transformedItem()).isNull();
+    }
+
+    @Test
+    public void afterRead_itemWithoutOperationName_isNotCached() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.NONE));
+
+        assertThat(extension.size()).isZero();
+    }
+
+    @Test
+    public void afterRead_cacheFull_evictsLeastRecentlyUsedItem() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        extension.afterRead(afterRead(item("id2", 1), OperationName.GET_ITEM));
+        extension.beforeRead(beforeRead(key("id1")));
+        extension.afterRead(afterRead(item("id3", 1), OperationName.GET_ITEM));
+
+        assertThat(extension.size()).isEqualTo(2);
+        assertThat(extension.evictionCount()).isEqualTo(1);
+        assertThat(extension.beforeRead(beforeRead(key("id1"))).transformedItem()).isNotNull();
+        assertThat(extension.beforeRead(beforeRead(key("id2"))).transformedItem()).isNull();
+        assertThat(extension.beforeRead(beforeRead(key("id3"))).transformedItem()).isNotNull();
+    }
+
+    @Test
+    public void beforeWrite_cachedItem_removesCachedItemWithoutModifyingWrite() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+
+        WriteModification result = extension.beforeWrite(DefaultDynamoDbExtensionContext.builder()
+                                                                                        .items(item("id1", 2))
+                                                                                        .tableMetadata(FakeItem.getTableMetadata())
+                                                                                        .operationContext(PRIMARY_CONTEXT)
+                                                                                        .operationName(OperationName.PUT_ITEM)
+                                                                                        .build());
+
+        assertThat(result).isEqualTo(WriteModification.builder().build());
+        assertThat(extension.size()).isZero();
+    }
+
+    @Test
+    public void invalidateAll_removesAllItems() {
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        extension.afterRead(afterRead(item("id2", 1), OperationName.GET_ITEM));
+
+        extension.invalidateAll();
+
+        assertThat(extension.size()).isZero();
+    }
+
+    @Test
+    public void metricPublisher_publishesCountsPerTableOncePerInterval() {
+        extension.beforeRead(beforeRead(key("id1")));
+        extension.afterRead(afterRead(item("id1", 1), OperationName.GET_ITEM));
+        extension.beforeRead(beforeRead(key("id1")));
+        extension.afterRead(afterRead(item("id2", 1), OperationName.GET_ITEM));
+        extension.afterRead(afterRead(item("id3", 1), OperationName.GET_ITEM));
+        extension.beforeRead(beforeRead(OTHER_TABLE_CONTEXT, key("id1")));
+
+        assertThat(publisher.published).isEmpty();
+
+        clock.advance(Duration.ofMinutes(1));
+        extension.beforeRead(beforeRead(key("id3")));
+        extension.beforeRead(beforeRead(key("id3")));
+
+        assertThat(publisher.published).hasSize(2);
+        assertThat(publisher.published).allSatisfy(
+            collection -> assertThat(collection.name()).isEqualTo(ItemCacheMetric.COLLECTION_NAME));
+        MetricCollection table = published("table-name");
+        assertThat(table.metricValues(ItemCacheMetric.HIT_COUNT)).containsExactly(2L);
+        assertThat(table.metricValues(ItemCacheMetric.MISS_COUNT)).containsExactly(1L);
+        assertThat(table.metricValues(ItemCacheMetric.EVICTION_COUNT)).containsExactly(1L);
+        MetricCollection otherTable = published("other-table-name");
+        assertThat(otherTable.metricValues(ItemCacheMetric.HIT_COUNT)).containsExactly(0L);
+        assertThat(otherTable.metricValues(ItemCacheMetric.MISS_COUNT)).containsExactly(1L);
+
+        publisher.published.clear();
+        clock.advance(Duration.ofMinutes(1));
+        extension.beforeRead(beforeRead(key("id1")));
+
+        // The read published with the previous counts is counted in this interval, and the evicted item is a miss
+        assertThat(publisher.published).hasSize(1);
+        assertThat(publisher.published.get(0).metricValues(ItemCacheMetric.HIT_COUNT)).containsExactly(1L);
+        assertThat(publisher.published.get(0).metricValues(ItemCacheMetric.MISS_COUNT)).containsExactly(1L);
+        assertThat(publisher.published.get(0).metricValues(ItemCacheMetric.EVICTION_COUNT)).containsExactly(0L);
+    }
+
+    @Test
+    public void beforeRead_sameTableNameWithDifferentPrimaryKeys_logsWarningOnce() {
+        Map<String, AttributeValue> otherKey = new HashMap<>();
+        otherKey.put("other-id", AttributeValue.builder().s("id1").build());
+        TableMetadata otherMetadata = mock(TableMetadata.class);
+        when(otherMetadata.primaryKeys()).thenReturn(Collections.singletonList("other-id"));
+
+        try (LogCaptor logCaptor = LogCaptor.create(Level.WARN)) {
+            extension.beforeRead(beforeRead(key("id1")));
+            for (int i = 0; i < 2; i++) {
+                extension.beforeRead(DefaultDynamoDbExtensionContext.builder()
+                                                                    .items(otherKey)
+                                                                    .tableMetadata(otherMetadata)
+                                                                    .operationContext(PRIMARY_CONTEXT)
+                                                                    .operationName(OperationName.GET_ITEM)
+                                                                    .build());
+            }
+
+            assertThat(logCaptor.loggedEvents())
+                .filteredOn(event -> event.getLevel() == Level.WARN)
+                .hasSize(1)
+                .allSatisfy(event -> assertThat(event.getMessage().getFormattedMessage()).contains("table-name"));
+        }
+    }
+
+    private MetricCollection published(String tableName) {
+        return publisher.published.stream()
+                                  .filter(c -> c.metricValues(ItemCacheMetric.TABLE_NAME).contains(tableName))
+                                  .findFirst()
+                                  .orElseThrow(AssertionError::new);
+    }
+
+    private static DefaultDynamoDbExtensionContext beforeRead(Map<String, AttributeValue> key) {
+        return beforeRead(PRIMARY_CONTEXT, key);
+    }
+
+    private static DefaultDynamoDbExtensionContext beforeRead(OperationContext operationContext,
+                                                              Map<String, AttributeValue> key) {
+        return DefaultDynamoDbExtensionContext.builder()
+                                              .items(key)
+                                              .tableMetadata(FakeItem.getTableMetadata())
+                                              .operationContext(operationContext)
+                                              .operationName(OperationName.GET_ITEM)
+                                              .build();
+    }
+
+    private static DefaultDynamoDbExtensionContext afterRead(Map<String, AttributeValue> item, OperationName operationName) {
+        return DefaultDynamoDbExtensionContext.builder()
+                                              .items(item)
+                                              .tableSchema(FakeItem.getTableSchema())
+                                              .tableMetadata(FakeItem.getTableMetadata())
+                                              .operationContext(PRIMARY_CONTEXT)
+                                              .operationName(operationName)
+                                              .build();
+    }
+
+    private static Map<String, AttributeValue> key(String id) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        key.put("id", AttributeValue.builder().s(id).build());
+        return key;
+    }
+
+    private static Map<String, AttributeValue> item(String id, int version) {
+        Map<String, AttributeValue> item = key(id);
+        item.put("version", AttributeValue.builder().n(Integer.toString(version)).build());
+        return item;
+    }
+
+    private static final class RecordingPublisher implements MetricPublisher {
+        private final List<MetricCollection> published = new ArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            published.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
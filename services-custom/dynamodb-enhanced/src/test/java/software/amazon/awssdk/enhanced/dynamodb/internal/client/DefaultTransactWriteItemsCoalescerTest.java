@@ -0,0 +1,237 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TransactWriteItemsCoalescer;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class DefaultTransactWriteItemsCoalescerTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final Duration LONG_DELAY = Duration.ofHours(1);
+
+    private DynamoDbAsyncClient mockDynamoDbClient;
+    private DynamoDbAsyncTable<FakeItem> table;
+
+    @BeforeEach
+    void setUp() {
+        mockDynamoDbClient = mock(DynamoDbAsyncClient.class);
+        when(mockDynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(TransactWriteItemsResponse.builder().build()));
+        table = DynamoDbEnhancedAsyncClient.builder()
+                                           .dynamoDbClient(mockDynamoDbClient)
+                                           .extensions()
+                                           .build()
+                                           .table(TABLE_NAME, FakeItem.getTableSchema());
+    }
+
+    @Test
+    void transactWriteItems_withinBatchDelay_combinesTransactions() {
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        CompletableFuture<Void> first = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        CompletableFuture<Void> second = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2"))
+                                                                            .addDeleteItem(table, key("id3")));
+        verify(mockDynamoDbClient, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+
+        coalescer.close();
+
+        assertThat(sentRequests(1).get(0).transactItems()).hasSize(3);
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    void transactWriteItems_batchDelayElapses_sendsTransactions() {
+        TransactWriteItemsCoalescer coalescer = coalescer(Duration.ZERO, 100);
+
+        coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1"))).join();
+
+        assertThat(sentRequests(1).get(0).transactItems()).hasSize(1);
+        coalescer.close();
+    }
+
+    @Test
+    void transactWriteItems_maxActionsReached_sendsWithoutWaiting() {
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 3);
+
+        CompletableFuture<Void> first = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        CompletableFuture<Void> second = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2"))
+                                                                            .addPutItem(table, item("id3")));
+
+        assertThat(sentRequests(1).get(0).transactItems()).hasSize(3);
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        coalescer.close();
+    }
+
+    @Test
+    void transactWriteItems_sameItem_sendsSeparateTransactions() {
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        coalescer.transactWriteItems(r -> r.addDeleteItem(table, key("id1")));
+        coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2")));
+        coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        coalescer.close();
+
+        List<TransactWriteItemsRequest> requests = sentRequests(2);
+        assertThat(requests.get(0).transactItems()).hasSize(2);
+        assertThat(requests.get(1).transactItems()).hasSize(1);
+        assertThat(requests.get(1).transactItems().get(0).put().item().get("id").s()).isEqualTo("id1");
+    }
+
+    @Test
+    void transactWriteItems_clientRequestToken_sendsTransactionAlone() {
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")).clientRequestToken("token")).join();
+
+        assertThat(sentRequests(1).get(0).clientRequestToken()).isEqualTo("token");
+        coalescer.close();
+    }
+
+    @Test
+    void transactWriteItems_combinedTransactionCancelled_failsCausingTransactionAndResubmitsOthers() {
+        TransactionCanceledException cancelled =
+            TransactionCanceledException.builder()
+                                        .cancellationReasons(CancellationReason.builder().code("None").build(),
+                                                             CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                                                             CancellationReason.builder().code("None").build())
+                                        .build();
+        when(mockDynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(cancelled))
+            .thenReturn(CompletableFuture.completedFuture(TransactWriteItemsResponse.builder().build()));
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        CompletableFuture<Void> first = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        CompletableFuture<Void> second = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2"))
+                                                                            .addPutItem(table, item("id3")));
+        coalescer.close();
+
+        assertThat(first).isCompleted();
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+                                        .satisfies(e -> {
+                                            TransactionCanceledException cause = (TransactionCanceledException) e.getCause();
+                                            assertThat(cause.cancellationReasons()).extracting(CancellationReason::code)
+                                                                                   .containsExactly("ConditionalCheckFailed",
+                                                                                                    "None");
+                                        });
+        List<TransactWriteItemsRequest> requests = sentRequests(2);
+        assertThat(requests.get(1).transactItems()).hasSize(1);
+    }
+
+    @Test
+    void transactWriteItems_combinedTransactionInvalid_sendsTransactionsOneByOne() {
+        DynamoDbException invalid =
+            (DynamoDbException) DynamoDbException.builder()
+                                                 .awsErrorDetails(AwsErrorDetails.builder()
+                                                                                 .errorCode("ValidationException")
+                                                                                 .build())
+                                                 .build();
+        when(mockDynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(invalid))
+            .thenReturn(CompletableFuture.completedFuture(TransactWriteItemsResponse.builder().build()));
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        CompletableFuture<Void> first = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        CompletableFuture<Void> second = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2")));
+        coalescer.close();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        List<TransactWriteItemsRequest> requests = sentRequests(3);
+        assertThat(requests.get(1).transactItems()).hasSize(1);
+        assertThat(requests.get(2).transactItems()).hasSize(1);
+    }
+
+    @Test
+    void transactWriteItems_otherFailure_failsAllTransactions() {
+        RuntimeException failure = new RuntimeException("failure");
+        when(mockDynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(failure));
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+
+        CompletableFuture<Void> first = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")));
+        CompletableFuture<Void> second = coalescer.transactWriteItems(r -> r.addPutItem(table, item("id2")));
+        coalescer.close();
+
+        assertThatThrownBy(first::join).hasCause(failure);
+        assertThatThrownBy(second::join).hasCause(failure);
+        sentRequests(1);
+    }
+
+    @Test
+    void transactWriteItems_afterClose_fails() {
+        TransactWriteItemsCoalescer coalescer = coalescer(LONG_DELAY, 100);
+        coalescer.close();
+
+        assertThatThrownBy(coalescer.transactWriteItems(r -> r.addPutItem(table, item("id1")))::join)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void build_maxActionsAboveTransactionLimit_throwsIllegalArgumentException() {
+        assertThatThrownBy(() -> coalescer(LONG_DELAY, 101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TransactWriteItemsCoalescer coalescer(Duration maxBatchDelay, int maxActions) {
+        return TransactWriteItemsCoalescer.builder()
+                                          .dynamoDbClient(mockDynamoDbClient)
+                                          .maxBatchDelay(maxBatchDelay)
+                                          .maxActionsPerTransaction(maxActions)
+                                          .build();
+    }
+
+    private List<TransactWriteItemsRequest> sentRequests(int count) {
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(mockDynamoDbClient, times(count)).transactWriteItems(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static FakeItem item(String id) {
+        return FakeItem.builder().id(id).build();
+    }
+
+    private static Key key(String id) {
+        return Key.builder().partitionValue(id).build();
+    }
+}
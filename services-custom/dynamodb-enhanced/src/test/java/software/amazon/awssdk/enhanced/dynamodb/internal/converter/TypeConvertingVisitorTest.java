@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class TypeConvertingVisitorTest {
+    private static final TypeConvertingVisitor<String> VISITOR = new DescribingVisitor();
+
+    @Test
+    void convert_scalarAttributeValues_shouldConvertUnderlyingValue() {
+        assertThat(VISITOR.convert(AttributeValue.fromS("foo"))).isEqualTo("S:foo");
+        assertThat(VISITOR.convert(AttributeValue.fromN("123"))).isEqualTo("N:123");
+        assertThat(VISITOR.convert(AttributeValue.fromBool(false))).isEqualTo("BOOL:false");
+        assertThat(VISITOR.convert(AttributeValue.fromNul(true))).isEqualTo("NULL");
+        assertThat(VISITOR.convert(AttributeValue.fromB(SdkBytes.fromUtf8String("bar")))).isEqualTo("B:bar");
+    }
+
+    @Test
+    void convert_setAttributeValue_shouldConvertUnderlyingValue() {
+        assertThat(VISITOR.convert(AttributeValue.fromSs(Arrays.asList("a", "b")))).isEqualTo("SS:[a, b]");
+    }
+
+    @Test
+    void convert_unsupportedType_shouldThrowException() {
+        assertThatThrownBy(() -> VISITOR.convert(AttributeValue.fromL(Arrays.asList(AttributeValue.fromS("foo")))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Cannot convert attribute of type L");
+    }
+
+    @Test
+    void convert_emptyAttributeValue_shouldThrowException() {
+        assertThatThrownBy(() -> VISITOR.convert(AttributeValue.builder().build()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Unable to convert attribute value");
+    }
+
+    @Test
+    void convert_nullAttributeValue_shouldThrowException() {
+        assertThatThrownBy(() -> VISITOR.convert((AttributeValue) null))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("AttributeValue#nul()");
+    }
+
+    private static final class DescribingVisitor extends TypeConvertingVisitor<String> {
+        private DescribingVisitor() {
+            super(String.class);
+        }
+
+        @Override
+        public String convertNull() {
+            return "NULL";
+        }
+
+        @Override
+        public String convertString(String value) {
+            return "S:" + value;
+        }
+
+        @Override
+        public String convertNumber(String value) {
+            return "N:" + value;
+        }
+
+        @Override
+        public String convertBytes(SdkBytes value) {
+            return "B:" + value.asUtf8String();
+        }
+
+        @Override
+        public String convertBoolean(Boolean value) {
+            return "BOOL:" + value;
+        }
+
+        @Override
+        public String convertSetOfStrings(List<String> value) {
+            return "SS:" + value;
+        }
+    }
+}
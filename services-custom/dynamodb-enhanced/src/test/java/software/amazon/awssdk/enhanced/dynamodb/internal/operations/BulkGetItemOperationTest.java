@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkGetResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkGetItemOperationTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbClient mockDynamoDbClient;
+
+    private DynamoDbEnhancedClient enhancedClient;
+    private DynamoDbTable<FakeItem> fakeItemMappedTable;
+    private Map<Map<String, AttributeValue>, FakeItem> itemsByKey;
+    private List<BatchGetItemRequest> requests;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(mockDynamoDbClient).extensions().build();
+        fakeItemMappedTable = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        itemsByKey = new HashMap<>();
+        requests = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void bulkGetItem_manyKeys_readsBatchesOfMaxSizeAndConsumesItems() {
+        List<FakeItem> items = storedItems(250);
+        stubResponses(0);
+        List<FakeItem> retrieved = new ArrayList<>();
+
+        BulkGetResult result = enhancedClient.bulkGetItem(r -> r.addGetItems(fakeItemMappedTable, keys(items), retrieved::add)
+                                                                .consistentRead(true));
+
+        assertThat(requests.stream().map(request -> keys(request).size()).collect(toList()), contains(100, 100, 50));
+        assertThat(requests.get(0).requestItems().get(TABLE_NAME).consistentRead(), is(true));
+        assertThat(retrieved, containsInAnyOrder(items.toArray()));
+        assertThat(result.unprocessedKeysForTable(fakeItemMappedTable), is(empty()));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(250L));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).consumedCapacityUnits(), is(3.0));
+    }
+
+    @Test
+    public void bulkGetItem_duplicateKeyInBatch_flushesBatchEarly() {
+        List<FakeItem> items = storedItems(2);
+        stubResponses(0);
+        List<Key> keys = new ArrayList<>(keys(items));
+        keys.add(keys.get(0));
+        List<FakeItem> retrieved = new ArrayList<>();
+
+        enhancedClient.bulkGetItem(r -> r.addGetItems(fakeItemMappedTable, keys, retrieved::add));
+
+        assertThat(requests.stream().map(request -> keys(request).size()).collect(toList()), contains(2, 1));
+        assertThat(retrieved, contains(items.get(0), items.get(1), items.get(0)));
+    }
+
+    @Test
+    public void bulkGetItem_unprocessedKeys_resubmitsThemUntilMaxRetries() {
+        List<FakeItem> items = storedItems(5);
+        stubResponses(1);
+        List<FakeItem> retrieved = new ArrayList<>();
+
+        BulkGetResult result = enhancedClient.bulkGetItem(r -> r.addGetItems(fakeItemMappedTable, keys(items), retrieved::add)
+                                                                .maxUnprocessedRetries(2)
+                                                                .backoffStrategy(BackoffStrategy.none()));
+
+        assertThat(requests, hasSize(3));
+        assertThat(keys(requests.get(1)), is(keys(requests.get(0)).subList(4, 5)));
+        assertThat(retrieved, contains(items.subList(0, 4).toArray()));
+        assertThat(result.unprocessedKeysForTable(fakeItemMappedTable), contains(keys(items).get(4)));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(4L));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).retriedItemCount(), is(2L));
+    }
+
+    @Test
+    public void bulkGetItem_parallel_consumesAllItems() {
+        List<FakeItem> items = storedItems(1000);
+        stubResponses(0);
+        List<FakeItem> retrieved = new ArrayList<>();
+
+        BulkGetResult result = enhancedClient.bulkGetItem(r -> r.addGetItems(fakeItemMappedTable, keys(items), retrieved::add)
+                                                                .parallelism(4));
+
+        assertThat(requests, hasSize(10));
+        assertThat(retrieved, containsInAnyOrder(items.toArray()));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(1000L));
+    }
+
+    /**
+     * Stubs the client to return the stored items of the requested keys, except for the last {@code unprocessedCount} keys
+     * of each request, which are returned as unprocessed.
+     */
+    private void stubResponses(int unprocessedCount) {
+        when(mockDynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            List<Map<String, AttributeValue>> keys = keys(request);
+            int processedCount = Math.max(0, keys.size() - unprocessedCount);
+            List<Map<String, AttributeValue>> responses =
+                keys.subList(0, processedCount).stream()
+                    .map(key -> FakeItem.getTableSchema().itemToMap(itemsByKey.get(key), true))
+                    .collect(toList());
+            BatchGetItemResponse.Builder response =
+                BatchGetItemResponse.builder()
+                                    .responses(singletonMap(TABLE_NAME, responses))
+                                    .consumedCapacity(ConsumedCapacity.builder()
+                                                                      .tableName(TABLE_NAME)
+                                                                      .capacityUnits(1.0)
+                                                                      .build());
+            if (processedCount < keys.size()) {
+                response.unprocessedKeys(singletonMap(TABLE_NAME, KeysAndAttributes.builder()
+                                                                                   .keys(keys.subList(processedCount,
+                                                                                                      keys.size()))
+                                                                                   .build()));
+            }
+            return response.build();
+        });
+    }
+
+    private List<FakeItem> storedItems(int count) {
+        List<FakeItem> items = IntStream.range(0, count).mapToObj($ -> createUniqueFakeItem()).collect(toList());
+        items.forEach(item -> itemsByKey.put(keys(Collections.singletonList(item)).get(0)
+                                                                                  .keyMap(FakeItem.getTableSchema(),
+                                                                                          TableMetadata.primaryIndexName()),
+                                             item));
+        return items;
+    }
+
+    private static List<Key> keys(List<FakeItem> items) {
+        return items.stream().map(item -> Key.builder().partitionValue(item.getId()).build()).collect(toList());
+    }
+
+    private static List<Map<String, AttributeValue>> keys(BatchGetItemRequest request) {
+        return request.requestItems().get(TABLE_NAME).keys();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem.createUniqueFakeItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkTableStatistics;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkWriteItemOperationTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbClient mockDynamoDbClient;
+
+    private DynamoDbEnhancedClient enhancedClient;
+    private DynamoDbTable<FakeItem> fakeItemMappedTable;
+    private List<BatchWriteItemRequest> requests;
+
+    @Before
+    public void setupMappedTables() {
+        enhancedClient = DynamoDbEnhancedClient.builder().dynamoDbClient(mockDynamoDbClient).extensions().build();
+        fakeItemMappedTable = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        requests = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void bulkWriteItem_manyItems_writesBatchesOfMaxSize() {
+        stubResponses();
+        List<FakeItem> items = fakeItems(60);
+
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, items));
+
+        assertThat(requests, hasSize(3));
+        assertThat(requests.stream().map(this::writeRequests).map(List::size).collect(toList()), contains(25, 25, 10));
+        assertThat(requests.get(0).returnConsumedCapacity(), is(ReturnConsumedCapacity.TOTAL));
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable), is(empty()));
+
+        BulkTableStatistics statistics = result.statisticsForTable(fakeItemMappedTable);
+        assertThat(statistics.itemCount(), is(60L));
+        assertThat(statistics.retriedItemCount(), is(0L));
+        assertThat(statistics.consumedCapacityUnits(), is(3.0));
+    }
+
+    @Test
+    public void bulkWriteItem_duplicateKeyInBatch_flushesBatchEarly() {
+        stubResponses();
+        FakeItem item = createUniqueFakeItem();
+        FakeItem otherItem = createUniqueFakeItem();
+        FakeItem updatedItem = new FakeItem(item.getId(), 2, null);
+
+        enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, Arrays.asList(item, otherItem, updatedItem)));
+
+        assertThat(requests.stream().map(this::writeRequests).map(List::size).collect(toList()), contains(2, 1));
+    }
+
+    @Test
+    public void bulkWriteItem_deleteKeys_writesDeleteRequests() {
+        stubResponses();
+        List<Key> keys = fakeItems(30).stream()
+                                      .map(item -> Key.builder().partitionValue(item.getId()).build())
+                                      .collect(toList());
+
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.addDeleteItems(fakeItemMappedTable, keys));
+
+        assertThat(requests, hasSize(2));
+        assertThat(writeRequests(requests.get(0)).get(0).deleteRequest().key(),
+                   is(keys.get(0).keyMap(FakeItem.getTableSchema(), TableMetadata.primaryIndexName())));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(30L));
+    }
+
+    @Test
+    public void bulkWriteItem_unprocessedItems_resubmitsThem() {
+        when(mockDynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            List<WriteRequest> writeRequests = writeRequests(request);
+            if (requests.size() == 1) {
+                return response(singletonMap(TABLE_NAME, writeRequests.subList(0, 2)));
+            }
+            return response(Collections.emptyMap());
+        });
+        List<FakeItem> items = fakeItems(10);
+
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, items)
+                                                                    .backoffStrategy(BackoffStrategy.none()));
+
+        assertThat(requests, hasSize(2));
+        assertThat(writeRequests(requests.get(1)), is(writeRequests(requests.get(0)).subList(0, 2)));
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable), is(empty()));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(10L));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).retriedItemCount(), is(2L));
+    }
+
+    @Test
+    public void bulkWriteItem_itemsUnprocessedAfterMaxRetries_returnsThemInResult() {
+        when(mockDynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return response(singletonMap(TABLE_NAME, writeRequests(request).subList(0, 1)));
+        });
+        List<FakeItem> items = fakeItems(3);
+
+        BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, items)
+                                                                    .maxUnprocessedRetries(2)
+                                                                    .backoffStrategy(BackoffStrategy.none()));
+
+        assertThat(requests, hasSize(3));
+        assertThat(result.unprocessedPutItemsForTable(fakeItemMappedTable), contains(items.get(0)));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(2L));
+        assertThat(result.statisticsForTable(fakeItemMappedTable).retriedItemCount(), is(2L));
+    }
+
+    @Test
+    public void bulkWriteItem_parallel_writesAllItems() {
+        stubResponses();
+        List<FakeItem> items = fakeItems(1000);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            BulkWriteResult result = enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, items)
+                                                                        .parallelism(4)
+                                                                        .executor(executor));
+
+            assertThat(requests, hasSize(40));
+            assertThat(result.statisticsForTable(fakeItemMappedTable).itemCount(), is(1000L));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void bulkWriteItem_batchFails_rethrowsException() {
+        ProvisionedThroughputExceededException exception = ProvisionedThroughputExceededException.builder().build();
+        when(mockDynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenThrow(exception);
+        List<FakeItem> items = fakeItems(100);
+
+        try {
+            enhancedClient.bulkWriteItem(r -> r.addPutItems(fakeItemMappedTable, items).parallelism(2));
+            fail("Expected exception");
+        } catch (ProvisionedThroughputExceededException e) {
+            assertThat(e, sameInstance(exception));
+        }
+    }
+
+    private void stubResponses() {
+        when(mockDynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return response(Collections.emptyMap());
+        });
+    }
+
+    private List<WriteRequest> writeRequests(BatchWriteItemRequest request) {
+        return request.requestItems().get(TABLE_NAME);
+    }
+
+    private static BatchWriteItemResponse response(Map<String, List<WriteRequest>> unprocessedItems) {
+        return BatchWriteItemResponse.builder()
+                                     .unprocessedItems(unprocessedItems)
+                                     .consumedCapacity(ConsumedCapacity.builder()
+                                                                       .tableName(TABLE_NAME)
+                                                                       .capacityUnits(1.0)
+                                                                       .build())
+                                     .build();
+    }
+
+    private static List<FakeItem> fakeItems(int count) {
+        return IntStream.range(0, count).mapToObj($ -> createUniqueFakeItem()).collect(toList());
+    }
+}
@@ -263,7 +263,45 @@ public class GetItemOperationTest {
                                                               .tableMetadata(FakeItem.getTableMetadata())
                                                               .operationContext(PRIMARY_CONTEXT)
                                                               .tableSchema(FakeItem.getTableSchema())
+                                                              .operationName(OperationName.GET_ITEM)
                                                               .items(baseFakeItemMap).build());
     }
 
+    @Test
+    public void execute_extensionSuppliesItem_doesNotCallService() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        Map<String, AttributeValue> fakeItemMap = FakeItem.getTableSchema().itemToMap(fakeItem, false);
+        GetItemOperation<FakeItem> getItemOperation =
+            GetItemOperation.create(GetItemEnhancedRequest.builder().key(k -> k.partitionValue(fakeItem.getId())).build());
+        when(mockDynamoDbEnhancedClientExtension.beforeRead(any(DynamoDbExtensionContext.BeforeRead.class)))
+            .thenReturn(ReadModification.builder().transformedItem(fakeItemMap).build());
+
+        GetItemEnhancedResponse<FakeItem> result = getItemOperation.execute(FakeItem.getTableSchema(), PRIMARY_CONTEXT,
+                                                                            mockDynamoDbEnhancedClientExtension,
+                                                                            mockDynamoDbClient);
+
+        assertThat(result.attributes(), is(fakeItem));
+        verify(mockDynamoDbClient, never()).getItem(any(GetItemRequest.class));
+        verify(mockDynamoDbEnhancedClientExtension).afterRead(any(DynamoDbExtensionContext.AfterRead.class));
+    }
+
+    @Test
+    public void execute_bypassCache_readsItemFromService() {
+        FakeItem fakeItem = createUniqueFakeItem();
+        Map<String, AttributeValue> fakeItemMap = FakeItem.getTableSchema().itemToMap(fakeItem, false);
+        GetItemOperation<FakeItem> getItemOperation =
+            GetItemOperation.create(GetItemEnhancedRequest.builder()
+                                                          .key(k -> k.partitionValue(fakeItem.getId()))
+                                                          .bypassCache(true)
+                                                          .build());
+        when(mockDynamoDbClient.getItem(any(GetItemRequest.class)))
+            .thenReturn(GetItemResponse.builder().item(fakeItemMap).build());
+
+        GetItemEnhancedResponse<FakeItem> result = getItemOperation.execute(FakeItem.getTableSchema(), PRIMARY_CONTEXT,
+                                                                            mockDynamoDbEnhancedClientExtension,
+                                                                            mockDynamoDbClient);
+
+        assertThat(result.attributes(), is(fakeItem));
+        verify(mockDynamoDbEnhancedClientExtension, never()).beforeRead(any(DynamoDbExtensionContext.BeforeRead.class));
+    }
 }
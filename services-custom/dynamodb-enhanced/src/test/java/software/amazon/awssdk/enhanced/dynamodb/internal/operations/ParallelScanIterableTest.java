@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+
+class ParallelScanIterableTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final AtomicInteger fetchedPages = new AtomicInteger();
+    private final AtomicInteger concurrentFetches = new AtomicInteger();
+    private final AtomicInteger maxConcurrentFetches = new AtomicInteger();
+    private final List<ScanEnhancedRequest> segmentRequests = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void items_returnsItemsOfAllSegments() {
+        PageIterable<String> scan = ParallelScanIterable.create(request(5), 2, r -> segment(r, -1));
+
+        List<String> items = scan.items().stream().collect(Collectors.toList());
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems(5));
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactlyInAnyOrder(0, 1, 2, 3, 4);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::totalSegments).containsOnly(5);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::limit).containsOnly(10);
+        assertThat(maxConcurrentFetches.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void iterator_eachIterationScansAgain() {
+        PageIterable<String> scan = ParallelScanIterable.create(request(2), 2, r -> segment(r, -1));
+
+        assertThat(scan.items().stream().count()).isEqualTo(2 * PAGES_PER_SEGMENT);
+        assertThat(scan.items().stream().count()).isEqualTo(2 * PAGES_PER_SEGMENT);
+        assertThat(segmentRequests).hasSize(4);
+    }
+
+    @Test
+    void iterator_pagesNotConsumed_boundsPagesFetchedAhead() throws InterruptedException {
+        PageIterable<String> scan = ParallelScanIterable.create(request(10), 2, r -> segment(r, -1));
+
+        Iterator<Page<String>> iterator = scan.iterator();
+        assertThat(iterator.hasNext()).isTrue();
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        assertThat(fetchedPages.get()).isLessThanOrEqualTo(4);
+
+        int pages = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            pages++;
+        }
+        assertThat(pages).isEqualTo(10 * PAGES_PER_SEGMENT);
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void iterator_segmentFails_throwsException() {
+        PageIterable<String> scan = ParallelScanIterable.create(request(4), 2, r -> segment(r, 2));
+
+        assertThatThrownBy(() -> scan.items().forEach(item -> { }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("segment 2 failed");
+    }
+
+    @Test
+    void create_invalidRequest_throwsException() {
+        assertThatThrownBy(() -> ParallelScanIterable.create(ScanEnhancedRequest.builder().build(), 2, r -> segment(r, -1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("total number of segments");
+        assertThatThrownBy(() -> ParallelScanIterable.create(request(4).toBuilder().segment(1).build(), 2,
+                                                             r -> segment(r, -1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("segment must not be set");
+        assertThatThrownBy(() -> ParallelScanIterable.create(request(4), 0, r -> segment(r, -1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ScanEnhancedRequest request(int totalSegments) {
+        return ScanEnhancedRequest.builder().totalSegments(totalSegments).limit(10).build();
+    }
+
+    private static List<String> allItems(int totalSegments) {
+        return IntStream.range(0, totalSegments)
+                        .boxed()
+                        .flatMap(segment -> IntStream.range(0, PAGES_PER_SEGMENT).mapToObj(page -> segment + "-" + page))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * A segment of {@link #PAGES_PER_SEGMENT} pages of one item each, which fails on its last page if it is the failing
+     * segment.
+     */
+    private SdkIterable<Page<String>> segment(ScanEnhancedRequest request, int failingSegment) {
+        segmentRequests.add(request);
+        int segment = request.segment();
+        return () -> new Iterator<Page<String>>() {
+            private int page;
+
+            @Override
+            public boolean hasNext() {
+                return page < PAGES_PER_SEGMENT;
+            }
+
+            @Override
+            public Page<String> next() {
+                int concurrent = concurrentFetches.incrementAndGet();
+                maxConcurrentFetches.accumulateAndGet(concurrent, Math::max);
+                try {
+                    TimeUnit.MILLISECONDS.sleep(5);
+                    if (segment == failingSegment && page == PAGES_PER_SEGMENT - 1) {
+                        throw new IllegalStateException("segment " + segment + " failed");
+                    }
+                    fetchedPages.incrementAndGet();
+                    return Page.create(Collections.singletonList(segment + "-" + page++));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                } finally {
+                    concurrentFetches.decrementAndGet();
+                }
+            }
+        };
+    }
+}
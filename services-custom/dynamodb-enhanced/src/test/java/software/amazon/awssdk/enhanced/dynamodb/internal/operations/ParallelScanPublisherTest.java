@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+class ParallelScanPublisherTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final AtomicInteger deliveredPages = new AtomicInteger();
+    private final AtomicInteger subscribedSegments = new AtomicInteger();
+
+    @Test
+    void items_publishesItemsOfAllSegments() {
+        PagePublisher<String> scan = ParallelScanPublisher.create(request(5), 2, r -> segment(r, -1));
+
+        List<String> items = Collections.synchronizedList(new ArrayList<>());
+        scan.items().subscribe(items::add).join();
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems(5));
+        assertThat(subscribedSegments.get()).isEqualTo(5);
+    }
+
+    @Test
+    void subscribe_slowSubscriber_boundsPagesFetchedAhead() throws InterruptedException {
+        PagePublisher<String> scan = ParallelScanPublisher.create(request(10), 2, r -> segment(r, -1));
+
+        List<Page<String>> pages = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+        scan.subscribe(new Subscriber<Page<String>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(Page<String> page) {
+                pages.add(page);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        TimeUnit.MILLISECONDS.sleep(200);
+
+        assertThat(pages).hasSize(1);
+        assertThat(deliveredPages.get()).isLessThanOrEqualTo(4);
+        assertThat(subscribedSegments.get()).isEqualTo(2);
+
+        subscription[0].cancel();
+    }
+
+    @Test
+    void subscribe_segmentFails_failsSubscription() {
+        PagePublisher<String> scan = ParallelScanPublisher.create(request(4), 2, r -> segment(r, 1));
+
+        CompletableFuture<Void> done = scan.items().subscribe(item -> { });
+
+        assertThatThrownBy(done::join).isInstanceOf(CompletionException.class)
+                                      .hasCauseInstanceOf(IllegalStateException.class)
+                                      .hasMessageContaining("segment 1 failed");
+    }
+
+    private static ScanEnhancedRequest request(int totalSegments) {
+        return ScanEnhancedRequest.builder().totalSegments(totalSegments).build();
+    }
+
+    private static List<String> allItems(int totalSegments) {
+        return IntStream.range(0, totalSegments)
+                        .boxed()
+                        .flatMap(segment -> IntStream.range(0, PAGES_PER_SEGMENT).mapToObj(page -> segment + "-" + page))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * A segment of {@link #PAGES_PER_SEGMENT} pages of one item each, which fails after its first page if it is the failing
+     * segment.
+     */
+    private SdkPublisher<Page<String>> segment(ScanEnhancedRequest request, int failingSegment) {
+        int segment = request.segment();
+        SdkPublisher<Page<String>> publisher = subscriber -> {
+            subscribedSegments.incrementAndGet();
+            SimplePublisher<Page<String>> pages = new SimplePublisher<>();
+            pages.subscribe(subscriber);
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                if (segment == failingSegment && page == 1) {
+                    pages.error(new IllegalStateException("segment " + segment + " failed"));
+                    return;
+                }
+                pages.send(Page.create(Collections.singletonList(segment + "-" + page)));
+            }
+            pages.complete();
+        };
+        return publisher.map(page -> {
+            deliveredPages.incrementAndGet();
+            return page;
+        });
+    }
+}
@@ -600,7 +600,8 @@ public class UpdateItemOperationTest {
         FakeItem resultItem = transformResponse(baseFakeItem);
 
         assertThat(resultItem, is(fakeItem));
-        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap));
+        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap,
+                                                                                b -> b.operationName(OperationName.UPDATE_ITEM)));
     }
 
     @Test
@@ -614,7 +615,8 @@ public class UpdateItemOperationTest {
         FakeItem resultItem = transformResponse(baseFakeItem);
 
         assertThat(resultItem, is(baseFakeItem));
-        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap));
+        verify(mockDynamoDbEnhancedClientExtension).afterRead(extensionContext(baseFakeMap,
+                                                                                b -> b.operationName(OperationName.UPDATE_ITEM)));
     }
 
     @Test(expected = IllegalStateException.class)
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.update;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.enhanced.dynamodb.update.SetAction;
+import software.amazon.awssdk.enhanced.dynamodb.update.UpdateExpression;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+class UpdateExpressionCacheTest {
+    private static final TableSchema<FakeItem> TABLE_SCHEMA = FakeItem.getTableSchema();
+
+    private final UpdateExpressionCache cache = UpdateExpressionCache.create();
+
+    @Test
+    void updateExpression_sameShape_shouldReuseTemplateAndBindNewValues() {
+        Map<String, AttributeValue> first = attributes(stringValue("one"), numberValue(1));
+        Map<String, AttributeValue> second = attributes(stringValue("two"), numberValue(2));
+
+        assertThat(cache.updateExpression(TABLE_SCHEMA, first, null)).isEqualTo(uncachedExpression(first, null));
+        assertThat(cache.updateExpression(TABLE_SCHEMA, second, null)).isEqualTo(uncachedExpression(second, null));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void updateExpression_nullAttribute_shouldUseSeparateTemplateThatRemovesAttribute() {
+        Map<String, AttributeValue> set = attributes(stringValue("one"), numberValue(1));
+        Map<String, AttributeValue> remove = attributes(stringValue("one"), nullAttributeValue());
+
+        cache.updateExpression(TABLE_SCHEMA, set, null);
+        Expression expression = cache.updateExpression(TABLE_SCHEMA, remove, null);
+
+        assertThat(expression).isEqualTo(uncachedExpression(remove, null));
+        assertThat(expression.expression()).contains("REMOVE");
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void updateExpression_withExtensionExpression_shouldBindExtensionValues() {
+        Map<String, AttributeValue> attributes = attributes(stringValue("one"), nullAttributeValue());
+
+        cache.updateExpression(TABLE_SCHEMA, attributes, counterExpression(1));
+        Expression expression = cache.updateExpression(TABLE_SCHEMA, attributes, counterExpression(5));
+
+        assertThat(expression).isEqualTo(uncachedExpression(attributes, counterExpression(5)));
+        assertThat(expression.expression()).doesNotContain("REMOVE");
+        assertThat(expression.expressionValues()).containsEntry(":delta", numberValue(5));
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void forSchema_sameSchema_shouldReturnSameCache() {
+        assertThat(UpdateExpressionCache.forSchema(TABLE_SCHEMA)).isSameAs(UpdateExpressionCache.forSchema(TABLE_SCHEMA));
+    }
+
+    @Test
+    void forSchema_differentSchemas_shouldReturnDifferentCaches() {
+        TableSchema<FakeItemWithSort> otherSchema = FakeItemWithSort.getTableSchema();
+        assertThat(UpdateExpressionCache.forSchema(otherSchema)).isNotSameAs(UpdateExpressionCache.forSchema(TABLE_SCHEMA));
+    }
+
+    private static Map<String, AttributeValue> attributes(AttributeValue subclassAttribute, AttributeValue other) {
+        Map<String, AttributeValue> attributes = new LinkedHashMap<>();
+        attributes.put("subclass_attribute", subclassAttribute);
+        attributes.put("other_attribute", other);
+        return attributes;
+    }
+
+    private static UpdateExpression counterExpression(int delta) {
+        return UpdateExpression.builder()
+                               .addAction(SetAction.builder()
+                                                   .path("#other")
+                                                   .value("#other + :delta")
+                                                   .expressionNames(Collections.singletonMap("#other", "other_attribute"))
+                                                   .expressionValues(Collections.singletonMap(":delta", numberValue(delta)))
+                                                   .build())
+                               .build();
+    }
+
+    private static Expression uncachedExpression(Map<String, AttributeValue> attributes, UpdateExpression extension) {
+        UpdateExpression operationExpression =
+            UpdateExpressionUtils.operationExpression(attributes,
+                                                      TABLE_SCHEMA.tableMetadata(),
+                                                      UpdateExpressionConverter.findAttributeNames(extension));
+        return UpdateExpressionConverter.toExpression(UpdateExpression.mergeExpressions(extension, operationExpression));
+    }
+}
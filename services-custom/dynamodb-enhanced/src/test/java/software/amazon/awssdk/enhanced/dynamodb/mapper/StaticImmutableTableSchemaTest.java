@@ -26,6 +26,10 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension.AttributeTags.versionAttribute;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.nullAttributeValue;
@@ -56,6 +60,7 @@ import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemComposedClass;
 import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
@@ -1388,6 +1393,28 @@ public class StaticImmutableTableSchemaTest {
                    is(singletonMap("documentString", AttributeValue.builder().s("test-string").build())));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void itemToMap_flattenedSchemaWithSeveralAttributes_shouldMapFlattenedItemOnce() {
+        TableSchema<FakeDocument> flattenedSchema = mock(TableSchema.class);
+        when(flattenedSchema.attributeNames()).thenReturn(asList("documentString", "documentInteger"));
+        when(flattenedSchema.tableMetadata()).thenReturn(StaticTableMetadata.builder().build());
+        when(flattenedSchema.itemToMap(any(), anyBoolean())).thenReturn(singletonMap("documentString",
+                                                                                    stringValue("test-string")));
+
+        StaticTableSchema<FakeMappedItem> tableSchema =
+            StaticTableSchema.builder(FakeMappedItem.class)
+                             .flatten(flattenedSchema,
+                                      FakeMappedItem::getAFakeDocument,
+                                      FakeMappedItem::setAFakeDocument)
+                             .build();
+
+        FakeMappedItem item = FakeMappedItem.builder().aFakeDocument(FakeDocument.of("test-string", 1)).build();
+
+        assertThat(tableSchema.itemToMap(item, false), is(singletonMap("documentString", stringValue("test-string"))));
+        verify(flattenedSchema, times(1)).itemToMap(any(), anyBoolean());
+    }
+
     @Test
     public void buildAbstractExtends() {
         StaticTableSchema<FakeAbstractSuperclass> superclassTableSchema =
@@ -758,6 +758,20 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Specifies the maximum number of file transfers that can be in flight at a time in
+         * {@link S3TransferManager#uploadDirectory} and {@link S3TransferManager#downloadDirectory} operations. Files are
+         * discovered lazily, so at most this many pending transfers are held in memory regardless of the size of the
+         * directory or bucket. Must be positive.
+         *
+         * <p>
+         * Default to 100
+         *
+         * @param directoryTransferMaxConcurrency the maximum number of in-flight file transfers per directory transfer
+         * @return This builder for method chaining.
+         */
+        Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
@@ -37,6 +37,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.CrtFileUpload;
 import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
+import software.amazon.awssdk.transfer.s3.internal.utils.ChecksumUtils;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
@@ -88,9 +89,7 @@ class CrtS3TransferManager extends DelegatingS3TransferManager {
             CompletableFutureUtils.forwardExceptionTo(returnFuture, crtFuture);
 
             CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
-                                                              r -> CompletedFileUpload.builder()
-                                                                                      .response(r)
-                                                                                      .build());
+                                                              r -> toCompletedFileUpload(putObjectRequest, r));
         } catch (Throwable throwable) {
             returnFuture.completeExceptionally(throwable);
         }
@@ -99,6 +98,14 @@ class CrtS3TransferManager extends DelegatingS3TransferManager {
         return new CrtFileUpload(returnFuture, progressUpdater.progress(), observable, uploadFileRequest);
     }
 
+    private static CompletedFileUpload toCompletedFileUpload(PutObjectRequest putObjectRequest, PutObjectResponse response) {
+        String fullObjectChecksum = ChecksumUtils.fullObjectChecksum(putObjectRequest.checksumAlgorithm(), response);
+        return CompletedFileUpload.builder()
+                                  .response(response)
+                                  .fullObjectChecksum(fullObjectChecksum)
+                                  .build();
+    }
+
     private FileUpload uploadFromBeginning(ResumableFileUpload resumableFileUpload, boolean fileModified,
                                            boolean noResumeToken) {
         UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
@@ -16,20 +16,22 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
-import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.OptionalInt;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -111,10 +113,9 @@ public class DownloadDirectoryHelper {
             new AsyncBufferingSubscriber<>(downloadSingleFile(returnFuture, downloadDirectoryRequest, request,
                                                               failedFileDownloads),
                                            allOfFutures,
-                                           DEFAULT_DOWNLOAD_DIRECTORY_MAX_CONCURRENCY);
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+                                           transferConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY));
+        listS3Objects(downloadDirectoryRequest, request).filter(downloadDirectoryRequest.filter())
+                                                        .subscribe(asyncBufferingSubscriber);
 
         allOfFutures.whenComplete((r, t) -> {
             if (t != null) {
@@ -127,6 +128,15 @@ public class DownloadDirectoryHelper {
         });
     }
 
+    private SdkPublisher<S3Object> listS3Objects(DownloadDirectoryRequest downloadDirectoryRequest,
+                                                 ListObjectsV2Request request) {
+        OptionalInt listObjectsMaxConcurrency = downloadDirectoryRequest.listObjectsMaxConcurrency();
+        if (listObjectsMaxConcurrency.isPresent()) {
+            return listObjectsHelper.listS3ObjectsRecursively(request, listObjectsMaxConcurrency.getAsInt());
+        }
+        return listObjectsHelper.listS3ObjectsRecursively(request);
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         CompletableFuture<CompletedDirectoryDownload> returnFuture,
         DownloadDirectoryRequest downloadDirectoryRequest,
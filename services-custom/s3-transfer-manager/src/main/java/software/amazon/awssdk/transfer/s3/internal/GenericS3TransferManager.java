@@ -16,29 +16,44 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+import static software.amazon.awssdk.transfer.s3.internal.utils.FileUtils.fileNotModified;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.arns.Arn;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.FullObjectChecksumCalculator;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
 import software.amazon.awssdk.services.s3.internal.resource.S3Resource;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
 import software.amazon.awssdk.services.s3.model.CopyObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute;
+import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultCopy;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryDownload;
@@ -49,6 +64,7 @@ import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultUpload;
 import software.amazon.awssdk.transfer.s3.internal.progress.ResumeTransferProgress;
 import software.amazon.awssdk.transfer.s3.internal.progress.TransferProgressUpdater;
+import software.amazon.awssdk.transfer.s3.internal.utils.ChecksumUtils;
 import software.amazon.awssdk.transfer.s3.model.CompletedCopy;
 import software.amazon.awssdk.transfer.s3.model.CompletedDownload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileDownload;
@@ -65,6 +81,7 @@ import software.amazon.awssdk.transfer.s3.model.DownloadRequest;
 import software.amazon.awssdk.transfer.s3.model.FileDownload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileDownload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.model.Upload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
@@ -149,19 +166,42 @@ class GenericS3TransferManager implements S3TransferManager {
     @Override
     public FileUpload uploadFile(UploadFileRequest uploadFileRequest) {
         Validate.paramNotNull(uploadFileRequest, "uploadFileRequest");
+        return uploadFile(uploadFileRequest, null);
+    }
 
-        AsyncRequestBody requestBody =
-            FileAsyncRequestBody.builder()
-                                .path(uploadFileRequest.source())
-                                .chunkSizeInBytes(DEFAULT_FILE_UPLOAD_CHUNK_SIZE)
-                                .build();
+    private FileUpload uploadFile(UploadFileRequest uploadFileRequest, S3ResumeToken resumeToken) {
+        AsyncRequestBody requestBody = fileRequestBody(uploadFileRequest.source(), 0L);
+
+        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest,
+                                                                              requestBody.contentLength().orElse(null));
 
         PutObjectRequest putObjectRequest = uploadFileRequest.putObjectRequest();
+        PauseObservable pauseObservable = null;
+        AtomicReference<String> fullObjectChecksum = new AtomicReference<>();
+        if (isS3ClientMultipartEnabled()) {
+            if (resumeToken != null) {
+                putObjectRequest = attachExecutionAttribute(putObjectRequest, S3MultipartExecutionAttribute.RESUME_TOKEN,
+                                                            resumeToken);
+                // Open the file after the parts that were already uploaded, rather than reading and discarding them.
+                Function<Long, AsyncRequestBody> resumeRequestBodyProvider =
+                    offset -> progressUpdater.wrapRequestBody(fileRequestBody(uploadFileRequest.source(), offset), offset);
+                putObjectRequest = attachExecutionAttribute(putObjectRequest,
+                                                            S3MultipartExecutionAttribute.RESUME_REQUEST_BODY_PROVIDER,
+                                                            resumeRequestBodyProvider);
+            }
+            pauseObservable = new PauseObservable();
+            putObjectRequest = attachExecutionAttribute(putObjectRequest, S3MultipartExecutionAttribute.PAUSE_OBSERVABLE,
+                                                        pauseObservable);
+            if (FullObjectChecksumCalculator.isSupported(putObjectRequest.checksumAlgorithm())) {
+                putObjectRequest = attachExecutionAttribute(putObjectRequest,
+                                                            S3MultipartExecutionAttribute.FULL_OBJECT_CHECKSUM_CONSUMER,
+                                                            fullObjectChecksum::set);
+            }
+        }
+        ChecksumAlgorithm checksumAlgorithm = putObjectRequest.checksumAlgorithm();
 
         CompletableFuture<CompletedFileUpload> returnFuture = new CompletableFuture<>();
 
-        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(uploadFileRequest,
-                                                                              requestBody.contentLength().orElse(null));
         progressUpdater.transferInitiated();
         requestBody = progressUpdater.wrapRequestBody(requestBody);
         progressUpdater.registerCompletion(returnFuture);
@@ -178,12 +218,123 @@ class GenericS3TransferManager implements S3TransferManager {
             CompletableFutureUtils.forwardTransformedResultTo(putObjectFuture, returnFuture,
                                                               r -> CompletedFileUpload.builder()
                                                                                       .response(r)
+                                                                                      .fullObjectChecksum(fullObjectChecksum(
+                                                                                          fullObjectChecksum.get(),
+                                                                                          checksumAlgorithm, r))
                                                                                       .build());
         } catch (Throwable throwable) {
             returnFuture.completeExceptionally(throwable);
         }
 
-        return new DefaultFileUpload(returnFuture, progressUpdater.progress(), uploadFileRequest);
+        return new DefaultFileUpload(returnFuture, progressUpdater.progress(), pauseObservable, uploadFileRequest);
+    }
+
+    private static AsyncRequestBody fileRequestBody(Path source, long position) {
+        return FileAsyncRequestBody.builder()
+                                   .path(source)
+                                   .position(position)
+                                   .chunkSizeInBytes(DEFAULT_FILE_UPLOAD_CHUNK_SIZE)
+                                   .build();
+    }
+
+    private static String fullObjectChecksum(String combinedChecksum, ChecksumAlgorithm algorithm, PutObjectResponse response) {
+        return combinedChecksum != null ? combinedChecksum : ChecksumUtils.fullObjectChecksum(algorithm, response);
+    }
+
+    @Override
+    public FileUpload resumeUploadFile(ResumableFileUpload resumableFileUpload) {
+        Validate.paramNotNull(resumableFileUpload, "resumableFileUpload");
+        if (!isS3ClientMultipartEnabled()) {
+            throw new UnsupportedOperationException("Resuming an upload is only supported by an AWS CRT-based S3 client or an S3 "
+                                                    + "client with multipart enabled.");
+        }
+
+        boolean fileModified = !fileNotModified(resumableFileUpload.fileLength(),
+                                                resumableFileUpload.fileLastModified(),
+                                                resumableFileUpload.uploadFileRequest().source());
+
+        boolean noResumeToken = !hasResumeToken(resumableFileUpload);
+
+        if (fileModified || noResumeToken) {
+            return uploadFromBeginning(resumableFileUpload, fileModified, noResumeToken);
+        }
+
+        return doResumeUpload(resumableFileUpload);
+    }
+
+    private FileUpload uploadFromBeginning(ResumableFileUpload resumableFileUpload, boolean fileModified,
+                                           boolean noResumeToken) {
+        UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
+        PutObjectRequest putObjectRequest = uploadFileRequest.putObjectRequest();
+        if (fileModified) {
+            log.debug(() -> String.format("The file (%s) has been modified since the last pause. The SDK will upload the "
+                                          + "requested object in bucket (%s) with key (%s) from the beginning.",
+                                          uploadFileRequest.source(), putObjectRequest.bucket(), putObjectRequest.key()));
+            resumableFileUpload.multipartUploadId()
+                               .ifPresent(id -> abortMultipartUpload(putObjectRequest, id));
+        }
+
+        if (noResumeToken) {
+            log.debug(() -> String.format("No resume token is found. The SDK will upload the requested object in bucket (%s) "
+                                          + "with key (%s) from the beginning.",
+                                          putObjectRequest.bucket(), putObjectRequest.key()));
+        }
+
+        return uploadFile(uploadFileRequest);
+    }
+
+    private void abortMultipartUpload(PutObjectRequest putObjectRequest, String multipartUploadId) {
+        log.debug(() -> "Aborting previous upload with multipartUploadId: " + multipartUploadId);
+        s3AsyncClient.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                                                                      .bucket(putObjectRequest.bucket())
+                                                                      .key(putObjectRequest.key())
+                                                                      .uploadId(multipartUploadId)
+                                                                      .build())
+                     .exceptionally(t -> {
+                         log.warn(() -> String.format("Failed to abort previous multipart upload (id: %s). You may need to "
+                                                      + "call S3AsyncClient#abortMultiPartUpload to free all storage consumed "
+                                                      + "by all parts. ", multipartUploadId), t);
+                         return null;
+                     });
+    }
+
+    private FileUpload doResumeUpload(ResumableFileUpload resumableFileUpload) {
+        UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
+        S3ResumeToken resumeToken = S3ResumeToken.builder()
+                                                 .uploadId(resumableFileUpload.multipartUploadId().orElse(null))
+                                                 .partSize(resumableFileUpload.partSizeInBytes().getAsLong())
+                                                 .totalNumParts(resumableFileUpload.totalParts().getAsLong())
+                                                 .numPartsCompleted(resumableFileUpload.transferredParts().orElse(0L))
+                                                 .build();
+
+        return uploadFile(uploadFileRequest, resumeToken);
+    }
+
+    private static boolean hasResumeToken(ResumableFileUpload resumableFileUpload) {
+        return resumableFileUpload.multipartUploadId().isPresent()
+               && resumableFileUpload.totalParts().isPresent()
+               && resumableFileUpload.partSizeInBytes().isPresent();
+    }
+
+    private boolean isS3ClientMultipartEnabled() {
+        return s3AsyncClient instanceof MultipartS3AsyncClient;
+    }
+
+    private static <T> PutObjectRequest attachExecutionAttribute(PutObjectRequest putObjectRequest,
+                                                                 ExecutionAttribute<T> attribute,
+                                                                 T value) {
+        Consumer<AwsRequestOverrideConfiguration.Builder> attachAttribute = b -> b.putExecutionAttribute(attribute, value);
+
+        AwsRequestOverrideConfiguration modifiedRequestOverrideConfig =
+            putObjectRequest.overrideConfiguration()
+                            .map(o -> o.toBuilder().applyMutation(attachAttribute).build())
+                            .orElseGet(() -> AwsRequestOverrideConfiguration.builder()
+                                                                            .applyMutation(attachAttribute)
+                                                                            .build());
+
+        return putObjectRequest.toBuilder()
+                               .overrideConfiguration(modifiedRequestOverrideConfig)
+                               .build();
     }
 
     @Override
@@ -241,8 +392,14 @@ class GenericS3TransferManager implements S3TransferManager {
             AsyncResponseTransformer.toFile(downloadRequest.destination(),
                                             FileTransformerConfiguration.defaultCreateOrReplaceExisting());
 
+        AtomicReference<String> fullObjectChecksum = new AtomicReference<>();
+        if (downloadRequest.getObjectRequest().checksumMode() == ChecksumMode.ENABLED) {
+            responseTransformer = ChecksumUtils.wrapWithFullObjectChecksum(responseTransformer, fullObjectChecksum);
+        }
+
         CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
-        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture);
+        TransferProgressUpdater progressUpdater = doDownloadFile(downloadRequest, responseTransformer, returnFuture,
+                                                                 fullObjectChecksum);
 
         return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null);
     }
@@ -250,7 +407,8 @@ class GenericS3TransferManager implements S3TransferManager {
     private TransferProgressUpdater doDownloadFile(
         DownloadFileRequest downloadRequest,
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer,
-        CompletableFuture<CompletedFileDownload> returnFuture) {
+        CompletableFuture<CompletedFileDownload> returnFuture,
+        AtomicReference<String> fullObjectChecksum) {
         TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
         try {
             progressUpdater.transferInitiated();
@@ -269,6 +427,8 @@ class GenericS3TransferManager implements S3TransferManager {
             CompletableFutureUtils.forwardTransformedResultTo(crtFuture, returnFuture,
                                                               res -> CompletedFileDownload.builder()
                                                                                           .response(res)
+                                                                                          .fullObjectChecksum(
+                                                                                              fullObjectChecksum.get())
                                                                                           .build());
         } catch (Throwable throwable) {
             returnFuture.completeExceptionally(throwable);
@@ -302,7 +462,8 @@ class GenericS3TransferManager implements S3TransferManager {
 
             TransferProgressUpdater progressUpdater = doDownloadFile(newDownloadFileRequest,
                                                                      requestPair.right(),
-                                                                     returnFuture);
+                                                                     returnFuture,
+                                                                     new AtomicReference<>());
             progressFuture.complete(progressUpdater.progress());
         }).exceptionally(throwable -> {
             handleException(returnFuture, progressFuture, newDownloadFileRequestFuture, throwable);
@@ -15,13 +15,19 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Function;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
@@ -34,6 +40,7 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
  * A helper class that returns all objects within a bucket given a {@link ListObjectsV2Request} recursively.
@@ -55,6 +62,23 @@ public class ListObjectsHelper {
                                       .iteratorFunction(objectsIteratorFunction).isLastPage(false).build();
     }
 
+    /**
+     * Returns all objects within a bucket given a {@link ListObjectsV2Request}, listing up to {@code maxConcurrentListings}
+     * prefixes at the same time. The prefixes are discovered from the common prefixes returned by S3. If the request doesn't
+     * have a delimiter, {@link TransferConfigurationOption#DEFAULT_DELIMITER} is used to discover the top-level prefixes only,
+     * and each of them is then listed without a delimiter.
+     *
+     * <p>
+     * The objects are published as soon as each page arrives, and the next page of a prefix is only requested once all
+     * objects of the current page have been delivered to the subscriber.
+     */
+    public SdkPublisher<S3Object> listS3ObjectsRecursively(ListObjectsV2Request firstRequest, int maxConcurrentListings) {
+        if (maxConcurrentListings <= 1) {
+            return listS3ObjectsRecursively(firstRequest);
+        }
+        return subscriber -> new ConcurrentListing(firstRequest, maxConcurrentListings).subscribe(subscriber);
+    }
+
     private static final class S3ObjectsIteratorFunction implements Function<ListObjectsV2Response, Iterator<S3Object>> {
 
         @Override
@@ -117,4 +141,100 @@ public class ListObjectsHelper {
             });
         }
     }
+
+    /**
+     * Lists each discovered prefix as a separate chain of paginated requests and publishes the objects through a single
+     * {@link SimplePublisher}.
+     */
+    private final class ConcurrentListing {
+        private final SimplePublisher<S3Object> publisher = new SimplePublisher<>();
+        private final Queue<ListObjectsV2Request> pendingListings = new ArrayDeque<>();
+        private final ListObjectsV2Request firstRequest;
+        private final int maxConcurrentListings;
+        private int numListingsInFlight;
+        private boolean done;
+
+        private ConcurrentListing(ListObjectsV2Request firstRequest, int maxConcurrentListings) {
+            this.firstRequest = firstRequest;
+            this.maxConcurrentListings = maxConcurrentListings;
+        }
+
+        private void subscribe(Subscriber<? super S3Object> subscriber) {
+            publisher.subscribe(subscriber);
+            if (firstRequest.delimiter() == null) {
+                pendingListings.add(firstRequest.toBuilder().delimiter(DEFAULT_DELIMITER).build());
+            } else {
+                pendingListings.add(firstRequest);
+            }
+            startListings();
+        }
+
+        private void startListings() {
+            List<ListObjectsV2Request> requests = new ArrayList<>();
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                while (numListingsInFlight < maxConcurrentListings && !pendingListings.isEmpty()) {
+                    numListingsInFlight++;
+                    requests.add(pendingListings.poll());
+                }
+                if (numListingsInFlight == 0) {
+                    done = true;
+                    publisher.complete();
+                    return;
+                }
+            }
+            requests.forEach(this::listPage);
+        }
+
+        private void listPage(ListObjectsV2Request request) {
+            listObjectsFunction.apply(request).whenComplete((response, t) -> {
+                if (t != null) {
+                    fail(t);
+                    return;
+                }
+
+                for (CommonPrefix commonPrefix : response.commonPrefixes()) {
+                    // Only the discovery request carries the default delimiter, prefixes are listed with the original request
+                    ListObjectsV2Request prefixRequest = firstRequest.toBuilder().prefix(commonPrefix.prefix()).build();
+                    synchronized (this) {
+                        pendingListings.add(prefixRequest);
+                    }
+                }
+
+                CompletableFuture<Void> lastSend = CompletableFuture.completedFuture(null);
+                Iterator<S3Object> objects = objectsIteratorFunction.apply(response);
+                while (objects.hasNext()) {
+                    lastSend = publisher.send(objects.next());
+                }
+
+                String continuationToken = response.nextContinuationToken();
+                lastSend.whenComplete((r, sendFailure) -> {
+                    if (sendFailure != null) {
+                        fail(sendFailure);
+                    } else if (PaginatorUtils.isOutputTokenAvailable(continuationToken)) {
+                        listPage(request.toBuilder().continuationToken(continuationToken).build());
+                    } else {
+                        synchronized (this) {
+                            numListingsInFlight--;
+                        }
+                        startListings();
+                    }
+                });
+
+                startListings();
+            });
+        }
+
+        private void fail(Throwable t) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+            }
+            publisher.error(t);
+        }
+    }
 }
@@ -17,19 +17,21 @@ package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.List;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -47,6 +49,7 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 /**
  * An internal helper class that traverses the file tree and send the upload request
@@ -90,23 +93,78 @@ public class UploadDirectoryHelper {
         validateDirectory(uploadDirectoryRequest);
 
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
-        List<CompletableFuture<CompletedFileUpload>> futures;
+        CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        try (Stream<Path> entries = listFiles(directory, uploadDirectoryRequest)) {
-            futures = entries.map(path -> {
-                CompletableFuture<CompletedFileUpload> future = uploadSingleFile(uploadDirectoryRequest,
-                                                                                 failedFileUploads, path);
+        Stream<Path> entries = listFiles(directory, uploadDirectoryRequest);
 
-                // Forward cancellation of the return future to all individual futures.
-                CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
-                return future;
-            }).collect(Collectors.toList());
-        }
+        // The file tree is visited lazily: a new file is only pulled from the walk when an in-flight upload completes, so the
+        // number of pending uploads is bounded regardless of the size of the directory.
+        SimplePublisher<Path> pathPublisher = new SimplePublisher<>();
+        AsyncBufferingSubscriber<Path> asyncBufferingSubscriber =
+            new AsyncBufferingSubscriber<>(uploadSingleFile(returnFuture, uploadDirectoryRequest, failedFileUploads,
+                                                            allOfFutures),
+                                           allOfFutures,
+                                           transferConfiguration.option(DIRECTORY_TRANSFER_MAX_CONCURRENCY));
+        pathPublisher.subscribe(asyncBufferingSubscriber);
+
+        allOfFutures.whenComplete((r, t) -> {
+            if (t != null) {
+                // Stop visiting the file tree
+                pathPublisher.error(t);
+                returnFuture.completeExceptionally(t);
+            } else {
+                returnFuture.complete(CompletedDirectoryUpload.builder()
+                                                              .failedTransfers(failedFileUploads)
+                                                              .build());
+            }
+        });
+
+        sendFiles(returnFuture, directory, entries, entries.iterator(), pathPublisher);
+    }
 
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-                         .whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                                                               .failedTransfers(failedFileUploads)
-                                                                                               .build()));
+    /**
+     * Sends files to the publisher until the subscriber stops requesting more, then resumes on the transfer manager executor
+     * once there is demand again. The file tree stream is closed once it's exhausted, the directory upload is cancelled or the
+     * upload can no longer proceed.
+     */
+    private void sendFiles(CompletableFuture<CompletedDirectoryUpload> returnFuture, Path directory, Stream<Path> entries,
+                           Iterator<Path> files, SimplePublisher<Path> pathPublisher) {
+        try {
+            while (!returnFuture.isDone() && files.hasNext()) {
+                CompletableFuture<Void> sendFuture = pathPublisher.send(files.next());
+                if (!sendFuture.isDone()) {
+                    sendFuture.whenCompleteAsync((r, t) -> {
+                        if (t == null) {
+                            sendFiles(returnFuture, directory, entries, files, pathPublisher);
+                        } else {
+                            entries.close();
+                        }
+                    }, transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                              .whenComplete((r, t) -> {
+                                  if (t != null) {
+                                      entries.close();
+                                      pathPublisher.error(t);
+                                  }
+                              });
+                    return;
+                }
+                if (sendFuture.isCompletedExceptionally()) {
+                    entries.close();
+                    return;
+                }
+            }
+            entries.close();
+            if (returnFuture.isDone()) {
+                log.debug(() -> "The directory upload was cancelled, stopped visiting " + directory);
+                pathPublisher.error(new CancellationException("The directory upload was cancelled"));
+            } else {
+                pathPublisher.complete();
+            }
+        } catch (UncheckedIOException e) {
+            entries.close();
+            pathPublisher.error(SdkClientException.create("Failed to list files within the provided directory: " + directory,
+                                                          e.getCause()));
+        }
     }
 
     private void validateDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -123,9 +181,32 @@ public class UploadDirectoryHelper {
         }
     }
 
-    private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
-                                                                    Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
+    private Function<Path, CompletableFuture<?>> uploadSingleFile(CompletableFuture<CompletedDirectoryUpload> returnFuture,
+                                                                  UploadDirectoryRequest uploadDirectoryRequest,
+                                                                  Collection<FailedFileUpload> failedFileUploads,
+                                                                  CompletableFuture<Void> allOfFutures) {
+        return path -> {
+            if (returnFuture.isDone()) {
+                // Files already sent to the publisher when the directory upload was cancelled are not uploaded.
+                return CompletableFutureUtils.failedFuture(new CancellationException("The directory upload was cancelled"));
+            }
+            try {
+                CompletableFuture<CompletedFileUpload> future = doUploadSingleFile(uploadDirectoryRequest,
+                                                                                   failedFileUploads, path);
+
+                // Forward cancellation of the return future to all individual futures.
+                CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+                return future;
+            } catch (Throwable t) {
+                allOfFutures.completeExceptionally(t);
+                return CompletableFutureUtils.failedFuture(t);
+            }
+        };
+    }
+
+    private CompletableFuture<CompletedFileUpload> doUploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
+                                                                      Collection<FailedFileUpload> failedFileUploads,
+                                                                      Path path) {
         int nameCount = uploadDirectoryRequest.source().getNameCount();
         UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
         log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
@@ -15,35 +15,87 @@
 
 package software.amazon.awssdk.transfer.s3.internal.model;
 
+import java.io.File;
+import java.time.Instant;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.progress.TransferProgress;
+import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
 @SdkInternalApi
 public final class DefaultFileUpload implements FileUpload {
+    private final Lazy<ResumableFileUpload> resumableFileUpload;
     private final CompletableFuture<CompletedFileUpload> completionFuture;
     private final TransferProgress progress;
     private final UploadFileRequest request;
+    private final PauseObservable pauseObservable;
 
     public DefaultFileUpload(CompletableFuture<CompletedFileUpload> completionFuture,
                              TransferProgress progress,
                              UploadFileRequest request) {
+        this(completionFuture, progress, null, request);
+    }
+
+    /**
+     * @param pauseObservable The observable used to pause the upload, or null if the S3 client does not support pausing
+     * uploads.
+     */
+    public DefaultFileUpload(CompletableFuture<CompletedFileUpload> completionFuture,
+                             TransferProgress progress,
+                             PauseObservable pauseObservable,
+                             UploadFileRequest request) {
         this.completionFuture = Validate.paramNotNull(completionFuture, "completionFuture");
         this.progress = Validate.paramNotNull(progress, "progress");
         this.request = Validate.paramNotNull(request, "request");
+        this.pauseObservable = pauseObservable;
+        this.resumableFileUpload = new Lazy<>(this::doPause);
     }
 
     @Override
     public ResumableFileUpload pause() {
-        throw new UnsupportedOperationException("Pausing an upload is not supported in a non CRT-based S3 Client. For "
-                                                + "upload pause support, pass an AWS CRT-based S3 client to S3TransferManager"
-                                                + "instead: S3AsyncClient.crtBuilder().build();");
+        if (pauseObservable == null) {
+            throw new UnsupportedOperationException("Pausing an upload is only supported by an AWS CRT-based S3 client or an S3 "
+                                                    + "client with multipart enabled. For upload pause support, pass one of "
+                                                    + "them to S3TransferManager instead: S3AsyncClient.crtBuilder().build(); "
+                                                    + "or S3AsyncClient.builder().multipartEnabled(true).build();");
+        }
+        return resumableFileUpload.getValue();
+    }
+
+    private ResumableFileUpload doPause() {
+        File sourceFile = request.source().toFile();
+        ResumableFileUpload.Builder resumableFileUploadBuilder =
+            ResumableFileUpload.builder()
+                               .fileLastModified(Instant.ofEpochMilli(sourceFile.lastModified()))
+                               .fileLength(sourceFile.length())
+                               .uploadFileRequest(request);
+
+        if (completionFuture.isDone()) {
+            return resumableFileUploadBuilder.build();
+        }
+
+        S3ResumeToken token = pauseObservable.pause();
+        completionFuture.cancel(true);
+
+        // Upload hasn't started yet, or it's a single object upload
+        if (token == null) {
+            return resumableFileUploadBuilder.build();
+        }
+
+        return resumableFileUploadBuilder.multipartUploadId(token.uploadId())
+                                         .totalParts(token.totalNumParts())
+                                         .transferredParts(token.numPartsCompleted())
+                                         .partSizeInBytes(token.partSize())
+                                         .build();
     }
 
     @Override
@@ -67,20 +119,28 @@ public final class DefaultFileUpload implements FileUpload {
 
         DefaultFileUpload that = (DefaultFileUpload) o;
 
+        if (!resumableFileUpload.equals(that.resumableFileUpload)) {
+            return false;
+        }
         if (!completionFuture.equals(that.completionFuture)) {
             return false;
         }
         if (!progress.equals(that.progress)) {
             return false;
         }
-        return request.equals(that.request);
+        if (!request.equals(that.request)) {
+            return false;
+        }
+        return Objects.equals(pauseObservable, that.pauseObservable);
     }
 
     @Override
     public int hashCode() {
-        int result = completionFuture.hashCode();
+        int result = resumableFileUpload.hashCode();
+        result = 31 * result + completionFuture.hashCode();
         result = 31 * result + progress.hashCode();
         result = 31 * result + request.hashCode();
+        result = 31 * result + Objects.hashCode(pauseObservable);
         return result;
     }
 
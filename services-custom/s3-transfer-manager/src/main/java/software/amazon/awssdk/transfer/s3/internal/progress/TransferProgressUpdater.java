@@ -73,6 +73,14 @@ public class TransferProgressUpdater {
     }
 
     public AsyncRequestBody wrapRequestBody(AsyncRequestBody requestBody) {
+        return wrapRequestBody(requestBody, 0L);
+    }
+
+    /**
+     * Wraps a request body that starts at the given offset of the transferred object, for example when resuming an upload. The
+     * bytes before the offset are counted as transferred.
+     */
+    public AsyncRequestBody wrapRequestBody(AsyncRequestBody requestBody, long offset) {
         return AsyncRequestBodyListener.wrap(
             requestBody,
             new AsyncRequestBodyListener() {
@@ -80,7 +88,7 @@ public class TransferProgressUpdater {
 
                 @Override
                 public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
-                    resetBytesTransferred();
+                    resetBytesTransferred(offset);
                 }
 
                 @Override
@@ -116,7 +124,7 @@ public class TransferProgressUpdater {
         return new PublisherListener<S3MetaRequestProgress>() {
             @Override
             public void publisherSubscribe(Subscriber<? super S3MetaRequestProgress> subscriber) {
-                resetBytesTransferred();
+                resetBytesTransferred(0L);
             }
 
             @Override
@@ -155,7 +163,7 @@ public class TransferProgressUpdater {
 
                 @Override
                 public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
-                    resetBytesTransferred();
+                    resetBytesTransferred(0L);
                 }
 
                 @Override
@@ -175,8 +183,8 @@ public class TransferProgressUpdater {
             });
     }
 
-    private void resetBytesTransferred() {
-        progress.updateAndGet(b -> b.transferredBytes(0L));
+    private void resetBytesTransferred(long transferredBytes) {
+        progress.updateAndGet(b -> b.transferredBytes(transferredBytes));
     }
 
     private void incrementBytesTransferred(long numBytes) {
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.utils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.CrcChecksum;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.services.s3.internal.multipart.FullObjectChecksumCalculator;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Utilities to determine the CRC32 or CRC32C checksum of a whole object for completed transfers.
+ */
+@SdkInternalApi
+public final class ChecksumUtils {
+    private static final Logger log = Logger.loggerFor(ChecksumUtils.class);
+
+    private ChecksumUtils() {
+    }
+
+    /**
+     * Returns the full object checksum in the response of an upload using the given algorithm, or null if the upload did not
+     * use a CRC algorithm or S3 returned a checksum of part checksums.
+     */
+    public static String fullObjectChecksum(ChecksumAlgorithm algorithm, PutObjectResponse response) {
+        String checksum;
+        if (algorithm == ChecksumAlgorithm.CRC32) {
+            checksum = response.checksumCRC32();
+        } else if (algorithm == ChecksumAlgorithm.CRC32_C) {
+            checksum = response.checksumCRC32C();
+        } else {
+            return null;
+        }
+        return FullObjectChecksumCalculator.isComposite(checksum) ? null : checksum;
+    }
+
+    /**
+     * Wrap a download response transformer so that the full object CRC32 or CRC32C checksum is set on the provided reference
+     * once the object has been received.
+     *
+     * <p>If S3 returns a checksum of the whole object, it is used as is since the SDK already validates it against the received
+     * content. If S3 returns a checksum of part checksums, the full object checksum is calculated while the content is being
+     * received, so it can be compared with the checksum reported when the object was uploaded.
+     */
+    public static <ResultT> AsyncResponseTransformer<GetObjectResponse, ResultT> wrapWithFullObjectChecksum(
+        AsyncResponseTransformer<GetObjectResponse, ResultT> responseTransformer,
+        AtomicReference<String> fullObjectChecksum) {
+        return AsyncResponseTransformerListener.wrap(responseTransformer, new FullObjectChecksumListener(fullObjectChecksum));
+    }
+
+    private static final class FullObjectChecksumListener implements AsyncResponseTransformerListener<GetObjectResponse> {
+        private final AtomicReference<String> fullObjectChecksum;
+        private volatile CrcChecksum checksum;
+
+        private FullObjectChecksumListener(AtomicReference<String> fullObjectChecksum) {
+            this.fullObjectChecksum = fullObjectChecksum;
+        }
+
+        @Override
+        public void transformerOnResponse(GetObjectResponse response) {
+            fullObjectChecksum.set(null);
+            checksum = null;
+
+            if (response.checksumCRC32C() != null) {
+                onChecksum(response.checksumCRC32C(), ChecksumAlgorithm.CRC32_C);
+            } else if (response.checksumCRC32() != null) {
+                onChecksum(response.checksumCRC32(), ChecksumAlgorithm.CRC32);
+            }
+        }
+
+        private void onChecksum(String responseChecksum, ChecksumAlgorithm algorithm) {
+            if (!FullObjectChecksumCalculator.isComposite(responseChecksum)) {
+                fullObjectChecksum.set(responseChecksum);
+                return;
+            }
+
+            log.debug(() -> "Calculating the " + algorithm + " checksum of the downloaded object");
+            checksum = algorithm == ChecksumAlgorithm.CRC32 ? CrcChecksum.crc32() : CrcChecksum.crc32c();
+        }
+
+        @Override
+        public void subscriberOnNext(ByteBuffer byteBuffer) {
+            CrcChecksum crc = checksum;
+            if (crc != null) {
+                crc.update(byteBuffer.duplicate());
+            }
+        }
+
+        @Override
+        public void subscriberOnComplete() {
+            CrcChecksum crc = checksum;
+            if (crc != null) {
+                fullObjectChecksum.set(FullObjectChecksumCalculator.encode(crc.getValue()));
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.model;
 
 import java.util.Objects;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -32,9 +33,11 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class CompletedFileDownload implements CompletedObjectTransfer {
     private final GetObjectResponse response;
+    private final String fullObjectChecksum;
 
     private CompletedFileDownload(DefaultBuilder builder) {
         this.response = Validate.paramNotNull(builder.response, "response");
+        this.fullObjectChecksum = builder.fullObjectChecksum;
     }
     
     @Override
@@ -42,6 +45,21 @@ public final class CompletedFileDownload implements CompletedObjectTransfer {
         return response;
     }
 
+    /**
+     * The base64-encoded CRC32 or CRC32C checksum of the whole downloaded object. It is only available if checksum validation
+     * was enabled through {@link software.amazon.awssdk.services.s3.model.GetObjectRequest#checksumMode()} and the object has a
+     * CRC32 or CRC32C checksum.
+     * <p>
+     * For objects that were uploaded using multipart upload, S3 only returns a checksum of the part checksums, so the full
+     * object checksum is calculated while the object is being downloaded. It can be compared with
+     * {@link CompletedFileUpload#fullObjectChecksum()} for end-to-end integrity validation.
+     *
+     * @return the full object checksum
+     */
+    public Optional<String> fullObjectChecksum() {
+        return Optional.ofNullable(fullObjectChecksum);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -53,18 +71,24 @@ public final class CompletedFileDownload implements CompletedObjectTransfer {
 
         CompletedFileDownload that = (CompletedFileDownload) o;
 
-        return Objects.equals(response, that.response);
+        if (!Objects.equals(response, that.response)) {
+            return false;
+        }
+        return Objects.equals(fullObjectChecksum, that.fullObjectChecksum);
     }
 
     @Override
     public int hashCode() {
-        return response != null ? response.hashCode() : 0;
+        int result = response != null ? response.hashCode() : 0;
+        result = 31 * result + Objects.hashCode(fullObjectChecksum);
+        return result;
     }
 
     @Override
     public String toString() {
         return ToString.builder("CompletedFileDownload")
                        .add("response", response)
+                       .add("fullObjectChecksum", fullObjectChecksum)
                        .build();
     }
 
@@ -81,6 +105,14 @@ public final class CompletedFileDownload implements CompletedObjectTransfer {
          */
         Builder response(GetObjectResponse response);
 
+        /**
+         * Specifies the base64-encoded CRC32 or CRC32C checksum of the whole object
+         *
+         * @param fullObjectChecksum the full object checksum
+         * @return This builder for method chaining.
+         */
+        Builder fullObjectChecksum(String fullObjectChecksum);
+
         /**
          * Builds a {@link CompletedFileUpload} based on the properties supplied to this builder
          * @return An initialized {@link CompletedFileDownload}
@@ -90,6 +122,7 @@ public final class CompletedFileDownload implements CompletedObjectTransfer {
 
     private static final class DefaultBuilder implements Builder {
         private GetObjectResponse response;
+        private String fullObjectChecksum;
 
         private DefaultBuilder() {
         }
@@ -108,6 +141,20 @@ public final class CompletedFileDownload implements CompletedObjectTransfer {
             return response;
         }
 
+        @Override
+        public Builder fullObjectChecksum(String fullObjectChecksum) {
+            this.fullObjectChecksum = fullObjectChecksum;
+            return this;
+        }
+
+        public void setFullObjectChecksum(String fullObjectChecksum) {
+            fullObjectChecksum(fullObjectChecksum);
+        }
+
+        public String getFullObjectChecksum() {
+            return fullObjectChecksum;
+        }
+
         @Override
         public CompletedFileDownload build() {
             return new CompletedFileDownload(this);
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.model;
 
 import java.util.Objects;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
@@ -32,9 +33,11 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class CompletedFileUpload implements CompletedObjectTransfer {
     private final PutObjectResponse response;
+    private final String fullObjectChecksum;
 
     private CompletedFileUpload(DefaultBuilder builder) {
         this.response = Validate.paramNotNull(builder.response, "response");
+        this.fullObjectChecksum = builder.fullObjectChecksum;
     }
     
     @Override
@@ -42,6 +45,21 @@ public final class CompletedFileUpload implements CompletedObjectTransfer {
         return response;
     }
 
+    /**
+     * The base64-encoded CRC32 or CRC32C checksum of the whole object, calculated using the checksum algorithm of the
+     * {@link software.amazon.awssdk.services.s3.model.PutObjectRequest}.
+     * <p>
+     * For multipart uploads, S3 only returns a checksum of the part checksums. The full object checksum is then combined from
+     * the checksums of the uploaded parts, without reading the file again. It is empty if the upload did not use the CRC32 or
+     * CRC32C checksum algorithm, or if it cannot be determined, e.g. when the upload was performed by the AWS CRT-based S3
+     * client using multipart upload.
+     *
+     * @return the full object checksum
+     */
+    public Optional<String> fullObjectChecksum() {
+        return Optional.ofNullable(fullObjectChecksum);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -53,18 +71,24 @@ public final class CompletedFileUpload implements CompletedObjectTransfer {
 
         CompletedFileUpload that = (CompletedFileUpload) o;
 
-        return Objects.equals(response, that.response);
+        if (!Objects.equals(response, that.response)) {
+            return false;
+        }
+        return Objects.equals(fullObjectChecksum, that.fullObjectChecksum);
     }
 
     @Override
     public int hashCode() {
-        return response.hashCode();
+        int result = response.hashCode();
+        result = 31 * result + Objects.hashCode(fullObjectChecksum);
+        return result;
     }
 
     @Override
     public String toString() {
         return ToString.builder("CompletedFileUpload")
                        .add("response", response)
+                       .add("fullObjectChecksum", fullObjectChecksum)
                        .build();
     }
 
@@ -88,6 +112,14 @@ public final class CompletedFileUpload implements CompletedObjectTransfer {
          */
         Builder response(PutObjectResponse response);
 
+        /**
+         * Specifies the base64-encoded CRC32 or CRC32C checksum of the whole object
+         *
+         * @param fullObjectChecksum the full object checksum
+         * @return This builder for method chaining.
+         */
+        Builder fullObjectChecksum(String fullObjectChecksum);
+
         /**
          * Builds a {@link CompletedFileUpload} based on the properties supplied to this builder
          * @return An initialized {@link CompletedFileUpload}
@@ -97,6 +129,7 @@ public final class CompletedFileUpload implements CompletedObjectTransfer {
 
     private static class DefaultBuilder implements Builder {
         private PutObjectResponse response;
+        private String fullObjectChecksum;
 
         private DefaultBuilder() {
         }
@@ -107,6 +140,12 @@ public final class CompletedFileUpload implements CompletedObjectTransfer {
             return this;
         }
 
+        @Override
+        public Builder fullObjectChecksum(String fullObjectChecksum) {
+            this.fullObjectChecksum = fullObjectChecksum;
+            return this;
+        }
+
         @Override
         public CompletedFileUpload build() {
             return new CompletedFileUpload(this);
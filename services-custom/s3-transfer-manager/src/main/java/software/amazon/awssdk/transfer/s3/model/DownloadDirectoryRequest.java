@@ -18,6 +18,7 @@ package software.amazon.awssdk.transfer.s3.model;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.OptionalInt;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -44,6 +45,7 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Integer listObjectsMaxConcurrency;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +53,8 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.listObjectsMaxConcurrency = Validate.isPositiveOrNull(builder.listObjectsMaxConcurrency,
+                                                                   "listObjectsMaxConcurrency");
     }
 
     /**
@@ -97,6 +101,14 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return the maximum number of prefixes to list concurrently
+     * @see Builder#listObjectsMaxConcurrency(Integer)
+     */
+    public OptionalInt listObjectsMaxConcurrency() {
+        return listObjectsMaxConcurrency == null ? OptionalInt.empty() : OptionalInt.of(listObjectsMaxConcurrency);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +145,9 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(listObjectsMaxConcurrency, that.listObjectsMaxConcurrency)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +158,7 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (listObjectsMaxConcurrency != null ? listObjectsMaxConcurrency.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +170,7 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("listObjectsMaxConcurrency", listObjectsMaxConcurrency)
                        .build();
     }
 
@@ -328,6 +345,24 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Specifies the maximum number of prefixes that will be listed concurrently. Must be positive.
+         *
+         * <p>
+         * By default, the bucket is listed sequentially with a single paginated {@link ListObjectsV2Request}. When a value
+         * greater than 1 is provided, the listing is partitioned by the common prefixes discovered under the request prefix
+         * and the partitions are listed concurrently, which can significantly reduce the listing time for buckets with a large
+         * number of objects. If no delimiter is configured via {@link #listObjectsV2RequestTransformer(Consumer)}, "/" is used
+         * to discover the top-level prefixes and each of them is then listed recursively. Objects are handed off for download
+         * as soon as each page arrives, so objects are not downloaded in lexicographical order.
+         *
+         * <p>
+         * Default to 1
+         *
+         * @param listObjectsMaxConcurrency the maximum number of prefixes to list concurrently
+         * @return This builder for method chaining.
+         */
+        Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +372,7 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Integer listObjectsMaxConcurrency;
 
         private DefaultBuilder() {
         }
@@ -347,6 +383,7 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.listObjectsMaxConcurrency = request.listObjectsMaxConcurrency;
         }
 
         @Override
@@ -395,6 +432,20 @@ public final class DownloadDirectoryRequest
             return this;
         }
 
+        @Override
+        public Builder listObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            this.listObjectsMaxConcurrency = listObjectsMaxConcurrency;
+            return this;
+        }
+
+        public void setListObjectsMaxConcurrency(Integer listObjectsMaxConcurrency) {
+            listObjectsMaxConcurrency(listObjectsMaxConcurrency);
+        }
+
+        public Integer getListObjectsMaxConcurrency() {
+            return listObjectsMaxConcurrency;
+        }
+
         public void setFilter(DownloadFilter filter) {
             filter(filter);
         }
@@ -35,9 +35,10 @@ public interface FileUpload extends ObjectTransfer {
      * 
      * <p>
      * Currently, it's only supported if the underlying {@link S3AsyncClient} is CRT-based (created via
-     * {@link S3AsyncClient#crtBuilder()} or {@link S3AsyncClient#crtCreate()}).
+     * {@link S3AsyncClient#crtBuilder()} or {@link S3AsyncClient#crtCreate()}), or is a Java-based S3 client with multipart
+     * enabled (created via {@code S3AsyncClient.builder().multipartEnabled(true)}).
      * It will throw {@link UnsupportedOperationException} if the {@link S3TransferManager} is created
-     * with a non CRT-based S3 client (created via {@link S3AsyncClient#builder()}).
+     * with any other S3 client.
      *
      * @return A {@link ResumableFileUpload} that can be used to resume the upload.
      */
@@ -22,6 +22,7 @@ import java.util.concurrent.CompletableFuture;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
@@ -32,7 +33,8 @@ class DefaultFileUploadTest {
     @Test
     void equals_hashcode() {
         EqualsVerifier.forClass(DefaultFileUpload.class)
-                      .withNonnullFields("completionFuture", "progress", "request")
+                      .withNonnullFields("completionFuture", "progress", "request", "resumableFileUpload")
+                      .withPrefabValues(PauseObservable.class, new PauseObservable(), new PauseObservable())
                       .verify();
     }
 
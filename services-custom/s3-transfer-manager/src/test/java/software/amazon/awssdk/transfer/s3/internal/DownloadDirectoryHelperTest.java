@@ -18,7 +18,9 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -292,6 +294,28 @@ public class DownloadDirectoryHelperTest {
     }
 
 
+    @Test
+    void downloadDirectory_withListObjectsMaxConcurrency_shouldListConcurrently() throws Exception {
+        stubSuccessfulListObjects(listObjectsHelper, "key1", "key2");
+
+        FileDownload fileDownload = newSuccessfulDownload();
+        FileDownload fileDownload2 = newSuccessfulDownload();
+
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(fileDownload, fileDownload2);
+        DirectoryDownload downloadDirectory =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .listObjectsMaxConcurrency(4)
+                                                                              .build());
+
+        CompletedDirectoryDownload completedDirectoryDownload = downloadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        verify(listObjectsHelper, times(1)).listS3ObjectsRecursively(any(ListObjectsV2Request.class), eq(4));
+        verify(listObjectsHelper, never()).listS3ObjectsRecursively(any(ListObjectsV2Request.class));
+    }
+
     @ParameterizedTest
     @MethodSource("fileSystems")
     void downloadDirectory_shouldRecursivelyDownload(FileSystem jimfs) {
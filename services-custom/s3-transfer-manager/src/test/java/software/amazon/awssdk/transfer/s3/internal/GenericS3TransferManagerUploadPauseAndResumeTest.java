@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.Part;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.testutils.RandomTempFile;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.FileUpload;
+import software.amazon.awssdk.transfer.s3.model.ResumableFileUpload;
+import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
+
+class GenericS3TransferManagerUploadPauseAndResumeTest {
+    private static final long PART_SIZE = 8 * 1024;
+    // Four parts: [8KB, 8KB, 8KB, 1KB]
+    private static final long FILE_SIZE = 25 * 1024;
+    private static final String UPLOAD_ID = "uploadId";
+
+    private S3AsyncClient mockS3;
+    private S3TransferManager tm;
+    private File file;
+
+    @BeforeEach
+    public void methodSetup() throws IOException {
+        file = new RandomTempFile("test", FILE_SIZE);
+        mockS3 = mock(S3AsyncClient.class);
+        S3AsyncClient multipartClient =
+            MultipartS3AsyncClient.create(mockS3, MultipartConfiguration.builder()
+                                                                        .minimumPartSizeInBytes(PART_SIZE)
+                                                                        .thresholdInBytes(PART_SIZE)
+                                                                        .build());
+        tm = new GenericS3TransferManager(TransferManagerConfiguration.builder().build(), multipartClient, false);
+    }
+
+    @AfterEach
+    public void methodTeardown() {
+        file.delete();
+        tm.close();
+    }
+
+    @Test
+    void pause_multipartUploadInProgress_shouldReturnResumableFileUploadAndNotAbort() {
+        when(mockS3.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId(UPLOAD_ID).build()));
+
+        AtomicInteger uploadPartCalls = new AtomicInteger();
+        when(mockS3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            AsyncRequestBody requestBody = i.getArgument(1);
+            requestBody.subscribe(b -> { });
+            if (uploadPartCalls.incrementAndGet() == 1) {
+                return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag1").build());
+            }
+            return new CompletableFuture<>();
+        });
+
+        FileUpload fileUpload = tm.uploadFile(uploadFileRequest());
+        verify(mockS3, timeout(5000).times(4)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        ResumableFileUpload resumableFileUpload = fileUpload.pause();
+
+        assertThat(resumableFileUpload.multipartUploadId()).hasValue(UPLOAD_ID);
+        assertThat(resumableFileUpload.partSizeInBytes()).hasValue(PART_SIZE);
+        assertThat(resumableFileUpload.totalParts()).hasValue(4);
+        assertThat(resumableFileUpload.transferredParts()).hasValue(1);
+        assertThat(resumableFileUpload.fileLength()).isEqualTo(FILE_SIZE);
+        assertThat(fileUpload.completionFuture()).isCancelled();
+        verify(mockS3, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(mockS3, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void resumeUploadFile_hasValidResumeToken_shouldOnlyUploadMissingParts() {
+        when(mockS3.listParts(any(ListPartsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListPartsResponse.builder()
+                                                                           .parts(Part.builder().partNumber(1).eTag("etag1").build(),
+                                                                                  Part.builder().partNumber(2).eTag("etag2").build())
+                                                                           .isTruncated(false)
+                                                                           .build()));
+        when(mockS3.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            AsyncRequestBody requestBody = i.getArgument(1);
+            requestBody.subscribe(b -> { });
+            UploadPartRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(UploadPartResponse.builder().eTag("etag" + request.partNumber()).build());
+        });
+        when(mockS3.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        ResumableFileUpload resumableFileUpload = ResumableFileUpload.builder()
+                                                                     .uploadFileRequest(uploadFileRequest())
+                                                                     .fileLength(file.length())
+                                                                     .fileLastModified(Instant.ofEpochMilli(file.lastModified()))
+                                                                     .multipartUploadId(UPLOAD_ID)
+                                                                     .partSizeInBytes(PART_SIZE)
+                                                                     .totalParts(4L)
+                                                                     .transferredParts(2L)
+                                                                     .build();
+
+        FileUpload fileUpload = tm.resumeUploadFile(resumableFileUpload);
+        fileUpload.completionFuture().join();
+
+        // The parts that were already uploaded are counted as transferred, without being read again
+        assertThat(fileUpload.progress().snapshot().transferredBytes()).isEqualTo(FILE_SIZE);
+
+        verify(mockS3, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        ArgumentCaptor<UploadPartRequest> uploadPartCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(mockS3, times(2)).uploadPart(uploadPartCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartCaptor.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(3, 4);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(mockS3).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(completeCaptor.getValue().multipartUpload().parts())
+            .extracting(p -> p.partNumber() + ":" + p.eTag())
+            .containsExactly("1:etag1", "2:etag2", "3:etag3", "4:etag4");
+    }
+
+    private UploadFileRequest uploadFileRequest() {
+        return UploadFileRequest.builder()
+                                .putObjectRequest(p -> p.bucket("bucket").key("key"))
+                                .source(file)
+                                .build();
+    }
+}
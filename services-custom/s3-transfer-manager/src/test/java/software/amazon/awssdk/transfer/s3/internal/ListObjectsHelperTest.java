@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,18 +25,23 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.CommonPrefix;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 class ListObjectsHelperTest {
     private Function<ListObjectsV2Request,
@@ -127,8 +133,90 @@ class ListObjectsHelperTest {
         assertThat(actualObjects).hasSize(10);
     }
 
+    @Test
+    void listS3ObjectsConcurrently_noDelimiter_shouldDiscoverPrefixesAndListThemRecursively() {
+        List<CommonPrefix> commonPrefixes = Arrays.asList(CommonPrefix.builder().prefix("jan/").build(),
+                                                          CommonPrefix.builder().prefix("feb/").build());
+        Map<String, ListObjectsV2Response> responses = new HashMap<>();
+        responses.put("null-null", listObjectsV2Response("nextPage", commonPrefixes, "1", "2"));
+        responses.put("null-nextPage", listObjectsV2Response(null, Collections.emptyList(), "3", "4"));
+        responses.put("jan/-null", listObjectsV2Response("nextPage", Collections.emptyList(), "jan/1", "jan/2", "jan/sub/1"));
+        responses.put("jan/-nextPage", listObjectsV2Response(null, Collections.emptyList(), "jan/3", "jan/4"));
+        responses.put("feb/-null", listObjectsV2Response(null, Collections.emptyList(), "feb/1", "feb/2"));
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenAnswer(i -> {
+                ListObjectsV2Request request = i.getArgument(0);
+                return CompletableFuture.completedFuture(responses.get(request.prefix() + "-" + request.continuationToken()));
+            });
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        ListObjectsV2Request firstRequest = ListObjectsV2Request.builder()
+                                                                .bucket("bucket")
+                                                                .build();
+        listObjectsHelper.listS3ObjectsRecursively(firstRequest, 2)
+                         .subscribe(actualObjects::add).join();
+
+        ArgumentCaptor<ListObjectsV2Request> argumentCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(listObjectsFunction, times(5)).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getAllValues()).containsExactlyInAnyOrder(
+            firstRequest.toBuilder().delimiter("/").build(),
+            firstRequest.toBuilder().delimiter("/").continuationToken("nextPage").build(),
+            firstRequest.toBuilder().prefix("jan/").build(),
+            firstRequest.toBuilder().prefix("jan/").continuationToken("nextPage").build(),
+            firstRequest.toBuilder().prefix("feb/").build());
+        assertThat(actualObjects).extracting(S3Object::key)
+                                 .containsExactlyInAnyOrder("1", "2", "3", "4", "jan/1", "jan/2", "jan/sub/1", "jan/3", "jan/4",
+                                                            "feb/1", "feb/2");
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_shouldBoundNumberOfPrefixesListedAtATime() {
+        List<CommonPrefix> commonPrefixes = Arrays.asList(CommonPrefix.builder().prefix("a/").build(),
+                                                          CommonPrefix.builder().prefix("b/").build(),
+                                                          CommonPrefix.builder().prefix("c/").build());
+        Map<String, CompletableFuture<ListObjectsV2Response>> prefixFutures = new ConcurrentHashMap<>();
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenAnswer(i -> {
+                ListObjectsV2Request request = i.getArgument(0);
+                if (request.prefix() == null) {
+                    return CompletableFuture.completedFuture(listObjectsV2Response(null, commonPrefixes, "1"));
+                }
+                return prefixFutures.computeIfAbsent(request.prefix(), p -> new CompletableFuture<>());
+            });
+
+        List<S3Object> actualObjects = new ArrayList<>();
+        CompletableFuture<Void> listFuture =
+            listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(actualObjects::add);
+
+        assertThat(prefixFutures).containsOnlyKeys("a/", "b/");
+
+        prefixFutures.get("a/").complete(listObjectsV2Response(null, Collections.emptyList(), "a/1"));
+        assertThat(prefixFutures).containsOnlyKeys("a/", "b/", "c/");
+
+        prefixFutures.get("c/").complete(listObjectsV2Response(null, Collections.emptyList(), "c/1"));
+        assertThat(listFuture).isNotDone();
+
+        prefixFutures.get("b/").complete(listObjectsV2Response(null, Collections.emptyList(), "b/1"));
+        listFuture.join();
+        assertThat(actualObjects).extracting(S3Object::key).containsExactlyInAnyOrder("1", "a/1", "b/1", "c/1");
+    }
+
+    @Test
+    void listS3ObjectsConcurrently_listFails_shouldFailPublisher() {
+        SdkClientException exception = SdkClientException.create("failed");
+        when(listObjectsFunction.apply(any(ListObjectsV2Request.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(exception));
+
+        CompletableFuture<Void> listFuture =
+            listObjectsHelper.listS3ObjectsRecursively(ListObjectsV2Request.builder().bucket("bucket").build(), 2)
+                             .subscribe(ignore -> { });
+
+        assertThatThrownBy(listFuture::join).hasCause(exception);
+    }
+
     private ListObjectsV2Response listObjectsV2Response(String... keys) {
-        return listObjectsV2Response(null, null, keys);
+        return listObjectsV2Response(null, Collections.emptyList(), keys);
     }
 
     private ListObjectsV2Response listObjectsV2Response(String continuationToken,
@@ -18,7 +18,10 @@ package software.amazon.awssdk.transfer.s3.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
@@ -30,11 +33,13 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -52,6 +57,7 @@ import software.amazon.awssdk.services.s3.internal.crt.S3MetaRequestPauseObserva
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.testutils.FileUtils;
+import software.amazon.awssdk.testutils.Waiter;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
@@ -126,6 +132,7 @@ public class UploadDirectoryHelperTest {
                                                                         .bucket("bucket")
                                                                         .build());
 
+        verify(singleUploadFunction, timeout(1000).times(2)).apply(any(UploadFileRequest.class));
         uploadDirectory.completionFuture().cancel(true);
 
         assertThatThrownBy(() -> future.get(1, TimeUnit.SECONDS))
@@ -135,6 +142,77 @@ public class UploadDirectoryHelperTest {
             .isInstanceOf(CancellationException.class);
     }
 
+    @Test
+    void uploadDirectory_maxConcurrency_shouldBoundInFlightUploads() throws Exception {
+        for (int i = 3; i <= 10; i++) {
+            Files.createFile(jimfs.getPath("test/" + i));
+        }
+        List<CompletableFuture<CompletedFileUpload>> futures = new CopyOnWriteArrayList<>();
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            CompletableFuture<CompletedFileUpload> future = new CompletableFuture<>();
+            futures.add(future);
+            return newUpload(future);
+        });
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                      .directoryTransferMaxConcurrency(3)
+                                                                                      .build(),
+                                                          singleUploadFunction);
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        CompletedFileUpload completedFileUpload =
+            CompletedFileUpload.builder().response(PutObjectResponse.builder().build()).build();
+        for (int completed = 0; completed < 10; completed++) {
+            int expectedInFlight = Math.min(3, 10 - completed);
+            int expectedStarted = completed + expectedInFlight;
+            Waiter.run(futures::size)
+                  .until(size -> size == expectedStarted)
+                  .orFailAfter(Duration.ofSeconds(5));
+            assertThat(futures.stream().filter(f -> !f.isDone())).hasSize(expectedInFlight);
+            futures.get(completed).complete(completedFileUpload);
+        }
+
+        CompletedDirectoryUpload completedDirectoryUpload = uploadDirectory.completionFuture().get(5, TimeUnit.SECONDS);
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(futures).hasSize(10);
+    }
+
+    @Test
+    void uploadDirectory_cancel_shouldStopVisitingFileTree() throws Exception {
+        for (int i = 3; i <= 10; i++) {
+            Files.createFile(jimfs.getPath("test/" + i));
+        }
+        List<CompletableFuture<CompletedFileUpload>> futures = new CopyOnWriteArrayList<>();
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            CompletableFuture<CompletedFileUpload> future = new CompletableFuture<>();
+            futures.add(future);
+            return newUpload(future);
+        });
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder()
+                                                                                      .directoryTransferMaxConcurrency(1)
+                                                                                      .build(),
+                                                          singleUploadFunction);
+
+        DirectoryUpload uploadDirectory =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .build());
+
+        Waiter.run(futures::size)
+              .until(size -> size == 1)
+              .orFailAfter(Duration.ofSeconds(5));
+        uploadDirectory.completionFuture().cancel(true);
+
+        assertThatThrownBy(() -> futures.get(0).get(1, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+        verify(singleUploadFunction, after(500).times(1)).apply(any(UploadFileRequest.class));
+    }
+
     @Test
     void uploadDirectory_allUploadsSucceed_failedUploadsShouldBeEmpty() throws Exception {
         PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.internal.multipart.FullObjectChecksumCalculator;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+class ChecksumUtilsTest {
+    private static final byte[] CONTENT = "Hello, full object checksum".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void fullObjectChecksum_singlePartUpload_shouldReturnResponseChecksum() {
+        PutObjectResponse response = PutObjectResponse.builder().checksumCRC32C("crc32c").checksumCRC32("crc32").build();
+
+        assertThat(ChecksumUtils.fullObjectChecksum(ChecksumAlgorithm.CRC32_C, response)).isEqualTo("crc32c");
+        assertThat(ChecksumUtils.fullObjectChecksum(ChecksumAlgorithm.CRC32, response)).isEqualTo("crc32");
+    }
+
+    @Test
+    void fullObjectChecksum_compositeChecksumOrNonCrcAlgorithm_shouldReturnNull() {
+        PutObjectResponse response = PutObjectResponse.builder().checksumCRC32("AAAAAA==-2").checksumSHA256("sha").build();
+
+        assertThat(ChecksumUtils.fullObjectChecksum(ChecksumAlgorithm.CRC32, response)).isNull();
+        assertThat(ChecksumUtils.fullObjectChecksum(ChecksumAlgorithm.SHA256, response)).isNull();
+        assertThat(ChecksumUtils.fullObjectChecksum(null, response)).isNull();
+    }
+
+    @Test
+    void wrapWithFullObjectChecksum_compositeChecksum_shouldCalculateChecksumOfContent() {
+        AtomicReference<String> fullObjectChecksum = new AtomicReference<>();
+
+        download(GetObjectResponse.builder().checksumCRC32("AAAAAA==-2").build(), fullObjectChecksum);
+
+        CRC32 expected = new CRC32();
+        expected.update(CONTENT);
+        assertThat(fullObjectChecksum).hasValue(FullObjectChecksumCalculator.encode(expected.getValue()));
+    }
+
+    @Test
+    void wrapWithFullObjectChecksum_fullObjectChecksum_shouldUseResponseChecksum() {
+        AtomicReference<String> fullObjectChecksum = new AtomicReference<>();
+
+        download(GetObjectResponse.builder().checksumCRC32C("crc32c").build(), fullObjectChecksum);
+
+        assertThat(fullObjectChecksum).hasValue("crc32c");
+    }
+
+    @Test
+    void wrapWithFullObjectChecksum_noChecksum_shouldNotSetChecksum() {
+        AtomicReference<String> fullObjectChecksum = new AtomicReference<>();
+
+        download(GetObjectResponse.builder().build(), fullObjectChecksum);
+
+        assertThat(fullObjectChecksum).hasValue(null);
+    }
+
+    private static void download(GetObjectResponse response, AtomicReference<String> fullObjectChecksum) {
+        AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> transformer =
+            ChecksumUtils.wrapWithFullObjectChecksum(AsyncResponseTransformer.toBytes(), fullObjectChecksum);
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> future = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(CONTENT, 0, 10),
+                                                              ByteBuffer.wrap(CONTENT, 10, CONTENT.length - 10))));
+
+        assertThat(future.join().asByteArray()).isEqualTo(CONTENT);
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.transfer.s3.util;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import io.reactivex.Flowable;
@@ -35,6 +36,8 @@ public class S3ApiCallMockUtils {
     public static void stubSuccessfulListObjects(ListObjectsHelper helper, String... keys) {
         List<S3Object> s3Objects = Arrays.stream(keys).map(k -> S3Object.builder().key(k).build()).collect(Collectors.toList());
         when(helper.listS3ObjectsRecursively(any(ListObjectsV2Request.class))).thenReturn(SdkPublisher.adapt(Flowable.fromIterable(s3Objects)));
+        when(helper.listS3ObjectsRecursively(any(ListObjectsV2Request.class), anyInt()))
+            .thenReturn(SdkPublisher.adapt(Flowable.fromIterable(s3Objects)));
     }
 
 }
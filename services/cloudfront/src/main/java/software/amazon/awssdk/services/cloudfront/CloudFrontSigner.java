@@ -0,0 +1,238 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import java.nio.file.Path;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.auth.Sha1RsaSigner;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Creates CloudFront signed URLs and signed cookies with a single key pair.
+ * <p>
+ * Unlike {@link CloudFrontUtilities}, which takes the private key with every request, a {@code CloudFrontSigner} is created
+ * once for a key pair and reused: the private key is loaded and validated when the signer is built, and the underlying
+ * {@link Signature} instances are kept and reused across calls. This makes it better suited to applications that sign a
+ * large number of URLs or cookies with the same key. Signing does not make any network calls.
+ * <p>
+ * Instances are thread safe and should be shared.
+ *
+ * <p>
+ * Example usage:
+ * {@snippet :
+ *     CloudFrontSigner signer = CloudFrontSigner.builder()
+ *                                               .privateKey(Paths.get("/path/to/private_key.pem"))
+ *                                               .keyPairId("keyPairId")
+ *                                               .build();
+ *     Instant expirationDate = Instant.now().plus(Duration.ofHours(1));
+ *     SignedUrl signedUrl = signer.getSignedUrlWithCannedPolicy("https://d1npcfkc2mojrf.cloudfront.net/s3ObjectKey",
+ *                                                               expirationDate);
+ * }
+ *
+ * @see CloudFrontUtilities
+ */
+@Immutable
+@ThreadSafe
+@SdkPublicApi
+public final class CloudFrontSigner {
+
+    private final String keyPairId;
+    private final Sha1RsaSigner signer;
+
+    private CloudFrontSigner(BuilderImpl builder) {
+        this.keyPairId = Validate.paramNotNull(builder.keyPairId, "keyPairId");
+        PrivateKey privateKey = Validate.paramNotNull(builder.privateKey, "privateKey");
+        try {
+            this.signer = new Sha1RsaSigner(privateKey);
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not create a signer with the provided private key", e);
+        }
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Returns a signed URL with a canned policy that grants universal access to private content until the given date.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-creating-signed-url-canned-policy.html"
+     * >Creating a signed URL using a canned policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to sign, including any query parameters
+     * @param expirationDate The date after which the URL no longer grants access
+     * @return A signed URL that will permit access to the resource
+     */
+    public SignedUrl getSignedUrlWithCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        byte[] signature = signer.sign(SigningUtils.cannedPolicyBytes(resourceUrl, expirationDate));
+        return SigningUtils.buildSignedUrl(resourceUrl, "Expires=" + expirationDate.getEpochSecond(), signature, keyPairId);
+    }
+
+    /**
+     * Returns signed URLs with a canned policy for each of the given resources, all expiring at the same date. This is
+     * equivalent to calling {@link #getSignedUrlWithCannedPolicy(String, Instant)} for each resource, but shares the parts of
+     * the policy and the signing state that are common to all of them.
+     *
+     * @param resourceUrls The URLs of the resources to sign, including any query parameters
+     * @param expirationDate The date after which the URLs no longer grant access
+     * @return The signed URLs, in the iteration order of {@code resourceUrls}
+     */
+    public List<SignedUrl> getSignedUrlsWithCannedPolicy(Collection<String> resourceUrls, Instant expirationDate) {
+        Validate.paramNotNull(resourceUrls, "resourceUrls");
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        byte[] policySuffix = SigningUtils.cannedPolicySuffix(expirationDate);
+        String expiresParameter = "Expires=" + expirationDate.getEpochSecond();
+
+        List<SignedUrl> signedUrls = new ArrayList<>(resourceUrls.size());
+        Signature signature = signer.acquire();
+        boolean initialized = true;
+        try {
+            for (String resourceUrl : resourceUrls) {
+                byte[] policy = SigningUtils.cannedPolicyBytes(resourceUrl, policySuffix);
+                initialized = false;
+                byte[] signatureBytes = Sha1RsaSigner.sign(signature, policy);
+                initialized = true;
+                signedUrls.add(SigningUtils.buildSignedUrl(resourceUrl, expiresParameter, signatureBytes, keyPairId));
+            }
+        } finally {
+            if (initialized) {
+                signer.release(signature);
+            }
+        }
+        return signedUrls;
+    }
+
+    /**
+     * Returns a signed URL that provides tailored access to private content based on an access time window and an IP range.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-creating-signed-url-custom-policy.html"
+     * >Creating a signed URL using a custom policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to sign, including any query parameters. The '*' and '?' wildcards may be used
+     * in the policy; if null, the policy grants access to all resources.
+     * @param activeDate An optional date before which the URL does not grant access
+     * @param expirationDate The date after which the URL no longer grants access
+     * @param ipRange An optional IPv4 CIDR range of the clients allowed to access the resource
+     * @return A signed URL that will permit access to the resource
+     */
+    public SignedUrl getSignedUrlWithCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                  String ipRange) {
+        byte[] policy = SigningUtils.customPolicyBytesForSignedUrl(resourceUrl, activeDate, expirationDate, ipRange);
+        byte[] signature = signer.sign(policy);
+        return SigningUtils.buildSignedUrl(resourceUrl, "Policy=" + SigningUtils.makeBytesUrlSafe(policy), signature,
+                                           keyPairId);
+    }
+
+    /**
+     * Returns the cookies for a canned policy that grants universal access to private content until the given date.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-setting-signed-cookie-canned-policy.html"
+     * >Setting signed cookies using a canned policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to sign
+     * @param expirationDate The date after which the cookies no longer grant access
+     * @return The signed cookies with a canned policy
+     */
+    public CookiesForCannedPolicy getCookiesForCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        byte[] signature = signer.sign(SigningUtils.cannedPolicyBytes(resourceUrl, expirationDate));
+        return SigningUtils.buildCookiesForCannedPolicy(resourceUrl, expirationDate, signature, keyPairId);
+    }
+
+    /**
+     * Returns the cookies for a custom policy that provides tailored access to private content based on an access time
+     * window and an IP range.
+     * For more information, see <a href=
+     * "https://docs.aws.amazon.com/AmazonCloudFront/latest/DeveloperGuide/private-content-setting-signed-cookie-custom-policy.html"
+     * >Setting signed cookies using a custom policy</a>.
+     *
+     * @param resourceUrl The URL of the resource to sign. The '*' and '?' wildcards may be used in the policy.
+     * @param activeDate An optional date before which the cookies do not grant access
+     * @param expirationDate The date after which the cookies no longer grant access
+     * @param ipRange An optional IPv4 CIDR range of the clients allowed to access the resource
+     * @return The signed cookies with a custom policy
+     */
+    public CookiesForCustomPolicy getCookiesForCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                            String ipRange) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        byte[] policy = SigningUtils.customPolicyBytes(resourceUrl, activeDate, expirationDate, ipRange);
+        byte[] signature = signer.sign(policy);
+        return SigningUtils.buildCookiesForCustomPolicy(resourceUrl, policy, signature, keyPairId);
+    }
+
+    public interface Builder extends SdkBuilder<Builder, CloudFrontSigner> {
+
+        /**
+         * Configure the private key to sign with.
+         */
+        Builder privateKey(PrivateKey privateKey);
+
+        /**
+         * Configure the private key to sign with, loaded from the given file in either PEM or DER format. The key is read
+         * once, when this method is called.
+         */
+        Builder privateKey(Path keyFile) throws Exception;
+
+        /**
+         * Configure the ID of the CloudFront key pair that the private key belongs to.
+         */
+        Builder keyPairId(String keyPairId);
+    }
+
+    private static final class BuilderImpl implements Builder {
+        private PrivateKey privateKey;
+        private String keyPairId;
+
+        @Override
+        public Builder privateKey(PrivateKey privateKey) {
+            this.privateKey = privateKey;
+            return this;
+        }
+
+        @Override
+        public Builder privateKey(Path keyFile) throws Exception {
+            this.privateKey = SigningUtils.loadPrivateKey(keyFile);
+            return this;
+        }
+
+        @Override
+        public Builder keyPairId(String keyPairId) {
+            this.keyPairId = keyPairId;
+            return this;
+        }
+
+        @Override
+        public CloudFrontSigner build() {
+            return new CloudFrontSigner(this);
+        }
+    }
+}
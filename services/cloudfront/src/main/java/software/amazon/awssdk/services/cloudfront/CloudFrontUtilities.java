@@ -15,9 +15,6 @@
 
 package software.amazon.awssdk.services.cloudfront;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
-import java.net.URI;
 import java.security.InvalidKeyException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
@@ -26,9 +23,6 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
 import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
 import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
 import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
 import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
@@ -52,11 +46,6 @@ import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 @SdkPublicApi
 public final class CloudFrontUtilities {
 
-    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
-    private static final String SIGNATURE_KEY = "CloudFront-Signature";
-    private static final String EXPIRES_KEY = "CloudFront-Expires";
-    private static final String POLICY_KEY = "CloudFront-Policy";
-
     private CloudFrontUtilities() {
     }
 
@@ -138,20 +127,10 @@ public final class CloudFrontUtilities {
      */
     public SignedUrl getSignedUrlWithCannedPolicy(CannedSignerRequest request) {
         try {
-            String resourceUrl = request.resourceUrl();
-            String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, request.expirationDate());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy.getBytes(UTF_8), request.privateKey());
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String domain = uri.getHost();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Expires=" + request.expirationDate().getEpochSecond()
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder().protocol(protocol).domain(domain).encodedPath(encodedPath)
-                                   .url(protocol + "://" + domain + encodedPath).build();
+            byte[] cannedPolicy = SigningUtils.cannedPolicyBytes(request.resourceUrl(), request.expirationDate());
+            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy, request.privateKey());
+            return SigningUtils.buildSignedUrl(request.resourceUrl(), "Expires=" + request.expirationDate().getEpochSecond(),
+                                               signatureBytes, request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign url", e);
         }
@@ -245,22 +224,11 @@ public final class CloudFrontUtilities {
      */
     public SignedUrl getSignedUrlWithCustomPolicy(CustomSignerRequest request) {
         try {
-            String resourceUrl = request.resourceUrl();
-            String policy = SigningUtils.buildCustomPolicyForSignedUrl(request.resourceUrl(), request.activeDate(),
+            byte[] policy = SigningUtils.customPolicyBytesForSignedUrl(request.resourceUrl(), request.activeDate(),
                                                                        request.expirationDate(), request.ipRange());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy.getBytes(UTF_8), request.privateKey());
-            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String domain = uri.getHost();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Policy=" + urlSafePolicy
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder().protocol(protocol).domain(domain).encodedPath(encodedPath)
-                                   .url(protocol + "://" + domain + encodedPath).build();
+            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy, request.privateKey());
+            return SigningUtils.buildSignedUrl(request.resourceUrl(), "Policy=" + SigningUtils.makeBytesUrlSafe(policy),
+                                               signatureBytes, request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign url", e);
         }
@@ -346,15 +314,10 @@ public final class CloudFrontUtilities {
      */
     public CookiesForCannedPolicy getCookiesForCannedPolicy(CannedSignerRequest request) {
         try {
-            String cannedPolicy = SigningUtils.buildCannedPolicy(request.resourceUrl(), request.expirationDate());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy.getBytes(UTF_8), request.privateKey());
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            String expiry = String.valueOf(request.expirationDate().getEpochSecond());
-            return DefaultCookiesForCannedPolicy.builder()
-                                                .resourceUrl(request.resourceUrl())
-                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + request.keyPairId())
-                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
-                                                .expiresHeaderValue(EXPIRES_KEY + "=" + expiry).build();
+            byte[] cannedPolicy = SigningUtils.cannedPolicyBytes(request.resourceUrl(), request.expirationDate());
+            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy, request.privateKey());
+            return SigningUtils.buildCookiesForCannedPolicy(request.resourceUrl(), request.expirationDate(), signatureBytes,
+                                                            request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign canned policy cookie", e);
         }
@@ -446,16 +409,10 @@ public final class CloudFrontUtilities {
      */
     public CookiesForCustomPolicy getCookiesForCustomPolicy(CustomSignerRequest request) {
         try {
-            String policy = SigningUtils.buildCustomPolicy(request.resourceUrl(), request.activeDate(), request.expirationDate(),
+            byte[] policy = SigningUtils.customPolicyBytes(request.resourceUrl(), request.activeDate(), request.expirationDate(),
                                                            request.ipRange());
-            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy.getBytes(UTF_8), request.privateKey());
-            String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
-            String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            return DefaultCookiesForCustomPolicy.builder()
-                                                .resourceUrl(request.resourceUrl())
-                                                .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + request.keyPairId())
-                                                .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
-                                                .policyHeaderValue(POLICY_KEY + "=" + urlSafePolicy).build();
+            byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy, request.privateKey());
+            return SigningUtils.buildCookiesForCustomPolicy(request.resourceUrl(), policy, signatureBytes, request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign custom policy cookie", e);
         }
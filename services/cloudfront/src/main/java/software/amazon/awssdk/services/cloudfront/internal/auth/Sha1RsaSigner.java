@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront.internal.auth;
+
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Signs data with a single private key using the SHA1withRSA algorithm.
+ *
+ * <p>{@link Signature} instances are expensive to create and initialize, and are not thread safe. Instances initialized with
+ * the private key are kept in a pool so that they can be reused across calls and threads. A {@link Signature} is reset to
+ * its initialized state every time it produces a signature, so it is only returned to the pool after signing succeeded; one
+ * that failed part way through is discarded.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class Sha1RsaSigner {
+
+    private static final String SHA1_WITH_RSA = "SHA1withRSA";
+
+    private final PrivateKey privateKey;
+    private final Queue<Signature> signatures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @throws InvalidKeyException if the given key cannot be used to create SHA1withRSA signatures
+     */
+    public Sha1RsaSigner(PrivateKey privateKey) throws InvalidKeyException {
+        this.privateKey = privateKey;
+        signatures.add(newSignature());
+    }
+
+    /**
+     * Signs the given data.
+     */
+    public byte[] sign(byte[] data) {
+        Signature signature = acquire();
+        boolean signed = false;
+        try {
+            byte[] result = sign(signature, data);
+            signed = true;
+            return result;
+        } finally {
+            if (signed) {
+                release(signature);
+            }
+        }
+    }
+
+    /**
+     * Takes an initialized {@link Signature} out of the pool, creating one if none are available. It should be returned with
+     * {@link #release(Signature)} once the caller is done signing, unless signing failed.
+     */
+    public Signature acquire() {
+        Signature signature = signatures.poll();
+        if (signature != null) {
+            return signature;
+        }
+        try {
+            return newSignature();
+        } catch (InvalidKeyException e) {
+            // The key was already validated when this signer was created
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns a {@link Signature} obtained from {@link #acquire()} to the pool. The signature must be in its initialized
+     * state, which is the case if it has not been used or if its last {@link Signature#sign()} call succeeded.
+     */
+    public void release(Signature signature) {
+        signatures.add(signature);
+    }
+
+    /**
+     * Signs the given data with a {@link Signature} obtained from {@link #acquire()}.
+     */
+    public static byte[] sign(Signature signature, byte[] data) {
+        try {
+            signature.update(data);
+            return signature.sign();
+        } catch (SignatureException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Signature newSignature() throws InvalidKeyException {
+        try {
+            Signature signature = Signature.getInstance(SHA1_WITH_RSA);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
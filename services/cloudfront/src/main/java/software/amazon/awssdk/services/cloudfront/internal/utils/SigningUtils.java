@@ -18,26 +18,47 @@ package software.amazon.awssdk.services.cloudfront.internal.utils;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
-import java.security.SecureRandom;
 import java.security.Signature;
 import java.security.SignatureException;
 import java.time.Instant;
 import java.util.Base64;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Pem;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Rsa;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.StringUtils;
 
 @SdkInternalApi
 public final class SigningUtils {
 
+    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
+    private static final String SIGNATURE_KEY = "CloudFront-Signature";
+    private static final String EXPIRES_KEY = "CloudFront-Expires";
+    private static final String POLICY_KEY = "CloudFront-Policy";
+
+    private static final byte[] CANNED_POLICY_START = ascii("{\"Statement\":[{\"Resource\":\"");
+    private static final byte[] CANNED_POLICY_CONDITION = ascii("\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":");
+    private static final byte[] CANNED_POLICY_END = ascii("}}}]}");
+    private static final byte[] CUSTOM_POLICY_START = ascii("{\"Statement\": [{\"Resource\":\"");
+    private static final byte[] CUSTOM_POLICY_CONDITION = CANNED_POLICY_CONDITION;
+    private static final byte[] CUSTOM_POLICY_IP_ADDRESS = ascii(",\"IpAddress\":{\"AWS:SourceIp\":\"");
+    private static final byte[] CUSTOM_POLICY_ACTIVE_DATE = ascii(",\"DateGreaterThan\":{\"AWS:EpochTime\":");
+    private static final byte[] CUSTOM_POLICY_END = ascii("}}]}");
+
     private SigningUtils() {
     }
 
@@ -53,11 +74,41 @@ public final class SigningUtils {
      * >Setting signed cookies using a canned policy</a>.
      */
     public static String buildCannedPolicy(String resourceUrl, Instant expirationDate) {
-        return "{\"Statement\":[{\"Resource\":\""
-               + resourceUrl
-               + "\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":"
-               + expirationDate.getEpochSecond()
-               + "}}}]}";
+        return new String(cannedPolicyBytes(resourceUrl, expirationDate), UTF_8);
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the "canned" policy for the given parameters, as returned by
+     * {@link #buildCannedPolicy(String, Instant)}.
+     */
+    public static byte[] cannedPolicyBytes(String resourceUrl, Instant expirationDate) {
+        return cannedPolicyBytes(resourceUrl, cannedPolicySuffix(expirationDate));
+    }
+
+    /**
+     * Returns the part of a "canned" policy that follows the resource URL, which only depends on the expiration date and can
+     * be shared by the policies of multiple resources with {@link #cannedPolicyBytes(String, byte[])}.
+     */
+    public static byte[] cannedPolicySuffix(Instant expirationDate) {
+        long expiration = expirationDate.getEpochSecond();
+        return new PolicyWriter(CANNED_POLICY_CONDITION.length + numberLength(expiration) + CANNED_POLICY_END.length)
+            .write(CANNED_POLICY_CONDITION)
+            .write(expiration)
+            .write(CANNED_POLICY_END)
+            .toByteArray();
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the "canned" policy for the given resource URL and a suffix created with
+     * {@link #cannedPolicySuffix(Instant)}.
+     */
+    public static byte[] cannedPolicyBytes(String resourceUrl, byte[] cannedPolicySuffix) {
+        String resource = String.valueOf(resourceUrl);
+        return new PolicyWriter(CANNED_POLICY_START.length + utf8Length(resource) + cannedPolicySuffix.length)
+            .write(CANNED_POLICY_START)
+            .write(resource)
+            .write(cannedPolicySuffix)
+            .toByteArray();
     }
 
     /**
@@ -72,23 +123,40 @@ public final class SigningUtils {
      */
     public static String buildCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
                                             String ipAddress) {
-        return "{\"Statement\": [{"
-               + "\"Resource\":\""
-               + resourceUrl
-               + "\""
-               + ",\"Condition\":{"
-               + "\"DateLessThan\":{\"AWS:EpochTime\":"
-               + expirationDate.getEpochSecond()
-               + "}"
-               + (ipAddress == null
-                  ? ""
-                  : ",\"IpAddress\":{\"AWS:SourceIp\":\"" + ipAddress + "\"}"
-               )
-               + (activeDate == null
-                  ? ""
-                  : ",\"DateGreaterThan\":{\"AWS:EpochTime\":" + activeDate.getEpochSecond() + "}"
-               )
-               + "}}]}";
+        return new String(customPolicyBytes(resourceUrl, activeDate, expirationDate, ipAddress), UTF_8);
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the custom policy for the given parameters, as returned by
+     * {@link #buildCustomPolicy(String, Instant, Instant, String)}.
+     */
+    public static byte[] customPolicyBytes(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                           String ipAddress) {
+        String resource = String.valueOf(resourceUrl);
+        long expiration = expirationDate.getEpochSecond();
+        int length = CUSTOM_POLICY_START.length + utf8Length(resource) + CUSTOM_POLICY_CONDITION.length
+                     + numberLength(expiration) + 1 + CUSTOM_POLICY_END.length;
+        if (ipAddress != null) {
+            length += CUSTOM_POLICY_IP_ADDRESS.length + utf8Length(ipAddress) + 2;
+        }
+        long active = activeDate == null ? 0 : activeDate.getEpochSecond();
+        if (activeDate != null) {
+            length += CUSTOM_POLICY_ACTIVE_DATE.length + numberLength(active) + 1;
+        }
+
+        PolicyWriter writer = new PolicyWriter(length)
+            .write(CUSTOM_POLICY_START)
+            .write(resource)
+            .write(CUSTOM_POLICY_CONDITION)
+            .write(expiration)
+            .write('}');
+        if (ipAddress != null) {
+            writer.write(CUSTOM_POLICY_IP_ADDRESS).write(ipAddress).write('"').write('}');
+        }
+        if (activeDate != null) {
+            writer.write(CUSTOM_POLICY_ACTIVE_DATE).write(active).write('}');
+        }
+        return writer.write(CUSTOM_POLICY_END).toByteArray();
     }
 
     /**
@@ -129,8 +197,7 @@ public final class SigningUtils {
     public static byte[] signWithSha1Rsa(byte[] dataToSign, PrivateKey privateKey) throws InvalidKeyException {
         try {
             Signature signature = Signature.getInstance("SHA1withRSA");
-            SecureRandom random = new SecureRandom();
-            signature.initSign(privateKey, random);
+            signature.initSign(privateKey);
             signature.update(dataToSign);
             return signature.sign();
         } catch (NoSuchAlgorithmException | SignatureException e) {
@@ -175,13 +242,67 @@ public final class SigningUtils {
                                                        Instant activeDate,
                                                        Instant expirationDate,
                                                        String limitToIpAddressCidr) {
+        return new String(customPolicyBytesForSignedUrl(resourceUrl, activeDate, expirationDate, limitToIpAddressCidr),
+                          UTF_8);
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the policy document returned by
+     * {@link #buildCustomPolicyForSignedUrl(String, Instant, Instant, String)}.
+     */
+    public static byte[] customPolicyBytesForSignedUrl(String resourceUrl,
+                                                       Instant activeDate,
+                                                       Instant expirationDate,
+                                                       String limitToIpAddressCidr) {
         if (expirationDate == null) {
             throw SdkClientException.create("Expiration date must be provided to sign CloudFront URLs");
         }
-        if (resourceUrl == null) {
-            resourceUrl = "*";
-        }
-        return buildCustomPolicy(resourceUrl, activeDate, expirationDate, limitToIpAddressCidr);
+        return customPolicyBytes(resourceUrl == null ? "*" : resourceUrl, activeDate, expirationDate, limitToIpAddressCidr);
+    }
+
+    /**
+     * Returns a signed URL for the given resource, appending the policy query parameter (either {@code Expires=...} for a
+     * canned policy or {@code Policy=...} for a custom policy), the signature and the key pair ID to the resource URL.
+     */
+    public static SignedUrl buildSignedUrl(String resourceUrl, String policyParameter, byte[] signature, String keyPairId) {
+        URI uri = URI.create(resourceUrl);
+        String protocol = uri.getScheme();
+        String domain = uri.getHost();
+        String rawQuery = uri.getRawQuery();
+        String urlSafeSignature = makeBytesUrlSafe(signature);
+        String encodedPath = uri.getRawPath()
+                             + (rawQuery != null ? "?" + rawQuery + "&" : "?")
+                             + policyParameter
+                             + "&Signature=" + urlSafeSignature
+                             + "&Key-Pair-Id=" + keyPairId;
+        return DefaultSignedUrl.builder().protocol(protocol).domain(domain).encodedPath(encodedPath)
+                               .url(protocol + "://" + domain + encodedPath).build();
+    }
+
+    /**
+     * Returns the signed cookies for the given resource, signed with a canned policy.
+     */
+    public static CookiesForCannedPolicy buildCookiesForCannedPolicy(String resourceUrl, Instant expirationDate,
+                                                                     byte[] signature, String keyPairId) {
+        return DefaultCookiesForCannedPolicy.builder()
+                                            .resourceUrl(resourceUrl)
+                                            .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + keyPairId)
+                                            .signatureHeaderValue(SIGNATURE_KEY + "=" + makeBytesUrlSafe(signature))
+                                            .expiresHeaderValue(EXPIRES_KEY + "=" + expirationDate.getEpochSecond())
+                                            .build();
+    }
+
+    /**
+     * Returns the signed cookies for the given resource, signed with the given custom policy.
+     */
+    public static CookiesForCustomPolicy buildCookiesForCustomPolicy(String resourceUrl, byte[] policy,
+                                                                     byte[] signature, String keyPairId) {
+        return DefaultCookiesForCustomPolicy.builder()
+                                            .resourceUrl(resourceUrl)
+                                            .keyPairIdHeaderValue(KEY_PAIR_ID_KEY + "=" + keyPairId)
+                                            .signatureHeaderValue(SIGNATURE_KEY + "=" + makeBytesUrlSafe(signature))
+                                            .policyHeaderValue(POLICY_KEY + "=" + makeBytesUrlSafe(policy))
+                                            .build();
     }
 
     /**
@@ -202,4 +323,86 @@ public final class SigningUtils {
         throw SdkClientException.create("Unsupported file type for private key");
     }
 
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the length of the UTF-8 encoding of the given string, counting characters directly for ASCII strings.
+     */
+    private static int utf8Length(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                return value.getBytes(UTF_8).length;
+            }
+        }
+        return length;
+    }
+
+    private static int numberLength(long value) {
+        if (value < 0) {
+            return Long.toString(value).length();
+        }
+        int length = 1;
+        for (long remaining = value / 10; remaining > 0; remaining /= 10) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Writes the parts of a policy document into a byte array of a precomputed size, without creating intermediate strings.
+     */
+    private static final class PolicyWriter {
+        private final byte[] bytes;
+        private int position;
+
+        private PolicyWriter(int length) {
+            this.bytes = new byte[length];
+        }
+
+        private PolicyWriter write(byte[] value) {
+            System.arraycopy(value, 0, bytes, position, value.length);
+            position += value.length;
+            return this;
+        }
+
+        private PolicyWriter write(char asciiCharacter) {
+            bytes[position++] = (byte) asciiCharacter;
+            return this;
+        }
+
+        private PolicyWriter write(String value) {
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    position -= i;
+                    return write(value.getBytes(UTF_8));
+                }
+                bytes[position++] = (byte) c;
+            }
+            return this;
+        }
+
+        private PolicyWriter write(long value) {
+            if (value < 0) {
+                return write(Long.toString(value));
+            }
+            int end = position + numberLength(value);
+            int index = end;
+            long remaining = value;
+            do {
+                bytes[--index] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            } while (remaining > 0);
+            position = end;
+            return this;
+        }
+
+        private byte[] toByteArray() {
+            return bytes;
+        }
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+class CloudFrontSignerTest {
+    private static final String RESOURCE_URL = "https://d1npcfkc2mojrf.cloudfront.net/s3ObjectKey";
+    private static final Instant ACTIVE_DATE = LocalDate.of(2022, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    private static final Instant EXPIRATION_DATE = LocalDate.of(2024, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+
+    private static KeyPair keyPair;
+    private static CloudFrontSigner signer;
+    private static CloudFrontUtilities utilities;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        keyPair = kpg.generateKeyPair();
+        signer = CloudFrontSigner.builder().privateKey(keyPair.getPrivate()).keyPairId("keyPairId").build();
+        utilities = CloudFrontUtilities.create();
+    }
+
+    @Test
+    void getSignedUrlWithCannedPolicy_matchesCloudFrontUtilities() throws Exception {
+        SignedUrl signedUrl = signer.getSignedUrlWithCannedPolicy(RESOURCE_URL + "?a=b", EXPIRATION_DATE);
+        SignedUrl expected = utilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(RESOURCE_URL + "?a=b")
+                                                                         .privateKey(keyPair.getPrivate())
+                                                                         .keyPairId("keyPairId")
+                                                                         .expirationDate(EXPIRATION_DATE));
+
+        assertThat(signedUrl.url()).isEqualTo(expected.url());
+        assertThat(signedUrl.protocol()).isEqualTo("https");
+        assertThat(signedUrl.domain()).isEqualTo("d1npcfkc2mojrf.cloudfront.net");
+        assertSignatureIsValid(SigningUtils.buildCannedPolicy(RESOURCE_URL + "?a=b", EXPIRATION_DATE),
+                               queryParameter(signedUrl.url(), "Signature"));
+    }
+
+    @Test
+    void getSignedUrlWithCustomPolicy_matchesCloudFrontUtilities() throws Exception {
+        SignedUrl signedUrl = signer.getSignedUrlWithCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, "1.2.3.4");
+        SignedUrl expected = utilities.getSignedUrlWithCustomPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                         .privateKey(keyPair.getPrivate())
+                                                                         .keyPairId("keyPairId")
+                                                                         .activeDate(ACTIVE_DATE)
+                                                                         .expirationDate(EXPIRATION_DATE)
+                                                                         .ipRange("1.2.3.4"));
+
+        assertThat(signedUrl.url()).isEqualTo(expected.url());
+        assertSignatureIsValid(SigningUtils.buildCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, "1.2.3.4"),
+                               queryParameter(signedUrl.url(), "Signature"));
+    }
+
+    @Test
+    void getSignedUrlsWithCannedPolicy_matchesIndividuallySignedUrls() {
+        List<String> resourceUrls = Arrays.asList(RESOURCE_URL, RESOURCE_URL + "2?a=b", "https://example.com/été");
+
+        List<SignedUrl> signedUrls = signer.getSignedUrlsWithCannedPolicy(resourceUrls, EXPIRATION_DATE);
+
+        assertThat(signedUrls.stream().map(SignedUrl::url).collect(Collectors.toList()))
+            .containsExactlyElementsOf(resourceUrls.stream()
+                                                   .map(url -> signer.getSignedUrlWithCannedPolicy(url, EXPIRATION_DATE).url())
+                                                   .collect(Collectors.toList()));
+    }
+
+    @Test
+    void getCookiesForCannedPolicy_matchesCloudFrontUtilities() {
+        CookiesForCannedPolicy cookies = signer.getCookiesForCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+        CookiesForCannedPolicy expected = utilities.getCookiesForCannedPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                   .privateKey(keyPair.getPrivate())
+                                                                                   .keyPairId("keyPairId")
+                                                                                   .expirationDate(EXPIRATION_DATE));
+
+        assertThat(cookies).isEqualTo(expected);
+    }
+
+    @Test
+    void getCookiesForCustomPolicy_matchesCloudFrontUtilities() {
+        CookiesForCustomPolicy cookies = signer.getCookiesForCustomPolicy(RESOURCE_URL, null, EXPIRATION_DATE, null);
+        CookiesForCustomPolicy expected = utilities.getCookiesForCustomPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                   .privateKey(keyPair.getPrivate())
+                                                                                   .keyPairId("keyPairId")
+                                                                                   .expirationDate(EXPIRATION_DATE));
+
+        assertThat(cookies).isEqualTo(expected);
+    }
+
+    @Test
+    void policyBytes_matchPolicyStrings() {
+        String url = "https://example.com/été?a=b";
+        Instant preEpoch = Instant.ofEpochSecond(-12345);
+
+        assertThat(new String(SigningUtils.cannedPolicyBytes(url, EXPIRATION_DATE), UTF_8))
+            .isEqualTo("{\"Statement\":[{\"Resource\":\"" + url
+                       + "\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":1704067200}}}]}");
+        assertThat(new String(SigningUtils.cannedPolicyBytes(url, Instant.EPOCH), UTF_8)).endsWith(":0}}}]}");
+        assertThat(new String(SigningUtils.customPolicyBytes(url, preEpoch, EXPIRATION_DATE, "1.2.3.4/32"), UTF_8))
+            .isEqualTo("{\"Statement\": [{\"Resource\":\"" + url
+                       + "\",\"Condition\":{\"DateLessThan\":{\"AWS:EpochTime\":1704067200}"
+                       + ",\"IpAddress\":{\"AWS:SourceIp\":\"1.2.3.4/32\"}"
+                       + ",\"DateGreaterThan\":{\"AWS:EpochTime\":-12345}}}]}");
+    }
+
+    @Test
+    void build_missingKeyPairId_throwsException() {
+        assertThatThrownBy(() -> CloudFrontSigner.builder().privateKey(keyPair.getPrivate()).build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("keyPairId");
+    }
+
+    private static String queryParameter(String url, String name) {
+        String prefix = name + "=";
+        return Arrays.stream(url.substring(url.indexOf('?') + 1).split("&"))
+                     .filter(p -> p.startsWith(prefix))
+                     .map(p -> p.substring(prefix.length()))
+                     .findFirst()
+                     .orElseThrow(AssertionError::new);
+    }
+
+    private static void assertSignatureIsValid(String policy, String urlSafeSignature) throws Exception {
+        String base64 = urlSafeSignature.replace('-', '+').replace('_', '=').replace('~', '/');
+        Signature verifier = Signature.getInstance("SHA1withRSA");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(policy.getBytes(UTF_8));
+        assertThat(verifier.verify(Base64.getDecoder().decode(base64))).isTrue();
+    }
+}
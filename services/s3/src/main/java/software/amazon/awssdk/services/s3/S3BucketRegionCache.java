@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3;
+
+import java.time.Clock;
+import java.time.Duration;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.internal.crossregion.BucketRegionCache;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A cache of bucket regions that can be shared by S3 clients with cross region access enabled, see
+ * {@link S3BaseClientBuilder#crossRegionAccessEnabled(Boolean)}.
+ * <p>
+ * By default, each client with cross region access enabled learns the regions of buckets on its own. Clients configured with
+ * the same cache, using {@link S3Configuration.Builder#bucketRegionCache(S3BucketRegionCache)}, share the regions they learn,
+ * so that a bucket region learned by one client is used by the others without receiving a redirect first:
+ * {@snippet :
+ *     S3BucketRegionCache bucketRegionCache = S3BucketRegionCache.create();
+ *     S3Configuration s3Configuration = S3Configuration.builder().bucketRegionCache(bucketRegionCache).build();
+ *     S3Client s3 = S3Client.builder()
+ *                           .crossRegionAccessEnabled(true)
+ *                           .serviceConfiguration(s3Configuration)
+ *                           .build();
+ * }
+ * <p>
+ * Entries expire after a {@link Builder#timeToLive(Duration) time to live}, and the cache holds up to a
+ * {@link Builder#maxSize(Integer) maximum number} of buckets. Buckets whose region could not be determined are cached for a
+ * {@link Builder#negativeTimeToLive(Duration) shorter time}, so that the clients fail fast instead of looking up the region of
+ * the bucket for every request.
+ * <p>
+ * Applications that know the regions of the buckets they access can pre-seed the cache with {@link #put(String, Region)} to
+ * avoid the redirect on the first request to each bucket. Only clients that share the cache should share credentials, since
+ * the cache does not distinguish between the credentials used to look up a bucket.
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class S3BucketRegionCache {
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+    private static final Duration DEFAULT_NEGATIVE_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final BucketRegionCache cache;
+
+    private S3BucketRegionCache(Builder builder) {
+        int maxSize = builder.maxSize == null ? DEFAULT_MAX_SIZE : builder.maxSize;
+        Duration timeToLive = builder.timeToLive == null ? DEFAULT_TIME_TO_LIVE : builder.timeToLive;
+        Duration negativeTimeToLive = builder.negativeTimeToLive == null ? DEFAULT_NEGATIVE_TIME_TO_LIVE
+                                                                         : builder.negativeTimeToLive;
+        this.cache = BucketRegionCache.create(maxSize, timeToLive, negativeTimeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Create an empty cache holding up to 10,000 buckets, whose regions expire after an hour, or after a minute for buckets
+     * whose region could not be determined.
+     */
+    public static S3BucketRegionCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link S3BucketRegionCache}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Sets the region of the given bucket, replacing any region previously learned for it.
+     */
+    public void put(String bucket, Region region) {
+        Validate.paramNotNull(bucket, "bucket");
+        cache.put(bucket, Validate.paramNotNull(region, "region"));
+    }
+
+    /**
+     * Removes the cached region of the given bucket, if any.
+     */
+    public void invalidate(String bucket) {
+        cache.remove(Validate.paramNotNull(bucket, "bucket"));
+    }
+
+    /**
+     * Removes all cached bucket regions.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * The number of buckets in the cache, including expired entries that have not been removed yet.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * The number of requests for which the region of the bucket was found in the cache.
+     */
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    /**
+     * The number of requests for which the region of the bucket was not found in the cache. These requests are sent to the
+     * region of the client.
+     */
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    /**
+     * The cache used by the cross region clients.
+     */
+    @SdkInternalApi
+    public BucketRegionCache bucketRegionCache() {
+        return cache;
+    }
+
+    /**
+     * Builder for a {@link S3BucketRegionCache}.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer maxSize;
+        private Duration timeToLive;
+        private Duration negativeTimeToLive;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of buckets held by the cache. When the cache is full, expired entries are removed first,
+         * followed by the entries closest to expiring. Defaults to 10,000 buckets.
+         *
+         * @param maxSize The maximum number of buckets in the cache.
+         * @return This builder for method chaining.
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Sets how long the region of a bucket is cached for. Defaults to one hour.
+         *
+         * @param timeToLive The time a bucket region is cached for.
+         * @return This builder for method chaining.
+         */
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Sets how long a failure to determine the region of a bucket is cached for. While it is cached, requests to the
+         * bucket that are redirected fail without looking up the region of the bucket again. {@link Duration#ZERO} disables
+         * caching failures. Defaults to one minute.
+         *
+         * @param negativeTimeToLive The time a failure to determine the region of a bucket is cached for.
+         * @return This builder for method chaining.
+         */
+        public Builder negativeTimeToLive(Duration negativeTimeToLive) {
+            this.negativeTimeToLive = negativeTimeToLive;
+            return this;
+        }
+
+        /**
+         * Builds an {@link S3BucketRegionCache} based on the values stored in this builder.
+         */
+        public S3BucketRegionCache build() {
+            return new S3BucketRegionCache(this);
+        }
+    }
+}
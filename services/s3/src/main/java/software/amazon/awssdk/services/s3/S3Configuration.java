@@ -73,6 +73,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
     private final Boolean multiRegionEnabled;
     private final FieldWithDefault<Supplier<ProfileFile>> profileFile;
     private final FieldWithDefault<String> profileName;
+    private final S3BucketRegionCache bucketRegionCache;
 
     private S3Configuration(DefaultS3ServiceConfigurationBuilder builder) {
         this.dualstackEnabled = FieldWithDefault.create(builder.dualstackEnabled, DEFAULT_DUALSTACK_ENABLED);
@@ -86,6 +87,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                                                    ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow());
         this.useArnRegionEnabled = builder.useArnRegionEnabled;
         this.multiRegionEnabled = builder.multiRegionEnabled;
+        this.bucketRegionCache = builder.bucketRegionCache;
 
         if (accelerateModeEnabled() && pathStyleAccessEnabled()) {
             throw new IllegalArgumentException("Accelerate mode cannot be used with path style addressing");
@@ -206,6 +208,17 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                        .orElseGet(this::resolveMultiRegionEnabled);
     }
 
+    /**
+     * Returns the bucket region cache shared by clients with cross region access enabled, or null if the client learns the
+     * regions of buckets on its own.
+     *
+     * @return The shared bucket region cache, if any.
+     * @see Builder#bucketRegionCache(S3BucketRegionCache)
+     */
+    public S3BucketRegionCache bucketRegionCache() {
+        return bucketRegionCache;
+    }
+
     @Override
     public Builder toBuilder() {
         return builder()
@@ -217,7 +230,8 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                 .chunkedEncodingEnabled(chunkedEncodingEnabled.valueOrNullIfDefault())
                 .useArnRegionEnabled(useArnRegionEnabled)
                 .profileFile(profileFile.valueOrNullIfDefault())
-                .profileName(profileName.valueOrNullIfDefault());
+                .profileName(profileName.valueOrNullIfDefault())
+                .bucketRegionCache(bucketRegionCache);
     }
 
     @NotThreadSafe
@@ -355,6 +369,19 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
          * </p>
          */
         Builder profileName(String profileName);
+
+        S3BucketRegionCache bucketRegionCache();
+
+        /**
+         * The cache of bucket regions used when cross region access is enabled, see
+         * {@link S3BaseClientBuilder#crossRegionAccessEnabled(Boolean)}. Clients configured with the same cache share the
+         * bucket regions they learn.
+         *
+         * <p>
+         * By default, each client with cross region access enabled has its own cache.
+         * </p>
+         */
+        Builder bucketRegionCache(S3BucketRegionCache bucketRegionCache);
     }
 
     static final class DefaultS3ServiceConfigurationBuilder implements Builder {
@@ -367,6 +394,7 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         private Boolean multiRegionEnabled;
         private Supplier<ProfileFile> profileFile;
         private String profileName;
+        private S3BucketRegionCache bucketRegionCache;
 
         @Override
         public Boolean dualstackEnabled() {
@@ -505,6 +533,17 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             useArnRegionEnabled(useArnRegionEnabled);
         }
 
+        @Override
+        public S3BucketRegionCache bucketRegionCache() {
+            return bucketRegionCache;
+        }
+
+        @Override
+        public Builder bucketRegionCache(S3BucketRegionCache bucketRegionCache) {
+            this.bucketRegionCache = bucketRegionCache;
+            return this;
+        }
+
         @Override
         public S3Configuration build() {
             return new S3Configuration(this);
@@ -55,6 +55,11 @@ public final class ChecksumConstant {
      */
     public static final int S3_MD5_CHECKSUM_LENGTH = 16;
 
+    /**
+     * Name of the algorithm of the trailing checksum, as reported in metrics.
+     */
+    public static final String MD5_ALGORITHM = "MD5";
+
     private ChecksumConstant() {
     }
 }
@@ -41,7 +41,8 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
      * Creates an input stream using the specified Checksum, input stream, and length.
      *
      * @param in the input stream
-     * @param cksum the Checksum implementation
+     * @param cksum the Checksum implementation, or null if the trailing checksum should only be stripped from the stream
+     * because the content is validated by other means
      * @param streamLength the total length of the expected stream (including the extra 4 bytes on the end).
      */
     public ChecksumValidatingInputStream(InputStream in, SdkChecksum cksum, long streamLength) {
@@ -60,7 +61,7 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
     public int read() throws IOException {
         int read = inputStream.read();
 
-        if (read != -1 && lengthRead < strippedLength) {
+        if (read != -1 && lengthRead < strippedLength && checkSum != null) {
             checkSum.update(read);
         }
 
@@ -113,7 +114,7 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
 
             int toUpdate = (int) Math.min(strippedLength - lengthRead, read);
 
-            if (toUpdate > 0) {
+            if (toUpdate > 0 && checkSum != null) {
                 checkSum.update(buf, off, toUpdate);
             }
 
@@ -143,7 +144,9 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
     @Override
     public synchronized void reset() throws IOException {
         inputStream.reset();
-        checkSum.reset();
+        if (checkSum != null) {
+            checkSum.reset();
+        }
         lengthRead = 0;
 
         for (int i = 0; i < CHECKSUM_SIZE; i++) {
@@ -164,6 +167,10 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
     }
 
     private void validateAndThrow() {
+        if (checkSum == null) {
+            return;
+        }
+
         if (computedChecksum == null) {
             computedChecksum = checkSum.getChecksumBytes();
         }
@@ -35,6 +35,12 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
     private final SdkChecksum sdkChecksum;
     private final long contentLength;
 
+    /**
+     * @param publisher the publisher of the response content, including the trailing checksum
+     * @param sdkChecksum the checksum to validate the content with, or null if the trailing checksum should only be stripped
+     * from the content because it is validated by other means
+     * @param contentLength the length of the response content, including the trailing checksum
+     */
     public ChecksumValidatingPublisher(Publisher<ByteBuffer> publisher,
                                        SdkChecksum sdkChecksum,
                                        long contentLength) {
@@ -78,49 +84,58 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-
-            if (lengthRead < strippedLength) {
-                int toUpdate = (int) Math.min(strippedLength - lengthRead, buf.length);
+            // The buffers are checksummed and forwarded in place, so that direct buffers from the HTTP client are not copied
+            // onto the heap.
+            int length = byteBuffer.remaining();
+            int dataLength = (int) Math.min(Math.max(strippedLength - lengthRead, 0), length);
+            int streamChecksumOffset = toIntExact(Math.max(lengthRead - strippedLength, 0));
+            lengthRead += length;
+
+            if (dataLength == length) {
+                // Incoming buffer totally excludes the checksum
+                updateChecksum(byteBuffer);
+                wrapped.onNext(byteBuffer);
+                return;
+            }
 
-                sdkChecksum.update(buf, 0, toUpdate);
+            // Incoming buffer contains at least a bit of the checksum
+            // Code below covers both cases of the incoming buffer relative to checksum border
+            // a) buffer starts before checksum border and extends into checksum
+            //      |<------ data ------->|<--cksum-->|   <--- original data
+            //                       |<---buffer--->|     <--- incoming buffer
+            //                       |<-->|               <--- dataLength
+            //                            |               <--- streamChecksumOffset
+            // b) buffer starts at or after checksum border
+            //      |<------ data ------->|<--cksum-->|   <--- original data
+            //                                |<-->|      <--- incoming buffer
+            //                            |<->|           <--- streamChecksumOffset
+            int checksumStart = byteBuffer.position() + dataLength;
+            ByteBuffer checksumBytes = byteBuffer.duplicate();
+            checksumBytes.position(checksumStart);
+            int checksumLength = Math.min(checksumBytes.remaining(), CHECKSUM_SIZE - streamChecksumOffset);
+            if (checksumLength > 0) {
+                checksumBytes.get(streamChecksum, streamChecksumOffset, checksumLength);
             }
-            lengthRead += buf.length;
-
-            if (lengthRead >= strippedLength) {
-                // Incoming buffer contains at least a bit of the checksum
-                // Code below covers both cases of the incoming buffer relative to checksum border
-                // a) buffer starts before checksum border and extends into checksum
-                //      |<------ data ------->|<--cksum-->|   <--- original data
-                //                       |<---buffer--->|     <--- incoming buffer
-                //                            |<------->|     <--- checksum bytes so far
-                //                       |<-->|               <--- bufChecksumOffset
-                //                            |               <--- streamChecksumOffset
-                // b) buffer starts at or after checksum border
-                //      |<------ data ------->|<--cksum-->|   <--- original data
-                //                                |<-->|      <--- incoming buffer
-                //                            |<------>|      <--- checksum bytes so far
-                //                                |           <--- bufChecksumOffset
-                //                            |<->|           <--- streamChecksumOffset
-                int cksumBytesSoFar = toIntExact(lengthRead - strippedLength);
-                int bufChecksumOffset = (buf.length > cksumBytesSoFar) ? (buf.length - cksumBytesSoFar) : 0;
-                int streamChecksumOffset = (buf.length > cksumBytesSoFar) ? 0 : (cksumBytesSoFar - buf.length);
-                int cksumBytes = Math.min(cksumBytesSoFar, buf.length);
-                System.arraycopy(buf, bufChecksumOffset, streamChecksum, streamChecksumOffset, cksumBytes);
-                if (buf.length > cksumBytesSoFar) {
-                    wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - cksumBytesSoFar)));
-                } else {
-                    // Always be sure to satisfy the wrapped publisher's demand.
-                    wrapped.onNext(ByteBuffer.allocate(0));
-
-                    // TODO: The most efficient implementation would request more from the upstream publisher instead of relying
-                    //  on the downstream publisher to do that, but that's much more complicated: it requires tracking
-                    //  outstanding demand from the downstream publisher. Long-term we should migrate to an RxJava publisher
-                    //  implementation to reduce how error-prone our publisher implementations are.
-                }
+
+            if (dataLength > 0) {
+                ByteBuffer data = byteBuffer.duplicate();
+                data.limit(checksumStart);
+                updateChecksum(data);
+                wrapped.onNext(data);
             } else {
-                // Incoming buffer totally excludes the checksum
-                wrapped.onNext(byteBuffer);
+                // Always be sure to satisfy the wrapped publisher's demand.
+                wrapped.onNext(ByteBuffer.allocate(0));
+
+                // TODO: The most efficient implementation would request more from the upstream publisher instead of relying
+                //  on the downstream publisher to do that, but that's much more complicated: it requires tracking
+                //  outstanding demand from the downstream publisher. Long-term we should migrate to an RxJava publisher
+                //  implementation to reduce how error-prone our publisher implementations are.
+            }
+        }
+
+        private void updateChecksum(ByteBuffer byteBuffer) {
+            if (sdkChecksum != null) {
+                sdkChecksum.update(byteBuffer.duplicate());
             }
         }
 
@@ -131,7 +146,7 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onComplete() {
-            if (strippedLength > 0) {
+            if (sdkChecksum != null && strippedLength > 0) {
                 byte[] computedChecksum = sdkChecksum.getChecksumBytes();
                 if (!Arrays.equals(computedChecksum, streamChecksum)) {
                     onError(RetryableException.create(
@@ -165,8 +180,9 @@ public final class ChecksumValidatingPublisher implements SdkPublisher<ByteBuffe
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            byte[] buf = BinaryUtils.copyBytesFrom(byteBuffer);
-            wrapped.onNext(ByteBuffer.wrap(Arrays.copyOfRange(buf, 0, buf.length - CHECKSUM_SIZE)));
+            ByteBuffer data = byteBuffer.duplicate();
+            data.limit(Math.max(data.limit() - CHECKSUM_SIZE, data.position()));
+            wrapped.onNext(data);
         }
 
         @Override
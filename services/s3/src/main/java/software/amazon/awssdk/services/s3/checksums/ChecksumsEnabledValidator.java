@@ -23,27 +23,36 @@ import static software.amazon.awssdk.services.s3.model.ServerSideEncryption.AWS_
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
+import software.amazon.awssdk.core.checksums.ChecksumValidation;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
+import software.amazon.awssdk.core.internal.util.HttpChecksumUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpHeaders;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.internal.handlers.AsyncChecksumValidationInterceptor;
+import software.amazon.awssdk.services.s3.internal.handlers.GetObjectInterceptor;
 import software.amazon.awssdk.services.s3.internal.handlers.SyncChecksumValidationInterceptor;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.internal.Base16Lower;
 
@@ -57,6 +66,8 @@ public final class ChecksumsEnabledValidator {
 
     public static final ExecutionAttribute<SdkChecksum> CHECKSUM = new ExecutionAttribute<>("checksum");
 
+    private static final Pattern MD5_ETAG_PATTERN = Pattern.compile("[0-9a-fA-F]{32}");
+
     private ChecksumsEnabledValidator() {
     }
 
@@ -83,6 +94,46 @@ public final class ChecksumsEnabledValidator {
         return request instanceof GetObjectRequest && checksumEnabledPerResponse(responseHeaders);
     }
 
+    /**
+     * Checks if the {@link S3Client#getObject(GetObjectRequest)} response content is validated using a flexible checksum stored
+     * with the object, e.g. CRC32C or SHA256. The trailing MD5 checksum does not need to be calculated in that case.
+     *
+     * @param executionAttributes the executionAttributes
+     * @param responseHeaders the response headers
+     * @return true if the response content is validated using a flexible checksum, false otherwise
+     */
+    public static boolean responseValidatedByFlexibleChecksum(ExecutionAttributes executionAttributes,
+                                                              SdkHttpResponse responseHeaders) {
+        ChecksumSpecs resolvedChecksumSpecs = HttpChecksumResolver.getResolvedChecksumSpecs(executionAttributes);
+        if (!HttpChecksumUtils.isHttpChecksumValidationEnabled(resolvedChecksumSpecs)
+            || executionAttributes.getAttribute(SdkExecutionAttribute.HTTP_RESPONSE_CHECKSUM_VALIDATION)
+               == ChecksumValidation.FORCE_SKIP) {
+            return false;
+        }
+
+        Pair<Algorithm, String> algorithmChecksumValuePair =
+            HttpChecksumUtils.getAlgorithmChecksumValuePair(responseHeaders, resolvedChecksumSpecs);
+
+        // The checksum of multipart uploaded objects is a checksum of part checksums, which can't be validated
+        return algorithmChecksumValuePair != null
+               && algorithmChecksumValuePair.right() != null
+               && !GetObjectInterceptor.MULTIPART_CHECKSUM_PATTERN.matcher(algorithmChecksumValuePair.right()).matches();
+    }
+
+    /**
+     * Report the algorithm used to validate the response content to the metric collector of the current call attempt.
+     *
+     * @param executionAttributes the executionAttributes
+     * @param algorithm the algorithm
+     */
+    public static void reportResponseChecksumAlgorithm(ExecutionAttributes executionAttributes, String algorithm) {
+        MetricCollector metricCollector =
+            executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_ATTEMPT_METRIC_COLLECTOR);
+        if (metricCollector != null) {
+            metricCollector.reportMetric(CoreMetric.RESPONSE_CHECKSUM_VALIDATION_ALGORITHM, algorithm);
+        }
+    }
+
     /**
      * Validates that checksums should be enabled based on {@link ClientType} and the presence
      * or S3 specific headers.
@@ -155,11 +206,12 @@ public final class ChecksumsEnabledValidator {
      */
     public static void validatePutObjectChecksum(PutObjectResponse response, ExecutionAttributes executionAttributes) {
         SdkChecksum checksum = executionAttributes.getAttribute(CHECKSUM);
+        String eTag = response.eTag() == null ? null : StringUtils.replace(response.eTag(), "\"", "");
 
-        if (response.eTag() != null) {
-            String contentMd5 = BinaryUtils.toBase64(checksum.getChecksumBytes());
-            byte[] digest = BinaryUtils.fromBase64(contentMd5);
-            byte[] ssHash = Base16Lower.decode(StringUtils.replace(response.eTag(), "\"", ""));
+        // Only the ETag of an object uploaded in a single part is the MD5 digest of its content
+        if (eTag != null && MD5_ETAG_PATTERN.matcher(eTag).matches()) {
+            byte[] digest = checksum.getChecksumBytes();
+            byte[] ssHash = Base16Lower.decode(eTag);
 
             if (!Arrays.equals(digest, ssHash)) {
                 throw RetryableException.create(
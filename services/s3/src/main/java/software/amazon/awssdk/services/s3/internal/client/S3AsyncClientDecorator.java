@@ -19,9 +19,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3BucketRegionCache;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
+import software.amazon.awssdk.services.s3.internal.crossregion.BucketRegionCache;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionAsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
@@ -44,7 +49,7 @@ public class S3AsyncClientDecorator {
         List<ConditionalDecorator<S3AsyncClient>> decorators = new ArrayList<>();
         decorators.add(ConditionalDecorator.create(
             isCrossRegionEnabledAsync(clientContextParams),
-            S3CrossRegionAsyncClient::new));
+            client -> new S3CrossRegionAsyncClient(client, bucketRegionCache(clientConfiguration))));
 
         decorators.add(ConditionalDecorator.create(
             isMultipartEnable(clientContextParams),
@@ -64,4 +69,15 @@ public class S3AsyncClientDecorator {
         Boolean multipartEnabled = clientContextParams.get(MULTIPART_ENABLED_KEY);
         return client -> multipartEnabled != null && multipartEnabled.booleanValue();
     }
+
+    private static BucketRegionCache bucketRegionCache(SdkClientConfiguration clientConfiguration) {
+        ServiceConfiguration serviceConfiguration = clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION);
+        if (serviceConfiguration instanceof S3Configuration) {
+            S3BucketRegionCache sharedCache = ((S3Configuration) serviceConfiguration).bucketRegionCache();
+            if (sharedCache != null) {
+                return sharedCache.bucketRegionCache();
+            }
+        }
+        return BucketRegionCache.create();
+    }
 }
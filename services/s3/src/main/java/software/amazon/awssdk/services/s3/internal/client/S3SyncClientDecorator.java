@@ -19,9 +19,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.services.s3.S3BucketRegionCache;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
+import software.amazon.awssdk.services.s3.internal.crossregion.BucketRegionCache;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionSyncClient;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ConditionalDecorator;
@@ -37,7 +42,8 @@ public class S3SyncClientDecorator {
                              AttributeMap clientContextParams) {
         List<ConditionalDecorator<S3Client>> decorators = new ArrayList<>();
         decorators.add(ConditionalDecorator.create(isCrossRegionEnabledSync(clientContextParams),
-                                                   S3CrossRegionSyncClient::new));
+                                                   client -> new S3CrossRegionSyncClient(
+                                                       client, bucketRegionCache(clientConfiguration))));
 
         return ConditionalDecorator.decorate(base, decorators);
     }
@@ -46,4 +52,15 @@ public class S3SyncClientDecorator {
         Boolean crossRegionEnabled = clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED);
         return  client ->  crossRegionEnabled != null && crossRegionEnabled.booleanValue();
     }
+
+    private static BucketRegionCache bucketRegionCache(SdkClientConfiguration clientConfiguration) {
+        ServiceConfiguration serviceConfiguration = clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION);
+        if (serviceConfiguration instanceof S3Configuration) {
+            S3BucketRegionCache sharedCache = ((S3Configuration) serviceConfiguration).bucketRegionCache();
+            if (sharedCache != null) {
+                return sharedCache.bucketRegionCache();
+            }
+        }
+        return BucketRegionCache.create();
+    }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.PartitionMetadata;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of the regions of S3 buckets, used by a cross region client to send requests to the region of a bucket
+ * without first receiving a redirect.
+ *
+ * <p>By default each cross region client has its own cache, created by {@link #create()}, that only caches the regions S3
+ * reported for a bucket. Applications can share a cache between clients with an
+ * {@link software.amazon.awssdk.services.s3.S3BucketRegionCache}, which can also cache that the region of a bucket could not
+ * be determined, so that clients fail fast instead of repeating the region lookup for every request. Bucket names are only
+ * unique within a partition, so entries are kept per partition, which is determined from the region of the client looking up
+ * a bucket.
+ *
+ * <p>Entries expire after a time to live. When the cache is full, expired entries are removed first, followed by the entries
+ * closest to expiring.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class BucketRegionCache {
+    private static final Logger log = Logger.loggerFor(BucketRegionCache.class);
+
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofHours(1);
+    private static final String DEFAULT_PARTITION = "aws";
+
+    private final Map<String, Map<String, CacheEntry>> entriesByPartition = new ConcurrentHashMap<>();
+    private final Map<Region, String> partitionByRegion = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+
+    private BucketRegionCache(int maxSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+        this.ttlMillis = Validate.isPositive(ttl, "ttl").toMillis();
+        this.negativeTtlMillis = Validate.isNotNegative(negativeTtl, "negativeTtl").toMillis();
+        this.clock = Validate.paramNotNull(clock, "clock");
+    }
+
+    /**
+     * Create an empty cache with the default maximum size and time to live, that does not cache failures to determine the
+     * region of a bucket.
+     */
+    public static BucketRegionCache create() {
+        return new BucketRegionCache(DEFAULT_MAX_SIZE, DEFAULT_TTL, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Create an empty cache.
+     *
+     * @param negativeTtl how long a failure to determine the region of a bucket is cached for, or zero to not cache them
+     */
+    public static BucketRegionCache create(int maxSize, Duration ttl, Duration negativeTtl, Clock clock) {
+        return new BucketRegionCache(maxSize, ttl, negativeTtl, clock);
+    }
+
+    @SdkTestInternalApi
+    static BucketRegionCache create(int maxSize, Duration ttl, Clock clock) {
+        return new BucketRegionCache(maxSize, ttl, Duration.ZERO, clock);
+    }
+
+    /**
+     * Returns the region of the given bucket, or null if it is not cached or could not be determined.
+     *
+     * @param clientRegion the region of the client looking up the bucket, which determines the partition of the bucket
+     */
+    public Region get(Region clientRegion, String bucket) {
+        CacheEntry entry = entry(clientRegion, bucket);
+        if (entry == null || entry.region == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.region;
+    }
+
+    /**
+     * Returns true if the region of the given bucket was recently found to be impossible to determine.
+     *
+     * @see #putUnresolvable(Region, String)
+     */
+    public boolean isUnresolvable(Region clientRegion, String bucket) {
+        if (negativeTtlMillis == 0) {
+            return false;
+        }
+        CacheEntry entry = entry(clientRegion, bucket);
+        return entry != null && entry.region == null;
+    }
+
+    /**
+     * Caches the region of the given bucket.
+     */
+    public void put(String bucket, Region region) {
+        Validate.paramNotNull(region, "region");
+        put(partition(region), bucket, new CacheEntry(region, clock.millis() + ttlMillis));
+    }
+
+    /**
+     * Caches that the region of the given bucket could not be determined, if this cache has a negative time to live.
+     */
+    public void putUnresolvable(Region clientRegion, String bucket) {
+        if (negativeTtlMillis == 0) {
+            return;
+        }
+        put(partition(clientRegion), bucket, new CacheEntry(null, clock.millis() + negativeTtlMillis));
+    }
+
+    /**
+     * Removes any cached entry for the given bucket in the partition of the given region.
+     */
+    public void remove(Region clientRegion, String bucket) {
+        Map<String, CacheEntry> entries = entriesByPartition.get(partition(clientRegion));
+        if (entries != null && entries.remove(bucket) != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Removes any cached entry for the given bucket in all partitions.
+     */
+    public void remove(String bucket) {
+        entriesByPartition.values().forEach(entries -> {
+            if (entries.remove(bucket) != null) {
+                size.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entriesByPartition.values().forEach(entries -> entries.keySet().forEach(bucket -> {
+            if (entries.remove(bucket) != null) {
+                size.decrementAndGet();
+            }
+        }));
+    }
+
+    /**
+     * The number of cached entries, including those that have expired but have not been removed yet.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * The number of lookups that found the region of a bucket.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that did not find the region of a bucket.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private CacheEntry entry(Region clientRegion, String bucket) {
+        Map<String, CacheEntry> entries = entriesByPartition.get(partition(clientRegion));
+        if (entries == null) {
+            return null;
+        }
+        CacheEntry entry = entries.get(bucket);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(clock.millis())) {
+            if (entries.remove(bucket, entry)) {
+                size.decrementAndGet();
+            }
+            return null;
+        }
+        return entry;
+    }
+
+    private void put(String partition, String bucket, CacheEntry entry) {
+        Map<String, CacheEntry> entries = entriesByPartition.computeIfAbsent(partition, p -> new ConcurrentHashMap<>());
+        if (entries.put(bucket, entry) == null && size.incrementAndGet() > maxSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes expired entries, then the entries closest to expiring, until the cache is at 90% of its maximum size, so
+     * that a full cache is not scanned on every insertion.
+     */
+    private synchronized void evict() {
+        int target = maxSize - maxSize / 10;
+        if (size.get() <= target) {
+            return;
+        }
+        long now = clock.millis();
+        entriesByPartition.values().forEach(entries -> entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                size.decrementAndGet();
+            }
+            return expired;
+        }));
+
+        int excess = size.get() - target;
+        if (excess <= 0) {
+            return;
+        }
+        log.debug(() -> "Bucket region cache is full, evicting " + excess + " entries");
+        entriesByPartition.values().stream()
+                          .flatMap(entries -> entries.entrySet().stream().map(e -> new EvictionCandidate(entries, e)))
+                          .sorted(Comparator.comparingLong(c -> c.entry.getValue().expiresAtMillis))
+                          .limit(excess)
+                          .forEach(EvictionCandidate::evict);
+    }
+
+    private String partition(Region region) {
+        if (region == null) {
+            return DEFAULT_PARTITION;
+        }
+        return partitionByRegion.computeIfAbsent(region, r -> {
+            PartitionMetadata partition = PartitionMetadata.of(r);
+            return partition == null ? DEFAULT_PARTITION : partition.id();
+        });
+    }
+
+    private static final class CacheEntry {
+        private final Region region;
+        private final long expiresAtMillis;
+
+        private CacheEntry(Region region, long expiresAtMillis) {
+            this.region = region;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+
+    private final class EvictionCandidate {
+        private final Map<String, CacheEntry> entries;
+        private final Map.Entry<String, CacheEntry> entry;
+
+        private EvictionCandidate(Map<String, CacheEntry> entries, Map.Entry<String, CacheEntry> entry) {
+            this.entries = entries;
+            this.entry = entry;
+        }
+
+        private void evict() {
+            if (entries.remove(entry.getKey(), entry.getValue())) {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -20,10 +20,8 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -38,10 +36,15 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 @SdkInternalApi
 public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketRegionCache;
 
     public S3CrossRegionAsyncClient(S3AsyncClient s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    public S3CrossRegionAsyncClient(S3AsyncClient s3Client, BucketRegionCache bucketRegionCache) {
         super(s3Client);
+        this.bucketRegionCache = bucketRegionCache;
     }
 
     @Override
@@ -57,13 +60,15 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucket.get();
+        Region clientRegion = serviceClientConfiguration().region();
+        Region cachedRegion = bucketRegionCache.get(clientRegion, bucketName);
 
         CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
-        CompletableFuture<ReturnT> apiOperationFuture = bucketToRegionCache.containsKey(bucketName) ?
+        CompletableFuture<ReturnT> apiOperationFuture = cachedRegion != null ?
                                                         operation.apply(
                                                             requestWithDecoratedEndpointProvider(
                                                                 userAgentUpdatedRequest,
-                                                                () -> bucketToRegionCache.get(bucketName),
+                                                                () -> cachedRegion,
                                                                 serviceClientConfiguration().endpointProvider().get()
                                                             )
                                                         ) :
@@ -72,20 +77,21 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         apiOperationFuture.whenComplete(redirectToCrossRegionIfRedirectException(operation,
                                                                                  userAgentUpdatedRequest,
                                                                                  bucketName,
+                                                                                 clientRegion,
                                                                                  returnFuture));
         return returnFuture;
     }
 
     private <T extends S3Request, ReturnT> BiConsumer<ReturnT, Throwable> redirectToCrossRegionIfRedirectException(
         Function<T, CompletableFuture<ReturnT>> operation,
-        T userAgentUpdatedRequest, String bucketName,
+        T userAgentUpdatedRequest, String bucketName, Region clientRegion,
         CompletableFuture<ReturnT> returnFuture) {
 
         return (response, throwable) -> {
             if (throwable != null) {
                 if (isS3RedirectException(throwable)) {
-                    bucketToRegionCache.remove(bucketName);
-                    requestWithCrossRegion(userAgentUpdatedRequest, operation, bucketName, returnFuture, throwable);
+                    requestWithCrossRegion(userAgentUpdatedRequest, operation, bucketName, clientRegion, returnFuture,
+                                           throwable);
                 } else {
                     returnFuture.completeExceptionally(throwable);
                 }
@@ -98,34 +104,38 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
     private <T extends S3Request, ReturnT> void requestWithCrossRegion(T request,
                                                                        Function<T, CompletableFuture<ReturnT>> operation,
                                                                        String bucketName,
+                                                                       Region clientRegion,
                                                                        CompletableFuture<ReturnT> returnFuture,
                                                                        Throwable throwable) {
 
         Optional<String> bucketRegionFromException = getBucketRegionFromException((S3Exception) throwable.getCause());
         if (bucketRegionFromException.isPresent()) {
             sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegionFromException.get());
+        } else if (bucketRegionCache.isUnresolvable(clientRegion, bucketName)) {
+            returnFuture.completeExceptionally(throwable);
         } else {
-            fetchRegionAndSendRequest(request, operation, bucketName, returnFuture);
+            // If redirected, clear previous values due to region change.
+            bucketRegionCache.remove(clientRegion, bucketName);
+            fetchRegionAndSendRequest(request, operation, bucketName, clientRegion, returnFuture);
         }
     }
 
     private <T extends S3Request, ReturnT> void fetchRegionAndSendRequest(T request,
                                                                           Function<T, CompletableFuture<ReturnT>> operation,
                                                                           String bucketName,
+                                                                          Region clientRegion,
                                                                           CompletableFuture<ReturnT> returnFuture) {
         // // TODO: Need to change codegen of Delegating Client to avoid the cast, have taken a backlog item to fix this.
         ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).whenComplete((response,
                                                                                          throwable) -> {
             if (throwable != null) {
-                if (isS3RedirectException(throwable)) {
-                    bucketToRegionCache.remove(bucketName);
-                    Optional<String> bucketRegion = getBucketRegionFromException((S3Exception) throwable.getCause());
-                    if (bucketRegion.isPresent()) {
-                        sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegion.get());
-                    } else {
-                        returnFuture.completeExceptionally(throwable);
-                    }
+                Optional<String> bucketRegion = isS3RedirectException(throwable)
+                                                ? getBucketRegionFromException((S3Exception) throwable.getCause())
+                                                : Optional.empty();
+                if (bucketRegion.isPresent()) {
+                    sendRequestWithRightRegion(request, operation, bucketName, returnFuture, bucketRegion.get());
                 } else {
+                    bucketRegionCache.putUnresolvable(clientRegion, bucketName);
                     returnFuture.completeExceptionally(throwable);
                 }
             }
@@ -137,12 +147,13 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
                                                                            String bucketName,
                                                                            CompletableFuture<ReturnT> returnFuture,
                                                                            String region) {
-        bucketToRegionCache.put(bucketName, Region.of(region));
+        Region bucketRegion = Region.of(region);
+        bucketRegionCache.put(bucketName, bucketRegion);
         CompletableFuture<ReturnT> newFuture = operation.apply(
             requestWithDecoratedEndpointProvider(request,
-                                                 () -> Region.of(region),
+                                                 () -> bucketRegion,
                                                  serviceClientConfiguration().endpointProvider().get()));
         CompletableFutureUtils.forwardResultTo(newFuture, returnFuture);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, newFuture);
     }
-}
\ No newline at end of file
+}
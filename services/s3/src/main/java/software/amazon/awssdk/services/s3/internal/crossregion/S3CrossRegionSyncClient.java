@@ -20,9 +20,7 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
@@ -40,10 +38,15 @@ import software.amazon.awssdk.services.s3.model.S3Request;
 @SdkInternalApi
 public final class S3CrossRegionSyncClient extends DelegatingS3Client {
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketRegionCache;
 
     public S3CrossRegionSyncClient(S3Client s3Client) {
+        this(s3Client, BucketRegionCache.create());
+    }
+
+    public S3CrossRegionSyncClient(S3Client s3Client, BucketRegionCache bucketRegionCache) {
         super(s3Client);
+        this.bucketRegionCache = bucketRegionCache;
     }
 
     private static <T extends S3Request> Optional<String> bucketNameFromRequest(T request) {
@@ -63,45 +66,60 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucketRequest.get();
+        Region clientRegion = serviceClientConfiguration().region();
         try {
-            if (bucketToRegionCache.containsKey(bucketName)) {
+            Region cachedRegion = bucketRegionCache.get(clientRegion, bucketName);
+            if (cachedRegion != null) {
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                         () -> bucketToRegionCache.get(bucketName),
+                                                         () -> cachedRegion,
                                                          serviceClientConfiguration().endpointProvider().get()));
             }
             return operation.apply(userAgentUpdatedRequest);
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
-                updateCacheFromRedirectException(exception, bucketName);
+                Region bucketRegion = bucketRegionFromRedirect(exception, bucketName, clientRegion);
                 return operation.apply(
                     requestWithDecoratedEndpointProvider(
                         userAgentUpdatedRequest,
-                        () -> bucketToRegionCache.computeIfAbsent(bucketName, this::fetchBucketRegion),
+                        () -> bucketRegion,
                         serviceClientConfiguration().endpointProvider().get()));
             }
             throw exception;
         }
     }
 
-    private void updateCacheFromRedirectException(S3Exception exception, String bucketName) {
+    private Region bucketRegionFromRedirect(S3Exception exception, String bucketName, Region clientRegion) {
         Optional<String> regionStr = getBucketRegionFromException(exception);
+        if (regionStr.isPresent()) {
+            Region region = Region.of(regionStr.get());
+            bucketRegionCache.put(bucketName, region);
+            return region;
+        }
+        if (bucketRegionCache.isUnresolvable(clientRegion, bucketName)) {
+            throw exception;
+        }
         // If redirected, clear previous values due to region change.
-        bucketToRegionCache.remove(bucketName);
-        regionStr.ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
+        bucketRegionCache.remove(clientRegion, bucketName);
+        Region region = fetchBucketRegion(bucketName, clientRegion);
+        if (region != null) {
+            bucketRegionCache.put(bucketName, region);
+        }
+        return region;
     }
 
-    private Region fetchBucketRegion(String bucketName) {
+    private Region fetchBucketRegion(String bucketName, Region clientRegion) {
         try {
             ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
         } catch (S3Exception exception) {
-            if (isS3RedirectException(exception)) {
-                return Region.of(getBucketRegionFromException(exception).orElseThrow(() -> exception));
+            Optional<String> region = isS3RedirectException(exception) ? getBucketRegionFromException(exception)
+                                                                        : Optional.empty();
+            if (region.isPresent()) {
+                return Region.of(region.get());
             }
+            bucketRegionCache.putUnresolvable(clientRegion, bucketName);
             throw exception;
         }
         return null;
     }
-
-
 }
@@ -17,9 +17,12 @@ package software.amazon.awssdk.services.s3.internal.handlers;
 
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_LENGTH_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.MD5_ALGORITHM;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.CHECKSUM;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectChecksumEnabledPerResponse;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.reportResponseChecksumAlgorithm;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseChecksumIsValid;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseValidatedByFlexibleChecksum;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.shouldRecordChecksum;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.validatePutObjectChecksum;
 
@@ -69,9 +72,16 @@ public final class AsyncChecksumValidationInterceptor implements ExecutionInterc
                                         .map(Long::parseLong)
                                         .orElse(0L);
 
-            SdkChecksum checksum = new Md5Checksum();
-            executionAttributes.putAttribute(CHECKSUM, checksum);
+            SdkChecksum checksum = null;
+            if (!responseValidatedByFlexibleChecksum(executionAttributes, context.httpResponse())) {
+                checksum = new Md5Checksum();
+                executionAttributes.putAttribute(CHECKSUM, checksum);
+            }
+
             if (contentLength > 0) {
+                if (checksum != null) {
+                    reportResponseChecksumAlgorithm(executionAttributes, MD5_ALGORITHM);
+                }
                 return Optional.of(new ChecksumValidatingPublisher(context.responsePublisher().get(), checksum, contentLength));
             }
         }
@@ -17,9 +17,12 @@ package software.amazon.awssdk.services.s3.internal.handlers;
 
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CONTENT_LENGTH_HEADER;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.MD5_ALGORITHM;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.CHECKSUM;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectChecksumEnabledPerResponse;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.reportResponseChecksumAlgorithm;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseChecksumIsValid;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseValidatedByFlexibleChecksum;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.shouldRecordChecksum;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.validatePutObjectChecksum;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
@@ -71,7 +74,10 @@ public final class SyncChecksumValidationInterceptor implements ExecutionInterce
         if (getObjectChecksumEnabledPerResponse(context.request(), context.httpResponse())
             && context.responseBody().isPresent()) {
 
-            SdkChecksum checksum = new Md5Checksum();
+            SdkChecksum checksum = null;
+            if (!responseValidatedByFlexibleChecksum(executionAttributes, context.httpResponse())) {
+                checksum = new Md5Checksum();
+            }
 
             long contentLength = context.httpResponse()
                                         .firstMatchingHeader(CONTENT_LENGTH_HEADER)
@@ -79,6 +85,9 @@ public final class SyncChecksumValidationInterceptor implements ExecutionInterce
                                         .orElse(0L);
 
             if (contentLength > 0) {
+                if (checksum != null) {
+                    reportResponseChecksumAlgorithm(executionAttributes, MD5_ALGORITHM);
+                }
                 return Optional.of(new ChecksumValidatingInputStream(context.responseBody().get(), checksum, contentLength));
             }
         }
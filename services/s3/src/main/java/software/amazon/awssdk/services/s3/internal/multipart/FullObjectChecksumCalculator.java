@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.IntToLongFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.CrcCombine;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Calculates the CRC32 or CRC32C checksum of a whole object from the checksums S3 returned for its parts, without reading the
+ * object data again.
+ *
+ * <p>S3 reports a checksum of the part checksums (e.g. {@code "AAAAAA==-3"}) for objects uploaded using multipart upload, which
+ * cannot be compared with a checksum calculated over the object content. Because CRCs are linear, the full object checksum can
+ * instead be derived from each part's checksum and length.
+ */
+@SdkInternalApi
+public final class FullObjectChecksumCalculator {
+    private static final int CRC_LENGTH_IN_BYTES = 4;
+
+    private FullObjectChecksumCalculator() {
+    }
+
+    /**
+     * Whether a full object checksum can be calculated for objects uploaded with the given algorithm.
+     */
+    public static boolean isSupported(ChecksumAlgorithm algorithm) {
+        return algorithm == ChecksumAlgorithm.CRC32 || algorithm == ChecksumAlgorithm.CRC32_C;
+    }
+
+    /**
+     * Whether the provided checksum is a checksum of part checksums, as returned by S3 for multipart uploads.
+     */
+    public static boolean isComposite(String checksum) {
+        return checksum != null && checksum.indexOf('-') >= 0;
+    }
+
+    /**
+     * Combine the checksums of the provided parts into the base64-encoded checksum of the whole object.
+     *
+     * @param algorithm the algorithm the parts were uploaded with
+     * @param parts the completed parts, ordered by part number
+     * @param partLength the length in bytes of the part with the given part number, or a negative value if unknown
+     * @return the full object checksum, or empty if the algorithm is not a CRC or a part is missing its checksum or length
+     */
+    public static Optional<String> calculate(ChecksumAlgorithm algorithm, CompletedPart[] parts, IntToLongFunction partLength) {
+        if (!isSupported(algorithm) || parts.length == 0) {
+            return Optional.empty();
+        }
+
+        long polynomial = algorithm == ChecksumAlgorithm.CRC32 ? CrcCombine.CRC32_POLYNOMIAL : CrcCombine.CRC32C_POLYNOMIAL;
+        long crc = 0;
+        for (int i = 0; i < parts.length; i++) {
+            CompletedPart part = parts[i];
+            if (part == null || part.partNumber() == null) {
+                return Optional.empty();
+            }
+
+            String partChecksum = algorithm == ChecksumAlgorithm.CRC32 ? part.checksumCRC32() : part.checksumCRC32C();
+            long length = partLength.applyAsLong(part.partNumber());
+            if (partChecksum == null || length < 0) {
+                return Optional.empty();
+            }
+
+            long partCrc = decode(partChecksum);
+            crc = i == 0 ? partCrc : CrcCombine.combine(crc, partCrc, length, polynomial);
+        }
+        return Optional.of(encode(crc));
+    }
+
+    /**
+     * Encode a CRC value the same way S3 encodes it in the {@code x-amz-checksum-crc32(c)} headers.
+     */
+    public static String encode(long crc) {
+        return BinaryUtils.toBase64(ByteBuffer.allocate(CRC_LENGTH_IN_BYTES).putInt((int) crc).array());
+    }
+
+    private static long decode(String checksum) {
+        return ByteBuffer.wrap(BinaryUtils.fromBase64(checksum)).getInt() & 0xFFFFFFFFL;
+    }
+}
@@ -21,6 +21,7 @@ import static software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConve
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.IntToLongFunction;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -31,6 +32,7 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
@@ -77,7 +79,9 @@ public final class MultipartUploadHelper {
     void completeMultipartUpload(CompletableFuture<PutObjectResponse> returnFuture,
                                  String uploadId,
                                  CompletedPart[] completedParts,
+                                 IntToLongFunction partLength,
                                  PutObjectRequest putObjectRequest) {
+        notifyFullObjectChecksum(putObjectRequest, completedParts, partLength);
         genericMultipartHelper.completeMultipartUpload(putObjectRequest,
                                                        uploadId,
                                                        completedParts)
@@ -90,6 +94,22 @@ public final class MultipartUploadHelper {
                               });
     }
 
+    private static void notifyFullObjectChecksum(PutObjectRequest putObjectRequest,
+                                                 CompletedPart[] completedParts,
+                                                 IntToLongFunction partLength) {
+        Consumer<String> checksumConsumer =
+            putObjectRequest.overrideConfiguration()
+                            .map(c -> c.executionAttributes()
+                                       .getAttribute(S3MultipartExecutionAttribute.FULL_OBJECT_CHECKSUM_CONSUMER))
+                            .orElse(null);
+        if (checksumConsumer == null) {
+            return;
+        }
+
+        FullObjectChecksumCalculator.calculate(putObjectRequest.checksumAlgorithm(), completedParts, partLength)
+                                    .ifPresent(checksumConsumer);
+    }
+
     CompletableFuture<CompletedPart> sendIndividualUploadPartRequest(String uploadId,
                                                                      Consumer<CompletedPart> completedPartsConsumer,
                                                                      Collection<CompletableFuture<CompletedPart>> futures,
@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Subscribes to the body of an upload with unknown content length and copies it into part-sized buffers, which are handed to
+ * a {@link PartListener} as they fill up.
+ *
+ * <p>The buffers come from a pool of at most {@code maxParts} buffers, and data is only requested from the publisher while a
+ * buffer is available to copy it into. The pool therefore bounds the memory used by the upload to the part being filled and
+ * the parts still being uploaded, while the next part keeps filling up as previous parts upload. A buffer is returned to the
+ * pool with {@link #release(ByteBuffer)} once its part has been uploaded, which resumes reading from the publisher if it was
+ * waiting for a buffer.
+ *
+ * <p>Copying the data also means that the parts do not hold on to the buffers of the publisher, which the producer may reuse
+ * once they have been delivered, and that the parts can be resent when an upload part request is retried.
+ */
+@SdkInternalApi
+final class PartBufferingSubscriber implements Subscriber<ByteBuffer> {
+    /**
+     * The largest part size that can be buffered. Each part is copied into a single heap buffer, and the VM can't allocate an
+     * array of quite {@link Integer#MAX_VALUE} bytes, so keep the same headroom as the JDK collections do.
+     */
+    static final int MAX_PART_SIZE_IN_BYTES = Integer.MAX_VALUE - 8;
+
+    private static final Logger log = Logger.loggerFor(PartBufferingSubscriber.class);
+
+    /**
+     * The size of the buffer of the first part, which grows up to the part size as data is received. This avoids allocating a
+     * full part for small objects, which are uploaded in a single request.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 128 * 1024;
+
+    private final int partSize;
+    private final int maxParts;
+    private final PartListener listener;
+    private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+    private final Queue<ByteBuffer> received = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    private volatile Subscription subscription;
+    private volatile boolean awaitingData;
+    private volatile boolean upstreamDone;
+    private volatile Throwable upstreamError;
+    private volatile boolean cancelled;
+
+    // Only accessed from drainLoop()
+    private ByteBuffer current;
+    private long currentStartNanos;
+    private int allocatedBuffers;
+    private int partsEmitted;
+    private boolean terminated;
+
+    PartBufferingSubscriber(long partSizeInBytes, int maxParts, PartListener listener) {
+        Validate.isPositive(partSizeInBytes, "partSizeInBytes");
+        Validate.isTrue(partSizeInBytes <= MAX_PART_SIZE_IN_BYTES,
+                        "partSizeInBytes must not exceed %d bytes, but was %d bytes.", MAX_PART_SIZE_IN_BYTES, partSizeInBytes);
+        this.partSize = (int) partSizeInBytes;
+        this.maxParts = Validate.isPositive(maxParts, "maxParts");
+        this.listener = Validate.paramNotNull(listener, "listener");
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (subscription != null) {
+            log.warn(() -> "The subscriber has already been subscribed. Cancelling the incoming subscription");
+            s.cancel();
+            return;
+        }
+        subscription = s;
+        drain();
+    }
+
+    @Override
+    public void onNext(ByteBuffer byteBuffer) {
+        received.add(byteBuffer);
+        awaitingData = false;
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        upstreamError = t;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Returns the buffer of a part that has been uploaded to the pool, so that it can be reused for a later part.
+     */
+    void release(ByteBuffer buffer) {
+        buffer.clear();
+        freeBuffers.add(buffer);
+        drain();
+    }
+
+    /**
+     * Cancels the subscription to the publisher and stops delivering parts to the listener.
+     */
+    void cancel() {
+        cancelled = true;
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        drain();
+    }
+
+    /**
+     * The publisher, the uploads releasing buffers and cancellation may all call this concurrently; only one of them runs
+     * {@link #drainLoop()} at a time, again for as long as others called it in the meantime.
+     */
+    private void drain() {
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            drainLoop();
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainLoop() {
+        if (terminated || subscription == null) {
+            return;
+        }
+        if (cancelled) {
+            terminate();
+            return;
+        }
+        Throwable error = upstreamError;
+        if (error != null) {
+            terminate();
+            listener.onError(error);
+            return;
+        }
+
+        ByteBuffer data;
+        while ((data = received.peek()) != null) {
+            if (current == null && !acquireBuffer()) {
+                log.trace(() -> "All " + maxParts + " part buffers are in use, waiting for a part upload to complete");
+                return;
+            }
+            copy(data);
+            if (!data.hasRemaining()) {
+                received.poll();
+            }
+            if (current.position() == partSize) {
+                emitCurrent();
+            }
+        }
+
+        if (upstreamDone) {
+            terminated = true;
+            if (current != null && (current.position() > 0 || partsEmitted == 0)) {
+                emitCurrent();
+            } else if (partsEmitted == 0) {
+                listener.onPart(ByteBuffer.allocate(0));
+            }
+            listener.onComplete();
+            return;
+        }
+
+        if (!awaitingData) {
+            awaitingData = true;
+            subscription.request(1);
+        }
+    }
+
+    private boolean acquireBuffer() {
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer == null) {
+            if (allocatedBuffers == maxParts) {
+                return false;
+            }
+            allocatedBuffers++;
+            buffer = ByteBuffer.allocate(partsEmitted == 0 ? Math.min(partSize, INITIAL_BUFFER_SIZE) : partSize);
+        }
+        current = buffer;
+        currentStartNanos = System.nanoTime();
+        return true;
+    }
+
+    private void copy(ByteBuffer data) {
+        if (!current.hasRemaining()) {
+            growCurrent();
+        }
+        int length = Math.min(data.remaining(), current.remaining());
+        ByteBuffer slice = data.duplicate();
+        slice.limit(slice.position() + length);
+        current.put(slice);
+        data.position(data.position() + length);
+    }
+
+    private void growCurrent() {
+        ByteBuffer grown = ByteBuffer.allocate((int) Math.min(partSize, 2L * current.capacity()));
+        current.flip();
+        grown.put(current);
+        current = grown;
+    }
+
+    private void emitCurrent() {
+        ByteBuffer part = current;
+        current = null;
+        part.flip();
+        int partNumber = ++partsEmitted;
+        long bufferingMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - currentStartNanos);
+        log.debug(() -> "Buffered part " + partNumber + " (" + part.remaining() + " bytes) in " + bufferingMillis + " ms");
+        listener.onPart(part);
+    }
+
+    private void terminate() {
+        terminated = true;
+        received.clear();
+        current = null;
+    }
+
+    /**
+     * Receives the parts buffered by a {@link PartBufferingSubscriber}. The methods are never called concurrently.
+     */
+    interface PartListener {
+
+        /**
+         * Called with the content of each part, in order. The buffer must not be modified, and should be passed to
+         * {@link PartBufferingSubscriber#release(ByteBuffer)} once the part has been uploaded. A stream with no content is
+         * delivered as a single empty part.
+         */
+        void onPart(ByteBuffer part);
+
+        /**
+         * Called once all parts have been delivered.
+         */
+        void onComplete();
+
+        /**
+         * Called if the publisher fails, after which no more parts are delivered.
+         */
+        void onError(Throwable t);
+    }
+}
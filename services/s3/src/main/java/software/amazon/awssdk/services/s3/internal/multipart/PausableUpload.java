@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
+
+/**
+ * A multipart upload that can be paused.
+ */
+@SdkInternalApi
+public interface PausableUpload {
+
+    /**
+     * Mark the upload as paused. When the upload is subsequently cancelled, the multipart upload and the parts that were already
+     * uploaded are left in place instead of being aborted.
+     *
+     * @return the state needed to resume the upload later.
+     */
+    S3ResumeToken pause();
+}
@@ -33,6 +33,8 @@ import software.amazon.awssdk.services.s3.model.CopyObjectResult;
 import software.amazon.awssdk.services.s3.model.CopyPartResult;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
@@ -101,6 +103,18 @@ public final class SdkPojoConversionUtils {
         return builder.partNumber(partNumber).build();
     }
 
+    public static CompletedPart toCompletedPart(Part part) {
+        CompletedPart.Builder builder = CompletedPart.builder();
+        setSdkFields(builder, part);
+        return builder.build();
+    }
+
+    public static ListPartsRequest toListPartsRequest(PutObjectRequest putObjectRequest, String uploadId) {
+        ListPartsRequest.Builder builder = ListPartsRequest.builder();
+        setSdkFields(builder, putObjectRequest);
+        return builder.uploadId(uploadId).build();
+    }
+
     private static void setSdkFields(SdkPojo targetBuilder, SdkPojo sourceObject) {
         setSdkFields(targetBuilder, sourceObject, new HashSet<>());
     }
@@ -17,28 +17,45 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute;
+import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An internal helper class that automatically uses multipart upload based on the size of the object.
+ *
+ * <p>Multipart uploads can be paused through {@link S3MultipartExecutionAttribute#PAUSE_OBSERVABLE}, and resumed by passing the
+ * returned {@link S3ResumeToken} through {@link S3MultipartExecutionAttribute#RESUME_TOKEN}. A resumed upload lists the parts
+ * that were already uploaded and only uploads the missing ones. If
+ * {@link S3MultipartExecutionAttribute#RESUME_REQUEST_BODY_PROVIDER} is present, the content is read from the end of the
+ * leading uploaded parts; otherwise the content of the uploaded parts is read from the request body and discarded.
  */
 @SdkInternalApi
 public final class UploadWithKnownContentLengthHelper {
@@ -73,7 +90,11 @@ public final class UploadWithKnownContentLengthHelper {
         CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
 
         try {
-            if (contentLength > multipartUploadThresholdInBytes && contentLength > partSizeInBytes) {
+            S3ResumeToken resumeToken = executionAttribute(putObjectRequest, S3MultipartExecutionAttribute.RESUME_TOKEN);
+            if (resumeToken != null && resumeToken.uploadId() != null) {
+                log.debug(() -> "Resuming the multipart upload " + resumeToken.uploadId());
+                resumeUploadInParts(putObjectRequest, contentLength, asyncRequestBody, returnFuture, resumeToken);
+            } else if (contentLength > multipartUploadThresholdInBytes && contentLength > partSizeInBytes) {
                 log.debug(() -> "Starting the upload as multipart upload request");
                 uploadInParts(putObjectRequest, contentLength, asyncRequestBody, returnFuture);
             } else {
@@ -99,55 +120,140 @@ public final class UploadWithKnownContentLengthHelper {
                 genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload", throwable);
             } else {
                 log.debug(() -> "Initiated a new multipart upload, uploadId: " + createMultipartUploadResponse.uploadId());
-                doUploadInParts(Pair.of(putObjectRequest, asyncRequestBody), contentLength, returnFuture,
-                                createMultipartUploadResponse.uploadId());
+                long optimalPartSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
+                if (optimalPartSize > partSizeInBytes) {
+                    log.debug(() -> String.format("Configured partSize is %d, but using %d to prevent reaching maximum number "
+                                                  + "of parts allowed", partSizeInBytes, optimalPartSize));
+                }
+                doUploadInParts(new MpuRequestContext(Pair.of(putObjectRequest, asyncRequestBody), contentLength,
+                                                      optimalPartSize, createMultipartUploadResponse.uploadId(),
+                                                      Collections.emptyMap(), 1),
+                                returnFuture);
             }
         });
     }
 
-    private void doUploadInParts(Pair<PutObjectRequest, AsyncRequestBody> request,
-                                 long contentLength,
-                                 CompletableFuture<PutObjectResponse> returnFuture,
-                                 String uploadId) {
+    private void resumeUploadInParts(PutObjectRequest putObjectRequest, long contentLength, AsyncRequestBody asyncRequestBody,
+                                     CompletableFuture<PutObjectResponse> returnFuture, S3ResumeToken resumeToken) {
+        String uploadId = resumeToken.uploadId();
+        long partSize = Validate.notNull(resumeToken.partSize(), "The resume token for multipart upload %s has no part size.",
+                                         uploadId);
 
-        long optimalPartSize = genericMultipartHelper.calculateOptimalPartSizeFor(contentLength, partSizeInBytes);
-        int partCount = genericMultipartHelper.determinePartCount(contentLength, optimalPartSize);
-        if (optimalPartSize > partSizeInBytes) {
-            log.debug(() -> String.format("Configured partSize is %d, but using %d to prevent reaching maximum number of parts "
-                                          + "allowed", partSizeInBytes, optimalPartSize));
+        CompletableFuture<Map<Integer, CompletedPart>> existingPartsFuture = new CompletableFuture<>();
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, existingPartsFuture);
+        listExistingParts(SdkPojoConversionUtils.toListPartsRequest(putObjectRequest, uploadId), new HashMap<>(),
+                          existingPartsFuture);
+
+        existingPartsFuture.whenComplete((existingParts, throwable) -> {
+            if (throwable != null) {
+                genericMultipartHelper.handleException(returnFuture, () -> "Failed to list the parts of multipart upload "
+                                                                           + uploadId, throwable);
+            } else {
+                log.debug(() -> String.format("Resuming multipart upload %s, %d parts were already uploaded", uploadId,
+                                              existingParts.size()));
+                int partCount = genericMultipartHelper.determinePartCount(contentLength, partSize);
+                int skippedParts = leadingExistingParts(existingParts, partCount);
+                Function<Long, AsyncRequestBody> requestBodyProvider =
+                    executionAttribute(putObjectRequest, S3MultipartExecutionAttribute.RESUME_REQUEST_BODY_PROVIDER);
+
+                AsyncRequestBody requestBody = asyncRequestBody;
+                int firstPartNumber = 1;
+                if (requestBodyProvider != null && skippedParts > 0) {
+                    log.debug(() -> String.format("Reading multipart upload %s from part %d", uploadId, skippedParts + 1));
+                    requestBody = requestBodyProvider.apply(skippedParts * partSize);
+                    firstPartNumber = skippedParts + 1;
+                }
+                doUploadInParts(new MpuRequestContext(Pair.of(putObjectRequest, requestBody), contentLength, partSize,
+                                                      uploadId, existingParts, firstPartNumber),
+                                returnFuture);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of parts, starting from the first one, that were all uploaded already. The last part is never counted,
+     * so that a resumed upload always has content left to read.
+     */
+    private static int leadingExistingParts(Map<Integer, CompletedPart> existingParts, int partCount) {
+        int leadingParts = 0;
+        while (leadingParts < partCount - 1 && existingParts.containsKey(leadingParts + 1)) {
+            leadingParts++;
         }
+        return leadingParts;
+    }
 
-        log.debug(() -> String.format("Starting multipart upload with partCount: %d, optimalPartSize: %d", partCount,
-                                      optimalPartSize));
+    private void listExistingParts(ListPartsRequest listPartsRequest,
+                                   Map<Integer, CompletedPart> existingParts,
+                                   CompletableFuture<Map<Integer, CompletedPart>> existingPartsFuture) {
+        s3AsyncClient.listParts(listPartsRequest).whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                existingPartsFuture.completeExceptionally(throwable);
+                return;
+            }
+
+            response.parts().forEach(part -> existingParts.put(part.partNumber(), SdkPojoConversionUtils.toCompletedPart(part)));
+
+            if (Boolean.TRUE.equals(response.isTruncated())) {
+                listExistingParts(listPartsRequest.toBuilder().partNumberMarker(response.nextPartNumberMarker()).build(),
+                                  existingParts, existingPartsFuture);
+            } else {
+                existingPartsFuture.complete(existingParts);
+            }
+        });
+    }
+
+    private void doUploadInParts(MpuRequestContext mpuRequestContext, CompletableFuture<PutObjectResponse> returnFuture) {
+        log.debug(() -> String.format("Starting multipart upload with partCount: %d, optimalPartSize: %d",
+                                      mpuRequestContext.partCount, mpuRequestContext.partSize));
+
+        KnownContentLengthAsyncRequestBodySubscriber subscriber =
+            new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext, returnFuture);
 
-        MpuRequestContext mpuRequestContext = new MpuRequestContext(request, contentLength, optimalPartSize, uploadId);
+        PauseObservable pauseObservable = executionAttribute(mpuRequestContext.request.left(),
+                                                             S3MultipartExecutionAttribute.PAUSE_OBSERVABLE);
+        if (pauseObservable != null) {
+            pauseObservable.subscribe(subscriber);
+        }
+
+        mpuRequestContext.request.right()
+                                 .split(b -> b.chunkSizeInBytes(mpuRequestContext.partSize)
+                                              .bufferSizeInBytes(maxMemoryUsageInBytes))
+                                 .subscribe(subscriber);
+    }
 
-        request.right()
-               .split(b -> b.chunkSizeInBytes(mpuRequestContext.partSize)
-                            .bufferSizeInBytes(maxMemoryUsageInBytes))
-               .subscribe(new KnownContentLengthAsyncRequestBodySubscriber(mpuRequestContext,
-                                                                           returnFuture));
+    private static <T> T executionAttribute(PutObjectRequest putObjectRequest,
+                                            ExecutionAttribute<T> attribute) {
+        return putObjectRequest.overrideConfiguration()
+                               .map(c -> c.executionAttributes().getAttribute(attribute))
+                               .orElse(null);
     }
 
-    private static final class MpuRequestContext {
+    private final class MpuRequestContext {
         private final Pair<PutObjectRequest, AsyncRequestBody> request;
         private final long contentLength;
         private final long partSize;
-
+        private final int partCount;
         private final String uploadId;
+        private final Map<Integer, CompletedPart> existingParts;
+        private final int firstPartNumber;
 
         private MpuRequestContext(Pair<PutObjectRequest, AsyncRequestBody> request,
                                   long contentLength,
                                   long partSize,
-                                  String uploadId) {
+                                  String uploadId,
+                                  Map<Integer, CompletedPart> existingParts,
+                                  int firstPartNumber) {
             this.request = request;
             this.contentLength = contentLength;
             this.partSize = partSize;
+            this.partCount = genericMultipartHelper.determinePartCount(contentLength, partSize);
             this.uploadId = uploadId;
+            this.existingParts = existingParts;
+            this.firstPartNumber = firstPartNumber;
         }
     }
 
-    private class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<AsyncRequestBody> {
+    private class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<AsyncRequestBody>, PausableUpload {
 
         /**
          * The number of AsyncRequestBody has been received but yet to be processed
@@ -161,10 +267,18 @@ public final class UploadWithKnownContentLengthHelper {
 
         private final AtomicBoolean failureActionInitiated = new AtomicBoolean(false);
 
-        private final AtomicInteger partNumber = new AtomicInteger(1);
+        private final AtomicInteger partNumber;
+
+        /**
+         * The number of parts that have been uploaded, including the parts uploaded before the upload was resumed.
+         */
+        private final AtomicInteger numPartsCompleted;
 
         private final AtomicReferenceArray<CompletedPart> completedParts;
+        private final Map<Integer, CompletedPart> existingParts;
         private final String uploadId;
+        private final long partSize;
+        private final long contentLength;
         private final Collection<CompletableFuture<CompletedPart>> futures = new ConcurrentLinkedQueue<>();
 
         private final PutObjectRequest putObjectRequest;
@@ -173,15 +287,34 @@ public final class UploadWithKnownContentLengthHelper {
 
         private volatile boolean isDone;
 
+        private volatile boolean isPaused;
+
         KnownContentLengthAsyncRequestBodySubscriber(MpuRequestContext mpuRequestContext,
                                                      CompletableFuture<PutObjectResponse> returnFuture) {
-            long optimalPartSize = genericMultipartHelper.calculateOptimalPartSizeFor(mpuRequestContext.contentLength,
-                                                                                      partSizeInBytes);
-            int partCount = genericMultipartHelper.determinePartCount(mpuRequestContext.contentLength, optimalPartSize);
             this.putObjectRequest = mpuRequestContext.request.left();
             this.returnFuture = returnFuture;
-            this.completedParts = new AtomicReferenceArray<>(partCount);
+            this.completedParts = new AtomicReferenceArray<>(mpuRequestContext.partCount);
+            this.existingParts = mpuRequestContext.existingParts;
+            this.numPartsCompleted = new AtomicInteger(existingParts.size());
+            this.partNumber = new AtomicInteger(mpuRequestContext.firstPartNumber);
+            // The request body starts after these parts, so they are never received by onNext.
+            for (int i = 1; i < mpuRequestContext.firstPartNumber; i++) {
+                completedParts.set(i - 1, existingParts.get(i));
+            }
             this.uploadId = mpuRequestContext.uploadId;
+            this.partSize = mpuRequestContext.partSize;
+            this.contentLength = mpuRequestContext.contentLength;
+        }
+
+        @Override
+        public S3ResumeToken pause() {
+            isPaused = true;
+            return S3ResumeToken.builder()
+                                .uploadId(uploadId)
+                                .partSize(partSize)
+                                .totalNumParts((long) completedParts.length())
+                                .numPartsCompleted((long) numPartsCompleted.get())
+                                .build();
         }
 
         @Override
@@ -196,9 +329,7 @@ public final class UploadWithKnownContentLengthHelper {
             returnFuture.whenComplete((r, t) -> {
                 if (t != null) {
                     s.cancel();
-                    if (failureActionInitiated.compareAndSet(false, true)) {
-                        multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
-                    }
+                    failRequests(t);
                 }
             });
         }
@@ -206,22 +337,32 @@ public final class UploadWithKnownContentLengthHelper {
         @Override
         public void onNext(AsyncRequestBody asyncRequestBody) {
             log.trace(() -> "Received asyncRequestBody " + asyncRequestBody.contentLength());
+            int currentPartNumber = partNumber.getAndIncrement();
+            CompletedPart existingPart = existingParts.get(currentPartNumber);
+            if (existingPart != null) {
+                log.debug(() -> "Skipping part " + currentPartNumber + ", which was uploaded before the upload was paused");
+                completedParts.set(currentPartNumber - 1, existingPart);
+                // Drain the content of the part, so that the next part can be buffered.
+                asyncRequestBody.subscribe(b -> { });
+                subscription.request(1);
+                return;
+            }
+
             asyncRequestBodyInFlight.incrementAndGet();
             UploadPartRequest uploadRequest =
                 SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
-                                                           partNumber.getAndIncrement(),
+                                                           currentPartNumber,
                                                            uploadId);
 
-            Consumer<CompletedPart> completedPartConsumer = completedPart -> completedParts.set(completedPart.partNumber() - 1,
-                                                                                                completedPart);
+            Consumer<CompletedPart> completedPartConsumer = completedPart -> {
+                completedParts.set(completedPart.partNumber() - 1, completedPart);
+                numPartsCompleted.incrementAndGet();
+            };
             multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedPartConsumer, futures,
                                                                   Pair.of(uploadRequest, asyncRequestBody))
                                  .whenComplete((r, t) -> {
                                      if (t != null) {
-                                         if (failureActionInitiated.compareAndSet(false, true)) {
-                                             multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture,
-                                                                                         putObjectRequest);
-                                         }
+                                         failRequests(t);
                                      } else {
                                          completeMultipartUploadIfFinish(asyncRequestBodyInFlight.decrementAndGet());
                                      }
@@ -232,9 +373,7 @@ public final class UploadWithKnownContentLengthHelper {
         @Override
         public void onError(Throwable t) {
             log.debug(() -> "Received onError ", t);
-            if (failureActionInitiated.compareAndSet(false, true)) {
-                multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
-            }
+            failRequests(t);
         }
 
         @Override
@@ -244,15 +383,33 @@ public final class UploadWithKnownContentLengthHelper {
             completeMultipartUploadIfFinish(asyncRequestBodyInFlight.get());
         }
 
+        private void failRequests(Throwable t) {
+            if (!failureActionInitiated.compareAndSet(false, true)) {
+                return;
+            }
+
+            if (isPaused) {
+                // Keep the multipart upload and its uploaded parts, so that the upload can be resumed.
+                log.debug(() -> "The multipart upload " + uploadId + " was paused");
+                genericMultipartHelper.handleException(returnFuture, () -> "The multipart upload was paused", t);
+                MultipartUploadHelper.cancelingOtherOngoingRequests(futures, t);
+            } else {
+                multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
+            }
+        }
+
         private void completeMultipartUploadIfFinish(int requestsInFlight) {
-            if (isDone && requestsInFlight == 0 && completedMultipartInitiated.compareAndSet(false, true)) {
+            if (isDone && !isPaused && requestsInFlight == 0 && completedMultipartInitiated.compareAndSet(false, true)) {
                 CompletedPart[] parts =
                     IntStream.range(0, completedParts.length())
                              .mapToObj(completedParts::get)
                              .toArray(CompletedPart[]::new);
-                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
+                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, this::partLength, putObjectRequest);
             }
         }
 
+        private long partLength(int partNumber) {
+            return partNumber < completedParts.length() ? partSize : contentLength - (completedParts.length() - 1) * partSize;
+        }
     }
 }
@@ -16,18 +16,20 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import org.reactivestreams.Subscriber;
-import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
-import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
@@ -40,6 +42,10 @@ import software.amazon.awssdk.utils.Pair;
 
 /**
  * An internal helper class that uploads streams with unknown content length.
+ *
+ * <p>The stream is buffered into parts by a {@link PartBufferingSubscriber}, which keeps reading the next part while previous
+ * parts are being uploaded, holding at most {@code maxMemoryUsageInBytes / partSizeInBytes} parts (and at least two) in
+ * memory.
  */
 @SdkInternalApi
 public final class UploadWithUnknownContentLengthHelper {
@@ -71,149 +77,130 @@ public final class UploadWithUnknownContentLengthHelper {
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
                                                              AsyncRequestBody asyncRequestBody) {
-        CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
-
-        SdkPublisher<AsyncRequestBody> splitAsyncRequestBodyResponse =
-            asyncRequestBody.split(b -> b.chunkSizeInBytes(partSizeInBytes)
-                                         .bufferSizeInBytes(maxMemoryUsageInBytes));
+        if (partSizeInBytes > PartBufferingSubscriber.MAX_PART_SIZE_IN_BYTES) {
+            return CompletableFutureUtils.failedFuture(SdkClientException.create(
+                String.format("The part size must not exceed %d bytes when the content length of the request is unknown, "
+                              + "because each part is buffered in memory, but was %d bytes.",
+                              PartBufferingSubscriber.MAX_PART_SIZE_IN_BYTES, partSizeInBytes)));
+        }
 
-        splitAsyncRequestBodyResponse.subscribe(new UnknownContentLengthAsyncRequestBodySubscriber(partSizeInBytes,
-                                                                                                   putObjectRequest,
-                                                                                                   returnFuture));
+        CompletableFuture<PutObjectResponse> returnFuture = new CompletableFuture<>();
+        UnknownContentLengthUpload upload = new UnknownContentLengthUpload(putObjectRequest, returnFuture);
+        asyncRequestBody.subscribe(upload.partBufferingSubscriber);
         return returnFuture;
     }
 
-    private class UnknownContentLengthAsyncRequestBodySubscriber implements Subscriber<AsyncRequestBody> {
-        /**
-         * Indicates whether this is the first async request body or not.
-         */
-        private final AtomicBoolean isFirstAsyncRequestBody = new AtomicBoolean(true);
-
-        /**
-         * Indicates whether CreateMultipartUpload has been initiated or not
-         */
-        private final AtomicBoolean createMultipartUploadInitiated = new AtomicBoolean(false);
+    /**
+     * The number of parts that can be held in memory at once: the part being buffered, plus those being uploaded.
+     */
+    private int maxPartsInMemory() {
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(2, maxMemoryUsageInBytes / partSizeInBytes));
+    }
 
+    private class UnknownContentLengthUpload implements PartBufferingSubscriber.PartListener {
         /**
          * Indicates whether CompleteMultipart has been initiated or not.
          */
         private final AtomicBoolean completedMultipartInitiated = new AtomicBoolean(false);
 
         /**
-         * The number of AsyncRequestBody has been received but yet to be processed
+         * The number of parts that have been received but not uploaded yet
          */
-        private final AtomicInteger asyncRequestBodyInFlight = new AtomicInteger(0);
+        private final AtomicInteger partsInFlight = new AtomicInteger(0);
 
         private final AtomicBoolean failureActionInitiated = new AtomicBoolean(false);
 
-        private AtomicInteger partNumber = new AtomicInteger(1);
+        private final AtomicInteger partNumber = new AtomicInteger(1);
 
         private final Queue<CompletedPart> completedParts = new ConcurrentLinkedQueue<>();
+        private final Map<Integer, Long> partLengths = new ConcurrentHashMap<>();
         private final Collection<CompletableFuture<CompletedPart>> futures = new ConcurrentLinkedQueue<>();
 
         private final CompletableFuture<String> uploadIdFuture = new CompletableFuture<>();
 
-        private final long maximumChunkSizeInByte;
         private final PutObjectRequest putObjectRequest;
         private final CompletableFuture<PutObjectResponse> returnFuture;
-        private Subscription subscription;
-        private AsyncRequestBody firstRequestBody;
+        private final PartBufferingSubscriber partBufferingSubscriber;
+        private ByteBuffer firstPart;
 
         private String uploadId;
         private volatile boolean isDone;
 
-        UnknownContentLengthAsyncRequestBodySubscriber(long maximumChunkSizeInByte,
-                                                       PutObjectRequest putObjectRequest,
-                                                       CompletableFuture<PutObjectResponse> returnFuture) {
-            this.maximumChunkSizeInByte = maximumChunkSizeInByte;
+        UnknownContentLengthUpload(PutObjectRequest putObjectRequest,
+                                   CompletableFuture<PutObjectResponse> returnFuture) {
             this.putObjectRequest = putObjectRequest;
             this.returnFuture = returnFuture;
-        }
-
-        @Override
-        public void onSubscribe(Subscription s) {
-            if (this.subscription != null) {
-                log.warn(() -> "The subscriber has already been subscribed. Cancelling the incoming subscription");
-                subscription.cancel();
-                return;
-            }
-            this.subscription = s;
-            s.request(1);
+            this.partBufferingSubscriber = new PartBufferingSubscriber(partSizeInBytes, maxPartsInMemory(), this);
             returnFuture.whenComplete((r, t) -> {
                 if (t != null) {
-                    s.cancel();
+                    partBufferingSubscriber.cancel();
                     multipartUploadHelper.cancelingOtherOngoingRequests(futures, t);
                 }
             });
         }
 
         @Override
-        public void onNext(AsyncRequestBody asyncRequestBody) {
-            log.trace(() -> "Received asyncRequestBody " + asyncRequestBody.contentLength());
-            asyncRequestBodyInFlight.incrementAndGet();
-
-            if (isFirstAsyncRequestBody.compareAndSet(true, false)) {
-                log.trace(() -> "Received first async request body");
-                // If this is the first AsyncRequestBody received, request another one because we don't know if there is more
-                firstRequestBody = asyncRequestBody;
-                subscription.request(1);
+        public void onPart(ByteBuffer part) {
+            int currentPartNumber = partNumber.getAndIncrement();
+            log.trace(() -> "Received part " + currentPartNumber + " with length " + part.remaining());
+
+            if (currentPartNumber == 1) {
+                // We don't know if there are more parts until the second one is buffered, so hold on to the first one
+                firstPart = part;
                 return;
             }
 
-            // If there are more than 1 AsyncRequestBodies, then we know we need to upload this
-            // object using MPU
-            if (createMultipartUploadInitiated.compareAndSet(false, true)) {
-                log.debug(() -> "Starting the upload as multipart upload request");
-                CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
-                    multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
-
-                createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
-                    if (throwable != null) {
-                        genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload",
-                                                               throwable);
-                        subscription.cancel();
-                    } else {
-                        uploadId = createMultipartUploadResponse.uploadId();
-                        log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
-
-                        sendUploadPartRequest(uploadId, firstRequestBody);
-                        sendUploadPartRequest(uploadId, asyncRequestBody);
-
-                        // We need to complete the uploadIdFuture *after* the first two requests have been sent
-                        uploadIdFuture.complete(uploadId);
-                    }
-                });
-                CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
-            } else {
-                uploadIdFuture.whenComplete((r, t) -> {
-                    sendUploadPartRequest(uploadId, asyncRequestBody);
-                });
+            partsInFlight.incrementAndGet();
+            if (currentPartNumber > 2) {
+                uploadIdFuture.thenRun(() -> sendUploadPartRequest(currentPartNumber, part));
+                return;
             }
+
+            // If there are more than 1 parts, then we know we need to upload this object using MPU
+            partsInFlight.incrementAndGet();
+            log.debug(() -> "Starting the upload as multipart upload request");
+            CompletableFuture<CreateMultipartUploadResponse> createMultipartUploadFuture =
+                multipartUploadHelper.createMultipartUpload(putObjectRequest, returnFuture);
+
+            createMultipartUploadFuture.whenComplete((createMultipartUploadResponse, throwable) -> {
+                if (throwable != null) {
+                    genericMultipartHelper.handleException(returnFuture, () -> "Failed to initiate multipart upload",
+                                                           throwable);
+                    partBufferingSubscriber.cancel();
+                } else {
+                    uploadId = createMultipartUploadResponse.uploadId();
+                    log.debug(() -> "Initiated a new multipart upload, uploadId: " + uploadId);
+
+                    sendUploadPartRequest(1, firstPart);
+                    sendUploadPartRequest(2, part);
+
+                    // We need to complete the uploadIdFuture *after* the first two requests have been sent
+                    uploadIdFuture.complete(uploadId);
+                }
+            });
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, createMultipartUploadFuture);
         }
 
-        private void sendUploadPartRequest(String uploadId, AsyncRequestBody asyncRequestBody) {
-            multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedParts::add, futures,
-                                                                  uploadPart(asyncRequestBody))
+        private void sendUploadPartRequest(int currentPartNumber, ByteBuffer part) {
+            partLengths.put(currentPartNumber, (long) part.remaining());
+            UploadPartRequest uploadRequest =
+                SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest, currentPartNumber, uploadId);
+            Pair<UploadPartRequest, AsyncRequestBody> requestPair =
+                Pair.of(uploadRequest, AsyncRequestBody.fromByteBufferUnsafe(part));
+            long startNanos = System.nanoTime();
+            multipartUploadHelper.sendIndividualUploadPartRequest(uploadId, completedParts::add, futures, requestPair)
                 .whenComplete((r, t) -> {
                     if (t != null) {
                         if (failureActionInitiated.compareAndSet(false, true)) {
                             multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
                         }
                     } else {
-                        completeMultipartUploadIfFinish(asyncRequestBodyInFlight.decrementAndGet());
+                        log.debug(() -> "Uploaded part " + currentPartNumber + " of uploadId " + uploadId + " in "
+                                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + " ms");
+                        partBufferingSubscriber.release(part);
+                        completeMultipartUploadIfFinish(partsInFlight.decrementAndGet());
                     }
                 });
-            synchronized (this) {
-                subscription.request(1);
-            };
-        }
-
-        private Pair<UploadPartRequest, AsyncRequestBody> uploadPart(AsyncRequestBody asyncRequestBody) {
-            UploadPartRequest uploadRequest =
-                SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest,
-                                                           partNumber.getAndIncrement(),
-                                                           uploadId);
-            return Pair.of(uploadRequest, asyncRequestBody);
         }
 
         @Override
@@ -227,13 +214,14 @@ public final class UploadWithUnknownContentLengthHelper {
         @Override
         public void onComplete() {
             log.debug(() -> "Received onComplete()");
-            // If CreateMultipartUpload has not been initiated at this point, we know this is a single object upload
-            if (createMultipartUploadInitiated.get() == false) {
+            // If there is a single part at this point, we know this is a single object upload
+            if (partNumber.get() == 2) {
                 log.debug(() -> "Starting the upload as a single object upload request");
-                multipartUploadHelper.uploadInOneChunk(putObjectRequest, firstRequestBody, returnFuture);
+                multipartUploadHelper.uploadInOneChunk(putObjectRequest, AsyncRequestBody.fromByteBufferUnsafe(firstPart),
+                                                       returnFuture);
             } else {
                 isDone = true;
-                completeMultipartUploadIfFinish(asyncRequestBodyInFlight.get());
+                completeMultipartUploadIfFinish(partsInFlight.get());
             }
         }
 
@@ -242,7 +230,8 @@ public final class UploadWithUnknownContentLengthHelper {
                 CompletedPart[] parts = completedParts.stream()
                                                       .sorted(Comparator.comparingInt(CompletedPart::partNumber))
                                                       .toArray(CompletedPart[]::new);
-                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
+                multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts,
+                                                              n -> partLengths.getOrDefault(n, -1L), putObjectRequest);
             }
         }
     }
@@ -28,9 +28,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.CredentialUtils;
 import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.awscore.AwsExecutionAttribute;
@@ -65,6 +68,7 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.scheme.AwsV4AuthScheme;
 import software.amazon.awssdk.http.auth.aws.scheme.AwsV4aAuthScheme;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.protocols.xml.AwsS3ProtocolFactory;
@@ -107,6 +111,7 @@ import software.amazon.awssdk.services.s3.transform.GetObjectRequestMarshaller;
 import software.amazon.awssdk.services.s3.transform.PutObjectRequestMarshaller;
 import software.amazon.awssdk.services.s3.transform.UploadPartRequestMarshaller;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
@@ -134,6 +139,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private final SdkClientConfiguration clientConfiguration;
     private final AttributeMap clientContextParams;
     private final UseGlobalEndpointResolver useGlobalEndpointResolver;
+    private final boolean globalInterceptorsRegistered;
 
     private DefaultS3Presigner(Builder b) {
         super(b);
@@ -162,7 +168,10 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
         this.serviceConfiguration = serviceConfigBuilder.build();
 
-        this.clientInterceptors = initializeInterceptors();
+        ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
+        List<ExecutionInterceptor> globalInterceptors = interceptorFactory.getGlobalInterceptors();
+        this.clientInterceptors = initializeInterceptors(interceptorFactory, globalInterceptors);
+        this.globalInterceptorsRegistered = !globalInterceptors.isEmpty();
 
         this.clientConfiguration = createClientConfiguration();
 
@@ -204,8 +213,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     /**
      * Copied from {@code DefaultS3BaseClientBuilder} and {@link SdkDefaultClientBuilder}.
      */
-    private List<ExecutionInterceptor> initializeInterceptors() {
-        ClasspathInterceptorChainFactory interceptorFactory = new ClasspathInterceptorChainFactory();
+    private List<ExecutionInterceptor> initializeInterceptors(ClasspathInterceptorChainFactory interceptorFactory,
+                                                              List<ExecutionInterceptor> globalInterceptors) {
         List<ExecutionInterceptor> s3Interceptors =
             interceptorFactory.getInterceptors("software/amazon/awssdk/services/s3/execution.interceptors");
         List<ExecutionInterceptor> additionalInterceptors = new ArrayList<>();
@@ -213,7 +222,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         additionalInterceptors.add(new S3ResolveEndpointInterceptor());
         additionalInterceptors.add(new S3RequestSetEndpointInterceptor());
         s3Interceptors = mergeLists(s3Interceptors, additionalInterceptors);
-        return mergeLists(interceptorFactory.getGlobalInterceptors(), s3Interceptors);
+        return mergeLists(globalInterceptors, s3Interceptors);
     }
 
     /**
@@ -250,6 +259,64 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .build();
     }
 
+    @Override
+    public Stream<PresignedGetObjectRequest> presignGetObjects(Stream<GetObjectPresignRequest> requests) {
+        Validate.paramNotNull(requests, "requests");
+        AtomicReference<GetObjectPresignTemplate> template = new AtomicReference<>();
+        return requests.map(request -> presignGetObject(request, template));
+    }
+
+    /**
+     * Presign a {@link GetObjectRequest} using the provided template if the request only differs from it by key, or using the
+     * complete presigning process otherwise, in which case the template is replaced for the requests that follow.
+     */
+    private PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request,
+                                                      AtomicReference<GetObjectPresignTemplate> templateReference) {
+        GetObjectPresignTemplate template = templateReference.get();
+        if (template != null && template.canPresign(request)) {
+            return template.presign(request);
+        }
+
+        ExecutionContext execCtx = invokeInterceptorsAndMarshalRequest(request,
+                                                                       request.getObjectRequest(),
+                                                                       GetObjectRequest.class,
+                                                                       getObjectRequestMarshaller::marshall,
+                                                                       "GetObject");
+        SdkHttpFullRequest httpRequest = getHttpFullRequest(execCtx);
+        SdkHttpFullRequest signedHttpRequest = presignRequest(execCtx, httpRequest);
+
+        PresignedGetObjectRequest.Builder presignedRequest = PresignedGetObjectRequest.builder();
+        initializePresignedRequest(presignedRequest, execCtx, signedHttpRequest);
+
+        createGetObjectPresignTemplate(request.getObjectRequest(), execCtx, httpRequest).ifPresent(templateReference::set);
+        return presignedRequest.build();
+    }
+
+    /**
+     * Create a template to presign other requests for the same object as the provided, fully presigned, request, or empty if
+     * presigning another key could require more than replacing the key in the request path.
+     */
+    private Optional<GetObjectPresignTemplate> createGetObjectPresignTemplate(GetObjectRequest getObjectRequest,
+                                                                              ExecutionContext execCtx,
+                                                                              SdkHttpFullRequest httpRequest) {
+        // Global interceptors and request-level configuration may modify each request differently
+        if (globalInterceptorsRegistered
+            || getObjectRequest.overrideConfiguration().isPresent()
+            || !getObjectRequest.equals(execCtx.interceptorContext().request())
+            || httpRequest.contentStreamProvider().isPresent()) {
+            return Optional.empty();
+        }
+
+        String keyPath = getObjectRequestMarshaller.marshall(getObjectRequest).encodedPath();
+        String path = httpRequest.encodedPath();
+        if (!path.endsWith(keyPath)) {
+            return Optional.empty();
+        }
+
+        String pathPrefix = path.substring(0, path.length() - keyPath.length());
+        return Optional.of(new GetObjectPresignTemplate(getObjectRequest, execCtx, httpRequest, pathPrefix));
+    }
+
     @Override
     public PresignedPutObjectRequest presignPutObject(PutObjectPresignRequest request) {
         return presign(PresignedPutObjectRequest.builder(),
@@ -330,6 +397,29 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                                               Function<U, SdkHttpFullRequest> requestMarshaller,
                                                               String operationName) {
 
+        ExecutionContext execCtx = invokeInterceptorsAndMarshalRequest(presignRequest,
+                                                                       requestToPresign,
+                                                                       requestToPresignType,
+                                                                       requestMarshaller,
+                                                                       operationName);
+
+        SdkHttpFullRequest httpRequest = getHttpFullRequest(execCtx);
+        SdkHttpFullRequest signedHttpRequest = presignRequest(execCtx, httpRequest);
+
+        initializePresignedRequest(presignedRequest, execCtx, signedHttpRequest);
+
+        return presignedRequest;
+    }
+
+    /**
+     * Creates an execution context from the provided request information, and runs the interceptors and the marshaller to
+     * generate the HTTP request to be presigned.
+     */
+    private <U> ExecutionContext invokeInterceptorsAndMarshalRequest(PresignRequest presignRequest,
+                                                                     SdkRequest requestToPresign,
+                                                                     Class<U> requestToPresignType,
+                                                                     Function<U, SdkHttpFullRequest> requestMarshaller,
+                                                                     String operationName) {
         ExecutionContext execCtx = invokeInterceptorsAndCreateExecutionContext(presignRequest, requestToPresign, operationName);
 
         callBeforeMarshallingHooks(execCtx);
@@ -338,12 +428,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         addRequestLevelHeadersAndQueryParameters(execCtx);
         callModifyHttpRequestHooksAndUpdateContext(execCtx);
 
-        SdkHttpFullRequest httpRequest = getHttpFullRequest(execCtx);
-        SdkHttpFullRequest signedHttpRequest = presignRequest(execCtx, httpRequest);
-
-        initializePresignedRequest(presignedRequest, execCtx, signedHttpRequest);
-
-        return presignedRequest;
+        return execCtx;
     }
 
     /**
@@ -580,6 +665,64 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         return new UseGlobalEndpointResolver(config);
     }
 
+    /**
+     * A fully presigned {@link GetObjectRequest}, used to presign requests that only differ from it by key without invoking
+     * the interceptors, resolving the endpoint or resolving the signer again. Only the request path, the credentials and the
+     * expiration are updated for each request before signing it.
+     */
+    private final class GetObjectPresignTemplate {
+        private final GetObjectRequest getObjectRequest;
+        private final ExecutionContext executionContext;
+        private final SdkHttpFullRequest httpRequest;
+        private final String pathPrefix;
+
+        private GetObjectPresignTemplate(GetObjectRequest getObjectRequest,
+                                         ExecutionContext executionContext,
+                                         SdkHttpFullRequest httpRequest,
+                                         String pathPrefix) {
+            this.getObjectRequest = getObjectRequest;
+            this.executionContext = executionContext;
+            this.httpRequest = httpRequest;
+            this.pathPrefix = pathPrefix;
+        }
+
+        private boolean canPresign(GetObjectPresignRequest request) {
+            GetObjectRequest requestToPresign = request.getObjectRequest();
+            return requestToPresign.key() != null
+                   && !requestToPresign.overrideConfiguration().isPresent()
+                   && requestToPresign.toBuilder().key(getObjectRequest.key()).build().equals(getObjectRequest);
+        }
+
+        private PresignedGetObjectRequest presign(GetObjectPresignRequest request) {
+            String keyPath = getObjectRequestMarshaller.marshall(request.getObjectRequest()).encodedPath();
+            SdkHttpFullRequest requestToPresign = httpRequest.toBuilder()
+                                                             .encodedPath(pathPrefix + keyPath)
+                                                             .build();
+
+            ExecutionAttributes executionAttributes =
+                executionContext.executionAttributes()
+                                .copy()
+                                .putAttribute(PRESIGNER_EXPIRATION, Instant.now().plus(request.signatureDuration()))
+                                .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, resolveCredentials());
+            ExecutionContext execCtx = executionContext.toBuilder()
+                                                       .executionAttributes(executionAttributes)
+                                                       .build();
+
+            PresignedGetObjectRequest.Builder presignedRequest = PresignedGetObjectRequest.builder();
+            initializePresignedRequest(presignedRequest, execCtx, presignRequest(execCtx, requestToPresign));
+            return presignedRequest.build();
+        }
+
+        /**
+         * Resolve the credentials for each request, so that credentials refreshed by the provider are used.
+         */
+        private AwsCredentials resolveCredentials() {
+            AwsCredentialsIdentity identity = CompletableFutureUtils.joinLikeSync(credentialsProvider().resolveIdentity());
+            Validate.validState(identity != null, "Credential providers must never return null.");
+            return CredentialUtils.toCredentials(identity);
+        }
+    }
+
     @SdkInternalApi
     public static final class Builder extends DefaultSdkPresigner.Builder<Builder>
         implements S3Presigner.Builder {
@@ -132,6 +132,10 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * the client receive a request with a size smaller than a single part multipart operation will <em>NOT</em> be performed
          * even if the size of the request is larger than the threshold.
          * <p>
+         * Requests without a known content length are buffered in memory one part at a time, so they fail if the part size is
+         * larger than {@code Integer.MAX_VALUE - 8} bytes (just under 2 GiB). Requests with a known content length are not
+         * subject to this limit.
+         * <p>
          * Default value: 8 Mib
          *
          * @param minimumPartSizeInBytes the value of the part size to set
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.services.s3.internal.multipart.PausableUpload;
+
+/**
+ * An observable that can be attached to a {@code PutObjectRequest} through {@link S3MultipartExecutionAttribute#PAUSE_OBSERVABLE}
+ * to pause the multipart upload performed by the Java-based multipart {@code S3AsyncClient}.
+ */
+@SdkProtectedApi
+public final class PauseObservable {
+    private volatile PausableUpload pausableUpload;
+
+    /**
+     * Subscribe the upload that will be paused by {@link #pause()}.
+     */
+    public void subscribe(PausableUpload pausableUpload) {
+        this.pausableUpload = pausableUpload;
+    }
+
+    /**
+     * Pause the upload.
+     *
+     * @return the state of the paused multipart upload, or null if no multipart upload has been initiated yet.
+     */
+    public S3ResumeToken pause() {
+        PausableUpload upload = pausableUpload;
+        return upload == null ? null : upload.pause();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+
+/**
+ * Execution attributes read by the Java-based multipart {@code S3AsyncClient} when uploading an object.
+ */
+@SdkProtectedApi
+public final class S3MultipartExecutionAttribute {
+
+    /**
+     * The observable used to pause a multipart upload.
+     */
+    public static final ExecutionAttribute<PauseObservable> PAUSE_OBSERVABLE =
+        new ExecutionAttribute<>("MultipartPauseObservable");
+
+    /**
+     * The state of a previously paused multipart upload. When present, the upload continues the existing multipart upload and
+     * only uploads the parts that are missing from it.
+     */
+    public static final ExecutionAttribute<S3ResumeToken> RESUME_TOKEN = new ExecutionAttribute<>("MultipartResumeToken");
+
+    /**
+     * Creates the request body of a resumed multipart upload starting at the given byte offset of the object. When present,
+     * the resumed upload starts reading the object after the leading parts that were already uploaded, instead of reading and
+     * discarding their content from the request body passed to {@code putObject}.
+     */
+    public static final ExecutionAttribute<Function<Long, AsyncRequestBody>> RESUME_REQUEST_BODY_PROVIDER =
+        new ExecutionAttribute<>("MultipartResumeRequestBodyProvider");
+
+    /**
+     * Invoked with the base64-encoded checksum of the whole object before a multipart upload using the CRC32 or CRC32C checksum
+     * algorithm is completed. The checksum is combined from the checksums of the uploaded parts, so it can be compared with a
+     * checksum calculated over the object content, unlike the checksum of part checksums returned by S3.
+     */
+    public static final ExecutionAttribute<Consumer<String>> FULL_OBJECT_CHECKSUM_CONSUMER =
+        new ExecutionAttribute<>("MultipartFullObjectChecksumConsumer");
+
+    private S3MultipartExecutionAttribute() {
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.multipart;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The state of a paused multipart upload performed by the Java-based multipart {@code S3AsyncClient}. It is returned by
+ * {@link PauseObservable#pause()} and can be passed back to the client through
+ * {@link S3MultipartExecutionAttribute#RESUME_TOKEN} to continue the same multipart upload.
+ */
+@SdkProtectedApi
+public final class S3ResumeToken {
+    private final String uploadId;
+    private final Long partSize;
+    private final Long totalNumParts;
+    private final Long numPartsCompleted;
+
+    private S3ResumeToken(Builder builder) {
+        this.uploadId = builder.uploadId;
+        this.partSize = builder.partSize;
+        this.totalNumParts = builder.totalNumParts;
+        this.numPartsCompleted = builder.numPartsCompleted;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The id of the multipart upload.
+     */
+    public String uploadId() {
+        return uploadId;
+    }
+
+    /**
+     * The size, in bytes, of each part of the multipart upload.
+     */
+    public Long partSize() {
+        return partSize;
+    }
+
+    /**
+     * The total number of parts of the multipart upload.
+     */
+    public Long totalNumParts() {
+        return totalNumParts;
+    }
+
+    /**
+     * The number of parts that had been uploaded when the upload was paused.
+     */
+    public Long numPartsCompleted() {
+        return numPartsCompleted;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        S3ResumeToken that = (S3ResumeToken) o;
+
+        return Objects.equals(uploadId, that.uploadId) &&
+               Objects.equals(partSize, that.partSize) &&
+               Objects.equals(totalNumParts, that.totalNumParts) &&
+               Objects.equals(numPartsCompleted, that.numPartsCompleted);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(uploadId);
+        result = 31 * result + Objects.hashCode(partSize);
+        result = 31 * result + Objects.hashCode(totalNumParts);
+        result = 31 * result + Objects.hashCode(numPartsCompleted);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("S3ResumeToken")
+                       .add("uploadId", uploadId)
+                       .add("partSize", partSize)
+                       .add("totalNumParts", totalNumParts)
+                       .add("numPartsCompleted", numPartsCompleted)
+                       .build();
+    }
+
+    public static final class Builder {
+        private String uploadId;
+        private Long partSize;
+        private Long totalNumParts;
+        private Long numPartsCompleted;
+
+        private Builder() {
+        }
+
+        public Builder uploadId(String uploadId) {
+            this.uploadId = uploadId;
+            return this;
+        }
+
+        public Builder partSize(Long partSize) {
+            this.partSize = partSize;
+            return this;
+        }
+
+        public Builder totalNumParts(Long totalNumParts) {
+            this.totalNumParts = totalNumParts;
+            return this;
+        }
+
+        public Builder numPartsCompleted(Long numPartsCompleted) {
+            this.numPartsCompleted = numPartsCompleted;
+            return this;
+        }
+
+        public S3ResumeToken build() {
+            return new S3ResumeToken(this);
+        }
+    }
+}
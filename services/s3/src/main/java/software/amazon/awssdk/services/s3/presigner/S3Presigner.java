@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.s3.presigner;
 import java.net.URI;
 import java.net.URLConnection;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -301,6 +302,45 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Presign a stream of {@link GetObjectRequest}s so that they can be executed at a later time without requiring
+     * additional signing or authentication. This is intended for generating a large number of presigned URLs, e.g. one
+     * for every object under a prefix.
+     * <p/>
+     * Consecutive requests that only differ by key reuse the endpoint, credentials and signing configuration resolved for
+     * the first of them, so only the key specific part of each request needs to be signed. Each request is still signed
+     * with its own signature duration, starting from the time it is presigned. Requests with request-level override
+     * configuration are presigned individually, as with {@link #presignGetObject(GetObjectPresignRequest)}.
+     * <p/>
+     * The returned stream is lazy: a request is presigned when the corresponding element of the returned stream is
+     * consumed.
+     *
+     * <b>Example Usage</b>
+     * <p/>
+     *
+     * <pre>
+     * {@code
+     *     S3Presigner presigner = ...;
+     *     List<String> keys = ...;
+     *
+     *     Stream<GetObjectPresignRequest> presignRequests =
+     *         keys.stream()
+     *             .map(key -> GetObjectPresignRequest.builder()
+     *                                                .signatureDuration(Duration.ofMinutes(10))
+     *                                                .getObjectRequest(r -> r.bucket("my-bucket").key(key))
+     *                                                .build());
+     *
+     *     presigner.presignGetObjects(presignRequests)
+     *              .forEach(presigned -> System.out.println(presigned.url()));
+     * }
+     * </pre>
+     *
+     * @see #presignGetObject(GetObjectPresignRequest)
+     */
+    default Stream<PresignedGetObjectRequest> presignGetObjects(Stream<GetObjectPresignRequest> requests) {
+        return requests.map(this::presignGetObject);
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -24,7 +24,14 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.assertj.core.data.Offset;
 import org.junit.After;
 import org.junit.Before;
@@ -43,16 +50,20 @@ import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedDeleteObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
 @RunWith(MockitoJUnitRunner.class)
 public class S3PresignerTest {
+    private static final DateTimeFormatter SIGNING_TIME_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
     private static final URI FAKE_URL;
     private static final String BUCKET = "some-bucket";
 
@@ -231,6 +242,149 @@ public class S3PresignerTest {
         });
     }
 
+    @Test
+    public void getObjects_SameBucket_MatchesIndividuallyPresignedRequests() {
+        List<String> keys = Arrays.asList("bar", "bar/baz", "with space+plus", "/leading-slash", "unicode-\u00e9");
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(keys.stream().map(key -> getObjectPresignRequest("foo34343434", key)))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            PresignedGetObjectRequest expected = presigner.presignGetObject(getObjectPresignRequest("foo34343434", keys.get(i)));
+            assertThat(withoutSigningTime(presigned.get(i).httpRequest()))
+                .isEqualTo(withoutSigningTime(expected.httpRequest()));
+            assertThat(presigned.get(i).httpRequest().headers()).isEqualTo(expected.httpRequest().headers());
+            assertThat(presigned.get(i).isBrowserExecutable()).isTrue();
+            assertThat(presigned.get(i).signedHeaders()).isEqualTo(expected.signedHeaders());
+            assertSignatureIsValid(presigned.get(i).httpRequest(), AwsBasicCredentials.create("x", "x"));
+        }
+    }
+
+    @Test
+    public void getObjects_DifferentBuckets_ResolvesEndpointOfEachBucket() {
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Stream.of(getObjectPresignRequest("bucket-a", "key-1"),
+                                                  getObjectPresignRequest("bucket-a", "key-2"),
+                                                  getObjectPresignRequest("bucket-b", "key-3"),
+                                                  getObjectPresignRequest("bucket-a", "key-4")))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned).extracting(p -> p.url().toString().substring(0, p.url().toString().indexOf('?')))
+                             .containsExactly("https://bucket-a.s3.us-west-2.amazonaws.com/key-1",
+                                              "https://bucket-a.s3.us-west-2.amazonaws.com/key-2",
+                                              "https://bucket-b.s3.us-west-2.amazonaws.com/key-3",
+                                              "https://bucket-a.s3.us-west-2.amazonaws.com/key-4");
+    }
+
+    @Test
+    public void getObjects_RequestLevelConfiguration_IsHonored() {
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder()
+                                           .credentialsProvider(() -> AwsBasicCredentials.create("b", "b"))
+                                           .build();
+        GetObjectPresignRequest overridden =
+            getObjectPresignRequest("foo34343434", "key-2").toBuilder()
+                                                           .getObjectRequest(r -> r.bucket("foo34343434")
+                                                                                   .key("key-2")
+                                                                                   .overrideConfiguration(overrideConfiguration))
+                                                           .build();
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Stream.of(getObjectPresignRequest("foo34343434", "key-1"),
+                                                  overridden,
+                                                  getObjectPresignRequest("foo34343434", "key-3")))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned).extracting(p -> p.httpRequest().rawQueryParameters().get("X-Amz-Credential").get(0))
+                             .satisfiesExactly(c -> assertThat(c).startsWith("x/"),
+                                               c -> assertThat(c).startsWith("b/"),
+                                               c -> assertThat(c).startsWith("x/"));
+    }
+
+    @Test
+    public void getObjects_OtherFieldsDiffer_PresignsEachRequest() {
+        GetObjectPresignRequest withRequesterPays =
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(r -> r.bucket("foo34343434")
+                                                           .key("key-2")
+                                                           .requestPayer(RequestPayer.REQUESTER))
+                                   .build();
+
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Stream.of(getObjectPresignRequest("foo34343434", "key-1"), withRequesterPays))
+                     .collect(Collectors.toList());
+
+        assertThat(presigned.get(0).signedHeaders()).containsOnlyKeys("host");
+        assertThat(presigned.get(1).signedHeaders()).containsOnlyKeys("host", "x-amz-request-payer");
+    }
+
+    @Test
+    public void getObjects_HonorsSignatureDurationOfEachRequest() {
+        List<PresignedGetObjectRequest> presigned =
+            presigner.presignGetObjects(Stream.of(Duration.ofSeconds(1234), Duration.ofSeconds(4321))
+                                              .map(d -> getObjectPresignRequest("foo34343434", "bar").toBuilder()
+                                                                                                       .signatureDuration(d)
+                                                                                                       .build()))
+                     .collect(Collectors.toList());
+
+        assertThat(Integer.parseInt(presigned.get(0).httpRequest().rawQueryParameters().get("X-Amz-Expires").get(0)))
+            .isCloseTo(1234, Offset.offset(2));
+        assertThat(Integer.parseInt(presigned.get(1).httpRequest().rawQueryParameters().get("X-Amz-Expires").get(0)))
+            .isCloseTo(4321, Offset.offset(2));
+    }
+
+    private static GetObjectPresignRequest getObjectPresignRequest(String bucket, String key) {
+        return GetObjectPresignRequest.builder()
+                                      .signatureDuration(Duration.ofMinutes(5))
+                                      .getObjectRequest(r -> r.bucket(bucket).key(key))
+                                      .build();
+    }
+
+    private static URI withoutSigningTime(SdkHttpRequest request) {
+        return request.toBuilder()
+                      .removeQueryParameter("X-Amz-Date")
+                      .removeQueryParameter("X-Amz-Expires")
+                      .removeQueryParameter("X-Amz-Credential")
+                      .removeQueryParameter("X-Amz-Signature")
+                      .build()
+                      .getUri();
+    }
+
+    private static void assertSignatureIsValid(SdkHttpRequest presigned, AwsCredentials credentials) {
+        Map<String, List<String>> queryParameters = presigned.rawQueryParameters();
+        Instant signingTime = SIGNING_TIME_FORMATTER.parse(queryParameters.get("X-Amz-Date").get(0), Instant::from);
+        long expires = Long.parseLong(queryParameters.get("X-Amz-Expires").get(0));
+
+        SdkHttpFullRequest.Builder unsigned = SdkHttpFullRequest.builder()
+                                                                .method(presigned.method())
+                                                                .protocol(presigned.protocol())
+                                                                .host(presigned.host())
+                                                                .encodedPath(presigned.encodedPath())
+                                                                .headers(presigned.headers());
+        queryParameters.forEach((name, values) -> {
+            if (!name.startsWith("X-Amz-")) {
+                unsigned.putRawQueryParameter(name, values);
+            }
+        });
+
+        SdkHttpFullRequest resigned =
+            AwsS3V4Signer.create().presign(unsigned.build(),
+                                           Aws4PresignerParams.builder()
+                                                              .awsCredentials(credentials)
+                                                              .signingName("s3")
+                                                              .doubleUrlEncode(false)
+                                                              .signingRegion(Region.US_WEST_2)
+                                                              .signingClockOverride(Clock.fixed(signingTime, ZoneOffset.UTC))
+                                                              .expirationTime(signingTime.plusSeconds(expires))
+                                                              .build());
+
+        assertThat(resigned.rawQueryParameters().get("X-Amz-Signature"))
+            .isEqualTo(queryParameters.get("X-Amz-Signature"));
+    }
+
     @Test
     public void putObject_IsNotUrlCompatible() {
         PresignedPutObjectRequest presigned =
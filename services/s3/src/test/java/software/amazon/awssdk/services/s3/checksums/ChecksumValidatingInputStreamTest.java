@@ -79,6 +79,18 @@ public class ChecksumValidatingInputStreamTest {
         }
     }
 
+    @Test
+    public void nullChecksumOnlyStripsTrailingChecksum() throws IOException {
+        byte[] corruptedChecksumData = Arrays.copyOf(testData, testData.length);
+        corruptedChecksumData[TEST_DATA_SIZE] = (byte) ~corruptedChecksumData[TEST_DATA_SIZE];
+
+        InputStream strippingInputStream = new ChecksumValidatingInputStream(new ByteArrayInputStream(corruptedChecksumData),
+                                                                             null,
+                                                                             TEST_DATA_SIZE + CHECKSUM_SIZE);
+
+        assertArrayEquals(testDataWithoutChecksum, IoUtils.toByteArray(strippingInputStream));
+    }
+
     private InputStream newValidatingStream(byte[] dataFromS3) {
         return new ChecksumValidatingInputStream(new ByteArrayInputStream(dataFromS3),
                                                  new Md5Checksum(),
@@ -75,6 +75,41 @@ public class ChecksumValidatingPublisherTest {
     assertFalse(s.isOnErrorCalled());
   }
 
+  @Test
+  public void testDirectBuffers() {
+    for (int i = 1; i < TEST_DATA_SIZE + CHECKSUM_SIZE - 1; i++) {
+      final TestPublisher driver = new TestPublisher();
+      final TestSubscriber s = new TestSubscriber();
+      final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, new Md5Checksum(), TEST_DATA_SIZE + CHECKSUM_SIZE);
+      p.subscribe(s);
+
+      driver.doOnNext(directBuffer(testData, 0, i));
+      driver.doOnNext(directBuffer(testData, i, TEST_DATA_SIZE + CHECKSUM_SIZE - i));
+      driver.doOnComplete();
+
+      assertArrayEquals(testDataWithoutChecksum, s.receivedData());
+      assertTrue(s.hasCompleted());
+      assertFalse(s.isOnErrorCalled());
+    }
+  }
+
+  @Test
+  public void testNullChecksumOnlyStripsTrailingChecksum() {
+    final TestPublisher driver = new TestPublisher();
+    final TestSubscriber s = new TestSubscriber();
+    final ChecksumValidatingPublisher p = new ChecksumValidatingPublisher(driver, null, TEST_DATA_SIZE + CHECKSUM_SIZE);
+    p.subscribe(s);
+
+    byte[] incorrectChecksumData = Arrays.copyOf(testData, testData.length);
+    incorrectChecksumData[TEST_DATA_SIZE] = (byte) ~incorrectChecksumData[TEST_DATA_SIZE];
+    driver.doOnNext(ByteBuffer.wrap(incorrectChecksumData));
+    driver.doOnComplete();
+
+    assertArrayEquals(testDataWithoutChecksum, s.receivedData());
+    assertTrue(s.hasCompleted());
+    assertFalse(s.isOnErrorCalled());
+  }
+
   @Test
   public void testLastChecksumByteCorrupted() {
     TestPublisher driver = new TestPublisher();
@@ -168,6 +203,13 @@ public class ChecksumValidatingPublisherTest {
     assertFalse(s.hasCompleted());
   }
 
+  private static ByteBuffer directBuffer(byte[] data, int offset, int length) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+    buffer.put(data, offset, length);
+    buffer.flip();
+    return buffer;
+  }
+
   private class TestSubscriber implements Subscriber<ByteBuffer> {
     final List<ByteBuffer> received;
     boolean completed;
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.checksums;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.CLIENT_TYPE;
 import static software.amazon.awssdk.core.interceptor.SdkExecutionAttribute.SERVICE_CONFIG;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.CHECKSUM_ENABLED_RESPONSE_HEADER;
@@ -25,13 +26,24 @@ import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.SERV
 import static software.amazon.awssdk.services.s3.checksums.ChecksumConstant.SERVER_SIDE_ENCRYPTION_HEADER;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectChecksumEnabledPerRequest;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.getObjectChecksumEnabledPerResponse;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.CHECKSUM;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseChecksumIsValid;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.responseValidatedByFlexibleChecksum;
 import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.shouldRecordChecksum;
+import static software.amazon.awssdk.services.s3.checksums.ChecksumsEnabledValidator.validatePutObjectChecksum;
 import static software.amazon.awssdk.services.s3.model.ServerSideEncryption.AWS_KMS;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.checksums.ChecksumSpecs;
+import software.amazon.awssdk.core.checksums.ChecksumValidation;
+import software.amazon.awssdk.core.checksums.Md5Checksum;
+import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -42,6 +54,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectAclRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutBucketAclRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
 public class ChecksumsEnabledValidatorTest {
 
@@ -163,6 +176,75 @@ public class ChecksumsEnabledValidatorTest {
         assertThat(responseChecksumIsValid(response)).isFalse();
     }
 
+    @Test
+    public void responseValidatedByFlexibleChecksum_flexibleChecksumInResponse_true() {
+        SdkHttpResponse response = getSdkHttpResponseWithChecksumHeader().toBuilder()
+                                                                         .putHeader("x-amz-checksum-crc32", "i9aeUg==")
+                                                                         .build();
+
+        assertThat(responseValidatedByFlexibleChecksum(getExecutionAttributesWithFlexibleChecksumValidation(), response)).isTrue();
+    }
+
+    @Test
+    public void responseValidatedByFlexibleChecksum_noFlexibleChecksumInResponse_false() {
+        assertThat(responseValidatedByFlexibleChecksum(getExecutionAttributesWithFlexibleChecksumValidation(),
+                                                       getSdkHttpResponseWithChecksumHeader())).isFalse();
+    }
+
+    @Test
+    public void responseValidatedByFlexibleChecksum_checksumOfPartChecksums_false() {
+        SdkHttpResponse response = getSdkHttpResponseWithChecksumHeader().toBuilder()
+                                                                         .putHeader("x-amz-checksum-crc32", "i9aeUg==-3")
+                                                                         .build();
+
+        assertThat(responseValidatedByFlexibleChecksum(getExecutionAttributesWithFlexibleChecksumValidation(), response)).isFalse();
+    }
+
+    @Test
+    public void responseValidatedByFlexibleChecksum_validationForceSkipped_false() {
+        ExecutionAttributes executionAttributes = getExecutionAttributesWithFlexibleChecksumValidation();
+        executionAttributes.putAttribute(SdkExecutionAttribute.HTTP_RESPONSE_CHECKSUM_VALIDATION, ChecksumValidation.FORCE_SKIP);
+        SdkHttpResponse response = getSdkHttpResponseWithChecksumHeader().toBuilder()
+                                                                         .putHeader("x-amz-checksum-crc32", "i9aeUg==")
+                                                                         .build();
+
+        assertThat(responseValidatedByFlexibleChecksum(executionAttributes, response)).isFalse();
+    }
+
+    @Test
+    public void responseValidatedByFlexibleChecksum_validationDisabled_false() {
+        SdkHttpResponse response = getSdkHttpResponseWithChecksumHeader().toBuilder()
+                                                                         .putHeader("x-amz-checksum-crc32", "i9aeUg==")
+                                                                         .build();
+
+        assertThat(responseValidatedByFlexibleChecksum(getSyncExecutionAttributes(), response)).isFalse();
+    }
+
+    @Test
+    public void validatePutObjectChecksum_matchingETag_succeeds() {
+        ExecutionAttributes executionAttributes = getExecutionAttributesWithMd5Checksum("Hello world");
+        PutObjectResponse response = PutObjectResponse.builder().eTag("\"3e25960a79dbc69b674cd4ec67a72c62\"").build();
+
+        validatePutObjectChecksum(response, executionAttributes);
+    }
+
+    @Test
+    public void validatePutObjectChecksum_mismatchedETag_throwsException() {
+        ExecutionAttributes executionAttributes = getExecutionAttributesWithMd5Checksum("Hello world");
+        PutObjectResponse response = PutObjectResponse.builder().eTag("\"00000000000000000000000000000000\"").build();
+
+        assertThatThrownBy(() -> validatePutObjectChecksum(response, executionAttributes))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    @Test
+    public void validatePutObjectChecksum_eTagNotMd5Digest_skipsValidation() {
+        ExecutionAttributes executionAttributes = getExecutionAttributesWithMd5Checksum("Hello world");
+        PutObjectResponse response = PutObjectResponse.builder().eTag("\"3e25960a79dbc69b674cd4ec67a72c62-2\"").build();
+
+        validatePutObjectChecksum(response, executionAttributes);
+    }
+
     private ExecutionAttributes getSyncExecutionAttributes() {
         ExecutionAttributes executionAttributes = new ExecutionAttributes();
         executionAttributes.putAttribute(CLIENT_TYPE, ClientType.SYNC);
@@ -175,6 +257,25 @@ public class ChecksumsEnabledValidatorTest {
         return executionAttributes;
     }
 
+    private ExecutionAttributes getExecutionAttributesWithFlexibleChecksumValidation() {
+        ExecutionAttributes executionAttributes = getSyncExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.RESOLVED_CHECKSUM_SPECS,
+                                         ChecksumSpecs.builder()
+                                                      .isValidationEnabled(true)
+                                                      .responseValidationAlgorithms(Collections.singletonList(Algorithm.CRC32))
+                                                      .build());
+        return executionAttributes;
+    }
+
+    private ExecutionAttributes getExecutionAttributesWithMd5Checksum(String content) {
+        Md5Checksum checksum = new Md5Checksum();
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        ExecutionAttributes executionAttributes = getSyncExecutionAttributes();
+        executionAttributes.putAttribute(CHECKSUM, checksum);
+        return executionAttributes;
+    }
+
     private SdkHttpResponse getSdkHttpResponseWithChecksumHeader() {
         return SdkHttpResponse.builder()
                               .putHeader(CONTENT_LENGTH_HEADER, "100")
@@ -22,6 +22,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
@@ -40,7 +41,8 @@ public class ClientDecorationFactoryTest {
 
     void syncClientTest(AttributeMap clientContextParams, Class<Object> clazz, boolean isClass) {
         S3SyncClientDecorator decorator = new S3SyncClientDecorator();
-        S3Client decorateClient = decorator.decorate(S3Client.create(), null, clientContextParams);
+        S3Client decorateClient = decorator.decorate(S3Client.create(), SdkClientConfiguration.builder().build(),
+                                                     clientContextParams);
         if (isClass) {
             assertThat(decorateClient).isInstanceOf(clazz);
         } else {
@@ -53,7 +55,7 @@ public class ClientDecorationFactoryTest {
     void asyncClientTest(AttributeMap clientContextParams, Class<Object> clazz, boolean isClass) {
         S3AsyncClientDecorator decorator = new S3AsyncClientDecorator();
         S3AsyncClient decoratedClient = decorator.decorate(S3AsyncClient.create(),
-                                                         null ,clientContextParams);
+                                                         SdkClientConfiguration.builder().build(), clientContextParams);
         if (isClass) {
             assertThat(decoratedClient).isInstanceOf(clazz);
         } else {
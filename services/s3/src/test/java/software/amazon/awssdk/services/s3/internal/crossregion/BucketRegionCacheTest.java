@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+
+class BucketRegionCacheTest {
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    private MutableClock clock;
+    private BucketRegionCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        cache = BucketRegionCache.create(10, TTL, NEGATIVE_TTL, clock);
+    }
+
+    @Test
+    void get_regionCached_shouldReturnRegionUntilExpired() {
+        cache.put("bucket", Region.EU_WEST_1);
+
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isEqualTo(Region.EU_WEST_1);
+        clock.advance(TTL.minusSeconds(1));
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isEqualTo(Region.EU_WEST_1);
+        clock.advance(Duration.ofSeconds(1));
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isNull();
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_bucketInOtherPartition_shouldReturnNull() {
+        cache.put("bucket", Region.CN_NORTH_1);
+
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isNull();
+        assertThat(cache.get(Region.CN_NORTHWEST_1, "bucket")).isEqualTo(Region.CN_NORTH_1);
+    }
+
+    @Test
+    void put_bucketAlreadyCached_shouldReplaceRegion() {
+        cache.put("bucket", Region.EU_WEST_1);
+        cache.put("bucket", Region.AP_SOUTH_1);
+
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isEqualTo(Region.AP_SOUTH_1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void put_cacheFull_shouldEvictExpiredThenSoonestToExpireEntries() {
+        cache.put("expired", Region.EU_WEST_1);
+        clock.advance(TTL);
+        for (int i = 0; i < 10; i++) {
+            clock.advance(Duration.ofSeconds(1));
+            cache.put("bucket-" + i, Region.EU_WEST_1);
+        }
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get(Region.US_WEST_2, "bucket-0")).isNull();
+        assertThat(cache.get(Region.US_WEST_2, "bucket-1")).isEqualTo(Region.EU_WEST_1);
+        assertThat(cache.get(Region.US_WEST_2, "bucket-9")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void remove_shouldOnlyRemoveBucketFromPartitionOfRegion() {
+        cache.put("bucket", Region.EU_WEST_1);
+        cache.put("bucket", Region.CN_NORTH_1);
+
+        cache.remove(Region.US_WEST_2, "bucket");
+
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isNull();
+        assertThat(cache.get(Region.CN_NORTH_1, "bucket")).isEqualTo(Region.CN_NORTH_1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void putUnresolvable_shouldExpireAfterNegativeTtl() {
+        cache.putUnresolvable(Region.US_WEST_2, "bucket");
+
+        assertThat(cache.isUnresolvable(Region.US_WEST_2, "bucket")).isTrue();
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isNull();
+        clock.advance(NEGATIVE_TTL);
+        assertThat(cache.isUnresolvable(Region.US_WEST_2, "bucket")).isFalse();
+    }
+
+    @Test
+    void putUnresolvable_noNegativeTtl_shouldNotCacheFailure() {
+        BucketRegionCache perClientCache = BucketRegionCache.create(10, TTL, clock);
+
+        perClientCache.putUnresolvable(Region.US_WEST_2, "bucket");
+
+        assertThat(perClientCache.isUnresolvable(Region.US_WEST_2, "bucket")).isFalse();
+        assertThat(perClientCache.size()).isZero();
+    }
+
+    @Test
+    void put_regionOfUnresolvableBucket_shouldReplaceNegativeEntry() {
+        cache.putUnresolvable(Region.US_WEST_2, "bucket");
+        cache.put("bucket", Region.EU_WEST_1);
+
+        assertThat(cache.isUnresolvable(Region.US_WEST_2, "bucket")).isFalse();
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isEqualTo(Region.EU_WEST_1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldRemoveBucketFromAllPartitions() {
+        cache.put("bucket", Region.EU_WEST_1);
+        cache.put("bucket", Region.CN_NORTH_1);
+        cache.put("other", Region.EU_WEST_1);
+
+        cache.remove("bucket");
+
+        assertThat(cache.get(Region.US_WEST_2, "bucket")).isNull();
+        assertThat(cache.get(Region.CN_NORTH_1, "bucket")).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
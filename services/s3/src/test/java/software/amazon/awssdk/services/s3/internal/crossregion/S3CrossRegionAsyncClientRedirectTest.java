@@ -43,7 +43,14 @@ public class S3CrossRegionAsyncClientRedirectTest extends S3CrossRegionRedirectT
     @BeforeEach
     public void setup() {
         mockDelegateAsyncClient = Mockito.mock(S3AsyncClient.class);
-        decoratedS3AsyncClient = new S3CrossRegionAsyncClient(mockDelegateAsyncClient);
+        bucketRegionCache = newBucketRegionCache();
+        decoratedS3AsyncClient = new S3CrossRegionAsyncClient(mockDelegateAsyncClient, bucketRegionCache);
+    }
+
+    @Override
+    protected void useBucketRegionCache(BucketRegionCache cache) {
+        bucketRegionCache = cache;
+        decoratedS3AsyncClient = new S3CrossRegionAsyncClient(mockDelegateAsyncClient, bucketRegionCache);
     }
 
     @Override
@@ -117,6 +124,19 @@ public class S3CrossRegionAsyncClientRedirectTest extends S3CrossRegionRedirectT
             .thenReturn(CompletableFuture.completedFuture(ListObjectsResponse.builder().contents(S3_OBJECTS).build()));
     }
 
+    @Override
+    protected void stubApiSuccess() {
+        when(mockDelegateAsyncClient.listObjects(any(ListObjectsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListObjectsResponse.builder().contents(S3_OBJECTS).build()));
+    }
+
+    @Override
+    protected void stubRedirectWithNoRegion() {
+        when(mockDelegateAsyncClient.listObjects(any(ListObjectsRequest.class)))
+            .thenAnswer(i -> CompletableFutureUtils.failedFuture(
+                new CompletionException(redirectException(301, null, null, null))));
+    }
+
     @Override
     protected void stubRedirectThenError(Integer redirect) {
         when(mockDelegateAsyncClient.listObjects(any(ListObjectsRequest.class)))
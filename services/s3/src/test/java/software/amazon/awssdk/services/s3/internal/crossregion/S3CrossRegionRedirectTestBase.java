@@ -18,6 +18,8 @@ package software.amazon.awssdk.services.s3.internal.crossregion;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -53,6 +55,12 @@ public abstract class S3CrossRegionRedirectTestBase {
     protected static final S3ServiceClientConfiguration CONFIGURED_ENDPOINT_PROVIDER =
         S3ServiceClientConfiguration.builder().endpointProvider(S3EndpointProvider.defaultProvider()).build();
 
+    protected BucketRegionCache bucketRegionCache;
+
+    protected static BucketRegionCache newBucketRegionCache() {
+        return BucketRegionCache.create(100, Duration.ofHours(1), Clock.systemUTC());
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {301, 307})
     void decoratorAttemptsToRetryWithRegionNameInErrorResponse(Integer redirect) throws Throwable {
@@ -212,6 +220,59 @@ public abstract class S3CrossRegionRedirectTestBase {
         verifyHeadBucketServiceCall(1);
     }
 
+    @Test
+    void decoratorUsesCachedRegion_when_CacheIsPreSeeded() throws Throwable {
+        stubServiceClientConfiguration();
+        stubApiSuccess();
+        bucketRegionCache.put(CROSS_REGION_BUCKET, CROSS_REGION);
+
+        ListObjectsResponse listObjectsResponse = apiCallToService();
+        assertThat(listObjectsResponse.contents()).isEqualTo(S3_OBJECTS);
+
+        ArgumentCaptor<ListObjectsRequest> requestArgumentCaptor = ArgumentCaptor.forClass(ListObjectsRequest.class);
+        verifyTheApiServiceCall(1, requestArgumentCaptor);
+        verifyTheEndPointProviderOverridden(0, requestArgumentCaptor, CROSS_REGION.id());
+        verifyHeadBucketServiceCall(0);
+        assertThat(bucketRegionCache.hitCount()).isEqualTo(1);
+        assertThat(bucketRegionCache.missCount()).isZero();
+    }
+
+    @Test
+    void failureToDetermineRegionIsNotCached() {
+        stubServiceClientConfiguration();
+        stubRedirectWithNoRegion();
+        stubApiWithAuthorizationHeaderWithInternalSoftwareError();
+
+        assertThatExceptionOfType(S3Exception.class).isThrownBy(() -> apiCallToService());
+        assertThatExceptionOfType(S3Exception.class).isThrownBy(() -> apiCallToService());
+
+        verifyHeadBucketServiceCall(2);
+        assertThat(bucketRegionCache.size()).isZero();
+    }
+
+    @Test
+    void headBucketNotRepeated_when_RegionCouldNotBeDeterminedAndCacheHasNegativeTtl() {
+        useBucketRegionCache(BucketRegionCache.create(100, Duration.ofHours(1), Duration.ofMinutes(1), Clock.systemUTC()));
+        stubServiceClientConfiguration();
+        stubRedirectWithNoRegion();
+        stubApiWithAuthorizationHeaderWithInternalSoftwareError();
+
+        assertThatExceptionOfType(S3Exception.class).isThrownBy(() -> apiCallToService());
+        assertThatExceptionOfType(S3Exception.class).isThrownBy(() -> apiCallToService());
+
+        verifyHeadBucketServiceCall(1);
+        assertThat(bucketRegionCache.missCount()).isEqualTo(2);
+    }
+
+    /**
+     * Replaces the bucket region cache of the decorated client.
+     */
+    protected abstract void useBucketRegionCache(BucketRegionCache cache);
+
+    protected abstract void stubApiSuccess();
+
+    protected abstract void stubRedirectWithNoRegion();
+
     protected abstract void stubApiWithAuthorizationHeaderWithInternalSoftwareError();
 
 
@@ -41,7 +41,14 @@ public class S3CrossRegionSyncClientRedirectTest extends S3CrossRegionRedirectTe
     @BeforeEach
     public void setup() {
         mockDelegateClient = Mockito.mock(S3Client.class);
-        decoratedS3Client = new S3CrossRegionSyncClient(mockDelegateClient);
+        bucketRegionCache = newBucketRegionCache();
+        decoratedS3Client = new S3CrossRegionSyncClient(mockDelegateClient, bucketRegionCache);
+    }
+
+    @Override
+    protected void useBucketRegionCache(BucketRegionCache cache) {
+        bucketRegionCache = cache;
+        decoratedS3Client = new S3CrossRegionSyncClient(mockDelegateClient, bucketRegionCache);
     }
 
     @Override
@@ -103,6 +110,18 @@ public class S3CrossRegionSyncClientRedirectTest extends S3CrossRegionRedirectTe
             .thenReturn(ListObjectsResponse.builder().contents(S3_OBJECTS).build());
     }
 
+    @Override
+    protected void stubApiSuccess() {
+        when(mockDelegateClient.listObjects(any(ListObjectsRequest.class)))
+            .thenReturn(ListObjectsResponse.builder().contents(S3_OBJECTS).build());
+    }
+
+    @Override
+    protected void stubRedirectWithNoRegion() {
+        when(mockDelegateClient.listObjects(any(ListObjectsRequest.class)))
+            .thenThrow(redirectException(301, null, null, null));
+    }
+
     @Override
     protected void stubRedirectThenError(Integer redirect) {
         when(mockDelegateClient.listObjects(any(ListObjectsRequest.class)))
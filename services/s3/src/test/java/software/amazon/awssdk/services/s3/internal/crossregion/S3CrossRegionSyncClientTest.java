@@ -43,8 +43,10 @@ import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3BucketRegionCache;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.internal.DefaultS3EndpointProvider;
 import software.amazon.awssdk.services.s3.internal.crossregion.endpointprovider.BucketEndpointProvider;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
@@ -331,6 +333,54 @@ class S3CrossRegionSyncClientTest {
             .isEqualTo(Arrays.asList(SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET));
     }
 
+    @Test
+    void given_crossRegionClientsWithSharedBucketRegionCache_when_redirectError_then_otherClientUsesCachedRegion() {
+        mockSyncHttpClient.stubResponses(customHttpResponseWithUnknownErrorCode(301, CROSS_REGION.id()),
+                                         successHttpResponse(),
+                                         successHttpResponse());
+        S3BucketRegionCache bucketRegionCache = S3BucketRegionCache.create();
+        S3Configuration s3Configuration = S3Configuration.builder().bucketRegionCache(bucketRegionCache).build();
+        S3Client firstClient = clientBuilder().endpointOverride(null)
+                                              .region(OVERRIDE_CONFIGURED_REGION)
+                                              .crossRegionAccessEnabled(true)
+                                              .serviceConfiguration(s3Configuration)
+                                              .build();
+        S3Client secondClient = clientBuilder().endpointOverride(null)
+                                               .region(OVERRIDE_CONFIGURED_REGION)
+                                               .crossRegionAccessEnabled(true)
+                                               .serviceConfiguration(s3Configuration)
+                                               .build();
+
+        firstClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+        secondClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+
+        List<SdkHttpRequest> requests = mockSyncHttpClient.getRequests();
+        assertThat(requests.stream().map(req -> req.host().substring(10, req.host().length() - 14)).collect(Collectors.toList()))
+            .isEqualTo(Arrays.asList(OVERRIDE_CONFIGURED_REGION.toString(),
+                                     CROSS_REGION.toString(),
+                                     CROSS_REGION.toString()));
+        assertThat(bucketRegionCache.size()).isEqualTo(1);
+        assertThat(bucketRegionCache.hitCount()).isEqualTo(1);
+        assertThat(bucketRegionCache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void given_crossRegionClientsWithoutSharedBucketRegionCache_when_redirectError_then_otherClientIsRedirected() {
+        mockSyncHttpClient.stubResponses(customHttpResponseWithUnknownErrorCode(301, CROSS_REGION.id()),
+                                         successHttpResponse(),
+                                         customHttpResponseWithUnknownErrorCode(301, CROSS_REGION.id()),
+                                         successHttpResponse());
+        S3Client firstClient =
+            clientBuilder().endpointOverride(null).region(OVERRIDE_CONFIGURED_REGION).crossRegionAccessEnabled(true).build();
+        S3Client secondClient =
+            clientBuilder().endpointOverride(null).region(OVERRIDE_CONFIGURED_REGION).crossRegionAccessEnabled(true).build();
+
+        firstClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+        secondClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+
+        assertThat(mockSyncHttpClient.getRequests()).hasSize(4);
+    }
+
     @Test
     void given_CrossRegionClient_when_noRegionInHeader_thenFallBackToRegionInHeadBucket() {
         mockSyncHttpClient.stubResponses(customHttpResponseWithUnknownErrorCode(301,  null ),
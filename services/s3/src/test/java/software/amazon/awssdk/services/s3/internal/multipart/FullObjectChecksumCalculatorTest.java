@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import software.amazon.awssdk.checksums.SdkCrc32C;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+class FullObjectChecksumCalculatorTest {
+    private static final int PART_SIZE = 1000;
+    private static final byte[] CONTENT = new byte[PART_SIZE * 3 + 123];
+
+    static {
+        new Random(0).nextBytes(CONTENT);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ChecksumAlgorithm.class, names = {"CRC32", "CRC32_C"})
+    void calculate_crcAlgorithm_shouldMatchChecksumOfWholeObject(ChecksumAlgorithm algorithm) {
+        Supplier<Checksum> checksumSupplier = algorithm == ChecksumAlgorithm.CRC32 ? CRC32::new : SdkCrc32C::create;
+        int partCount = (CONTENT.length + PART_SIZE - 1) / PART_SIZE;
+        CompletedPart[] parts = new CompletedPart[partCount];
+        for (int i = 0; i < partCount; i++) {
+            int offset = i * PART_SIZE;
+            Checksum partChecksum = checksumSupplier.get();
+            partChecksum.update(CONTENT, offset, Math.min(PART_SIZE, CONTENT.length - offset));
+            String encoded = FullObjectChecksumCalculator.encode(partChecksum.getValue());
+            parts[i] = CompletedPart.builder()
+                                    .partNumber(i + 1)
+                                    .checksumCRC32(algorithm == ChecksumAlgorithm.CRC32 ? encoded : null)
+                                    .checksumCRC32C(algorithm == ChecksumAlgorithm.CRC32_C ? encoded : null)
+                                    .build();
+        }
+
+        Checksum expected = checksumSupplier.get();
+        expected.update(CONTENT, 0, CONTENT.length);
+
+        assertThat(FullObjectChecksumCalculator.calculate(algorithm, parts, n -> partLength(n, partCount)))
+            .hasValue(FullObjectChecksumCalculator.encode(expected.getValue()));
+    }
+
+    @Test
+    void calculate_partMissingChecksum_shouldReturnEmpty() {
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32("AAAAAA==").build(),
+            CompletedPart.builder().partNumber(2).build()
+        };
+
+        assertThat(FullObjectChecksumCalculator.calculate(ChecksumAlgorithm.CRC32, parts, n -> PART_SIZE)).isEmpty();
+    }
+
+    @Test
+    void calculate_partLengthUnknown_shouldReturnEmpty() {
+        CompletedPart[] parts = {
+            CompletedPart.builder().partNumber(1).checksumCRC32("AAAAAA==").build(),
+            CompletedPart.builder().partNumber(2).checksumCRC32("AAAAAA==").build()
+        };
+
+        assertThat(FullObjectChecksumCalculator.calculate(ChecksumAlgorithm.CRC32, parts, n -> -1)).isEmpty();
+    }
+
+    @Test
+    void calculate_nonCrcAlgorithm_shouldReturnEmpty() {
+        CompletedPart[] parts = {CompletedPart.builder().partNumber(1).checksumSHA256("abc").build()};
+
+        assertThat(FullObjectChecksumCalculator.calculate(ChecksumAlgorithm.SHA256, parts, n -> PART_SIZE)).isEmpty();
+    }
+
+    @Test
+    void isComposite_checksumOfChecksums_shouldReturnTrue() {
+        assertThat(FullObjectChecksumCalculator.isComposite("AAAAAA==-3")).isTrue();
+        assertThat(FullObjectChecksumCalculator.isComposite("AAAAAA==")).isFalse();
+        assertThat(FullObjectChecksumCalculator.isComposite(null)).isFalse();
+    }
+
+    private static long partLength(int partNumber, int partCount) {
+        return partNumber < partCount ? PART_SIZE : CONTENT.length - (long) (partCount - 1) * PART_SIZE;
+    }
+}
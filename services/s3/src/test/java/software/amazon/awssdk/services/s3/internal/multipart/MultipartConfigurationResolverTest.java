@@ -80,4 +80,14 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
     }
+
+    @Test
+    void resolvePartSize_largerThanBufferLimit_shouldHonor() {
+        long partSize = 5L * 1024 * 1024 * 1024;
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .minimumPartSizeInBytes(partSize)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(partSize);
+    }
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class PartBufferingSubscriberTest {
+    private static final int PART_SIZE = 10;
+
+    private RecordingListener listener;
+    private RecordingSubscription subscription;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RecordingListener();
+        subscription = new RecordingSubscription();
+    }
+
+    @Test
+    void create_partSizeExceedsBufferLimit_shouldThrow() {
+        long partSize = PartBufferingSubscriber.MAX_PART_SIZE_IN_BYTES + 1L;
+        assertThatThrownBy(() -> new PartBufferingSubscriber(partSize, 2, listener))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("partSizeInBytes must not exceed " + PartBufferingSubscriber.MAX_PART_SIZE_IN_BYTES);
+    }
+
+    @Test
+    void onNext_chunksNotAlignedWithParts_shouldDeliverFullPartsAndRemainder() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 4, listener);
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(ByteBuffer.wrap(bytes(0, 7)));
+        subscriber.onNext(ByteBuffer.wrap(bytes(7, 15)));
+        subscriber.onNext(ByteBuffer.wrap(bytes(22, 3)));
+        subscriber.onComplete();
+
+        assertThat(listener.parts).hasSize(3);
+        assertThat(BinaryUtils.copyAllBytesFrom(listener.parts.get(0))).isEqualTo(bytes(0, 10));
+        assertThat(BinaryUtils.copyAllBytesFrom(listener.parts.get(1))).isEqualTo(bytes(10, 10));
+        assertThat(BinaryUtils.copyAllBytesFrom(listener.parts.get(2))).isEqualTo(bytes(20, 5));
+        assertThat(listener.completed).isTrue();
+        assertThat(subscription.requested).isEqualTo(4);
+    }
+
+    @Test
+    void onNext_allBuffersInUse_shouldStopRequestingUntilPartReleased() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 2, listener);
+        subscriber.onSubscribe(subscription);
+
+        subscriber.onNext(ByteBuffer.wrap(bytes(0, 25)));
+
+        assertThat(listener.parts).hasSize(2);
+        assertThat(subscription.requested).isEqualTo(1);
+
+        subscriber.release(listener.parts.get(0));
+
+        assertThat(listener.parts).hasSize(2);
+        assertThat(subscription.requested).isEqualTo(2);
+
+        subscriber.onComplete();
+
+        assertThat(listener.parts).hasSize(3);
+        assertThat(BinaryUtils.copyAllBytesFrom(listener.parts.get(2))).isEqualTo(bytes(20, 5));
+        assertThat(listener.completed).isTrue();
+    }
+
+    @Test
+    void onNext_publisherReusesBuffer_shouldNotAffectDeliveredParts() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 4, listener);
+        subscriber.onSubscribe(subscription);
+
+        byte[] reused = bytes(0, PART_SIZE);
+        subscriber.onNext(ByteBuffer.wrap(reused));
+        reused[0] = 42;
+        subscriber.onComplete();
+
+        assertThat(BinaryUtils.copyAllBytesFrom(listener.parts.get(0))).isEqualTo(bytes(0, PART_SIZE));
+    }
+
+    @Test
+    void onComplete_noContent_shouldDeliverEmptyPart() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 4, listener);
+        subscriber.onSubscribe(subscription);
+        subscriber.onComplete();
+
+        assertThat(listener.parts).hasSize(1);
+        assertThat(listener.parts.get(0).remaining()).isZero();
+        assertThat(listener.completed).isTrue();
+    }
+
+    @Test
+    void onError_shouldNotifyListenerAndDeliverNoMoreParts() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 4, listener);
+        subscriber.onSubscribe(subscription);
+        RuntimeException exception = new RuntimeException("error");
+
+        subscriber.onNext(ByteBuffer.wrap(bytes(0, 5)));
+        subscriber.onError(exception);
+        subscriber.onNext(ByteBuffer.wrap(bytes(5, 5)));
+
+        assertThat(listener.parts).isEmpty();
+        assertThat(listener.error).isSameAs(exception);
+        assertThat(listener.completed).isFalse();
+    }
+
+    @Test
+    void cancel_shouldCancelSubscription() {
+        PartBufferingSubscriber subscriber = new PartBufferingSubscriber(PART_SIZE, 4, listener);
+        subscriber.onSubscribe(subscription);
+
+        subscriber.cancel();
+        subscriber.onNext(ByteBuffer.wrap(bytes(0, PART_SIZE)));
+
+        assertThat(subscription.cancelled).isTrue();
+        assertThat(listener.parts).isEmpty();
+    }
+
+    private static byte[] bytes(int start, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (start + i);
+        }
+        return bytes;
+    }
+
+    private static final class RecordingSubscription implements Subscription {
+        private long requested;
+        private boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class RecordingListener implements PartBufferingSubscriber.PartListener {
+        private final List<ByteBuffer> parts = new ArrayList<>();
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onPart(ByteBuffer part) {
+            parts.add(part);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+    }
+}
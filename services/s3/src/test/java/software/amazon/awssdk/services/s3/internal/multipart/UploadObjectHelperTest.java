@@ -28,11 +28,16 @@ import static software.amazon.awssdk.services.s3.internal.multipart.MpuTestUtils
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -54,15 +59,22 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ListPartsRequest;
+import software.amazon.awssdk.services.s3.model.ListPartsResponse;
+import software.amazon.awssdk.services.s3.model.Part;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute;
+import software.amazon.awssdk.services.s3.multipart.S3ResumeToken;
 import software.amazon.awssdk.testutils.RandomTempFile;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
@@ -75,6 +87,7 @@ public class UploadObjectHelperTest {
     // Should contain four parts: [8KB, 8KB, 8KB, 1KB]
     private static final long MPU_CONTENT_SIZE = 25 * 1024;
     private static final long THRESHOLD = 10 * 1024;
+    private static final long FIVE_GIB = 5L * 1024 * 1024 * 1024;
     private static final String UPLOAD_ID = "1234";
 
     private static RandomTempFile testFile;
@@ -135,6 +148,31 @@ public class UploadObjectHelperTest {
         Mockito.verify(s3AsyncClient).putObject(putObjectRequest, asyncRequestBody);
     }
 
+    @Test
+    void uploadObject_unknownContentLengthPartSizeExceedsBufferLimit_shouldFail() {
+        UploadObjectHelper helper = uploadHelperWithPartSize(FIVE_GIB);
+        AsyncRequestBody asyncRequestBody = new UnknownContentLengthAsyncRequestBody(AsyncRequestBody.fromString("data"));
+
+        CompletableFuture<PutObjectResponse> future = helper.uploadObject(putObjectRequest(null), asyncRequestBody);
+
+        assertThatThrownBy(future::join).hasCauseInstanceOf(SdkClientException.class)
+                                        .hasMessageContaining("must not exceed " + PartBufferingSubscriber.MAX_PART_SIZE_IN_BYTES);
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+        verify(s3AsyncClient, never()).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void uploadObject_knownContentLengthPartSizeExceedsBufferLimit_shouldUpload() {
+        UploadObjectHelper helper = uploadHelperWithPartSize(FIVE_GIB);
+        PutObjectRequest putObjectRequest = putObjectRequest(1024L);
+        AsyncRequestBody asyncRequestBody = Mockito.mock(AsyncRequestBody.class);
+
+        when(s3AsyncClient.putObject(putObjectRequest, asyncRequestBody))
+            .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+        helper.uploadObject(putObjectRequest, asyncRequestBody).join();
+        verify(s3AsyncClient).putObject(putObjectRequest, asyncRequestBody);
+    }
+
     @ParameterizedTest
     @MethodSource("asyncRequestBody")
     void uploadObject_contentLengthExceedThresholdAndPartSize_shouldUseMPU(AsyncRequestBody asyncRequestBody) {
@@ -327,6 +365,186 @@ public class UploadObjectHelperTest {
                                         .hasRootCause(exception);
     }
 
+    @Test
+    void upload_pausedAndCancelled_shouldReturnResumeTokenAndNotAbort() {
+        PauseObservable pauseObservable = new PauseObservable();
+        PutObjectRequest putObjectRequest =
+            putObjectRequest(null).toBuilder()
+                                  .overrideConfiguration(o -> o.putExecutionAttribute(
+                                      S3MultipartExecutionAttribute.PAUSE_OBSERVABLE, pauseObservable))
+                                  .build();
+
+        MpuTestUtils.stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        CompletableFuture<UploadPartResponse> ongoingRequest = new CompletableFuture<>();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(ongoingRequest);
+
+        CompletableFuture<PutObjectResponse> future =
+            uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromFile(testFile));
+
+        S3ResumeToken resumeToken = pauseObservable.pause();
+        future.cancel(true);
+
+        assertThat(resumeToken.uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(resumeToken.partSize()).isEqualTo(PART_SIZE);
+        assertThat(resumeToken.totalNumParts()).isEqualTo(4);
+        assertThat(resumeToken.numPartsCompleted()).isZero();
+        assertThat(ongoingRequest).isCompletedExceptionally();
+        verify(s3AsyncClient, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    void upload_withResumeToken_shouldOnlyUploadMissingParts() {
+        S3ResumeToken resumeToken = S3ResumeToken.builder()
+                                                 .uploadId(UPLOAD_ID)
+                                                 .partSize(PART_SIZE)
+                                                 .totalNumParts(4L)
+                                                 .numPartsCompleted(2L)
+                                                 .build();
+        PutObjectRequest putObjectRequest =
+            putObjectRequest(null).toBuilder()
+                                  .overrideConfiguration(o -> o.putExecutionAttribute(
+                                      S3MultipartExecutionAttribute.RESUME_TOKEN, resumeToken))
+                                  .build();
+
+        when(s3AsyncClient.listParts(any(ListPartsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListPartsResponse.builder()
+                                                                           .parts(Part.builder().partNumber(1).eTag("etag1").build())
+                                                                           .isTruncated(true)
+                                                                           .nextPartNumberMarker(1)
+                                                                           .build()),
+                        CompletableFuture.completedFuture(ListPartsResponse.builder()
+                                                                           .parts(Part.builder().partNumber(2).eTag("etag2").build())
+                                                                           .isTruncated(false)
+                                                                           .build()));
+        stubSuccessfulUploadPartCalls();
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        uploadHelper.uploadObject(putObjectRequest, AsyncRequestBody.fromFile(testFile)).join();
+
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        ArgumentCaptor<ListPartsRequest> listPartsCaptor = ArgumentCaptor.forClass(ListPartsRequest.class);
+        verify(s3AsyncClient, times(2)).listParts(listPartsCaptor.capture());
+        assertThat(listPartsCaptor.getAllValues().get(0).uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(listPartsCaptor.getAllValues().get(1).partNumberMarker()).isEqualTo(1);
+
+        ArgumentCaptor<UploadPartRequest> uploadPartCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(2)).uploadPart(uploadPartCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartCaptor.getAllValues()).extracting(UploadPartRequest::partNumber).containsExactly(3, 4);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().uploadId()).isEqualTo(UPLOAD_ID);
+        assertThat(completeCaptor.getValue().multipartUpload().parts())
+            .extracting(p -> p.partNumber() + ":" + p.eTag() + ":" + p.checksumCRC32())
+            .containsExactly("1:etag1:null", "2:etag2:null", "3:null:crc1", "4:null:crc2");
+    }
+
+    @ParameterizedTest
+    @MethodSource("asyncRequestBody")
+    void uploadObject_crc32ChecksumAlgorithm_shouldNotifyFullObjectChecksum(AsyncRequestBody asyncRequestBody) throws IOException {
+        CompletableFuture<String> fullObjectChecksum = new CompletableFuture<>();
+        PutObjectRequest putObjectRequest =
+            putObjectRequest(null).toBuilder()
+                                  .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                                  .overrideConfiguration(o -> o.putExecutionAttribute(
+                                      S3MultipartExecutionAttribute.FULL_OBJECT_CHECKSUM_CONSUMER,
+                                      fullObjectChecksum::complete))
+                                  .build();
+
+        MpuTestUtils.stubSuccessfulCreateMultipartCall(UPLOAD_ID, s3AsyncClient);
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+            .thenAnswer(i -> {
+                AsyncRequestBody partBody = i.getArgument(1);
+                CRC32 partCrc = new CRC32();
+                return partBody.subscribe(partCrc::update)
+                               .thenApply(ignored -> UploadPartResponse.builder()
+                                                                       .checksumCRC32(FullObjectChecksumCalculator.encode(
+                                                                           partCrc.getValue()))
+                                                                       .build());
+            });
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        uploadHelper.uploadObject(putObjectRequest, asyncRequestBody).join();
+
+        CRC32 expected = new CRC32();
+        expected.update(Files.readAllBytes(testFile.toPath()));
+        assertThat(fullObjectChecksum).isCompletedWithValue(FullObjectChecksumCalculator.encode(expected.getValue()));
+    }
+
+    @Test
+    void upload_withResumeTokenAndRequestBodyProvider_shouldReadFromEndOfUploadedParts() {
+        S3ResumeToken resumeToken = S3ResumeToken.builder()
+                                                 .uploadId(UPLOAD_ID)
+                                                 .partSize(PART_SIZE)
+                                                 .totalNumParts(4L)
+                                                 .numPartsCompleted(3L)
+                                                 .build();
+        List<Long> requestedOffsets = new ArrayList<>();
+        Function<Long, AsyncRequestBody> requestBodyProvider = offset -> {
+            requestedOffsets.add(offset);
+            return AsyncRequestBody.fromFile(b -> b.path(testFile.toPath()).position(offset));
+        };
+        PutObjectRequest putObjectRequest =
+            putObjectRequest(null).toBuilder()
+                                  .overrideConfiguration(o -> o.putExecutionAttribute(
+                                                                   S3MultipartExecutionAttribute.RESUME_TOKEN, resumeToken)
+                                                               .putExecutionAttribute(
+                                                                   S3MultipartExecutionAttribute.RESUME_REQUEST_BODY_PROVIDER,
+                                                                   requestBodyProvider))
+                                  .build();
+
+        when(s3AsyncClient.listParts(any(ListPartsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListPartsResponse.builder()
+                                                                           .parts(Part.builder().partNumber(1).eTag("etag1").build(),
+                                                                                  Part.builder().partNumber(2).eTag("etag2").build(),
+                                                                                  Part.builder().partNumber(4).eTag("etag4").build())
+                                                                           .isTruncated(false)
+                                                                           .build()));
+        stubSuccessfulUploadPartCalls();
+        stubSuccessfulCompleteMultipartCall(BUCKET, KEY, s3AsyncClient);
+
+        AtomicBoolean originalBodySubscribed = new AtomicBoolean();
+        AsyncRequestBody fileBody = AsyncRequestBody.fromFile(testFile);
+        AsyncRequestBody originalBody = new AsyncRequestBody() {
+            @Override
+            public Optional<Long> contentLength() {
+                return fileBody.contentLength();
+            }
+
+            @Override
+            public void subscribe(Subscriber<? super ByteBuffer> s) {
+                originalBodySubscribed.set(true);
+                fileBody.subscribe(s);
+            }
+        };
+
+        uploadHelper.uploadObject(putObjectRequest, originalBody).join();
+
+        assertThat(originalBodySubscribed).isFalse();
+        assertThat(requestedOffsets).containsExactly(2 * PART_SIZE);
+
+        ArgumentCaptor<UploadPartRequest> uploadPartCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient).uploadPart(uploadPartCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(uploadPartCaptor.getValue().partNumber()).isEqualTo(3);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().multipartUpload().parts())
+            .extracting(p -> p.partNumber() + ":" + p.eTag())
+            .containsExactly("1:etag1", "2:etag2", "3:null", "4:etag4");
+    }
+
+    private UploadObjectHelper uploadHelperWithPartSize(long partSizeInBytes) {
+        return new UploadObjectHelper(s3AsyncClient,
+                                      new MultipartConfigurationResolver(MultipartConfiguration.builder()
+                                                                                               .minimumPartSizeInBytes(partSizeInBytes)
+                                                                                               .build()));
+    }
+
     private static PutObjectRequest putObjectRequest(Long contentLength) {
         return PutObjectRequest.builder()
                                .bucket(BUCKET)
@@ -76,6 +76,7 @@ public abstract class BaseTransferManagerBenchmark implements TransferManagerBen
         s3Sync = S3Client.builder().build();
         transferManager = S3TransferManager.builder()
                                            .s3Client(s3)
+                                           .directoryTransferMaxConcurrency(config.directoryMaxConcurrency())
                                            .build();
         bucket = config.bucket();
         key = config.key();
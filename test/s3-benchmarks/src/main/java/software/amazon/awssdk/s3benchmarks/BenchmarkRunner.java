@@ -49,6 +49,9 @@ public final class BenchmarkRunner {
 
     private static final String FORCE_CRT_HTTP_CLIENT = "crtHttp";
     private static final String MAX_CONCURRENCY = "maxConcurrency";
+    private static final String DIRECTORY_MAX_CONCURRENCY = "directoryMaxConcurrency";
+    private static final String FILE_COUNT = "fileCount";
+    private static final String FILE_SIZE_IN_KB = "fileSizeInKB";
 
     private static final Map<TransferManagerOperation, Function<TransferManagerBenchmarkConfig, TransferManagerBenchmark>>
         OPERATION_TO_BENCHMARK_V1 = new EnumMap<>(TransferManagerOperation.class);
@@ -104,6 +107,11 @@ public final class BenchmarkRunner {
                           "Force the CRT http client to be used in JavaBased benchmarks");
         options.addOption(null, MAX_CONCURRENCY, true,
                           "The Maximum number of allowed concurrent requests. For HTTP/1.1 this is the same as max connections.");
+        options.addOption(null, DIRECTORY_MAX_CONCURRENCY, true,
+                          "The maximum number of in-flight file transfers in uploadDirectory and downloadDirectory");
+        options.addOption(null, FILE_COUNT, true, "The number of files to generate in the source directory before running "
+                                                  + "the upload_directory benchmark");
+        options.addOption(null, FILE_SIZE_IN_KB, true, "The size in KB of each generated file, default: 4");
 
         CommandLine cmd = parser.parse(options, args);
         TransferManagerBenchmarkConfig config = parseConfig(cmd);
@@ -189,6 +197,15 @@ public final class BenchmarkRunner {
         Integer maxConcurrency = cmd.getOptionValue(MAX_CONCURRENCY) == null ? null :
                                  Integer.parseInt(cmd.getOptionValue(MAX_CONCURRENCY));
 
+        Integer directoryMaxConcurrency = cmd.getOptionValue(DIRECTORY_MAX_CONCURRENCY) == null ? null :
+                                          Integer.parseInt(cmd.getOptionValue(DIRECTORY_MAX_CONCURRENCY));
+
+        Integer fileCount = cmd.getOptionValue(FILE_COUNT) == null ? null :
+                            Integer.parseInt(cmd.getOptionValue(FILE_COUNT));
+
+        Long fileSizeInKb = cmd.getOptionValue(FILE_SIZE_IN_KB) == null ? null :
+                            Long.parseLong(cmd.getOptionValue(FILE_SIZE_IN_KB));
+
         return TransferManagerBenchmarkConfig.builder()
                                              .key(key)
                                              .bucket(bucket)
@@ -205,6 +222,9 @@ public final class BenchmarkRunner {
                                              .connectionAcquisitionTimeoutInSec(connAcqTimeoutInSec)
                                              .forceCrtHttpClient(forceCrtHttpClient)
                                              .maxConcurrency(maxConcurrency)
+                                             .directoryMaxConcurrency(directoryMaxConcurrency)
+                                             .fileCount(fileCount)
+                                             .fileSizeInKb(fileSizeInKb)
                                              .build();
     }
 
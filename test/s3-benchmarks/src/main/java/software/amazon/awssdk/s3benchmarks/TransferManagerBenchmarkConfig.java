@@ -33,6 +33,9 @@ public final class TransferManagerBenchmarkConfig {
     private final Long connectionAcquisitionTimeoutInSec;
     private final Boolean forceCrtHttpClient;
     private final Integer maxConcurrency;
+    private final Integer directoryMaxConcurrency;
+    private final Integer fileCount;
+    private final Long fileSizeInKb;
 
     private final Long readBufferSizeInMb;
     private final BenchmarkRunner.TransferManagerOperation operation;
@@ -55,6 +58,9 @@ public final class TransferManagerBenchmarkConfig {
         this.connectionAcquisitionTimeoutInSec = builder.connectionAcquisitionTimeoutInSec;
         this.forceCrtHttpClient = builder.forceCrtHttpClient;
         this.maxConcurrency = builder.maxConcurrency;
+        this.directoryMaxConcurrency = builder.directoryMaxConcurrency;
+        this.fileCount = builder.fileCount;
+        this.fileSizeInKb = builder.fileSizeInKb;
     }
 
     public String filePath() {
@@ -121,6 +127,18 @@ public final class TransferManagerBenchmarkConfig {
         return this.maxConcurrency;
     }
 
+    public Integer directoryMaxConcurrency() {
+        return this.directoryMaxConcurrency;
+    }
+
+    public Integer fileCount() {
+        return this.fileCount;
+    }
+
+    public Long fileSizeInKb() {
+        return this.fileSizeInKb;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -141,6 +159,9 @@ public final class TransferManagerBenchmarkConfig {
                        .add("connectionAcquisitionTimeoutInSec", connectionAcquisitionTimeoutInSec)
                        .add("forceCrtHttpClient", forceCrtHttpClient)
                        .add("maxConcurrency", maxConcurrency)
+                       .add("directoryMaxConcurrency", directoryMaxConcurrency)
+                       .add("fileCount", fileCount)
+                       .add("fileSizeInKb", fileSizeInKb)
                        .add("readBufferSizeInMb", readBufferSizeInMb)
                        .add("operation", operation)
                        .add("prefix", prefix)
@@ -160,6 +181,9 @@ public final class TransferManagerBenchmarkConfig {
         private Long connectionAcquisitionTimeoutInSec;
         private Boolean forceCrtHttpClient;
         private Integer maxConcurrency;
+        private Integer directoryMaxConcurrency;
+        private Integer fileCount;
+        private Long fileSizeInKb;
 
         private Integer iteration;
         private BenchmarkRunner.TransferManagerOperation operation;
@@ -247,6 +271,21 @@ public final class TransferManagerBenchmarkConfig {
             return this;
         }
 
+        public Builder directoryMaxConcurrency(Integer directoryMaxConcurrency) {
+            this.directoryMaxConcurrency = directoryMaxConcurrency;
+            return this;
+        }
+
+        public Builder fileCount(Integer fileCount) {
+            this.fileCount = fileCount;
+            return this;
+        }
+
+        public Builder fileSizeInKb(Long fileSizeInKb) {
+            this.fileSizeInKb = fileSizeInKb;
+            return this;
+        }
+
         public TransferManagerBenchmarkConfig build() {
             return new TransferManagerBenchmarkConfig(this);
         }
@@ -16,11 +16,15 @@
 package software.amazon.awssdk.s3benchmarks;
 
 import static software.amazon.awssdk.s3benchmarks.BenchmarkUtils.printOutResult;
+import static software.amazon.awssdk.transfer.s3.SizeConstant.KB;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
@@ -29,6 +33,8 @@ import software.amazon.awssdk.utils.Validate;
 
 public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManagerBenchmark {
     private static final Logger logger = Logger.loggerFor("TransferManagerUploadDirectoryBenchmark");
+    private static final int FILES_PER_SUBDIRECTORY = 1000;
+    private static final long DEFAULT_FILE_SIZE_IN_KB = 4;
     private final TransferManagerBenchmarkConfig config;
 
     public TransferManagerUploadDirectoryBenchmark(TransferManagerBenchmarkConfig config) {
@@ -41,6 +47,9 @@ public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManager
     protected void doRunBenchmark() {
 
         try {
+            if (config.fileCount() != null) {
+                generateFiles(new File(this.path).toPath(), config.fileCount());
+            }
             uploadDirectory(iteration, true);
         } catch (Exception exception) {
             logger.error(() -> "Request failed: ", exception);
@@ -68,10 +77,32 @@ public class TransferManagerUploadDirectoryBenchmark extends BaseTransferManager
         CompletedDirectoryUpload completedDirectoryUpload = upload.completionFuture().get(timeout.getSeconds(), TimeUnit.SECONDS);
         if (completedDirectoryUpload.failedTransfers().isEmpty()) {
             long end = System.currentTimeMillis();
-            latencies.add((end - start) / 1000.0);
+            double latency = (end - start) / 1000.0;
+            latencies.add(latency);
+            if (config.fileCount() != null) {
+                logger.info(() -> String.format("Uploaded %d files in %.2f seconds (%.2f files/s)",
+                                                config.fileCount(), latency, config.fileCount() / latency));
+            }
         } else {
             logger.error(() -> "Some transfers failed: " + completedDirectoryUpload.failedTransfers());
         }
     }
 
+    /**
+     * Populates the source directory with {@code fileCount} files of {@code fileSizeInKb} each, spread across subdirectories
+     * so that no single directory grows too large for the local file system.
+     */
+    private void generateFiles(Path directory, int fileCount) throws IOException {
+        long fileSizeInKb = config.fileSizeInKb() == null ? DEFAULT_FILE_SIZE_IN_KB : config.fileSizeInKb();
+        logger.info(() -> String.format("Generating %d files of %d KB in %s", fileCount, fileSizeInKb, directory));
+        byte[] content = new byte[Math.toIntExact(fileSizeInKb * KB)];
+        new Random().nextBytes(content);
+        for (int i = 0; i < fileCount; i++) {
+            Path subdirectory = directory.resolve("dir-" + i / FILES_PER_SUBDIRECTORY);
+            if (i % FILES_PER_SUBDIRECTORY == 0) {
+                Files.createDirectories(subdirectory);
+            }
+            Files.write(subdirectory.resolve("file-" + i), content);
+        }
+    }
 }
@@ -57,6 +57,7 @@ import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientPutV1Map
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientQueryV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientScanV1MapperComparisonBenchmark;
 import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedClientUpdateV1MapperComparisonBenchmark;
+import software.amazon.awssdk.benchmark.enhanced.dynamodb.EnhancedDocumentBenchmark;
 import software.amazon.awssdk.benchmark.stats.SdkBenchmarkResult;
 import software.amazon.awssdk.benchmark.utils.BenchmarkProcessorOutput;
 import software.amazon.awssdk.utils.Logger;
@@ -89,7 +90,8 @@ public class BenchmarkRunner {
             EnhancedClientUpdateV1MapperComparisonBenchmark.class.getSimpleName(),
             EnhancedClientDeleteV1MapperComparisonBenchmark.class.getSimpleName(),
             EnhancedClientScanV1MapperComparisonBenchmark.class.getSimpleName(),
-            EnhancedClientQueryV1MapperComparisonBenchmark.class.getSimpleName()
+            EnhancedClientQueryV1MapperComparisonBenchmark.class.getSimpleName(),
+            EnhancedDocumentBenchmark.class.getSimpleName()
     );
 
     private static final List<String> METRIC_BENCHMARKS = Arrays.asList(MetricsEnabledBenchmark.class.getSimpleName());
@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.checksums.CrcChecksum;
+import software.amazon.awssdk.checksums.SdkCrc32C;
+
+/**
+ * Measures the throughput of the CRC implementations used for flexible checksums, comparing the JDK-backed engine with the
+ * table-based CRC32C fallback.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CrcChecksumBenchmark {
+
+    @Param({"CRC32", "CRC32C", "SDK_CRC32C"})
+    private String algorithm;
+
+    @Param({"1024", "65536", "8388608"})
+    private int size;
+
+    private Supplier<Checksum> checksumSupplier;
+    private byte[] bytes;
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        new Random(0).nextBytes(bytes);
+        directBuffer = ByteBuffer.allocateDirect(size);
+        directBuffer.put(bytes).flip();
+
+        switch (algorithm) {
+            case "CRC32":
+                checksumSupplier = CrcChecksum::crc32;
+                break;
+            case "CRC32C":
+                checksumSupplier = CrcChecksum::crc32c;
+                break;
+            case "SDK_CRC32C":
+                checksumSupplier = SdkCrc32C::create;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    @Benchmark
+    public long byteArray() {
+        Checksum checksum = checksumSupplier.get();
+        checksum.update(bytes, 0, bytes.length);
+        return checksum.getValue();
+    }
+
+    @Benchmark
+    public long directByteBuffer() {
+        Checksum checksum = checksumSupplier.get();
+        ByteBuffer buffer = directBuffer.duplicate();
+        if (checksum instanceof CrcChecksum) {
+            ((CrcChecksum) checksum).update(buffer);
+        } else {
+            byte[] copy = new byte[buffer.remaining()];
+            buffer.get(copy);
+            checksum.update(copy, 0, copy.length);
+        }
+        return checksum.getValue();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cloudfront;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.services.cloudfront.CloudFrontSigner;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
+
+/**
+ * Measures how many CloudFront signed URLs with a canned policy can be generated per second on a single thread, comparing
+ * {@link CloudFrontUtilities} with a reusable {@link CloudFrontSigner}, signing URLs either individually or as a batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@Threads(1)
+public class CloudFrontSignerBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final String KEY_PAIR_ID = "K2JCJMDEHXQW5F";
+
+    private CloudFrontUtilities utilities;
+    private CloudFrontSigner signer;
+    private KeyPair keyPair;
+    private Instant expirationDate;
+    private List<String> resourceUrls;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+
+        utilities = CloudFrontUtilities.create();
+        signer = CloudFrontSigner.builder()
+                                 .privateKey(keyPair.getPrivate())
+                                 .keyPairId(KEY_PAIR_ID)
+                                 .build();
+        expirationDate = Instant.now().plus(Duration.ofHours(1));
+
+        resourceUrls = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            resourceUrls.add("https://d111111abcdef8.cloudfront.net/prefix/object-" + i + "?versionId=" + i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void cloudFrontUtilities(Blackhole blackhole) {
+        for (String resourceUrl : resourceUrls) {
+            CannedSignerRequest request = CannedSignerRequest.builder()
+                                                             .resourceUrl(resourceUrl)
+                                                             .privateKey(keyPair.getPrivate())
+                                                             .keyPairId(KEY_PAIR_ID)
+                                                             .expirationDate(expirationDate)
+                                                             .build();
+            blackhole.consume(utilities.getSignedUrlWithCannedPolicy(request).url());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void signerIndividually(Blackhole blackhole) {
+        for (String resourceUrl : resourceUrls) {
+            blackhole.consume(signer.getSignedUrlWithCannedPolicy(resourceUrl, expirationDate).url());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void signerBatch(Blackhole blackhole) {
+        signer.getSignedUrlsWithCannedPolicy(resourceUrls, expirationDate)
+              .forEach(signedUrl -> blackhole.consume(signedUrl.url()));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
+
+/**
+ * Measures the classpath interceptor discovery done by every client build, after the first one in the process. The end-to-end
+ * effect on client creation is measured by {@link V2DefaultClientCreationBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+public class ClasspathInterceptorDiscoveryBenchmark {
+    private static final String DYNAMODB_INTERCEPTORS = "software/amazon/awssdk/services/dynamodb/execution.interceptors";
+
+    @Benchmark
+    public void globalInterceptors(Blackhole blackhole) {
+        blackhole.consume(new ClasspathInterceptorChainFactory().getGlobalInterceptors());
+    }
+
+    @Benchmark
+    public void serviceInterceptors(Blackhole blackhole) {
+        blackhole.consume(new ClasspathInterceptorChainFactory().getInterceptors(DYNAMODB_INTERCEPTORS));
+    }
+}
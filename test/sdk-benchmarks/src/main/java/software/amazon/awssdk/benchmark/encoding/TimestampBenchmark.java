@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.encoding;
+
+import static java.time.format.DateTimeFormatter.ISO_INSTANT;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Measures parsing and formatting a page of 1000 timestamps, the size of a {@code ListObjectsV2} response, comparing
+ * {@link DateUtils} with the {@link java.time.format.DateTimeFormatter}s it falls back to.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class TimestampBenchmark {
+    private static final int TIMESTAMPS = 1000;
+
+    private Instant[] instants;
+    private String[] iso8601Dates;
+    private String[] rfc1123Dates;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        long now = Instant.parse("2024-01-01T00:00:00Z").getEpochSecond();
+        instants = new Instant[TIMESTAMPS];
+        iso8601Dates = new String[TIMESTAMPS];
+        rfc1123Dates = new String[TIMESTAMPS];
+        for (int i = 0; i < TIMESTAMPS; i++) {
+            instants[i] = Instant.ofEpochSecond(now - random.nextInt(365 * 24 * 3600), random.nextInt(1000) * 1_000_000);
+            iso8601Dates[i] = ISO_INSTANT.format(instants[i]);
+            rfc1123Dates[i] = RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instants[i], ZoneOffset.UTC));
+        }
+    }
+
+    @Benchmark
+    public void parseIso8601(Blackhole blackhole) {
+        for (String date : iso8601Dates) {
+            blackhole.consume(DateUtils.parseIso8601Date(date));
+        }
+    }
+
+    @Benchmark
+    public void parseIso8601WithFormatter(Blackhole blackhole) {
+        for (String date : iso8601Dates) {
+            blackhole.consume(ISO_INSTANT.parse(date, Instant::from));
+        }
+    }
+
+    @Benchmark
+    public void formatIso8601(Blackhole blackhole) {
+        for (Instant instant : instants) {
+            blackhole.consume(DateUtils.formatIso8601Date(instant));
+        }
+    }
+
+    @Benchmark
+    public void formatIso8601WithFormatter(Blackhole blackhole) {
+        for (Instant instant : instants) {
+            blackhole.consume(ISO_INSTANT.format(instant));
+        }
+    }
+
+    @Benchmark
+    public void parseRfc1123(Blackhole blackhole) {
+        for (String date : rfc1123Dates) {
+            blackhole.consume(DateUtils.parseRfc1123Date(date));
+        }
+    }
+
+    @Benchmark
+    public void parseRfc1123WithFormatter(Blackhole blackhole) {
+        for (String date : rfc1123Dates) {
+            blackhole.consume(RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC).parse(date, Instant::from));
+        }
+    }
+
+    @Benchmark
+    public void formatRfc1123(Blackhole blackhole) {
+        for (Instant instant : instants) {
+            blackhole.consume(DateUtils.formatRfc1123Date(instant));
+        }
+    }
+
+    @Benchmark
+    public void formatRfc1123WithFormatter(Blackhole blackhole) {
+        for (Instant instant : instants) {
+            blackhole.consume(RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instant, ZoneOffset.UTC)));
+        }
+    }
+}
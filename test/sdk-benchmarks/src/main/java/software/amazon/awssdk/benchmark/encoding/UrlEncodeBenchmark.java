@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.encoding;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Measures the cost of percent-encoding S3 object keys the way SigV4 canonicalization does, comparing
+ * {@link SdkHttpUtils#urlEncodeIgnoreSlashes(String)} with the previous {@link URLEncoder}-based implementation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class UrlEncodeBenchmark {
+    private static final String[] ENCODED_CHARACTERS = {"+", "*", "%7E", "%2F"};
+    private static final String[] ENCODED_CHARACTERS_REPLACEMENTS = {"%20", "%2A", "~", "/"};
+
+    @Param({"SAFE", "SPACES", "UNICODE"})
+    private String keyType;
+
+    private String[] keys;
+    private StringBuilder destination;
+
+    @Setup
+    public void setup() {
+        switch (keyType) {
+            case "SAFE":
+                keys = new String[] {
+                    "photos/2024/01/15/IMG_0001.jpg",
+                    "logs/app-server/2024-01-15T10-00-00.000Z/part-00000.gz",
+                    "data/warehouse/orders/year=2024/month=01/part-00001-c000.snappy.parquet"
+                };
+                break;
+            case "SPACES":
+                keys = new String[] {
+                    "Shared Documents/Quarterly Report (Q1 2024).pdf",
+                    "backups/db dump 2024-01-15 10:00:00.sql",
+                    "uploads/user+123/profile picture*final*.png"
+                };
+                break;
+            case "UNICODE":
+                keys = new String[] {
+                    "photos/vacances/plage à Nice été 2024.jpg",
+                    "文档/季度报告/2024年第一季度.pdf",
+                    "emoji/😀 party 🎉/invite.png"
+                };
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown key type: " + keyType);
+        }
+        destination = new StringBuilder(256);
+    }
+
+    @Benchmark
+    public void urlEncodeIgnoreSlashes(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(SdkHttpUtils.urlEncodeIgnoreSlashes(key));
+        }
+    }
+
+    @Benchmark
+    public void urlEncodeIgnoreSlashesIntoBuilder(Blackhole blackhole) {
+        for (String key : keys) {
+            destination.setLength(0);
+            blackhole.consume(SdkHttpUtils.urlEncodeIgnoreSlashes(destination, key));
+        }
+    }
+
+    @Benchmark
+    public void urlEncoderWithReplacements(Blackhole blackhole) throws UnsupportedEncodingException {
+        for (String key : keys) {
+            String encoded = URLEncoder.encode(key, "UTF-8");
+            blackhole.consume(StringUtils.replaceEach(encoded, ENCODED_CHARACTERS, ENCODED_CHARACTERS_REPLACEMENTS));
+        }
+    }
+}
@@ -94,6 +94,9 @@ public class EnhancedClientGetOverheadBenchmark {
         @Param({"TINY", "SMALL", "HUGE", "HUGE_FLAT"})
         private TestItem testItem;
 
+        @Param({"STATIC", "BEAN", "GENERATED"})
+        private TableSchemaType tableSchemaType;
+
         private DynamoDbTable table;
 
         @Setup
@@ -116,23 +119,44 @@ public class EnhancedClientGetOverheadBenchmark {
                     .dynamoDbClient(dynamoDb)
                     .build();
 
-            table = ddbEnh.table(testItem.name(), testItem.tableSchema);
+            table = ddbEnh.table(testItem.name(), testItem.tableSchema(tableSchemaType));
         }
     }
 
     public enum TestItem {
-        TINY(marshall(ITEM_FACTORY.tiny()), V2ItemFactory.TINY_BEAN_TABLE_SCHEMA),
-        SMALL(marshall(ITEM_FACTORY.small()), V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA),
-        HUGE(marshall(ITEM_FACTORY.huge()), V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA),
-        HUGE_FLAT(marshall(ITEM_FACTORY.hugeFlat()), V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA)
+        TINY(marshall(ITEM_FACTORY.tiny()), V2ItemFactory.TINY_BEAN_TABLE_SCHEMA, ItemFactory.TinyBean.class,
+             ItemFactory_TinyBeanTableSchema.create()),
+        SMALL(marshall(ITEM_FACTORY.small()), V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA, ItemFactory.SmallBean.class,
+              ItemFactory_SmallBeanTableSchema.create()),
+        HUGE(marshall(ITEM_FACTORY.huge()), V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA, ItemFactory.HugeBean.class,
+             ItemFactory_HugeBeanTableSchema.create()),
+        HUGE_FLAT(marshall(ITEM_FACTORY.hugeFlat()), V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA, ItemFactory.HugeBeanFlat.class,
+                  ItemFactory_HugeBeanFlatTableSchema.create())
         ;
 
         private String responseContent;
-        private TableSchema tableSchema;
+        private TableSchema staticTableSchema;
+        private Class<?> beanClass;
+        private TableSchema generatedTableSchema;
 
-        TestItem(String responseContent, TableSchema tableSchema) {
+        TestItem(String responseContent, TableSchema staticTableSchema, Class<?> beanClass, TableSchema generatedTableSchema) {
             this.responseContent = responseContent;
-            this.tableSchema = tableSchema;
+            this.staticTableSchema = staticTableSchema;
+            this.beanClass = beanClass;
+            this.generatedTableSchema = generatedTableSchema;
+        }
+
+        private TableSchema tableSchema(TableSchemaType type) {
+            switch (type) {
+                case STATIC:
+                    return staticTableSchema;
+                case BEAN:
+                    return TableSchema.fromBean(beanClass);
+                case GENERATED:
+                    return generatedTableSchema;
+                default:
+                    throw new IllegalArgumentException("Unknown table schema type: " + type);
+            }
         }
     }
 
@@ -59,6 +59,10 @@ public class EnhancedClientPutOverheadBenchmark {
     public static class TestState {
         @Param({"TINY", "SMALL", "HUGE", "HUGE_FLAT"})
         private TestItem testItem;
+
+        @Param({"STATIC", "BEAN", "GENERATED"})
+        private TableSchemaType tableSchemaType;
+
         private DynamoDbClient ddb;
 
         private DynamoDbTable enhTable;
@@ -83,7 +87,7 @@ public class EnhancedClientPutOverheadBenchmark {
                     .dynamoDbClient(ddb)
                     .build();
 
-            enhTable = ddbEnh.table(testItem.name(), testItem.tableSchema);
+            enhTable = ddbEnh.table(testItem.name(), testItem.tableSchema(tableSchemaType));
         }
     }
 
@@ -98,25 +102,43 @@ public class EnhancedClientPutOverheadBenchmark {
 
         private Map<String, AttributeValue> av;
 
-        private TableSchema tableSchema;
+        private TableSchema staticTableSchema;
+        private TableSchema generatedTableSchema;
         private Object bean;
 
         static {
             TINY.av = FACTORY.tiny();
-            TINY.tableSchema = V2ItemFactory.TINY_BEAN_TABLE_SCHEMA;
+            TINY.staticTableSchema = V2ItemFactory.TINY_BEAN_TABLE_SCHEMA;
+            TINY.generatedTableSchema = ItemFactory_TinyBeanTableSchema.create();
             TINY.bean = FACTORY.tinyBean();
 
             SMALL.av = FACTORY.small();
-            SMALL.tableSchema = V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA;
+            SMALL.staticTableSchema = V2ItemFactory.SMALL_BEAN_TABLE_SCHEMA;
+            SMALL.generatedTableSchema = ItemFactory_SmallBeanTableSchema.create();
             SMALL.bean = FACTORY.smallBean();
 
             HUGE.av = FACTORY.huge();
-            HUGE.tableSchema = V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA;
+            HUGE.staticTableSchema = V2ItemFactory.HUGE_BEAN_TABLE_SCHEMA;
+            HUGE.generatedTableSchema = ItemFactory_HugeBeanTableSchema.create();
             HUGE.bean = FACTORY.hugeBean();
 
             HUGE_FLAT.av = FACTORY.hugeFlat();
-            HUGE_FLAT.tableSchema = V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA;
+            HUGE_FLAT.staticTableSchema = V2ItemFactory.HUGE_BEAN_FLAT_TABLE_SCHEMA;
+            HUGE_FLAT.generatedTableSchema = ItemFactory_HugeBeanFlatTableSchema.create();
             HUGE_FLAT.bean = FACTORY.hugeBeanFlat();
         }
+
+        private TableSchema tableSchema(TableSchemaType type) {
+            switch (type) {
+                case STATIC:
+                    return staticTableSchema;
+                case BEAN:
+                    return TableSchema.fromBean(bean.getClass());
+                case GENERATED:
+                    return generatedTableSchema;
+                default:
+                    throw new IllegalArgumentException("Unknown table schema type: " + type);
+            }
+        }
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Measures reading {@link EnhancedDocument}s converted from wide items, where callers only read a few of the attributes, and
+ * converting them to JSON.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(2)
+@State(Scope.Benchmark)
+public class EnhancedDocumentBenchmark {
+    private static final TableSchema<EnhancedDocument> DOCUMENT_SCHEMA =
+        TableSchema.documentSchemaBuilder()
+                   .addIndexPartitionKey(TableMetadata.primaryIndexName(), "id", AttributeValueType.S)
+                   .attributeConverterProviders(AttributeConverterProvider.defaultProvider())
+                   .build();
+
+    @Benchmark
+    public void mapToItemAndReadThreeAttributes(TestState s, Blackhole bh) {
+        EnhancedDocument document = DOCUMENT_SCHEMA.mapToItem(s.item);
+        bh.consume(document.getString("id"));
+        bh.consume(document.getNumber("number0"));
+        bh.consume(document.getString("string0"));
+    }
+
+    @Benchmark
+    public Object mapToItemAndReadAllAttributes(TestState s) {
+        return DOCUMENT_SCHEMA.mapToItem(s.item).toMap();
+    }
+
+    @Benchmark
+    public Object toJson(TestState s) {
+        return s.document.toJson();
+    }
+
+    @State(Scope.Benchmark)
+    public static class TestState {
+        @Param({"10", "100", "400"})
+        private int attributeCount;
+
+        @Param({"16", "1000"})
+        private int valueLength;
+
+        private Map<String, AttributeValue> item;
+        private EnhancedDocument document;
+
+        @Setup
+        public void setup() {
+            item = wideItem(attributeCount, valueLength);
+            document = DOCUMENT_SCHEMA.mapToItem(item);
+        }
+    }
+
+    private static Map<String, AttributeValue> wideItem(int attributeCount, int valueLength) {
+        StringBuilder value = new StringBuilder(valueLength);
+        for (int i = 0; i < valueLength; i++) {
+            value.append((char) ('a' + i % 26));
+        }
+
+        Map<String, AttributeValue> item = new LinkedHashMap<>();
+        item.put("id", AttributeValue.fromS("id"));
+        for (int i = 0; i < attributeCount / 2; i++) {
+            item.put("string" + i, AttributeValue.fromS(value.toString()));
+            item.put("number" + i, AttributeValue.fromN(Integer.toString(i)));
+        }
+        return item;
+    }
+}
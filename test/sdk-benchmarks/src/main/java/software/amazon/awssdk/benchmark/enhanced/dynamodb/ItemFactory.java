@@ -26,6 +26,9 @@ import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbAttribute;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
 
 abstract class ItemFactory<T> {
     private static final String ALPHA = "abcdefghijklmnopqrstuvwxyz";
@@ -179,9 +182,11 @@ abstract class ItemFactory<T> {
         return SdkBytes.fromByteBuffer(randomB());
     }
 
+    @DynamoDbBean
     public static class TinyBean {
         private String stringAttr;
 
+        @DynamoDbPartitionKey
         public String getStringAttr() {
             return stringAttr;
         }
@@ -191,11 +196,13 @@ abstract class ItemFactory<T> {
         }
     }
 
+    @DynamoDbBean
     public static class SmallBean {
         private String stringAttr;
         private SdkBytes binaryAttr;
         private List<String> listAttr;
 
+        @DynamoDbPartitionKey
         public String getStringAttr() {
             return stringAttr;
         }
@@ -221,6 +228,7 @@ abstract class ItemFactory<T> {
         }
     }
 
+    @DynamoDbBean
     public static class HugeBean {
         private String hashKey;
         private String stringAttr;
@@ -239,6 +247,7 @@ abstract class ItemFactory<T> {
             this.hashKey = hashKey;
         }
 
+        @DynamoDbPartitionKey
         public String getStringAttr() {
             return stringAttr;
         }
@@ -288,6 +297,7 @@ abstract class ItemFactory<T> {
         }
     }
 
+    @DynamoDbBean
     public static class HugeBeanFlat {
         private String stringAttr1;
         private String stringAttr2;
@@ -353,6 +363,8 @@ abstract class ItemFactory<T> {
         private String stringAttr62;
         private String stringAttr63;
 
+        @DynamoDbPartitionKey
+        @DynamoDbAttribute("stringAttr")
         public String getStringAttr1() {
             return stringAttr1;
         }
@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.enhanced.dynamodb;
+
+/**
+ * How the table schemas of the benchmarked items are created.
+ */
+public enum TableSchemaType {
+    /**
+     * Written by hand with {@code StaticTableSchema}, see {@link V2ItemFactory}.
+     */
+    STATIC,
+
+    /**
+     * Created at runtime from the annotations of the bean classes, with {@code TableSchema.fromBean()}.
+     */
+    BEAN,
+
+    /**
+     * Generated at compile time from the annotations of the bean classes by the {@code dynamodb-enhanced-processor} annotation
+     * processor.
+     */
+    GENERATED
+}
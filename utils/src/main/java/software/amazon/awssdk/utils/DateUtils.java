@@ -35,9 +35,13 @@ import java.util.List;
 import java.util.Locale;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.internal.TimestampCodec;
 
 /**
  * Utilities for parsing and formatting dates.
+ *
+ * <p>Timestamps in the canonical UTC form of each format are handled by a hand-written parser and formatter, and anything
+ * else falls back to a {@link DateTimeFormatter}.
  */
 @ThreadSafe
 @SdkProtectedApi
@@ -84,6 +88,11 @@ public final class DateUtils {
      * @return The parsed Instant object.
      */
     public static Instant parseIso8601Date(String dateString) {
+        Instant instant = TimestampCodec.parseIso8601(dateString);
+        if (instant != null) {
+            return instant;
+        }
+
         // For EC2 Spot Fleet.
         if (dateString.endsWith("+0000")) {
             dateString = dateString
@@ -116,7 +125,8 @@ public final class DateUtils {
      * @return the ISO-8601 string representing the specified date
      */
     public static String formatIso8601Date(Instant date) {
-        return ISO_INSTANT.format(date);
+        String formatted = TimestampCodec.formatIso8601(date);
+        return formatted != null ? formatted : ISO_INSTANT.format(date);
     }
 
     /**
@@ -131,7 +141,8 @@ public final class DateUtils {
         if (dateString == null) {
             return null;
         }
-        return parseInstant(dateString, RFC_822_DATE_TIME);
+        Instant instant = TimestampCodec.parseRfc1123(dateString);
+        return instant != null ? instant : parseInstant(dateString, RFC_822_DATE_TIME);
     }
 
     /**
@@ -143,7 +154,8 @@ public final class DateUtils {
      * @return The RFC 822 string representing the specified date.
      */
     public static String formatRfc822Date(Instant instant) {
-        return RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
+        String formatted = TimestampCodec.formatRfc1123(instant, true);
+        return formatted != null ? formatted : RFC_822_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
     }
 
     /**
@@ -159,7 +171,8 @@ public final class DateUtils {
         if (dateString == null) {
             return null;
         }
-        return parseInstant(dateString, RFC_1123_DATE_TIME);
+        Instant instant = TimestampCodec.parseRfc1123(dateString);
+        return instant != null ? instant : parseInstant(dateString, RFC_1123_DATE_TIME);
     }
 
     /**
@@ -171,7 +184,8 @@ public final class DateUtils {
      * @return The RFC 1123 string representing the specified date.
      */
     public static String formatRfc1123Date(Instant instant) {
-        return RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
+        String formatted = TimestampCodec.formatRfc1123(instant, false);
+        return formatted != null ? formatted : RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(instant, UTC));
     }
 
     /**
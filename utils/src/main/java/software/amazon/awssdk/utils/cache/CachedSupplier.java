@@ -204,6 +204,7 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
                         prefetchStrategy.initializeCachedSupplier(this);
                     }
 
+                    long refreshStartNanos = System.nanoTime();
                     try {
                         RefreshResult<T> cachedValue = handleFetchedSuccess(prefetchStrategy.fetch(valueSupplier));
                         this.cachedValue = cachedValue;
@@ -212,6 +213,9 @@ public class CachedSupplier<T> implements Supplier<T>, SdkAutoCloseable {
                                         + "Next Stale Time: " + cachedValue.staleTime());
                     } catch (RuntimeException t) {
                         cachedValue = handleFetchFailure(t);
+                    } finally {
+                        Duration refreshLatency = Duration.ofNanos(System.nanoTime() - refreshStartNanos);
+                        log.debug(() -> "(" + cachedValueName + ") Refresh took " + refreshLatency.toMillis() + " ms.");
                     }
                 }
             } finally {
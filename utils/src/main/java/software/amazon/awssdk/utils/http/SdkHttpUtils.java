@@ -25,6 +25,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -51,14 +52,29 @@ import software.amazon.awssdk.utils.Validate;
 public final class SdkHttpUtils {
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
     /**
-     * Characters that we need to fix up after URLEncoder.encode().
+     * The unreserved characters of RFC 3986, indexed by character. These are the only ASCII characters that are not
+     * percent-encoded by {@link #urlEncode(String)}.
      */
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES = new String[] {"+", "*", "%7E", "%2F"};
-    private static final String[] ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~", "/"};
+    private static final boolean[] UNRESERVED_CHARACTERS = new boolean[128];
 
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES = new String[] {"+", "*", "%7E"};
-    private static final String[] ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS = new String[] {"%20", "%2A", "~"};
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            UNRESERVED_CHARACTERS[c] = true;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED_CHARACTERS[c] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            UNRESERVED_CHARACTERS[c] = true;
+        }
+        UNRESERVED_CHARACTERS['-'] = true;
+        UNRESERVED_CHARACTERS['.'] = true;
+        UNRESERVED_CHARACTERS['_'] = true;
+        UNRESERVED_CHARACTERS['~'] = true;
+    }
 
     // List of headers that may appear only once in a request; i.e. is not a list of values.
     // Taken from https://github.com/apache/httpcomponents-client/blob/81c1bc4dc3ca5a3134c5c60e8beff08be2fd8792/httpclient5-cache/src/test/java/org/apache/hc/client5/http/impl/cache/HttpTestUtils.java#L69-L85 with modifications:
@@ -89,6 +105,28 @@ public final class SdkHttpUtils {
         return urlEncode(value, true);
     }
 
+    /**
+     * Encode a string according to RFC 3986 and append it to the provided destination. This is equivalent to
+     * {@code destination.append(urlEncode(value))}, but avoids creating an intermediate string.
+     */
+    public static StringBuilder urlEncode(StringBuilder destination, String value) {
+        Validate.paramNotNull(destination, "destination");
+        Validate.paramNotNull(value, "value");
+        appendEncoded(destination, value, 0, false);
+        return destination;
+    }
+
+    /**
+     * Encode a string according to RFC 3986, but ignore "/" characters, and append it to the provided destination. This is
+     * equivalent to {@code destination.append(urlEncodeIgnoreSlashes(value))}, but avoids creating an intermediate string.
+     */
+    public static StringBuilder urlEncodeIgnoreSlashes(StringBuilder destination, String value) {
+        Validate.paramNotNull(destination, "destination");
+        Validate.paramNotNull(value, "value");
+        appendEncoded(destination, value, 0, true);
+        return destination;
+    }
+
     /**
      * Encode a string according to RFC 1630: encoding for form data.
      */
@@ -150,11 +188,11 @@ public final class SdkHttpUtils {
     }
 
     /**
-     * Encode a string for use in the path of a URL; uses URLEncoder.encode,
-     * (which encodes a string for use in the query portion of a URL), then
-     * applies some postfilters to fix things up per the RFC. Can optionally
-     * handle strings which are meant to encode a path (ie include '/'es
-     * which should NOT be escaped).
+     * Encode a string for use in the path of a URL according to RFC 3986. Can optionally handle strings which are meant to
+     * encode a path (ie include '/'es which should NOT be escaped).
+     *
+     * <p>Most values (bucket names, object keys, header values) don't contain any characters that need to be encoded, so the
+     * value is returned as-is if it only contains unreserved characters, without allocating anything.
      *
      * @param value the value to encode
      * @param ignoreSlashes  true if the value is intended to represent a path
@@ -165,15 +203,68 @@ public final class SdkHttpUtils {
             return null;
         }
 
-        String encoded = invokeSafely(() -> URLEncoder.encode(value, DEFAULT_ENCODING));
+        int firstEncoded = indexOfCharacterToEncode(value, ignoreSlashes);
+        if (firstEncoded == value.length()) {
+            return value;
+        }
+
+        StringBuilder result = new StringBuilder(value.length() + 16);
+        result.append(value, 0, firstEncoded);
+        appendEncoded(result, value, firstEncoded, ignoreSlashes);
+        return result.toString();
+    }
 
-        if (!ignoreSlashes) {
-            return StringUtils.replaceEach(encoded,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES,
-                                           ENCODED_CHARACTERS_WITHOUT_SLASHES_REPLACEMENTS);
+    private static int indexOfCharacterToEncode(String value, boolean ignoreSlashes) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (needsEncoding(value.charAt(i), ignoreSlashes)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    private static boolean needsEncoding(char c, boolean ignoreSlashes) {
+        if (c < 128) {
+            return !UNRESERVED_CHARACTERS[c] && !(ignoreSlashes && c == '/');
+        }
+        return true;
+    }
+
+    /**
+     * Percent-encode the characters of the value from the provided index onwards into the destination. Non-ASCII characters
+     * are encoded as the hex digits of their UTF-8 bytes; consecutive non-ASCII characters are converted together so that
+     * surrogate pairs stay intact, and unpaired surrogates are encoded as "?" like {@link URLEncoder} does.
+     */
+    private static void appendEncoded(StringBuilder destination, String value, int from, boolean ignoreSlashes) {
+        int length = value.length();
+        int i = from;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c < 128) {
+                if (needsEncoding(c, ignoreSlashes)) {
+                    appendPercentEncoded(destination, c);
+                } else {
+                    destination.append(c);
+                }
+                i++;
+            } else {
+                int end = i + 1;
+                while (end < length && value.charAt(end) >= 128) {
+                    end++;
+                }
+                for (byte b : value.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                    appendPercentEncoded(destination, b);
+                }
+                i = end;
+            }
         }
+    }
 
-        return StringUtils.replaceEach(encoded, ENCODED_CHARACTERS_WITH_SLASHES, ENCODED_CHARACTERS_WITH_SLASHES_REPLACEMENTS);
+    private static void appendPercentEncoded(StringBuilder destination, int b) {
+        destination.append('%')
+                   .append(HEX_DIGITS[(b >> 4) & 0xF])
+                   .append(HEX_DIGITS[b & 0xF]);
     }
 
     /**
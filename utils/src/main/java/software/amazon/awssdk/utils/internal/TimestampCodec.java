@@ -0,0 +1,312 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Hand-written parsing and formatting of the fixed timestamp formats used by AWS services, in UTC.
+ *
+ * <p>These are used by {@link DateUtils} before falling back to a {@link java.time.format.DateTimeFormatter}, which is
+ * considerably slower and allocates several intermediate objects per timestamp. Each method only handles the canonical form
+ * of its format and returns null for anything else (lower case, other offsets, leap seconds, instants before 1970 or after
+ * 9999, ...), in which case the caller should use the formatter. Invalid dates also return null, so that the formatter
+ * reports the error.
+ */
+@SdkInternalApi
+public final class TimestampCodec {
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long MAX_EPOCH_SECOND = 253_402_300_799L;
+    private static final int RFC_1123_LENGTH_WITH_TWO_DIGIT_DAY = 29;
+
+    private static final String[] DAY_NAMES = {"Mon", "Tue", "Wed", "Thu", "Fri", "Sat", "Sun"};
+    private static final String[] MONTH_NAMES = {"Jan", "Feb", "Mar", "Apr", "May", "Jun",
+                                                 "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+
+    private TimestampCodec() {
+    }
+
+    /**
+     * Parse a timestamp of the form {@code yyyy-MM-ddTHH:mm:ss[.S{1,9}]Z}, where the offset may also be {@code +0000}.
+     *
+     * @return The parsed instant, or null if the value is not in this form or is not a valid date.
+     */
+    public static Instant parseIso8601(String value) {
+        int length = value.length();
+        if (length < 20
+            || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+            || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return null;
+        }
+
+        int year = parseDigits(value, 0, 4);
+        int month = parseDigits(value, 5, 2);
+        int day = parseDigits(value, 8, 2);
+        int hour = parseDigits(value, 11, 2);
+        int minute = parseDigits(value, 14, 2);
+        int second = parseDigits(value, 17, 2);
+
+        int end;
+        if (value.charAt(length - 1) == 'Z') {
+            end = length - 1;
+        } else if (value.endsWith("+0000")) {
+            end = length - 5;
+        } else {
+            return null;
+        }
+
+        int nano = 0;
+        if (end > 19) {
+            int fractionDigits = end - 20;
+            if (value.charAt(19) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+                return null;
+            }
+            nano = parseDigits(value, 20, fractionDigits);
+            if (nano < 0) {
+                return null;
+            }
+            for (int i = fractionDigits; i < 9; i++) {
+                nano *= 10;
+            }
+        } else if (end != 19) {
+            return null;
+        }
+
+        return toInstant(year, month, day, hour, minute, second, nano);
+    }
+
+    /**
+     * Parse a timestamp of the form {@code EEE, dd MMM yyyy HH:mm:ss GMT}, as used by RFC 822 and RFC 1123 dates in HTTP
+     * headers. The day of month may have one or two digits.
+     *
+     * @return The parsed instant, or null if the value is not in this form, is not a valid date or does not fall on the given
+     * day of the week.
+     */
+    public static Instant parseRfc1123(String value) {
+        int length = value.length();
+        int shift = length - RFC_1123_LENGTH_WITH_TWO_DIGIT_DAY;
+        if ((shift != 0 && shift != -1)
+            || value.charAt(3) != ',' || value.charAt(4) != ' ' || value.charAt(7 + shift) != ' '
+            || value.charAt(11 + shift) != ' ' || value.charAt(16 + shift) != ' ' || value.charAt(19 + shift) != ':'
+            || value.charAt(22 + shift) != ':' || !value.endsWith(" GMT")) {
+            return null;
+        }
+
+        int dayOfWeek = indexOf(DAY_NAMES, value, 0);
+        int day = parseDigits(value, 5, 2 + shift);
+        int month = indexOf(MONTH_NAMES, value, 8 + shift) + 1;
+        int year = parseDigits(value, 12 + shift, 4);
+        int hour = parseDigits(value, 17 + shift, 2);
+        int minute = parseDigits(value, 20 + shift, 2);
+        int second = parseDigits(value, 23 + shift, 2);
+
+        Instant instant = toInstant(year, month, day, hour, minute, second, 0);
+        if (instant == null || dayOfWeek != dayOfWeek(Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_DAY))) {
+            return null;
+        }
+        return instant;
+    }
+
+    /**
+     * Format an instant as {@code yyyy-MM-ddTHH:mm:ss[.SSS[SSS[SSS]]]Z}, the same as
+     * {@link java.time.format.DateTimeFormatter#ISO_INSTANT}.
+     *
+     * @return The formatted instant, or null if it is outside the supported range of years.
+     */
+    public static String formatIso8601(Instant instant) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < 0 || epochSecond > MAX_EPOCH_SECOND) {
+            return null;
+        }
+
+        int nano = instant.getNano();
+        int fractionDigits = nano == 0 ? 0
+                                       : nano % 1_000_000 == 0 ? 3
+                                                               : nano % 1_000 == 0 ? 6 : 9;
+        char[] buffer = new char[fractionDigits == 0 ? 20 : 21 + fractionDigits];
+
+        long epochDay = epochSecond / SECONDS_PER_DAY;
+        int secondOfDay = (int) (epochSecond % SECONDS_PER_DAY);
+        int yearMonthDay = yearMonthDay(epochDay);
+
+        writeDigits(buffer, 0, yearMonthDay / 10_000, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, yearMonthDay / 100 % 100, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, yearMonthDay % 100, 2);
+        buffer[10] = 'T';
+        writeTime(buffer, 11, secondOfDay);
+        if (fractionDigits > 0) {
+            buffer[19] = '.';
+            int fraction = nano;
+            for (int i = fractionDigits; i < 9; i++) {
+                fraction /= 10;
+            }
+            writeDigits(buffer, 20, fraction, fractionDigits);
+        }
+        buffer[buffer.length - 1] = 'Z';
+        return new String(buffer);
+    }
+
+    /**
+     * Format an instant as {@code EEE, dd MMM yyyy HH:mm:ss GMT}. The day of month is padded to two digits for RFC 822 dates,
+     * and not padded for RFC 1123 dates, matching {@link java.time.format.DateTimeFormatter#RFC_1123_DATE_TIME}. Fractional
+     * seconds are dropped.
+     *
+     * @return The formatted instant, or null if it is outside the supported range of years.
+     */
+    public static String formatRfc1123(Instant instant, boolean padDayOfMonth) {
+        long epochSecond = instant.getEpochSecond();
+        if (epochSecond < 0 || epochSecond > MAX_EPOCH_SECOND) {
+            return null;
+        }
+
+        long epochDay = epochSecond / SECONDS_PER_DAY;
+        int secondOfDay = (int) (epochSecond % SECONDS_PER_DAY);
+        int yearMonthDay = yearMonthDay(epochDay);
+        int day = yearMonthDay % 100;
+        int shift = padDayOfMonth || day >= 10 ? 0 : -1;
+        char[] buffer = new char[RFC_1123_LENGTH_WITH_TWO_DIGIT_DAY + shift];
+
+        DAY_NAMES[dayOfWeek(epochDay)].getChars(0, 3, buffer, 0);
+        buffer[3] = ',';
+        buffer[4] = ' ';
+        writeDigits(buffer, 5, day, 2 + shift);
+        buffer[7 + shift] = ' ';
+        MONTH_NAMES[yearMonthDay / 100 % 100 - 1].getChars(0, 3, buffer, 8 + shift);
+        buffer[11 + shift] = ' ';
+        writeDigits(buffer, 12 + shift, yearMonthDay / 10_000, 4);
+        buffer[16 + shift] = ' ';
+        writeTime(buffer, 17 + shift, secondOfDay);
+        " GMT".getChars(0, 4, buffer, 25 + shift);
+        return new String(buffer);
+    }
+
+    private static Instant toInstant(int year, int month, int day, int hour, int minute, int second, int nano) {
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+            || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        long epochDay = epochDay(year, month, day);
+        return Instant.ofEpochSecond(epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second, nano);
+    }
+
+    /**
+     * The same calculation as {@link java.time.LocalDate#toEpochDay()}, for years from 0 onwards.
+     */
+    private static long epochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * The same calculation as {@link java.time.LocalDate#ofEpochDay(long)}, for days from 1970 onwards, without creating a
+     * {@code LocalDate}.
+     *
+     * @return The date encoded as {@code year * 10000 + month * 100 + day}.
+     */
+    private static int yearMonthDay(long epochDay) {
+        long zeroDay = epochDay + DAYS_0000_TO_1970 - 60;
+        long yearEstimate = (400 * zeroDay + 591) / 146_097;
+        long dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+        if (dayOfYearEstimate < 0) {
+            yearEstimate--;
+            dayOfYearEstimate = zeroDay - (365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400);
+        }
+        int marchDayOfYear = (int) dayOfYearEstimate;
+        int marchMonth = (marchDayOfYear * 5 + 2) / 153;
+        int month = (marchMonth + 2) % 12 + 1;
+        int day = marchDayOfYear - (marchMonth * 306 + 5) / 10 + 1;
+        int year = (int) (yearEstimate + marchMonth / 10);
+        return year * 10_000 + month * 100 + day;
+    }
+
+    /**
+     * @return The day of the week, from 0 for Monday to 6 for Sunday.
+     */
+    private static int dayOfWeek(long epochDay) {
+        // 1970-01-01 was a Thursday
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    private static void writeTime(char[] buffer, int offset, int secondOfDay) {
+        writeDigits(buffer, offset, secondOfDay / 3600, 2);
+        buffer[offset + 2] = ':';
+        writeDigits(buffer, offset + 3, secondOfDay / 60 % 60, 2);
+        buffer[offset + 5] = ':';
+        writeDigits(buffer, offset + 6, secondOfDay % 60, 2);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * @return The value of the decimal digits in the given range, or -1 if any of the characters is not a digit.
+     */
+    private static int parseDigits(String value, int offset, int digits) {
+        int result = 0;
+        for (int i = offset; i < offset + digits; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int indexOf(String[] names, String value, int offset) {
+        for (int i = 0; i < names.length; i++) {
+            if (value.startsWith(names[i], offset)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -35,9 +35,11 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -306,4 +308,59 @@ public class DateUtilsTest {
             .hasMessageContaining("20");
     }
 
+    @Test
+    public void fastPathMatchesDateTimeFormatters() {
+        Random random = new Random(0);
+        for (int i = 0; i < 10_000; i++) {
+            long epochSecond = (long) (random.nextDouble() * 253402300799L);
+            int nano = random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000);
+            if (random.nextBoolean()) {
+                nano = nano / 1_000_000 * 1_000_000;
+            }
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+            ZonedDateTime dateTime = ZonedDateTime.ofInstant(instant, UTC);
+
+            String iso8601 = ISO_INSTANT.format(instant);
+            String rfc822 = RFC_822_DATE_TIME.format(dateTime);
+            String rfc1123 = RFC_1123_DATE_TIME.format(dateTime);
+
+            assertThat(DateUtils.formatIso8601Date(instant)).isEqualTo(iso8601);
+            assertThat(DateUtils.formatRfc822Date(instant)).isEqualTo(rfc822);
+            assertThat(DateUtils.formatRfc1123Date(instant)).isEqualTo(rfc1123);
+            assertThat(DateUtils.parseIso8601Date(iso8601)).isEqualTo(instant);
+            assertThat(DateUtils.parseRfc822Date(rfc822)).isEqualTo(instant.truncatedTo(ChronoUnit.SECONDS));
+            assertThat(DateUtils.parseRfc1123Date(rfc1123)).isEqualTo(instant.truncatedTo(ChronoUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void parseIso8601Date_nonCanonicalForms_fallBackToFormatters() {
+        assertThat(DateUtils.parseIso8601Date("2021-05-10T17:12:13.5+0000"))
+            .isEqualTo(Instant.parse("2021-05-10T17:12:13.500Z"));
+        assertThat(DateUtils.parseIso8601Date("2021-05-10t17:12:13z")).isEqualTo(Instant.parse("2021-05-10T17:12:13Z"));
+        assertThat(DateUtils.parseIso8601Date("2021-05-10T17:12:13+01:00")).isEqualTo(Instant.parse("2021-05-10T16:12:13Z"));
+        assertThat(DateUtils.parseIso8601Date("1969-12-31T23:59:59.999Z")).isEqualTo(Instant.ofEpochMilli(-1));
+        assertThatThrownBy(() -> DateUtils.parseIso8601Date("2021-13-01T00:00:00Z")).isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> DateUtils.parseIso8601Date("2021-05-10T17:12:13.1234567890Z"))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    public void parseRfc1123Date_nonCanonicalForms_fallBackToFormatters() {
+        Instant expected = Instant.parse("2014-05-07T17:43:26Z");
+        assertThat(DateUtils.parseRfc1123Date("wed, 07 may 2014 17:43:26 gmt")).isEqualTo(expected);
+        assertThat(DateUtils.parseRfc822Date("Wed, 07 May 2014 19:43:26 +0200")).isEqualTo(expected);
+        assertThat(DateUtils.parseRfc1123Date("7 May 2014 17:43:26 GMT")).isEqualTo(expected);
+        assertThatThrownBy(() -> DateUtils.parseRfc822Date("Thu, 07 May 2014 17:43:26 GMT"))
+            .isInstanceOf(DateTimeParseException.class);
+    }
+
+    @Test
+    public void formatDates_outsideFastPathRange_fallBackToFormatters() {
+        Instant beforeEpoch = Instant.parse("1969-07-20T20:17:40.123Z");
+        assertThat(DateUtils.formatIso8601Date(beforeEpoch)).isEqualTo("1969-07-20T20:17:40.123Z");
+        assertThat(DateUtils.formatRfc822Date(beforeEpoch)).isEqualTo("Sun, 20 Jul 1969 20:17:40 GMT");
+        assertThat(DateUtils.formatRfc1123Date(beforeEpoch)).isEqualTo("Sun, 20 Jul 1969 20:17:40 GMT");
+        assertThat(DateUtils.formatIso8601Date(Instant.parse("+10000-01-01T00:00:00Z"))).isEqualTo("+10000-01-01T00:00:00Z");
+    }
 }
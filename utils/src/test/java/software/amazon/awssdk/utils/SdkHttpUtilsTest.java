@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.entry;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -57,6 +58,51 @@ public class SdkHttpUtilsTest {
         assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes(encodedCharactersInput)).isEqualTo(encodedCharactersOutput);
     }
 
+    @Test
+    public void urlEncodeEncodesNonAsciiCharactersAsUtf8() {
+        assertThat(SdkHttpUtils.urlEncode("café")).isEqualTo("caf%C3%A9");
+        assertThat(SdkHttpUtils.urlEncode("日本/語")).isEqualTo("%E6%97%A5%E6%9C%AC%2F%E8%AA%9E");
+        assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes("photos/😀 1.jpg")).isEqualTo("photos/%F0%9F%98%80%201.jpg");
+        assertThat(SdkHttpUtils.urlEncode("a\ud83db")).isEqualTo("a%3Fb");
+    }
+
+    @Test
+    public void urlEncodeMatchesUrlEncoderWithRfc3986Fixups() throws Exception {
+        String[] values = {
+            "photos/2024/01/IMG_0001.JPG",
+            "logs/app name+(1)*~.txt",
+            "résumés/über ärger.pdf",
+            "mixed/😀é\ud83d/\udc00x y",
+            "%7E%2F"
+        };
+
+        for (String value : values) {
+            String encoded = URLEncoder.encode(value, "UTF-8")
+                                             .replace("+", "%20")
+                                             .replace("*", "%2A")
+                                             .replace("%7E", "~");
+            assertThat(SdkHttpUtils.urlEncode(value)).isEqualTo(encoded);
+            assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes(value)).isEqualTo(encoded.replace("%2F", "/"));
+        }
+    }
+
+    @Test
+    public void urlEncodeWithoutCharactersToEncodeReturnsSameInstance() {
+        String value = "photos-2024_01.IMG~0001";
+        assertThat(SdkHttpUtils.urlEncode(value)).isSameAs(value);
+        assertThat(SdkHttpUtils.urlEncodeIgnoreSlashes("photos/" + value)).isEqualTo("photos/" + value);
+    }
+
+    @Test
+    public void urlEncodeAppendsToStringBuilder() {
+        StringBuilder destination = new StringBuilder("/bucket/");
+
+        SdkHttpUtils.urlEncodeIgnoreSlashes(destination, "my dir/café.txt").append('?');
+        SdkHttpUtils.urlEncode(destination, "prefix=a/b");
+
+        assertThat(destination.toString()).isEqualTo("/bucket/my%20dir/caf%C3%A9.txt?prefix%3Da%2Fb");
+    }
+
     @Test
     public void formDataValuesEncodeCorrectly() {
         String nonEncodedCharacters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789-_.*";